@@ -21,8 +21,10 @@ package org.wso2.carbon.identity.organization.application.resource.hierarchy.tra
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Service interface for resolving resources from the organization and application hierarchy.
@@ -52,4 +54,25 @@ public interface OrgAppResourceResolverService {
                                        AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException;
 
+    /**
+     * Retrieves resources by traversing the hierarchy of a given organization and application, retrieving the
+     * resources of all the traversed organizations with a single invocation of the batch resource retriever.
+     *
+     * @param organizationId         The unique identifier of the organization.
+     * @param applicationId          The unique identifier of the application within the organization.
+     * @param batchResourceRetriever A function that defines how to fetch the resources of a map of organization ID
+     *                               to application ID, ordered as the traversal. The function must return a map of
+     *                               organization ID to the resource of the organization, omitting the
+     *                               organizations without a resource.
+     * @param aggregationStrategy    A strategy defining how to aggregate resources retrieved from
+     *                               different levels of the hierarchy.
+     * @param <T>                    The type of the resource being retrieved and aggregated.
+     * @return An aggregated resource of type <T> obtained from the organization and application hierarchy.
+     * @throws OrgResourceHierarchyTraverseException If any errors occur during resource retrieval
+     *                                               or aggregation.
+     */
+    <T> T getResourcesFromOrgHierarchyInBatch(String organizationId, String applicationId,
+                                              Function<Map<String, String>, Map<String, T>> batchResourceRetriever,
+                                              AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException;
 }
@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Implementation of the OrgAppResourceResolverService interface.
@@ -74,17 +75,33 @@ public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolver
                                               AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException {
 
-        try {
-            List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+        List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+        Map<String, String> ancestorAppIds = getAncestorAppIds(organizationId, applicationId);
+        return aggregationStrategy.aggregate(organizationIds, ancestorAppIds, resourceRetriever);
+    }
+
+    @Override
+    public <T> T getResourcesFromOrgHierarchyInBatch(String organizationId, String applicationId,
+                                                     Function<Map<String, String>, Map<String, T>>
+                                                             batchResourceRetriever,
+                                                     AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException {
+
+        List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+        Map<String, String> ancestorAppIds = getAncestorAppIds(organizationId, applicationId);
+        return aggregationStrategy.aggregateInBatch(organizationIds, ancestorAppIds, batchResourceRetriever);
+    }
 
+    private Map<String, String> getAncestorAppIds(String organizationId, String applicationId)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        if (applicationId == null) {
+            return Collections.emptyMap();
+        }
+        try {
             ApplicationManagementService applicationManagementService =
                     OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().getApplicationManagementService();
-            Map<String, String> ancestorAppIds = Collections.emptyMap();
-            if (applicationId != null) {
-                ancestorAppIds = applicationManagementService.getAncestorAppIds(applicationId, organizationId);
-            }
-
-            return aggregationStrategy.aggregate(organizationIds, ancestorAppIds, resourceRetriever);
+            return applicationManagementService.getAncestorAppIds(applicationId, organizationId);
         } catch (IdentityApplicationManagementException e) {
             throw OrgResourceHierarchyTraverseUtil.handleServerException(
                     OrgResourceHierarchyTraverseConstants.ErrorMessages
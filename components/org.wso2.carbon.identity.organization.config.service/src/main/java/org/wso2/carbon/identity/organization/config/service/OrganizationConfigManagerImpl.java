@@ -19,10 +19,13 @@
 package org.wso2.carbon.identity.organization.config.service;
 
 import org.osgi.annotation.bundle.Capability;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCache;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCacheEntry;
 import org.wso2.carbon.identity.organization.config.service.exception.OrganizationConfigClientException;
 import org.wso2.carbon.identity.organization.config.service.exception.OrganizationConfigException;
 import org.wso2.carbon.identity.organization.config.service.internal.OrganizationConfigServiceHolder;
@@ -33,6 +36,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -86,6 +90,7 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
             }
             Resource resource = buildResourceFromValidationConfig(discoveryConfig);
             getConfigurationManager().addResource(RESOURCE_TYPE_NAME, resource);
+            clearDiscoveryConfigCache();
         } catch (ConfigurationManagementException | OrganizationManagementServerException e) {
             throw handleServerException(ERROR_CODE_ERROR_ADDING_DISCOVERY_CONFIG, e, getOrganizationId());
         }
@@ -105,6 +110,7 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
             } else {
                 getConfigurationManager().replaceResource(RESOURCE_TYPE_NAME, resource);
             }
+            clearDiscoveryConfigCache();
         } catch (ConfigurationManagementException | OrganizationManagementServerException e) {
             throw handleServerException(ERROR_CODE_ERROR_ADDING_DISCOVERY_CONFIG, e, getOrganizationId());
         }
@@ -126,6 +132,7 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
             Optional<Resource> resourceOptional = getDiscoveryResource();
             if (resourceOptional.isPresent()) {
                 getConfigurationManager().deleteResource(RESOURCE_TYPE_NAME, RESOURCE_NAME);
+                clearDiscoveryConfigCache();
             }
         } catch (ConfigurationManagementException | OrganizationManagementServerException e) {
             throw handleServerException(ERROR_CODE_ERROR_DELETING_DISCOVERY_CONFIG, e, getOrganizationId());
@@ -135,7 +142,18 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
     @Override
     public DiscoveryConfig getDiscoveryConfigurationByTenantId(int tenantId) throws OrganizationConfigException {
 
-        return getDiscoveryConfiguration(getDiscoveryResourceByTenantId(tenantId));
+        DiscoveryConfigCacheEntry cacheEntry = DiscoveryConfigCache.getInstance().getDiscoveryConfigFromCache(tenantId);
+        if (cacheEntry == null) {
+            cacheEntry = new DiscoveryConfigCacheEntry(getDiscoveryResourceByTenantId(tenantId)
+                    .map(this::getConfigPropertiesOfResource).orElse(null));
+            DiscoveryConfigCache.getInstance().addDiscoveryConfigToCache(tenantId, cacheEntry);
+        }
+        if (cacheEntry.getConfigProperties() == null) {
+            throw handleClientException(ERROR_CODE_DISCOVERY_CONFIG_NOT_EXIST, getOrganizationId());
+        }
+        return new DiscoveryConfig(cacheEntry.getConfigProperties().entrySet().stream()
+                .map(property -> new ConfigProperty(property.getKey(), property.getValue()))
+                .collect(Collectors.toList()));
     }
 
     private DiscoveryConfig getDiscoveryConfiguration(Optional<Resource> resourceOptional)
@@ -152,6 +170,21 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
         return new DiscoveryConfig(configProperties);
     }
 
+    private LinkedHashMap<String, String> getConfigPropertiesOfResource(Resource resource) {
+
+        LinkedHashMap<String, String> configProperties = new LinkedHashMap<>();
+        for (Attribute attribute : resource.getAttributes()) {
+            configProperties.put(attribute.getKey(), attribute.getValue());
+        }
+        return configProperties;
+    }
+
+    private void clearDiscoveryConfigCache() {
+
+        DiscoveryConfigCache.getInstance().clearDiscoveryConfigFromCache(
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
     private Optional<Resource> getDiscoveryResource() throws OrganizationConfigException {
 
         try {
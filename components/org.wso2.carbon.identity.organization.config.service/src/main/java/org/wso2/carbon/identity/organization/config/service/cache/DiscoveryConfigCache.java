@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.config.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache for the organization discovery configuration of the tenants, keyed by the tenant ID.
+ */
+public class DiscoveryConfigCache extends BaseCache<Integer, DiscoveryConfigCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationDiscoveryConfigCache";
+    private static final DiscoveryConfigCache INSTANCE = new DiscoveryConfigCache();
+
+    private DiscoveryConfigCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the DiscoveryConfigCache.
+     *
+     * @return DiscoveryConfigCache instance.
+     */
+    public static DiscoveryConfigCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the discovery configuration of the given tenant to the cache.
+     *
+     * @param tenantId Tenant ID.
+     * @param entry    Cache entry.
+     */
+    public void addDiscoveryConfigToCache(int tenantId, DiscoveryConfigCacheEntry entry) {
+
+        addToCache(tenantId, entry, tenantId);
+    }
+
+    /**
+     * Get the cached discovery configuration of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public DiscoveryConfigCacheEntry getDiscoveryConfigFromCache(int tenantId) {
+
+        return getValueFromCache(tenantId, tenantId);
+    }
+
+    /**
+     * Clear the cached discovery configuration of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void clearDiscoveryConfigFromCache(int tenantId) {
+
+        clearCacheEntry(tenantId, tenantId);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.config.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache entry for the {@link DiscoveryConfigCache}. An entry without configuration properties records that the
+ * tenant does not have a discovery configuration.
+ */
+public class DiscoveryConfigCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 5731229846215083364L;
+
+    private final LinkedHashMap<String, String> configProperties;
+
+    public DiscoveryConfigCacheEntry(LinkedHashMap<String, String> configProperties) {
+
+        this.configProperties = configProperties;
+    }
+
+    /**
+     * Get the cached discovery configuration properties, in the order they were retrieved.
+     *
+     * @return The configuration properties keyed by the property key, or null if the tenant does not have a
+     * discovery configuration.
+     */
+    public Map<String, String> getConfigProperties() {
+
+        return configProperties;
+    }
+}
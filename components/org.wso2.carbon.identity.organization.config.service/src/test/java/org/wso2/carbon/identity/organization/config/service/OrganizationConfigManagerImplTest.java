@@ -35,6 +35,8 @@ import org.wso2.carbon.identity.configuration.mgt.core.internal.ConfigurationMan
 import org.wso2.carbon.identity.configuration.mgt.core.model.ConfigurationManagerConfigurationHolder;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCache;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCacheEntry;
 import org.wso2.carbon.identity.organization.config.service.exception.OrganizationConfigClientException;
 import org.wso2.carbon.identity.organization.config.service.internal.OrganizationConfigServiceHolder;
 import org.wso2.carbon.identity.organization.config.service.model.ConfigProperty;
@@ -46,16 +48,20 @@ import java.nio.file.Paths;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import javax.sql.DataSource;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -65,11 +71,14 @@ public class OrganizationConfigManagerImplTest {
 
     @Mock
     private OrganizationManager organizationManager;
+    @Mock
+    private DiscoveryConfigCache discoveryConfigCache;
     private final OrganizationConfigManagerImpl organizationConfigManagerImpl = new OrganizationConfigManagerImpl();
     private AutoCloseable mocks;
     MockedStatic<IdentityTenantUtil> identityTenantUtil;
     MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
     MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext;
+    MockedStatic<DiscoveryConfigCache> mockedDiscoveryConfigCache;
     private static final int SUPER_TENANT_ID = -1234;
     private static final String SUPER_TENANT_DOMAIN_NAME = "carbon.super";
     private static final String EMAIL_DOMAIN_ENABLE = "emailDomain.enable";
@@ -85,6 +94,8 @@ public class OrganizationConfigManagerImplTest {
         TestUtils.initiateH2Base();
         setUpCarbonHome();
         mockCarbonContextForSuperTenant();
+        mockedDiscoveryConfigCache = mockStatic(DiscoveryConfigCache.class);
+        mockedDiscoveryConfigCache.when(DiscoveryConfigCache::getInstance).thenReturn(discoveryConfigCache);
 
         DataSource dataSource = mock(DataSource.class);
         identityTenantUtil = mockStatic(IdentityTenantUtil.class);
@@ -110,6 +121,7 @@ public class OrganizationConfigManagerImplTest {
         DiscoveryConfig discoveryConfig = new DiscoveryConfig(configProperties);
 
         organizationConfigManagerImpl.addDiscoveryConfiguration(discoveryConfig);
+        verify(discoveryConfigCache).clearDiscoveryConfigFromCache(SUPER_TENANT_ID);
         List<ConfigProperty> returnedConfigProperties =
                 organizationConfigManagerImpl.getDiscoveryConfiguration().getConfigProperties();
 
@@ -187,6 +199,39 @@ public class OrganizationConfigManagerImplTest {
         Assert.assertEquals(returnedConfigProperties.get(1).getValue(), TRUE);
     }
 
+    @Test(priority = 6)
+    public void testGetDiscoveryConfigurationByTenantIdFromCache() throws Exception {
+
+        LinkedHashMap<String, String> cachedConfigProperties = new LinkedHashMap<>();
+        cachedConfigProperties.put(EMAIL_DOMAIN_ENABLE, TRUE);
+        when(discoveryConfigCache.getDiscoveryConfigFromCache(SUPER_TENANT_ID))
+                .thenReturn(new DiscoveryConfigCacheEntry(cachedConfigProperties));
+
+        List<ConfigProperty> returnedConfigProperties =
+                organizationConfigManagerImpl.getDiscoveryConfigurationByTenantId(SUPER_TENANT_ID)
+                        .getConfigProperties();
+
+        // The cached configuration is returned instead of the stored one.
+        Assert.assertEquals(returnedConfigProperties.size(), 1);
+        Assert.assertEquals(returnedConfigProperties.get(0).getKey(), EMAIL_DOMAIN_ENABLE);
+        Assert.assertEquals(returnedConfigProperties.get(0).getValue(), TRUE);
+        verify(discoveryConfigCache, never()).addDiscoveryConfigToCache(anyInt(), any());
+    }
+
+    @Test(priority = 7)
+    public void testGetDiscoveryConfigurationByTenantIdWithoutConfiguration() throws Exception {
+
+        when(discoveryConfigCache.getDiscoveryConfigFromCache(SUPER_TENANT_ID))
+                .thenReturn(new DiscoveryConfigCacheEntry(null));
+
+        try {
+            organizationConfigManagerImpl.getDiscoveryConfigurationByTenantId(SUPER_TENANT_ID);
+            Assert.fail("Expected OrganizationConfigClientException was not thrown.");
+        } catch (OrganizationConfigClientException e) {
+            Assert.assertEquals(e.getMessage(), "No organization discovery configuration found.");
+        }
+    }
+
     @AfterClass
     public void tearDown() throws Exception {
 
@@ -195,6 +240,7 @@ public class OrganizationConfigManagerImplTest {
         identityDatabaseUtil.close();
         identityTenantUtil.close();
         privilegedCarbonContext.close();
+        mockedDiscoveryConfigCache.close();
     }
 
     private static ConfigurationManager setUpConfigurationManager(MockedStatic<IdentityTenantUtil> identityTenantUtil) {
@@ -32,6 +32,9 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.organization.config.service.exception.OrganizationConfigException;
 import org.wso2.carbon.identity.organization.config.service.model.ConfigProperty;
 import org.wso2.carbon.identity.organization.config.service.model.DiscoveryConfig;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCacheKey;
 import org.wso2.carbon.identity.organization.discovery.service.internal.OrganizationDiscoveryServiceHolder;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -178,20 +181,10 @@ public class OrganizationDiscoveryHandlerImpl implements OrganizationDiscoveryHa
                                                                     String mainAppOrgId)
             throws FrameworkException {
 
-        String resolvedOrgId = null;
+        String resolvedOrgId;
         try {
-            List<Organization> organizations = OrganizationDiscoveryServiceHolder.getInstance()
-                    .getOrganizationManager().getOrganizationsByName(orgName);
-            for (Organization organization : organizations) {
-                String orgId = organization.getId();
-                int relativeDepth = OrganizationDiscoveryServiceHolder.getInstance().getOrganizationManager()
-                        .getRelativeDepthBetweenOrganizationsInSameBranch(orgId, mainAppOrgId);
-                if (relativeDepth > 0) {
-                    // Only one organization with the same name can exist in a single organization tree.
-                    resolvedOrgId = orgId;
-                    break;
-                }
-            }
+            resolvedOrgId = OrganizationDiscoveryServiceHolder.getInstance().getOrganizationDiscoveryManager()
+                    .getNearestDescendantOrganizationIdByName(orgName, mainAppOrgId);
         } catch (OrganizationManagementException e) {
             throw new FrameworkException("Error while resolving organization ID for organization name: "
                     + orgName, e);
@@ -255,6 +248,13 @@ public class OrganizationDiscoveryHandlerImpl implements OrganizationDiscoveryHa
     private Optional<String> getSharedApplicationId(String appId, String appResideOrgId, String sharedOrgId)
             throws FrameworkException {
 
+        DiscoverySharedApplicationCacheKey cacheKey =
+                new DiscoverySharedApplicationCacheKey(appId, appResideOrgId, sharedOrgId);
+        DiscoverySharedApplicationCacheEntry cacheEntry =
+                DiscoverySharedApplicationCache.getInstance().getSharedApplicationFromCache(cacheKey);
+        if (cacheEntry != null) {
+            return Optional.ofNullable(cacheEntry.getSharedApplicationId());
+        }
         String sharedAppId;
         try {
             sharedAppId = OrganizationDiscoveryServiceHolder.getInstance().getApplicationManagementService()
@@ -263,6 +263,8 @@ public class OrganizationDiscoveryHandlerImpl implements OrganizationDiscoveryHa
             throw new FrameworkException("Error while retrieving shared application id: " + appId
                     + " for organization ID: " + sharedOrgId, e);
         }
+        DiscoverySharedApplicationCache.getInstance().addSharedApplicationToCache(cacheKey,
+                new DiscoverySharedApplicationCacheEntry(sharedAppId));
         return Optional.ofNullable(sharedAppId);
     }
 
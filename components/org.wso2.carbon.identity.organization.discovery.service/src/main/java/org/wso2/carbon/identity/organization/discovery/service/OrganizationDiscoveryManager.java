@@ -21,10 +21,13 @@ package org.wso2.carbon.identity.organization.discovery.service;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
+import org.wso2.carbon.identity.organization.management.service.exception.NotImplementedException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Interface for organization discovery management.
@@ -152,4 +155,57 @@ public interface OrganizationDiscoveryManager {
 
         return getOrganizationIdByDiscoveryAttribute(attributeType, discoveryInput, rootOrganizationId);
     }
+
+    /**
+     * Get the email domains mapped to the given organization through its email domain discovery attribute.
+     *
+     * @param organizationId The organization ID.
+     * @return The mapped email domains, or an empty optional if the organization does not restrict the email domains
+     * of its users.
+     * @throws OrganizationManagementException The server exception thrown when retrieving the discovery attributes of
+     *                                         the organization.
+     */
+    default Optional<Set<String>> getEmailDomainsOfOrganization(String organizationId)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getEmailDomainsOfOrganization method is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * Get the ID of the nearest active descendant organization with the given name in the hierarchy of the given
+     * organization. Among the organizations of the same depth, the one with the lowest ID is returned.
+     *
+     * @param organizationName   The organization name.
+     * @param rootOrganizationId The ID of the organization whose descendants are searched.
+     * @return The organization ID, or null if no descendant organization has the given name.
+     * @throws OrganizationManagementException The server exception thrown when fetching the organization ID.
+     */
+    default String getNearestDescendantOrganizationIdByName(String organizationName, String rootOrganizationId)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getNearestDescendantOrganizationIdByName method is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * List the discovery attributes of the organizations under the root organization, ordered by the organization
+     * ID, starting after the given organization ID. Unlike the offset based listing, the total number of results is
+     * not computed.
+     *
+     * @param limit  The maximum number of records to be returned.
+     * @param after  The organization ID after which the organizations are listed. Null to list from the first
+     *               organization.
+     * @param filter The filter to be applied.
+     * @return The discovery attributes of the organizations along with the cursor of the next page.
+     * @throws OrganizationManagementException The exception thrown when listing discovery attributes of the
+     *                                         organizations.
+     */
+    default DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributesAfter(Integer limit, String after,
+                                                                                  String filter)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getOrganizationsDiscoveryAttributesAfter method is not implemented in " +
+                this.getClass().getName());
+    }
 }
@@ -23,6 +23,9 @@ import org.apache.commons.lang.StringUtils;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationEmailDomainCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationEmailDomainCacheEntry;
+import org.wso2.carbon.identity.organization.discovery.service.dao.CacheBackedOrganizationDiscoveryDAO;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAO;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAOImpl;
 import org.wso2.carbon.identity.organization.discovery.service.internal.OrganizationDiscoveryServiceHolder;
@@ -43,9 +46,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EMAIL_DOMAIN_DISCOVERY_TYPE;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.ORGANIZATION_NAME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.SUPPORTED_OPERATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.AND;
@@ -79,7 +84,8 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 )
 public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryManager {
 
-    private static final OrganizationDiscoveryDAO organizationDiscoveryDAO = new OrganizationDiscoveryDAOImpl();
+    private static final OrganizationDiscoveryDAO organizationDiscoveryDAO =
+            new CacheBackedOrganizationDiscoveryDAO(new OrganizationDiscoveryDAOImpl());
 
     @Override
     public List<OrgDiscoveryAttribute> addOrganizationDiscoveryAttributes(String organizationId,
@@ -169,13 +175,20 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
         DiscoveryOrganizationsResult discoveryOrganizationsResult = organizationDiscoveryDAO
                 .getOrganizationsDiscoveryAttributes(limit, offset, getOrganizationId(), expressionNodes);
 
-        // Iterate through the organization list and set the organization handle.
-        if (discoveryOrganizationsResult.getOrganizations() != null) {
-            for (OrganizationDiscovery organization : discoveryOrganizationsResult.getOrganizations()) {
-                organization.setOrganizationHandle(getOrganizationManager()
-                        .resolveTenantDomain(organization.getOrganizationId()));
-            }
-        }
+        setOrganizationHandles(discoveryOrganizationsResult);
+        return discoveryOrganizationsResult;
+    }
+
+    @Override
+    public DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributesAfter(Integer limit, String after,
+                                                                                 String filter)
+            throws OrganizationManagementException {
+
+        limit = validateLimit(limit);
+        List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
+        DiscoveryOrganizationsResult discoveryOrganizationsResult = organizationDiscoveryDAO
+                .getOrganizationsDiscoveryAttributesAfter(limit, after, getOrganizationId(), expressionNodes);
+        setOrganizationHandles(discoveryOrganizationsResult);
         return discoveryOrganizationsResult;
     }
 
@@ -215,6 +228,47 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
         return null;
     }
 
+    @Override
+    public String getNearestDescendantOrganizationIdByName(String organizationName, String rootOrganizationId)
+            throws OrganizationManagementException {
+
+        return organizationDiscoveryDAO.getNearestDescendantOrganizationIdByName(organizationName,
+                rootOrganizationId);
+    }
+
+    @Override
+    public Optional<Set<String>> getEmailDomainsOfOrganization(String organizationId)
+            throws OrganizationManagementException {
+
+        OrganizationEmailDomainCache emailDomainCache = OrganizationEmailDomainCache.getInstance();
+        OrganizationEmailDomainCacheEntry cacheEntry = emailDomainCache.getEmailDomainsFromCache(organizationId);
+        if (cacheEntry == null) {
+            HashSet<String> emailDomains = null;
+            for (OrgDiscoveryAttribute discoveryAttribute :
+                    organizationDiscoveryDAO.getOrganizationDiscoveryAttributes(organizationId)) {
+                if (EMAIL_DOMAIN_DISCOVERY_TYPE.equals(discoveryAttribute.getType()) &&
+                        discoveryAttribute.getValues() != null) {
+                    emailDomains = new HashSet<>(discoveryAttribute.getValues());
+                }
+            }
+            cacheEntry = new OrganizationEmailDomainCacheEntry(emailDomains);
+            emailDomainCache.addEmailDomainsToCache(organizationId, cacheEntry);
+        }
+        return Optional.ofNullable(cacheEntry.getEmailDomains());
+    }
+
+    private void setOrganizationHandles(DiscoveryOrganizationsResult discoveryOrganizationsResult)
+            throws OrganizationManagementException {
+
+        // Iterate through the organization list and set the organization handle.
+        if (discoveryOrganizationsResult.getOrganizations() != null) {
+            for (OrganizationDiscovery organization : discoveryOrganizationsResult.getOrganizations()) {
+                organization.setOrganizationHandle(getOrganizationManager()
+                        .resolveTenantDomain(organization.getOrganizationId()));
+            }
+        }
+    }
+
     private void validateRootOrganization(String rootOrganizationId, String organizationId)
             throws OrganizationManagementClientException {
 
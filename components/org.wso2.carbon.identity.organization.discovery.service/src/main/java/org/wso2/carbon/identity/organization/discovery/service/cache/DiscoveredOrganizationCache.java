@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for the organizations discovered through a discovery attribute value, such as the email domain of a login
+ * hint, within the hierarchy of a root organization. The number of entries is bounded by the capacity configured for
+ * the cache.
+ */
+public class DiscoveredOrganizationCache
+        extends BaseCache<DiscoveredOrganizationCacheKey, DiscoveredOrganizationCacheEntry> {
+
+    private static final String CACHE_NAME = "DiscoveredOrganizationCache";
+    private static final DiscoveredOrganizationCache INSTANCE = new DiscoveredOrganizationCache();
+
+    private DiscoveredOrganizationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the DiscoveredOrganizationCache.
+     *
+     * @return DiscoveredOrganizationCache instance.
+     */
+    public static DiscoveredOrganizationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the organization discovered through the given discovery attribute value to the cache.
+     *
+     * @param key   Cache key.
+     * @param entry Cache entry.
+     */
+    public void addDiscoveredOrganizationToCache(DiscoveredOrganizationCacheKey key,
+                                                 DiscoveredOrganizationCacheEntry entry) {
+
+        addToCache(key, entry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the cached organization discovered through the given discovery attribute value.
+     *
+     * @param key Cache key.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public DiscoveredOrganizationCacheEntry getDiscoveredOrganizationFromCache(DiscoveredOrganizationCacheKey key) {
+
+        return getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached organization discovered through the given discovery attribute value.
+     *
+     * @param key Cache key.
+     */
+    public void clearDiscoveredOrganizationFromCache(DiscoveredOrganizationCacheKey key) {
+
+        clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
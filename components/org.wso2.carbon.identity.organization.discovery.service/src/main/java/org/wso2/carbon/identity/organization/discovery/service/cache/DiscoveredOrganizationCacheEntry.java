@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry for the {@link DiscoveredOrganizationCache}. An entry without an organization ID records that no
+ * organization of the root organization is mapped to the discovery attribute value.
+ */
+public class DiscoveredOrganizationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -2086547180139652917L;
+
+    private final String organizationId;
+
+    public DiscoveredOrganizationCacheEntry(String organizationId) {
+
+        this.organizationId = organizationId;
+    }
+
+    /**
+     * Get the ID of the organization mapped to the discovery attribute value.
+     *
+     * @return The organization ID, or null if no organization is mapped to the discovery attribute value.
+     */
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link DiscoveredOrganizationCache}.
+ */
+public class DiscoveredOrganizationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 4630815519762418532L;
+
+    private final String rootOrganizationId;
+    private final String attributeType;
+    private final String attributeValue;
+
+    public DiscoveredOrganizationCacheKey(String rootOrganizationId, String attributeType, String attributeValue) {
+
+        this.rootOrganizationId = rootOrganizationId;
+        this.attributeType = attributeType;
+        this.attributeValue = attributeValue;
+    }
+
+    public String getRootOrganizationId() {
+
+        return rootOrganizationId;
+    }
+
+    public String getAttributeType() {
+
+        return attributeType;
+    }
+
+    public String getAttributeValue() {
+
+        return attributeValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DiscoveredOrganizationCacheKey)) {
+            return false;
+        }
+        DiscoveredOrganizationCacheKey that = (DiscoveredOrganizationCacheKey) o;
+        return Objects.equals(rootOrganizationId, that.rootOrganizationId) &&
+                Objects.equals(attributeType, that.attributeType) &&
+                Objects.equals(attributeValue, that.attributeValue);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(rootOrganizationId, attributeType, attributeValue);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for the shared applications resolved for the organizations discovered during authentication. The number of
+ * entries is bounded by the capacity configured for the cache.
+ */
+public class DiscoverySharedApplicationCache
+        extends BaseCache<DiscoverySharedApplicationCacheKey, DiscoverySharedApplicationCacheEntry> {
+
+    private static final String CACHE_NAME = "DiscoverySharedApplicationCache";
+    private static final DiscoverySharedApplicationCache INSTANCE = new DiscoverySharedApplicationCache();
+
+    private DiscoverySharedApplicationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the DiscoverySharedApplicationCache.
+     *
+     * @return DiscoverySharedApplicationCache instance.
+     */
+    public static DiscoverySharedApplicationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the shared application of the given main application in the given organization to the cache.
+     *
+     * @param key   Cache key.
+     * @param entry Cache entry.
+     */
+    public void addSharedApplicationToCache(DiscoverySharedApplicationCacheKey key,
+                                            DiscoverySharedApplicationCacheEntry entry) {
+
+        addToCache(key, entry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the cached shared application of the given main application in the given organization.
+     *
+     * @param key Cache key.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public DiscoverySharedApplicationCacheEntry getSharedApplicationFromCache(DiscoverySharedApplicationCacheKey key) {
+
+        return getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached shared application of the given main application in the given organization.
+     *
+     * @param key Cache key.
+     */
+    public void clearSharedApplicationFromCache(DiscoverySharedApplicationCacheKey key) {
+
+        clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear all the cached entries.
+     */
+    public void clearAllFromCache() {
+
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
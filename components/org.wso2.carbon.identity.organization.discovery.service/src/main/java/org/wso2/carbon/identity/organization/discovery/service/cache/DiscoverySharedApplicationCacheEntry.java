@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry for the {@link DiscoverySharedApplicationCache}. An entry without a shared application ID records that
+ * the main application is not shared with the organization.
+ */
+public class DiscoverySharedApplicationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 3349162085507726284L;
+
+    private final String sharedApplicationId;
+
+    public DiscoverySharedApplicationCacheEntry(String sharedApplicationId) {
+
+        this.sharedApplicationId = sharedApplicationId;
+    }
+
+    /**
+     * Get the ID of the shared application.
+     *
+     * @return The shared application ID, or null if the main application is not shared with the organization.
+     */
+    public String getSharedApplicationId() {
+
+        return sharedApplicationId;
+    }
+}
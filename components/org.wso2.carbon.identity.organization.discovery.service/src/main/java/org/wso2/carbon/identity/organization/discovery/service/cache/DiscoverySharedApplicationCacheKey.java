@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link DiscoverySharedApplicationCache}.
+ */
+public class DiscoverySharedApplicationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 7215530926473839406L;
+
+    private final String mainApplicationId;
+    private final String mainOrganizationId;
+    private final String sharedOrganizationId;
+
+    public DiscoverySharedApplicationCacheKey(String mainApplicationId, String mainOrganizationId,
+                                              String sharedOrganizationId) {
+
+        this.mainApplicationId = mainApplicationId;
+        this.mainOrganizationId = mainOrganizationId;
+        this.sharedOrganizationId = sharedOrganizationId;
+    }
+
+    public String getMainApplicationId() {
+
+        return mainApplicationId;
+    }
+
+    public String getMainOrganizationId() {
+
+        return mainOrganizationId;
+    }
+
+    public String getSharedOrganizationId() {
+
+        return sharedOrganizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DiscoverySharedApplicationCacheKey)) {
+            return false;
+        }
+        DiscoverySharedApplicationCacheKey that = (DiscoverySharedApplicationCacheKey) o;
+        return Objects.equals(mainApplicationId, that.mainApplicationId) &&
+                Objects.equals(mainOrganizationId, that.mainOrganizationId) &&
+                Objects.equals(sharedOrganizationId, that.sharedOrganizationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(mainApplicationId, mainOrganizationId, sharedOrganizationId);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for the email domains mapped to the organizations through their email domain discovery attributes, keyed by
+ * the organization ID.
+ */
+public class OrganizationEmailDomainCache extends BaseCache<String, OrganizationEmailDomainCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationEmailDomainCache";
+    private static final OrganizationEmailDomainCache INSTANCE = new OrganizationEmailDomainCache();
+
+    private OrganizationEmailDomainCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the OrganizationEmailDomainCache.
+     *
+     * @return OrganizationEmailDomainCache instance.
+     */
+    public static OrganizationEmailDomainCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the email domains of the given organization to the cache.
+     *
+     * @param organizationId ID of the organization.
+     * @param entry          Cache entry.
+     */
+    public void addEmailDomainsToCache(String organizationId, OrganizationEmailDomainCacheEntry entry) {
+
+        addToCache(organizationId, entry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the cached email domains of the given organization.
+     *
+     * @param organizationId ID of the organization.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public OrganizationEmailDomainCacheEntry getEmailDomainsFromCache(String organizationId) {
+
+        return getValueFromCache(organizationId, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached email domains of the given organization.
+     *
+     * @param organizationId ID of the organization.
+     */
+    public void clearEmailDomainsFromCache(String organizationId) {
+
+        clearCacheEntry(organizationId, MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Cache entry for the {@link OrganizationEmailDomainCache}. An entry without email domains records that the
+ * organization does not restrict the email domains of its users.
+ */
+public class OrganizationEmailDomainCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3917028866205714153L;
+
+    private final HashSet<String> emailDomains;
+
+    public OrganizationEmailDomainCacheEntry(HashSet<String> emailDomains) {
+
+        this.emailDomains = emailDomains;
+    }
+
+    /**
+     * Get the email domains mapped to the organization.
+     *
+     * @return The mapped email domains, or null if the organization does not restrict the email domains.
+     */
+    public Set<String> getEmailDomains() {
+
+        return emailDomains != null ? Collections.unmodifiableSet(emailDomains) : null;
+    }
+}
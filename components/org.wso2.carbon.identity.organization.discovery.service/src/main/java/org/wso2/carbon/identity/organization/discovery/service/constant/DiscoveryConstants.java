@@ -40,6 +40,19 @@ public class DiscoveryConstants {
     public static final String PRE_ADD_USER_EMAIL_DOMAIN_VALIDATE = "PRE_ADD_USER_EMAIL_DOMAIN_VALIDATE";
     public static final String ORGANIZATION_NAME = "organizationName";
     public static final String EMAIL_DOMAIN_DISCOVERY_TYPE = "emailDomain";
+
+    // Application sharing events and event properties used to keep the discovery caches up to date.
+    public static final String EVENT_POST_SHARE_APPLICATION = "POST_SHARE_APPLICATION";
+    public static final String EVENT_POST_DELETE_SHARED_APPLICATION = "POST_DELETE_SHARED_APPLICATION";
+    public static final String EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS = "POST_DELETE_ALL_SHARED_APPLICATIONS";
+    public static final String EVENT_PROP_MAIN_ORGANIZATION_ID = "MAIN_ORGANIZATION_ID";
+    public static final String EVENT_PROP_MAIN_APPLICATION_ID = "MAIN_APPLICATION_ID";
+    public static final String EVENT_PROP_PARENT_ORGANIZATION_ID = "PARENT_ORGANIZATION_ID";
+    public static final String EVENT_PROP_PARENT_APPLICATION_ID = "PARENT_APPLICATION_ID";
+    public static final String EVENT_PROP_SHARED_ORGANIZATION_ID = "SHARED_ORGANIZATION_ID";
+
+    private static final String ORGANIZATION_DISCOVERY_ERROR_CODE_PREFIX = "ODS-";
+
     public static final Set<String> SUPPORTED_OPERATIONS;
     public static final Map<String, String> ATTRIBUTE_COLUMN_MAP;
 
@@ -53,4 +66,41 @@ public class DiscoveryConstants {
         attributeMap.put(ORGANIZATION_NAME, VIEW_NAME_COLUMN);
         ATTRIBUTE_COLUMN_MAP = Collections.unmodifiableMap(attributeMap);
     }
+
+    /**
+     * Enum for error messages related to organization discovery.
+     */
+    public enum ErrorMessages {
+
+        // Server errors.
+        ERROR_CODE_ERROR_GETTING_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME("65001", "Unable to retrieve the " +
+                "organization by name.", "Server encountered an error while retrieving the nearest organization " +
+                "with the name: %s under the organization with ID: %s.");
+
+        private final String code;
+        private final String message;
+        private final String description;
+
+        ErrorMessages(String code, String message, String description) {
+
+            this.code = code;
+            this.message = message;
+            this.description = description;
+        }
+
+        public String getCode() {
+
+            return ORGANIZATION_DISCOVERY_ERROR_CODE_PREFIX + code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+    }
 }
@@ -88,6 +88,38 @@ public class SQLConstants {
             "UM_ORG.UM_ID = UM_ORG_ID WHERE UM_ORG_ID IN (" + SQLPlaceholders.ORGS_LIST_PLACEHOLDER + ") " + 
             "ORDER BY UM_ORG.UM_CREATED_TIME DESC";
 
+    public static final String DISCOVERY_ORGANIZATION_ID_AFTER_CURSOR = "UM_ORG_ID > :" +
+            SQLPlaceholders.DB_AFTER + "; AND ";
+
+    public static final String GET_DISCOVERY_ORGANIZATION_IDS_AFTER_CURSOR = "SELECT DISTINCT UM_ORG_ID FROM " +
+            "UM_ORG_DISCOVERY JOIN UM_ORG ON UM_ORG.UM_ID = UM_ORG_ID WHERE %s UM_ROOT_ORG_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + "; ORDER BY UM_ORG_ID LIMIT :" + SQLPlaceholders.DB_LIMIT +
+            ";";
+
+    public static final String GET_DISCOVERY_ORGANIZATION_IDS_AFTER_CURSOR_MSSQL = "SELECT DISTINCT UM_ORG_ID FROM " +
+            "UM_ORG_DISCOVERY JOIN UM_ORG ON UM_ORG.UM_ID = UM_ORG_ID WHERE %s UM_ROOT_ORG_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + "; ORDER BY UM_ORG_ID OFFSET 0 ROWS FETCH NEXT :" +
+            SQLPlaceholders.DB_LIMIT + "; ROWS ONLY";
+
+    public static final String GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES_SORTED_BY_ID =
+            GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES + " ORDER BY UM_ORG_ID";
+
+    private static final String GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_HEAD = "SELECT UM_ORG.UM_ID FROM " +
+            "UM_ORG JOIN UM_ORG_HIERARCHY ON UM_ORG_HIERARCHY.UM_ID = UM_ORG.UM_ID WHERE " +
+            "UM_ORG_HIERARCHY.UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + "; AND " +
+            "UM_ORG_HIERARCHY.DEPTH > 0 AND UM_ORG.UM_ORG_NAME = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_NAME +
+            "; AND UM_ORG.UM_STATUS = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_STATUS + "; ORDER BY " +
+            "UM_ORG_HIERARCHY.DEPTH ASC, UM_ORG_HIERARCHY.UM_ID ASC";
+
+    public static final String GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME =
+            GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_HEAD + " LIMIT 1";
+
+    public static final String GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_ORACLE =
+            GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_HEAD + " FETCH FIRST 1 ROWS ONLY";
+
+    public static final String GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_MSSQL =
+            GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_HEAD + " OFFSET 0 ROWS FETCH NEXT 1 ROWS ONLY";
+
     /**
      * SQL placeholders related to organization discovery management SQL operations.
      */
@@ -97,8 +129,11 @@ public class SQLConstants {
         public static final String DB_SCHEMA_COLUMN_NAME_TYPE = "TYPE";
         public static final String DB_SCHEMA_COLUMN_NAME_VALUE = "VALUE";
         public static final String DB_SCHEMA_COLUMN_NAME_ROOT_ID = "ROOT_ID";
+        public static final String DB_SCHEMA_COLUMN_NAME_NAME = "NAME";
+        public static final String DB_SCHEMA_COLUMN_NAME_STATUS = "STATUS";
         public static final String DB_LIMIT = "LIMIT";
         public static final String DB_OFFSET = "OFFSET";
+        public static final String DB_AFTER = "AFTER";
         public static final String ORGS_LIST_PLACEHOLDER = "_ORGS_LIST_";
     }
 }
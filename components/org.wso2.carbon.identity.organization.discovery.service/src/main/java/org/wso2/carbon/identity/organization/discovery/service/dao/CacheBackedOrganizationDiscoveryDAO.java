@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.dao;
+
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoveredOrganizationCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoveredOrganizationCacheEntry;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoveredOrganizationCacheKey;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationEmailDomainCache;
+import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
+import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.management.service.filter.ExpressionNode;
+
+import java.util.List;
+
+import static org.wso2.carbon.identity.organization.management.service.util.Utils.getOrganizationId;
+
+/**
+ * Cache backed implementation of {@link OrganizationDiscoveryDAO}. The organizations discovered through a discovery
+ * attribute value are cached here. The email domains derived from the discovery attributes of an organization are
+ * cached by the discovery manager. Both are cleared here whenever the discovery attributes of the organization are
+ * written. The discovery attributes are written in the root organization, hence the root organization of the caller
+ * scopes the cleared entries.
+ */
+public class CacheBackedOrganizationDiscoveryDAO implements OrganizationDiscoveryDAO {
+
+    private final OrganizationDiscoveryDAO organizationDiscoveryDAO;
+
+    public CacheBackedOrganizationDiscoveryDAO(OrganizationDiscoveryDAO organizationDiscoveryDAO) {
+
+        this.organizationDiscoveryDAO = organizationDiscoveryDAO;
+    }
+
+    @Override
+    public void addOrganizationDiscoveryAttributes(String organizationId,
+                                                   List<OrgDiscoveryAttribute> discoveryAttributes)
+            throws OrganizationManagementServerException {
+
+        organizationDiscoveryDAO.addOrganizationDiscoveryAttributes(organizationId, discoveryAttributes);
+        clearDiscoveredOrganizationsFromCache(discoveryAttributes);
+        OrganizationEmailDomainCache.getInstance().clearEmailDomainsFromCache(organizationId);
+    }
+
+    @Override
+    public boolean isDiscoveryAttributeExistInHierarchy(boolean excludeCurrentOrganization, String rootOrganizationId,
+                                                        String currentOrganizationId, String type,
+                                                        List<String> values)
+            throws OrganizationManagementServerException {
+
+        return organizationDiscoveryDAO.isDiscoveryAttributeExistInHierarchy(excludeCurrentOrganization,
+                rootOrganizationId, currentOrganizationId, type, values);
+    }
+
+    @Override
+    public boolean isDiscoveryAttributeAddedToOrganization(String organizationId)
+            throws OrganizationManagementServerException {
+
+        return organizationDiscoveryDAO.isDiscoveryAttributeAddedToOrganization(organizationId);
+    }
+
+    @Override
+    public List<OrgDiscoveryAttribute> getOrganizationDiscoveryAttributes(String organizationId)
+            throws OrganizationManagementServerException {
+
+        return organizationDiscoveryDAO.getOrganizationDiscoveryAttributes(organizationId);
+    }
+
+    @Override
+    public void deleteOrganizationDiscoveryAttributes(String organizationId)
+            throws OrganizationManagementServerException {
+
+        List<OrgDiscoveryAttribute> existingDiscoveryAttributes =
+                organizationDiscoveryDAO.getOrganizationDiscoveryAttributes(organizationId);
+        organizationDiscoveryDAO.deleteOrganizationDiscoveryAttributes(organizationId);
+        clearDiscoveredOrganizationsFromCache(existingDiscoveryAttributes);
+        OrganizationEmailDomainCache.getInstance().clearEmailDomainsFromCache(organizationId);
+    }
+
+    @Override
+    public void updateOrganizationDiscoveryAttributes(String organizationId,
+                                                      List<OrgDiscoveryAttribute> discoveryAttributes)
+            throws OrganizationManagementServerException {
+
+        List<OrgDiscoveryAttribute> existingDiscoveryAttributes =
+                organizationDiscoveryDAO.getOrganizationDiscoveryAttributes(organizationId);
+        organizationDiscoveryDAO.updateOrganizationDiscoveryAttributes(organizationId, discoveryAttributes);
+        clearDiscoveredOrganizationsFromCache(existingDiscoveryAttributes);
+        clearDiscoveredOrganizationsFromCache(discoveryAttributes);
+        OrganizationEmailDomainCache.getInstance().clearEmailDomainsFromCache(organizationId);
+    }
+
+    @Override
+    public DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributes(int limit, int offset,
+                                                                            String rootOrganizationId,
+                                                                            List<ExpressionNode> expressionNodes)
+            throws OrganizationManagementServerException {
+
+        return organizationDiscoveryDAO.getOrganizationsDiscoveryAttributes(limit, offset, rootOrganizationId,
+                expressionNodes);
+    }
+
+    @Override
+    public DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributesAfter(int limit, String after,
+                                                                                 String rootOrganizationId,
+                                                                                 List<ExpressionNode> expressionNodes)
+            throws OrganizationManagementServerException {
+
+        return organizationDiscoveryDAO.getOrganizationsDiscoveryAttributesAfter(limit, after, rootOrganizationId,
+                expressionNodes);
+    }
+
+    @Override
+    public String getOrganizationIdByDiscoveryAttribute(String attributeType, String attributeValue,
+                                                        String rootOrganizationId)
+            throws OrganizationManagementServerException {
+
+        DiscoveredOrganizationCacheKey cacheKey =
+                new DiscoveredOrganizationCacheKey(rootOrganizationId, attributeType, attributeValue);
+        DiscoveredOrganizationCacheEntry cacheEntry =
+                DiscoveredOrganizationCache.getInstance().getDiscoveredOrganizationFromCache(cacheKey);
+        if (cacheEntry != null) {
+            return cacheEntry.getOrganizationId();
+        }
+        String organizationId = organizationDiscoveryDAO.getOrganizationIdByDiscoveryAttribute(attributeType,
+                attributeValue, rootOrganizationId);
+        DiscoveredOrganizationCache.getInstance().addDiscoveredOrganizationToCache(cacheKey,
+                new DiscoveredOrganizationCacheEntry(organizationId));
+        return organizationId;
+    }
+
+    @Override
+    public String getNearestDescendantOrganizationIdByName(String organizationName, String rootOrganizationId)
+            throws OrganizationManagementServerException {
+
+        return organizationDiscoveryDAO.getNearestDescendantOrganizationIdByName(organizationName,
+                rootOrganizationId);
+    }
+
+    private void clearDiscoveredOrganizationsFromCache(List<OrgDiscoveryAttribute> discoveryAttributes) {
+
+        if (discoveryAttributes == null) {
+            return;
+        }
+        String rootOrganizationId = getOrganizationId();
+        DiscoveredOrganizationCache discoveredOrganizationCache = DiscoveredOrganizationCache.getInstance();
+        for (OrgDiscoveryAttribute discoveryAttribute : discoveryAttributes) {
+            if (discoveryAttribute.getValues() == null) {
+                continue;
+            }
+            for (String value : discoveryAttribute.getValues()) {
+                discoveredOrganizationCache.clearDiscoveredOrganizationFromCache(
+                        new DiscoveredOrganizationCacheKey(rootOrganizationId, discoveryAttribute.getType(), value));
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.organization.discovery.service.dao;
 
 import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
+import org.wso2.carbon.identity.organization.management.service.exception.NotImplementedException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.filter.ExpressionNode;
 
@@ -125,4 +126,43 @@ public interface OrganizationDiscoveryDAO {
      */
     String getOrganizationIdByDiscoveryAttribute(String attributeType, String attributeValue, String rootOrganizationId)
             throws OrganizationManagementServerException;
+
+    /**
+     * Get the ID of the nearest active descendant organization with the given name in the hierarchy of the given
+     * organization. Among the organizations of the same depth, the one with the lowest ID is returned.
+     *
+     * @param organizationName   The organization name.
+     * @param rootOrganizationId The ID of the organization whose descendants are searched.
+     * @return The organization ID, or null if no descendant organization has the given name.
+     * @throws OrganizationManagementServerException The server exception thrown when fetching the organization ID.
+     */
+    default String getNearestDescendantOrganizationIdByName(String organizationName, String rootOrganizationId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getNearestDescendantOrganizationIdByName method is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * List the discovery attributes of the organizations under the root organization, ordered by the organization
+     * ID, starting after the given organization ID. Unlike the offset based listing, the total number of results is
+     * not computed.
+     *
+     * @param limit              The maximum number of organizations to be returned.
+     * @param after              The organization ID after which the organizations are listed. Null to list from the
+     *                           first organization.
+     * @param rootOrganizationId The root organization ID.
+     * @param expressionNodes    The list of filters.
+     * @return The discovery attributes of the organizations along with the cursor of the next page.
+     * @throws OrganizationManagementServerException The server exception thrown when listing discovery attributes of
+     *                                               the organizations.
+     */
+    default DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributesAfter(int limit, String after,
+                                                                                  String rootOrganizationId,
+                                                                                  List<ExpressionNode> expressionNodes)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getOrganizationsDiscoveryAttributesAfter method is not implemented in " +
+                this.getClass().getName());
+    }
 }
@@ -23,9 +23,11 @@ import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
+import org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.ErrorMessages;
 import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrganizationDiscovery;
+import org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.OrganizationStatus;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.filter.ExpressionNode;
 import org.wso2.carbon.identity.organization.management.service.model.FilterQueryBuilder;
@@ -38,22 +40,33 @@ import java.util.List;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.ATTRIBUTE_COLUMN_MAP;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.ErrorMessages.ERROR_CODE_ERROR_GETTING_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.CHECK_DISCOVERY_ATTRIBUTE_ADDED_IN_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.CHECK_DISCOVERY_ATTRIBUTE_EXIST_IN_HIERARCHY;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DELETE_ORGANIZATION_DISCOVERY_ATTRIBUTES;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DISCOVERY_ATTRIBUTE_VALUE_LIST_PLACEHOLDER;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DISCOVERY_ORGANIZATION_ID_AFTER_CURSOR;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DISCOVERY_ORGANIZATIONS_TOTAL_COUNT;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.EXCLUDE_CURRENT_ORGANIZATION_FROM_CHECK_DISCOVERY_ATTRIBUTE_EXIST;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES_SORTED_BY_ID;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES_SORTED_BY_CREATED_TIME;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATION_IDS_AFTER_CURSOR;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATION_IDS_AFTER_CURSOR_MSSQL;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATION_IDS_MSSQL_SORTED_BY_CREATED_TIME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATION_IDS_SORTED_BY_CREATED_TIME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_ORGANIZATION_DISCOVERY_ATTRIBUTES;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_MSSQL;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_ORACLE;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_ORGANIZATION_ID_BY_DISCOVERY_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.INSERT_ORGANIZATION_DISCOVERY_ATTRIBUTES;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_AFTER;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_LIMIT;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_OFFSET;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_NAME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_STATUS;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TYPE;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_VALUE;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.ORGS_LIST_PLACEHOLDER;
@@ -72,6 +85,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SW;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getOrganizationId;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.handleServerException;
+import static org.wso2.carbon.identity.organization.management.service.util.Utils.isDB2DB;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.isMSSqlDB;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.isOracleDB;
 
@@ -272,14 +286,57 @@ public class OrganizationDiscoveryDAOImpl implements OrganizationDiscoveryDAO {
             return discoveryOrganizationsResult;
         }
 
-        List<OrganizationDiscoveryRowDataCollector> rowDataCollectors = getDiscoveryAttributes(rootOrganizationId,
-                organizationIds, namedJdbcTemplate);
+        List<OrganizationDiscoveryRowDataCollector> rowDataCollectors = getDiscoveryAttributes(
+                GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES_SORTED_BY_CREATED_TIME, rootOrganizationId, organizationIds,
+                namedJdbcTemplate);
         List<OrganizationDiscovery> discoveryList = buildOrganizationsDiscoveryFromRawData(rowDataCollectors);
         discoveryOrganizationsResult.setOrganizations(discoveryList);
 
         return discoveryOrganizationsResult;
     }
 
+    @Override
+    public DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributesAfter(int limit, String after,
+                                                                                 String rootOrganizationId,
+                                                                                 List<ExpressionNode> expressionNodes)
+            throws OrganizationManagementServerException {
+
+        DiscoveryOrganizationsResult discoveryOrganizationsResult = new DiscoveryOrganizationsResult();
+        discoveryOrganizationsResult.setLimit(limit);
+        if (limit == 0) {
+            discoveryOrganizationsResult.setOrganizations(new ArrayList<>());
+            return discoveryOrganizationsResult;
+        }
+
+        FilterQueryBuilder filterQueryBuilder = new FilterQueryBuilder();
+        appendFilterQuery(expressionNodes, filterQueryBuilder);
+        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
+        String filterQuery = filterQueryBuilder.getFilterQuery();
+        if (after != null) {
+            filterQuery = filterQuery + DISCOVERY_ORGANIZATION_ID_AFTER_CURSOR;
+        }
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        // One organization more than the limit is fetched to find out whether there is a next page.
+        List<String> organizationIds = getDiscoveryOrganizationIdsAfter(limit + 1, after, filterQuery,
+                rootOrganizationId, filterAttributeValue, namedJdbcTemplate);
+        if (organizationIds.size() > limit) {
+            organizationIds = organizationIds.subList(0, limit);
+            discoveryOrganizationsResult.setNextCursor(organizationIds.get(limit - 1));
+        }
+
+        if (organizationIds.isEmpty()) {
+            discoveryOrganizationsResult.setOrganizations(new ArrayList<>());
+            return discoveryOrganizationsResult;
+        }
+
+        List<OrganizationDiscoveryRowDataCollector> rowDataCollectors = getDiscoveryAttributes(
+                GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES_SORTED_BY_ID, rootOrganizationId, organizationIds,
+                namedJdbcTemplate);
+        discoveryOrganizationsResult.setOrganizations(buildOrganizationsDiscoveryFromRawData(rowDataCollectors));
+        return discoveryOrganizationsResult;
+    }
+
     @Override
     public String getOrganizationIdByDiscoveryAttribute(String attributeType, String attributeValue,
                                                         String rootOrganizationId)
@@ -299,6 +356,39 @@ public class OrganizationDiscoveryDAOImpl implements OrganizationDiscoveryDAO {
         }
     }
 
+    @Override
+    public String getNearestDescendantOrganizationIdByName(String organizationName, String rootOrganizationId)
+            throws OrganizationManagementServerException {
+
+        String nearestOrganizationQuery;
+        if (isMSSqlDB()) {
+            nearestOrganizationQuery = GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_MSSQL;
+        } else if (isOracleDB() || isDB2DB()) {
+            nearestOrganizationQuery = GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME_ORACLE;
+        } else {
+            nearestOrganizationQuery = GET_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME;
+        }
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            /*
+             * Rows are ordered by the depth and then by the organization ID, hence the only row returned is the
+             * nearest descendant organization, and the same one is picked among the organizations of equal depth.
+             */
+            List<String> organizationIds = namedJdbcTemplate.executeQuery(nearestOrganizationQuery,
+                    (resultSet, rowNumber) -> resultSet.getString(1), namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ROOT_ID, rootOrganizationId);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_NAME, organizationName);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_STATUS,
+                                OrganizationStatus.ACTIVE.name());
+                    });
+            return organizationIds.isEmpty() ? null : organizationIds.get(0);
+        } catch (DataAccessException e) {
+            ErrorMessages error = ERROR_CODE_ERROR_GETTING_NEAREST_DESCENDANT_ORGANIZATION_ID_BY_NAME;
+            throw new OrganizationManagementServerException(error.getMessage(),
+                    String.format(error.getDescription(), organizationName, rootOrganizationId), error.getCode(), e);
+        }
+    }
+
     private List<OrganizationDiscovery> buildOrganizationsDiscoveryFromRawData(
             List<OrganizationDiscoveryRowDataCollector> organizationRowDataCollectors) {
 
@@ -502,7 +592,39 @@ public class OrganizationDiscoveryDAOImpl implements OrganizationDiscoveryDAO {
         }
     }
 
-    private List<OrganizationDiscoveryRowDataCollector> getDiscoveryAttributes(String rootOrganizationId,
+    private List<String> getDiscoveryOrganizationIdsAfter(int limit, String after, String filterQuery,
+                                                          String rootOrganizationId,
+                                                          Map<String, String> filterAttributeValue,
+                                                          NamedJdbcTemplate namedJdbcTemplate)
+            throws OrganizationManagementServerException {
+
+        try {
+            String orgIdsQuery;
+            if (isMSSqlDB() || isOracleDB()) {
+                orgIdsQuery = String.format(GET_DISCOVERY_ORGANIZATION_IDS_AFTER_CURSOR_MSSQL, filterQuery);
+            } else {
+                orgIdsQuery = String.format(GET_DISCOVERY_ORGANIZATION_IDS_AFTER_CURSOR, filterQuery);
+            }
+            return namedJdbcTemplate.executeQuery(orgIdsQuery,
+                    (resultSet, rowNumber) -> resultSet.getString(1),
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ROOT_ID, rootOrganizationId);
+                        namedPreparedStatement.setInt(DB_LIMIT, limit);
+                        if (after != null) {
+                            namedPreparedStatement.setString(DB_AFTER, after);
+                        }
+                        for (Map.Entry<String, String> entry : filterAttributeValue.entrySet()) {
+                            namedPreparedStatement.setString(entry.getKey(), entry.getValue());
+                        }
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_LISTING_ORGANIZATIONS_DISCOVERY_ATTRIBUTES, e,
+                    rootOrganizationId);
+        }
+    }
+
+    private List<OrganizationDiscoveryRowDataCollector> getDiscoveryAttributes(String query,
+                                                                               String rootOrganizationId,
                                                                                List<String> organizationIds,
                                                                                NamedJdbcTemplate namedJdbcTemplate)
             throws OrganizationManagementServerException {
@@ -515,8 +637,8 @@ public class OrganizationDiscoveryDAOImpl implements OrganizationDiscoveryDAO {
             organizationPlaceholders.add(":" + organizationPlaceholder + i + ";");
         }
 
-        String discoveryAttributesQuery = GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES_SORTED_BY_CREATED_TIME
-                .replace(ORGS_LIST_PLACEHOLDER, String.join(", ", organizationPlaceholders));
+        String discoveryAttributesQuery = query.replace(ORGS_LIST_PLACEHOLDER,
+                String.join(", ", organizationPlaceholders));
         try {
             return namedJdbcTemplate.executeQuery(discoveryAttributesQuery,
                     (resultSet, rowNumber) -> {
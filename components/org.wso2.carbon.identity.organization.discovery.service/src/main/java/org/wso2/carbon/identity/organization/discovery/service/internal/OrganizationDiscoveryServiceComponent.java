@@ -30,12 +30,14 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.application.authentication.framework.handler.orgdiscovery.OrganizationDiscoveryHandler;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.PostAuthenticationHandler;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.config.service.OrganizationConfigManager;
 import org.wso2.carbon.identity.organization.discovery.service.AttributeBasedOrganizationDiscoveryHandler;
 import org.wso2.carbon.identity.organization.discovery.service.EmailDomainBasedDiscoveryHandler;
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryHandlerImpl;
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryManager;
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryManagerImpl;
+import org.wso2.carbon.identity.organization.discovery.service.listener.DiscoverySharedApplicationCacheHandler;
 import org.wso2.carbon.identity.organization.discovery.service.listener.EmailDomainValidationHandler;
 import org.wso2.carbon.identity.organization.discovery.service.listener.OrganizationDiscoveryUserOperationListener;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -67,6 +69,8 @@ public class OrganizationDiscoveryServiceComponent {
         bundleContext.registerService(PostAuthenticationHandler.class.getName(), emailDomainValidationHandler, null);
         bundleContext.registerService(
                 OrganizationDiscoveryHandler.class.getName(), new OrganizationDiscoveryHandlerImpl(), null);
+        bundleContext.registerService(AbstractEventHandler.class.getName(),
+                new DiscoverySharedApplicationCacheHandler(), null);
         OrganizationDiscoveryServiceHolder.getInstance()
                 .setOrganizationDiscoveryManager(organizationDiscoveryManagerImpl);
         LOG.debug("Organization discovery service component activated successfully.");
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.listener;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCacheKey;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_POST_DELETE_SHARED_APPLICATION;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_POST_SHARE_APPLICATION;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_PROP_MAIN_APPLICATION_ID;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_PROP_MAIN_ORGANIZATION_ID;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_PROP_PARENT_APPLICATION_ID;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_PROP_PARENT_ORGANIZATION_ID;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.DiscoveryConstants.EVENT_PROP_SHARED_ORGANIZATION_ID;
+
+/**
+ * Event handler to invalidate the shared applications cached for organization discovery when an application is
+ * shared with an organization or unshared from it.
+ * <p>
+ * The handler accepts these events by itself, so it does not need a subscription in the identity event configuration.
+ */
+public class DiscoverySharedApplicationCacheHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(DiscoverySharedApplicationCacheHandler.class);
+
+    private static final Set<String> SHARED_APPLICATION_EVENTS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(EVENT_POST_SHARE_APPLICATION, EVENT_POST_DELETE_SHARED_APPLICATION,
+                    EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS)));
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && SHARED_APPLICATION_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String eventName = event.getEventName();
+        Map<String, Object> eventProperties = event.getEventProperties();
+        switch (eventName) {
+            case EVENT_POST_SHARE_APPLICATION:
+                clearSharedApplication((String) eventProperties.get(EVENT_PROP_MAIN_APPLICATION_ID),
+                        (String) eventProperties.get(EVENT_PROP_MAIN_ORGANIZATION_ID),
+                        (String) eventProperties.get(EVENT_PROP_SHARED_ORGANIZATION_ID));
+                break;
+            case EVENT_POST_DELETE_SHARED_APPLICATION:
+                clearSharedApplication((String) eventProperties.get(EVENT_PROP_PARENT_APPLICATION_ID),
+                        (String) eventProperties.get(EVENT_PROP_PARENT_ORGANIZATION_ID),
+                        (String) eventProperties.get(EVENT_PROP_SHARED_ORGANIZATION_ID));
+                break;
+            case EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS:
+                // The shared organizations of the main application are not known here.
+                DiscoverySharedApplicationCache.getInstance().clearAllFromCache();
+                break;
+            default:
+                return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared the shared applications cached for organization discovery upon the event: " +
+                    eventName);
+        }
+    }
+
+    @Override
+    public String getName() {
+
+        return "DiscoverySharedApplicationCacheHandler";
+    }
+
+    private void clearSharedApplication(String mainApplicationId, String mainOrganizationId,
+                                        String sharedOrganizationId) {
+
+        if (StringUtils.isBlank(mainApplicationId) || StringUtils.isBlank(mainOrganizationId) ||
+                StringUtils.isBlank(sharedOrganizationId)) {
+            DiscoverySharedApplicationCache.getInstance().clearAllFromCache();
+            return;
+        }
+        DiscoverySharedApplicationCache.getInstance().clearSharedApplicationFromCache(
+                new DiscoverySharedApplicationCacheKey(mainApplicationId, mainOrganizationId, sharedOrganizationId));
+    }
+}
@@ -46,7 +46,6 @@ import org.wso2.carbon.identity.organization.config.service.model.DiscoveryConfi
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryManager;
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryManagerImpl;
 import org.wso2.carbon.identity.organization.discovery.service.internal.OrganizationDiscoveryServiceHolder;
-import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
@@ -54,6 +53,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -198,24 +198,14 @@ public class EmailDomainValidationHandler extends AbstractPostAuthnHandler {
             throws PostAuthenticationFailedException {
 
         try {
-            List<OrgDiscoveryAttribute> organizationDiscoveryAttributes =
-                    organizationDiscoveryManager.getOrganizationDiscoveryAttributes(context.getTenantDomain(), false);
+            Optional<Set<String>> mappedEmailDomains =
+                    organizationDiscoveryManager.getEmailDomainsOfOrganization(context.getTenantDomain());
 
-            if (organizationDiscoveryAttributes.isEmpty()) {
+            if (!mappedEmailDomains.isPresent()) {
                 LOG.debug("No email domains are mapped to the organization. Skipping email domain validation.");
                 return true;
             }
-
-            for (OrgDiscoveryAttribute orgDiscoveryAttribute : organizationDiscoveryAttributes) {
-                if (!EMAIL_DOMAIN.equals(orgDiscoveryAttribute.getType())) {
-                    continue;
-                }
-
-                List<String> mappedEmailDomains = orgDiscoveryAttribute.getValues();
-                if (mappedEmailDomains != null && !mappedEmailDomains.contains(emaildomain)) {
-                    return false;
-                }
-            }
+            return mappedEmailDomains.get().contains(emaildomain);
         } catch (OrganizationManagementException e) {
             LOG.error("Error while retrieving organization discovery attributes for tenant: " +
                     context.getTenantDomain(), e);
@@ -223,7 +213,6 @@ public class EmailDomainValidationHandler extends AbstractPostAuthnHandler {
                     String.format(ERROR_WHILE_RETRIEVING_ORG_DISCOVERY_ATTRIBUTES.getDescription(),
                             context.getTenantDomain()), e);
         }
-        return true;
     }
 
     private Optional<String> extractEmailDomain(String email) {
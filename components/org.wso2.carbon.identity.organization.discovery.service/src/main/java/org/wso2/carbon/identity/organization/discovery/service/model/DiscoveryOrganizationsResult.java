@@ -29,6 +29,7 @@ public class DiscoveryOrganizationsResult {
     private int limit;
     private int offset;
     private int totalResults;
+    private String nextCursor;
 
     public List<OrganizationDiscovery> getOrganizations() {
 
@@ -69,4 +70,19 @@ public class DiscoveryOrganizationsResult {
 
         this.totalResults = totalResults;
     }
+
+    /**
+     * Get the cursor of the next page of a cursor based listing.
+     *
+     * @return The ID of the last organization of the page, or null if there are no more organizations to list.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
 }
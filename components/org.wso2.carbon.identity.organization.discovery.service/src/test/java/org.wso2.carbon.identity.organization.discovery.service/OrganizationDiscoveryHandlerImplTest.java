@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.organization.discovery.service;
 
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
@@ -31,6 +32,9 @@ import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.organization.config.service.OrganizationConfigManager;
 import org.wso2.carbon.identity.organization.config.service.model.ConfigProperty;
 import org.wso2.carbon.identity.organization.config.service.model.DiscoveryConfig;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoverySharedApplicationCacheKey;
 import org.wso2.carbon.identity.organization.discovery.service.internal.OrganizationDiscoveryServiceHolder;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
@@ -39,6 +43,10 @@ import org.wso2.carbon.identity.organization.management.service.model.Organizati
 
 import java.util.List;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
@@ -73,11 +81,13 @@ public class OrganizationDiscoveryHandlerImplTest {
     private static final String SHARED_APP_ID = "sharedAppId";
     private static final String ORG_ID_NO_SHARED_APP = "orgIdNoSharedApp";
     private static final String INVALID_TENANT_DOMAIN = "invalidTenantDomain";
+    private static final String CACHED_ORG_ID = "cachedOrgId";
 
     private final OrganizationDiscoveryHandlerImpl organizationDiscoveryHandler =
             new OrganizationDiscoveryHandlerImpl();
 
     private AutoCloseable closeable;
+    private MockedStatic<DiscoverySharedApplicationCache> discoverySharedApplicationCacheMockedStatic;
     @Mock
     private OrganizationManager organizationManager;
     @Mock
@@ -93,6 +103,13 @@ public class OrganizationDiscoveryHandlerImplTest {
     public void setUp() throws Exception {
 
         closeable = openMocks(this);
+        DiscoverySharedApplicationCache discoverySharedApplicationCache = mock(DiscoverySharedApplicationCache.class);
+        discoverySharedApplicationCacheMockedStatic = mockStatic(DiscoverySharedApplicationCache.class);
+        discoverySharedApplicationCacheMockedStatic.when(DiscoverySharedApplicationCache::getInstance)
+                .thenReturn(discoverySharedApplicationCache);
+        when(discoverySharedApplicationCache.getSharedApplicationFromCache(
+                new DiscoverySharedApplicationCacheKey(MAIN_APP_ID, ROOT_ORG_ID, CACHED_ORG_ID)))
+                .thenReturn(new DiscoverySharedApplicationCacheEntry(SHARED_APP_ID));
 
         OrganizationDiscoveryServiceHolder.getInstance().setOrganizationManager(organizationManager);
         OrganizationDiscoveryServiceHolder.getInstance().setApplicationManagementService(applicationManagementService);
@@ -123,9 +140,10 @@ public class OrganizationDiscoveryHandlerImplTest {
                         ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getDescription(),
                         ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode()));
 
-        when(organizationManager.getOrganizationsByName(ORG_NAME)).thenReturn(List.of(organization));
-        when(organizationManager.getRelativeDepthBetweenOrganizationsInSameBranch(ORG_ID, ROOT_ORG_ID)).thenReturn(1);
-        when(organizationManager.getOrganizationsByName(INVALID_ORG_NAME)).thenReturn(List.of());
+        when(organizationDiscoveryManager.getNearestDescendantOrganizationIdByName(ORG_NAME, ROOT_ORG_ID))
+                .thenReturn(ORG_ID);
+        when(organizationDiscoveryManager.getNearestDescendantOrganizationIdByName(INVALID_ORG_NAME, ROOT_ORG_ID))
+                .thenReturn(null);
 
         when(organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
                 ORG_DISCOVERY_TYPE, LOGIN_HINT, ROOT_ORG_ID, authenticationContext)).thenReturn(ORG_ID);
@@ -148,6 +166,11 @@ public class OrganizationDiscoveryHandlerImplTest {
         when(applicationManagementService.getSharedAppId(MAIN_APP_ID, ROOT_ORG_ID, ORG_ID_NO_SHARED_APP))
                 .thenReturn(null);
 
+        Organization organizationWithCachedSharedApp = new Organization();
+        organizationWithCachedSharedApp.setId(CACHED_ORG_ID);
+        when(organizationManager.getOrganization(CACHED_ORG_ID, false, false))
+                .thenReturn(organizationWithCachedSharedApp);
+
         when(organizationManager.resolveOrganizationId(INVALID_TENANT_DOMAIN))
                 .thenThrow(new OrganizationManagementException("Error resolving organization ID"));
     }
@@ -156,6 +179,7 @@ public class OrganizationDiscoveryHandlerImplTest {
     public void tearDown() throws Exception {
 
         closeable.close();
+        discoverySharedApplicationCacheMockedStatic.close();
     }
 
     @DataProvider
@@ -289,4 +313,20 @@ public class OrganizationDiscoveryHandlerImplTest {
 
         organizationDiscoveryHandler.discoverOrganization(orgDiscoveryInput, MAIN_APP_ID, INVALID_TENANT_DOMAIN);
     }
+
+    @Test
+    public void testDiscoverOrganizationWithCachedSharedApplication() throws Exception {
+
+        OrganizationDiscoveryInput orgDiscoveryInput = new OrganizationDiscoveryInput.Builder()
+                .orgId(CACHED_ORG_ID)
+                .build();
+
+        OrganizationDiscoveryResult orgDiscoveryResult = organizationDiscoveryHandler
+                .discoverOrganization(orgDiscoveryInput, MAIN_APP_ID, ROOT_TENANT_DOMAIN);
+
+        assertTrue(orgDiscoveryResult.isSuccessful(), "Organization discovery should be successful.");
+        assertEquals(orgDiscoveryResult.getSharedApplicationId(), SHARED_APP_ID,
+                "Shared application ID should be resolved from the cache.");
+        verify(applicationManagementService, never()).getSharedAppId(MAIN_APP_ID, ROOT_ORG_ID, CACHED_ORG_ID);
+    }
 }
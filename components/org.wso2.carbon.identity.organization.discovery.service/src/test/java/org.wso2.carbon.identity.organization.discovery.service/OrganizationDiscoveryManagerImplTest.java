@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.organization.discovery.service;
 import org.apache.commons.lang.StringUtils;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
@@ -29,6 +30,11 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.organization.config.service.OrganizationConfigManager;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoveredOrganizationCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoveredOrganizationCacheEntry;
+import org.wso2.carbon.identity.organization.discovery.service.cache.DiscoveredOrganizationCacheKey;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationEmailDomainCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationEmailDomainCacheEntry;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAO;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAOImpl;
 import org.wso2.carbon.identity.organization.discovery.service.internal.OrganizationDiscoveryServiceHolder;
@@ -43,13 +49,20 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
 
@@ -66,6 +79,10 @@ public class OrganizationDiscoveryManagerImplTest {
     private static final String XYZ_ORG_ID = "40084a8d-113f-4211-a0d5-efe36b082214";
     private final OrganizationDiscoveryDAO organizationDiscoveryDAO = new OrganizationDiscoveryDAOImpl();
     private AuthenticationContext mockAuthenticationContext;
+    private MockedStatic<OrganizationEmailDomainCache> organizationEmailDomainCacheMockedStatic;
+    private OrganizationEmailDomainCache organizationEmailDomainCache;
+    private MockedStatic<DiscoveredOrganizationCache> discoveredOrganizationCacheMockedStatic;
+    private DiscoveredOrganizationCache discoveredOrganizationCache;
 
     @InjectMocks
     private OrganizationDiscoveryManagerImpl organizationDiscoveryManager;
@@ -84,6 +101,14 @@ public class OrganizationDiscoveryManagerImplTest {
 
         MockitoAnnotations.openMocks(this);
         mockAuthenticationContext = mock(AuthenticationContext.class);
+        organizationEmailDomainCache = mock(OrganizationEmailDomainCache.class);
+        organizationEmailDomainCacheMockedStatic = mockStatic(OrganizationEmailDomainCache.class);
+        organizationEmailDomainCacheMockedStatic.when(OrganizationEmailDomainCache::getInstance)
+                .thenReturn(organizationEmailDomainCache);
+        discoveredOrganizationCache = mock(DiscoveredOrganizationCache.class);
+        discoveredOrganizationCacheMockedStatic = mockStatic(DiscoveredOrganizationCache.class);
+        discoveredOrganizationCacheMockedStatic.when(DiscoveredOrganizationCache::getInstance)
+                .thenReturn(discoveredOrganizationCache);
 
         TestUtils.initiateH2Base();
         TestUtils.mockDataSource();
@@ -114,6 +139,8 @@ public class OrganizationDiscoveryManagerImplTest {
     public void tearDown() throws Exception {
 
         TestUtils.closeH2Base();
+        organizationEmailDomainCacheMockedStatic.close();
+        discoveredOrganizationCacheMockedStatic.close();
     }
 
     @Test
@@ -419,6 +446,43 @@ public class OrganizationDiscoveryManagerImplTest {
         Assert.assertNull(organizationId);
     }
 
+    @Test
+    public void testGetOrganizationIdByDiscoveryAttributeFromCache() throws Exception {
+
+        when(attributeBasedOrganizationDiscoveryHandler.extractAttributeValue(anyString(),
+                any(AuthenticationContext.class))).thenReturn("abc.com");
+        when(discoveredOrganizationCache.getDiscoveredOrganizationFromCache(
+                new DiscoveredOrganizationCacheKey(SUPER_ORG_ID, DISCOVERY_ATTRIBUTE_TYPE, "abc.com")))
+                .thenReturn(new DiscoveredOrganizationCacheEntry(XYZ_ORG_ID));
+
+        String organizationId = organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
+                DISCOVERY_ATTRIBUTE_TYPE, "user@abc.com", SUPER_ORG_ID, mockAuthenticationContext);
+        Assert.assertEquals(organizationId, XYZ_ORG_ID);
+        verify(discoveredOrganizationCache, never()).addDiscoveredOrganizationToCache(
+                any(DiscoveredOrganizationCacheKey.class), any(DiscoveredOrganizationCacheEntry.class));
+    }
+
+    @Test
+    public void testDiscoveredOrganizationClearedOnDiscoveryAttributeUpdate() throws Exception {
+
+        List<OrgDiscoveryAttribute> discoveryAttributes = new ArrayList<>();
+        OrgDiscoveryAttribute orgDiscoveryAttribute = new OrgDiscoveryAttribute();
+        orgDiscoveryAttribute.setType(DISCOVERY_ATTRIBUTE_TYPE);
+        orgDiscoveryAttribute.setValues(Collections.singletonList("abc.org"));
+        discoveryAttributes.add(orgDiscoveryAttribute);
+
+        when(organizationManager.getPrimaryOrganizationId(ABC_ORG_ID)).thenReturn(SUPER_ORG_ID);
+        when(attributeBasedOrganizationDiscoveryHandler.isDiscoveryConfigurationEnabled(SUPER_ORG_ID)).thenReturn(true);
+        when(attributeBasedOrganizationDiscoveryHandler.areAttributeValuesInValidFormat(anyList())).thenReturn(true);
+
+        organizationDiscoveryManager.updateOrganizationDiscoveryAttributes(ABC_ORG_ID, discoveryAttributes, true);
+        for (String emailDomain : Arrays.asList("abc.com", "abc.io", "abc.org")) {
+            verify(discoveredOrganizationCache).clearDiscoveredOrganizationFromCache(
+                    new DiscoveredOrganizationCacheKey(SUPER_ORG_ID, DISCOVERY_ATTRIBUTE_TYPE, emailDomain));
+        }
+        verify(organizationEmailDomainCache).clearEmailDomainsFromCache(ABC_ORG_ID);
+    }
+
     @Test
     public void testGetOrganizationsDiscoveryAttributesSortedByCreatedTime() throws Exception {
 
@@ -461,4 +525,33 @@ public class OrganizationDiscoveryManagerImplTest {
         Assert.assertTrue(allOrgIds.indexOf(orgNewId) < allOrgIds.indexOf(orgOldId), 
         "Newest organization should appear before the oldest organization.");
     }
+
+    @Test
+    public void testGetEmailDomainsOfOrganization() throws Exception {
+
+        Optional<Set<String>> emailDomains = organizationDiscoveryManager.getEmailDomainsOfOrganization(WSO2_ORG_ID);
+        Assert.assertTrue(emailDomains.isPresent());
+        Assert.assertEquals(emailDomains.get(), new HashSet<>(Arrays.asList("wso2.lk", "wso2.uk")));
+        verify(organizationEmailDomainCache).addEmailDomainsToCache(eq(WSO2_ORG_ID),
+                any(OrganizationEmailDomainCacheEntry.class));
+    }
+
+    @Test
+    public void testGetEmailDomainsOfOrganizationWithoutEmailDomains() throws Exception {
+
+        Assert.assertFalse(organizationDiscoveryManager.getEmailDomainsOfOrganization(XYZ_ORG_ID).isPresent());
+    }
+
+    @Test
+    public void testGetEmailDomainsOfOrganizationFromCache() throws Exception {
+
+        when(organizationEmailDomainCache.getEmailDomainsFromCache(WSO2_ORG_ID)).thenReturn(
+                new OrganizationEmailDomainCacheEntry(new HashSet<>(Collections.singletonList("wso2.com"))));
+
+        Optional<Set<String>> emailDomains = organizationDiscoveryManager.getEmailDomainsOfOrganization(WSO2_ORG_ID);
+        Assert.assertTrue(emailDomains.isPresent());
+        Assert.assertEquals(emailDomains.get(), Collections.singleton("wso2.com"));
+        verify(organizationEmailDomainCache, never()).addEmailDomainsToCache(anyString(),
+                any(OrganizationEmailDomainCacheEntry.class));
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.dao;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
+import org.wso2.carbon.identity.organization.discovery.service.model.OrganizationDiscovery;
+import org.wso2.carbon.identity.organization.discovery.service.util.TestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the lookups and listings of {@link OrganizationDiscoveryDAOImpl}.
+ */
+public class OrganizationDiscoveryDAOImplTest {
+
+    private static final String DUPLICATE_ORG_NAME = "Sales";
+    private static final String INSERT_ORGANIZATION = "INSERT INTO UM_ORG (UM_ID, UM_ORG_NAME, UM_CREATED_TIME, " +
+            "UM_LAST_MODIFIED, UM_STATUS, UM_PARENT_ID, UM_ORG_TYPE) VALUES (?, ?, ?, ?, 'ACTIVE', ?, 'TENANT')";
+    private static final String INSERT_ORGANIZATION_HIERARCHY = "INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, UM_ID, " +
+            "DEPTH) VALUES (?, ?, ?)";
+    private static final String DISABLE_ORGANIZATION = "UPDATE UM_ORG SET UM_STATUS = 'DISABLED' WHERE UM_ID = ?";
+    private static final String INSERT_ORGANIZATION_DISCOVERY = "INSERT INTO UM_ORG_DISCOVERY (UM_ORG_ID, " +
+            "UM_ROOT_ORG_ID, UM_DISCOVERY_TYPE, UM_DISCOVERY_VALUE) VALUES (?, ?, 'emailDomain', ?)";
+
+    private final OrganizationDiscoveryDAO organizationDiscoveryDAO = new OrganizationDiscoveryDAOImpl();
+    private final Map<String, List<String>> ancestorsOfOrganizations = new HashMap<>();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtils.initiateH2Base();
+        TestUtils.mockDataSource();
+        ancestorsOfOrganizations.clear();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        TestUtils.closeH2Base();
+    }
+
+    @DataProvider(name = "duplicateOrganizationNameHierarchyDataProvider")
+    public Object[][] duplicateOrganizationNameHierarchyDataProvider() {
+
+        return new Object[][]{
+                // Number of root organizations, branches per root organization, depth of each branch.
+                {1, 2, 3},
+                {3, 10, 4},
+                {5, 25, 5}
+        };
+    }
+
+    @Test(dataProvider = "duplicateOrganizationNameHierarchyDataProvider")
+    public void testGetNearestDescendantOrganizationIdByNameQueryCount(int rootCount, int branchCount,
+                                                                       int branchDepth) throws Exception {
+
+        List<String> rootOrganizationIds = new ArrayList<>();
+        Map<String, String> nearestOrganizationIds = new HashMap<>();
+        try (Connection connection = TestUtils.dataSourceMap.get(TestUtils.DB_NAME).getConnection()) {
+            for (int rootIndex = 0; rootIndex < rootCount; rootIndex++) {
+                String rootOrganizationId = addOrganization(connection, "Root" + rootIndex, null);
+                rootOrganizationIds.add(rootOrganizationId);
+                for (int branchIndex = 0; branchIndex < branchCount; branchIndex++) {
+                    String parentId = rootOrganizationId;
+                    for (int depth = 1; depth <= branchDepth; depth++) {
+                        /*
+                         * Every organization below the first level of a branch has the duplicate name. Only the
+                         * first branch has it at the first level as well, which makes it the nearest one.
+                         */
+                        boolean duplicateName = depth > 1 || branchIndex == 0;
+                        String organizationName = duplicateName ? DUPLICATE_ORG_NAME :
+                                "Branch" + rootIndex + "-" + branchIndex;
+                        parentId = addOrganization(connection, organizationName, parentId);
+                        if (depth == 1 && branchIndex == 0) {
+                            nearestOrganizationIds.put(rootOrganizationId, parentId);
+                        }
+                    }
+                }
+            }
+        }
+
+        AtomicInteger statementCount = TestUtils.mockDataSourceWithStatementCounter();
+        for (String rootOrganizationId : rootOrganizationIds) {
+            int statementCountBeforeLookup = statementCount.get();
+            String organizationId = organizationDiscoveryDAO.getNearestDescendantOrganizationIdByName(
+                    DUPLICATE_ORG_NAME, rootOrganizationId);
+            Assert.assertEquals(organizationId, nearestOrganizationIds.get(rootOrganizationId));
+            Assert.assertEquals(statementCount.get() - statementCountBeforeLookup, 1,
+                    "The nearest organization should be resolved with a single query regardless of the number of " +
+                            "organizations with the same name.");
+        }
+    }
+
+    @Test
+    public void testGetNearestDescendantOrganizationIdByNameOutsideHierarchy() throws Exception {
+
+        String rootOrganizationId;
+        try (Connection connection = TestUtils.dataSourceMap.get(TestUtils.DB_NAME).getConnection()) {
+            rootOrganizationId = addOrganization(connection, DUPLICATE_ORG_NAME, null);
+            String otherRootOrganizationId = addOrganization(connection, "OtherRoot", null);
+            addOrganization(connection, DUPLICATE_ORG_NAME, otherRootOrganizationId);
+        }
+
+        // Neither the organization itself nor the organizations of other hierarchies are matched.
+        Assert.assertNull(organizationDiscoveryDAO.getNearestDescendantOrganizationIdByName(DUPLICATE_ORG_NAME,
+                rootOrganizationId));
+    }
+
+    @Test
+    public void testGetNearestDescendantOrganizationIdByNameSkipsDisabledOrganizations() throws Exception {
+
+        String rootOrganizationId;
+        List<String> activeOrganizationIds = new ArrayList<>();
+        try (Connection connection = TestUtils.dataSourceMap.get(TestUtils.DB_NAME).getConnection()) {
+            rootOrganizationId = addOrganization(connection, "Root", null);
+            String disabledOrganizationId = addOrganization(connection, DUPLICATE_ORG_NAME, rootOrganizationId);
+            try (PreparedStatement statement = connection.prepareStatement(DISABLE_ORGANIZATION)) {
+                statement.setString(1, disabledOrganizationId);
+                statement.executeUpdate();
+            }
+            String branchId = addOrganization(connection, "Branch", rootOrganizationId);
+            for (int index = 0; index < 3; index++) {
+                activeOrganizationIds.add(addOrganization(connection, DUPLICATE_ORG_NAME, branchId));
+            }
+        }
+        Collections.sort(activeOrganizationIds);
+
+        // The disabled organization is skipped, and the lowest ID wins among the organizations of the same depth.
+        for (int attempt = 0; attempt < 3; attempt++) {
+            Assert.assertEquals(organizationDiscoveryDAO.getNearestDescendantOrganizationIdByName(
+                    DUPLICATE_ORG_NAME, rootOrganizationId), activeOrganizationIds.get(0));
+        }
+    }
+
+    @DataProvider(name = "discoveryOrganizationsPageDataProvider")
+    public Object[][] discoveryOrganizationsPageDataProvider() {
+
+        return new Object[][]{
+                // Number of organizations with discovery attributes, page size.
+                {0, 5},
+                {7, 3},
+                {9, 3},
+                {25, 10}
+        };
+    }
+
+    @Test(dataProvider = "discoveryOrganizationsPageDataProvider")
+    public void testGetOrganizationsDiscoveryAttributesAfter(int organizationCount, int limit) throws Exception {
+
+        String rootOrganizationId;
+        List<String> organizationIds = new ArrayList<>();
+        try (Connection connection = TestUtils.dataSourceMap.get(TestUtils.DB_NAME).getConnection()) {
+            rootOrganizationId = addOrganization(connection, "Root", null);
+            for (int index = 0; index < organizationCount; index++) {
+                String organizationId = addOrganization(connection, "Org" + index, rootOrganizationId);
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_ORGANIZATION_DISCOVERY)) {
+                    for (int domainIndex = 0; domainIndex < 2; domainIndex++) {
+                        statement.setString(1, organizationId);
+                        statement.setString(2, rootOrganizationId);
+                        statement.setString(3, "org" + index + "-" + domainIndex + ".com");
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+                organizationIds.add(organizationId);
+            }
+        }
+        Collections.sort(organizationIds);
+
+        AtomicInteger statementCount = TestUtils.mockDataSourceWithStatementCounter();
+        List<String> listedOrganizationIds = new ArrayList<>();
+        String after = null;
+        do {
+            int statementCountBeforeListing = statementCount.get();
+            DiscoveryOrganizationsResult result = organizationDiscoveryDAO.getOrganizationsDiscoveryAttributesAfter(
+                    limit, after, rootOrganizationId, Collections.emptyList());
+            Assert.assertTrue(statementCount.get() - statementCountBeforeListing <= 2,
+                    "A page should be listed without counting the total number of organizations.");
+            Assert.assertTrue(result.getOrganizations().size() <= limit);
+            for (OrganizationDiscovery organization : result.getOrganizations()) {
+                Assert.assertEquals(organization.getDiscoveryAttributes().get(0).getValues().size(), 2);
+                listedOrganizationIds.add(organization.getOrganizationId());
+            }
+            after = result.getNextCursor();
+        } while (after != null);
+
+        Assert.assertEquals(listedOrganizationIds, organizationIds);
+    }
+
+    private String addOrganization(Connection connection, String organizationName, String parentId)
+            throws Exception {
+
+        String organizationId = UUID.randomUUID().toString();
+        Timestamp currentTime = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ORGANIZATION)) {
+            statement.setString(1, organizationId);
+            statement.setString(2, organizationName);
+            statement.setTimestamp(3, currentTime);
+            statement.setTimestamp(4, currentTime);
+            statement.setString(5, parentId);
+            statement.executeUpdate();
+        }
+
+        // The ancestors are ordered from the organization itself up to its root organization.
+        List<String> ancestors = new ArrayList<>();
+        ancestors.add(organizationId);
+        ancestors.addAll(parentId == null ? Collections.emptyList() : ancestorsOfOrganizations.get(parentId));
+        ancestorsOfOrganizations.put(organizationId, ancestors);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ORGANIZATION_HIERARCHY)) {
+            for (int depth = 0; depth < ancestors.size(); depth++) {
+                statement.setString(1, ancestors.get(depth));
+                statement.setString(2, organizationId);
+                statement.setInt(3, depth);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return organizationId;
+    }
+}
@@ -28,10 +28,14 @@ import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.core.util.DatabaseUtil;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.nio.file.Paths;
 import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sql.DataSource;
 
@@ -98,6 +102,45 @@ public class TestUtils {
         setStatic(Utils.class.getDeclaredField("dataSource"), dataSource);
     }
 
+    /**
+     * Replace the data source used by the organization management utils with one that counts the statements
+     * prepared on its connections.
+     *
+     * @return The counter of the prepared statements.
+     * @throws Exception If an error occurs while replacing the data source.
+     */
+    public static AtomicInteger mockDataSourceWithStatementCounter() throws Exception {
+
+        AtomicInteger statementCount = new AtomicInteger();
+        DataSource dataSource = dataSourceMap.get(DB_NAME);
+        DataSource countingDataSource = (DataSource) Proxy.newProxyInstance(TestUtils.class.getClassLoader(),
+                new Class[]{DataSource.class}, (dataSourceProxy, dataSourceMethod, dataSourceArgs) -> {
+                    Object result = invoke(dataSourceMethod, dataSource, dataSourceArgs);
+                    if (!(result instanceof Connection)) {
+                        return result;
+                    }
+                    Connection connection = (Connection) result;
+                    return Proxy.newProxyInstance(TestUtils.class.getClassLoader(), new Class[]{Connection.class},
+                            (connectionProxy, connectionMethod, connectionArgs) -> {
+                                if (connectionMethod.getName().startsWith("prepare")) {
+                                    statementCount.incrementAndGet();
+                                }
+                                return invoke(connectionMethod, connection, connectionArgs);
+                            });
+                });
+        setStatic(Utils.class.getDeclaredField("dataSource"), countingDataSource);
+        return statementCount;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
     private static void setStatic(Field field, Object newValue) throws Exception {
 
         field.setAccessible(true);
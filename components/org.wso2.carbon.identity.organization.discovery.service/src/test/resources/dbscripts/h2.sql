@@ -11,6 +11,15 @@ CREATE TABLE IF NOT EXISTS UM_ORG (
     FOREIGN KEY (UM_PARENT_ID) REFERENCES UM_ORG(UM_ID) ON DELETE CASCADE
 );
 
+CREATE TABLE IF NOT EXISTS UM_ORG_HIERARCHY (
+    UM_PARENT_ID VARCHAR(255) NOT NULL,
+    UM_ID VARCHAR(255) NOT NULL,
+    DEPTH INTEGER,
+    PRIMARY KEY (UM_PARENT_ID, UM_ID),
+    FOREIGN KEY (UM_PARENT_ID) REFERENCES UM_ORG(UM_ID) ON DELETE CASCADE,
+    FOREIGN KEY (UM_ID) REFERENCES UM_ORG(UM_ID) ON DELETE CASCADE
+);
+
 INSERT INTO UM_ORG(UM_ID, UM_ORG_NAME, UM_ORG_DESCRIPTION, UM_CREATED_TIME, UM_LAST_MODIFIED, UM_STATUS, UM_ORG_TYPE)
 SELECT UM_ID, UM_ORG_NAME, UM_ORG_DESCRIPTION, UM_CREATED_TIME, UM_LAST_MODIFIED, UM_STATUS, UM_ORG_TYPE FROM (
 	SELECT
@@ -462,4 +462,22 @@ public interface OrgApplicationManager {
 
         return false;
     }
+
+    /**
+     * Get the role sharing modes of the shared applications of a main application, without loading the shared
+     * applications.
+     *
+     * @param ownerOrgId ID of the organization owning the main application.
+     * @param mainAppId  UUID of the main application.
+     * @return Map of the shared organization ID to the role sharing mode of the shared application. Shared
+     * applications without a role sharing mode are not included, and share all the roles.
+     * @throws OrganizationManagementException If an error occurred when retrieving the role sharing modes.
+     */
+    default Map<String, ApplicationShareRolePolicy.Mode> getRoleSharingModesOfSharedApplications(String ownerOrgId,
+                                                                                               String mainAppId)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getRoleSharingModesOfSharedApplications method is not implemented in " +
+                this.getClass().getName());
+    }
 }
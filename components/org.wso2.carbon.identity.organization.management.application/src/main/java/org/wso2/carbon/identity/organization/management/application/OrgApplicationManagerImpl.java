@@ -84,6 +84,7 @@ import org.wso2.carbon.identity.organization.management.application.model.operat
 import org.wso2.carbon.identity.organization.management.application.model.operation.SelectiveShareApplicationOperation;
 import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
 import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationScimFilterParser;
+import org.wso2.carbon.identity.organization.management.application.util.OrgHierarchyLevelExecutor;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants;
@@ -133,6 +134,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.stream;
@@ -151,9 +153,12 @@ import static org.wso2.carbon.identity.base.IdentityConstants.SKIP_CONSENT;
 import static org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils.triggerAuditLogEvent;
 import static org.wso2.carbon.identity.core.util.IdentityUtil.getInitiatorId;
 import static org.wso2.carbon.identity.oauth.Error.DUPLICATE_OAUTH_CLIENT;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_PARALLELISM;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_THREAD_NAME_PREFIX;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.AUTH_TYPE_OAUTH_2;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.B2B_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.CORRELATION_ID_MDC;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_PARALLELISM;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DELETE_FRAGMENT_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DELETE_SHARE_FOR_MAIN_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_APP_ROLE_ALLOWED_AUDIENCE;
@@ -187,9 +192,10 @@ import static org.wso2.carbon.identity.organization.management.application.util.
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setIsAppSharedProperty;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setShareWithAllChildrenProperty;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationScimFilterParser.parseFilter;
-import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getAllOrganizationIdsInBfsOrder;
+import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getAllOrganizationIdsByLevel;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getOrganizationIdsInBfsOrder;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getValidOrganizationsInReverseBfsOrder;
+import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.groupByHierarchyLevel;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.processAndSortOrganizationShares;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.sortOrganizationsByHierarchy;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.AND;
@@ -253,10 +259,32 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
 
     private static final Log LOG = LogFactory.getLog(OrgApplicationManagerImpl.class);
     private final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    private final OrgHierarchyLevelExecutor applicationShareExecutor;
     private final ConcurrentMap<String, SubOperationStatusQueue> asyncOperationStatusList = new ConcurrentHashMap<>();
 
     private static final String BASE_URL_PLACEHOLDER = "<PROTOCOL>://<HOSTNAME>:<PORT>";
 
+    public OrgApplicationManagerImpl() {
+
+        this(OrgHierarchyLevelExecutor.fromConfiguration(APPLICATION_SHARING_THREAD_NAME_PREFIX,
+                APPLICATION_SHARING_PARALLELISM, DEFAULT_APPLICATION_SHARING_PARALLELISM));
+    }
+
+    OrgApplicationManagerImpl(OrgHierarchyLevelExecutor applicationShareExecutor) {
+
+        this.applicationShareExecutor = applicationShareExecutor;
+    }
+
+    /**
+     * Shut down the executors of the manager. The sharing tasks which are already submitted are completed, but new
+     * tasks are rejected.
+     */
+    public void shutdown() {
+
+        executorService.shutdown();
+        applicationShareExecutor.shutdown();
+    }
+
     @Override
     public void shareOrganizationApplication(String ownerOrgId, String originalAppId, boolean shareWithAllChildren,
                                              List<String> sharedOrgs) throws OrganizationManagementException {
@@ -382,10 +410,10 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         String userID = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
         String sharePolicy = OrgApplicationMgtConstants.SharePolicy.SELECTIVE_SHARE.getValue();
         String operationId = getOperationId(mainApplicationId, mainApplicationId, userID, sharePolicy);
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
 
         List<String> orgIdsToShare = new ArrayList<>();
-        // Share the application with each valid child organization as per the config.
+        List<SelectiveShareApplicationOperation> sharesToApply = new ArrayList<>();
+        // Collect the valid child organizations to share the application with as per the config.
         for (SelectiveShareApplicationOperation selectiveShareApplication : selectiveShareApplicationOperations) {
             String childOrgId = selectiveShareApplication.getOrganizationId();
             if (StringUtils.isBlank(childOrgId)) {
@@ -396,8 +424,17 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             // Only share with organizations of type TENANT.
             if (TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
                 orgIdsToShare.add(sharingChildOrg.getId());
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-
+                sharesToApply.add(selectiveShareApplication);
+            }
+        }
+        /*
+         * Organizations of the same hierarchy level are shared concurrently, and a level is shared only after its
+         * parent level is completed.
+         */
+        List<List<SelectiveShareApplicationOperation>> sharesByLevel = groupByHierarchyLevel(childOrganizationGraph,
+                sharesToApply, SelectiveShareApplicationOperation::getOrganizationId);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> shareApplicationByLevel(mainApplication,
+                sharesByLevel, selectiveShareApplication -> {
                     try {
                         if (skipOrganizationHierarchyValidation) {
                             IdentityUtil.threadLocalProperties.get().put(SKIP_ORGANIZATION_HIERARCHY_VALIDATION, true);
@@ -405,25 +442,23 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                         shareApplicationWithPolicy(
                                 mainOrganizationId,
                                 mainApplication,
-                                sharingChildOrg.getId(),
+                                selectiveShareApplication.getOrganizationId(),
                                 selectiveShareApplication.getPolicy(),
                                 selectiveShareApplication.getRoleSharing(),
                                 operationId
                         );
                     } catch (OrganizationManagementException e) {
                         LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
-                                mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
+                                mainApplication.getApplicationResourceId(),
+                                selectiveShareApplication.getOrganizationId()), e);
                     } finally {
                         if (skipOrganizationHierarchyValidation) {
                             IdentityUtil.threadLocalProperties.get().remove(SKIP_ORGANIZATION_HIERARCHY_VALIDATION);
                         }
                     }
-                }, executorService);
-                futures.add(future);
-            }
-        }
+                }), executorService);
         if (StringUtils.isNotBlank(operationId)) {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
+            future.thenRun(() -> {
                 try {
                     getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
                 } catch (AsyncOperationStatusMgtException e) {
@@ -445,6 +480,26 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         }
     }
 
+    /**
+     * Share the application with the organizations of each hierarchy level, using the application sharing executor.
+     *
+     * @param mainApplication The main application being shared.
+     * @param itemsByLevel    The sharing items grouped by the hierarchy level of their organization.
+     * @param shareAction     The action which shares the application as per a single item.
+     * @param <T>             The type of the sharing items.
+     */
+    private <T> void shareApplicationByLevel(ServiceProvider mainApplication, List<List<T>> itemsByLevel,
+                                             Consumer<T> shareAction) {
+
+        try {
+            applicationShareExecutor.executeByLevel(itemsByLevel, shareAction);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error(String.format("Sharing the application: %s was interrupted.",
+                    mainApplication.getApplicationResourceId()), e);
+        }
+    }
+
     private Map<String, String> buildShareAppAuditData(String mainApplicationId, List<String> sharedTenantDomainList) {
 
         Map<String, String> auditData = new HashMap<>();
@@ -560,50 +615,61 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             return;
         }
 
-        List<String> allOrganizationIdsInBfsOrder = getAllOrganizationIdsInBfsOrder(mainOrganizationId);
+        List<List<String>> allOrganizationIdsByLevel = getAllOrganizationIdsByLevel(mainOrganizationId);
         if (PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS.ordinal() == applicationSharingPolicy.ordinal() ||
-                !allOrganizationIdsInBfsOrder.isEmpty()) {
+                !allOrganizationIdsByLevel.isEmpty()) {
             setIsAppSharedProperty(mainApplication, true);
             // If there are valid orgs to share with, update the root application with the org login IDP.
             modifyRootApplication(mainApplication, ownerTenantDomain);
         }
 
-        if (allOrganizationIdsInBfsOrder.isEmpty()) {
+        if (allOrganizationIdsByLevel.isEmpty()) {
             return;
         }
 
         String userID = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
         String sharePolicy = applicationSharingPolicy.getValue();
         String operationId = getOperationId(mainApplicationId, mainApplicationId, userID, sharePolicy);
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
 
         List<String> orgIdsToShare = new ArrayList<>();
-        // Share the application with each valid child organization as per the config.
-        for (String childOrgId : allOrganizationIdsInBfsOrder) {
-            Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false, false);
-            // Only share with organizations of type TENANT.
-            if (TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
-                orgIdsToShare.add(sharingChildOrg.getId());
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+        List<List<String>> orgIdsToShareByLevel = new ArrayList<>();
+        // Collect the valid child organizations of each hierarchy level to share the application with.
+        for (List<String> organizationIdsOfLevel : allOrganizationIdsByLevel) {
+            List<String> orgIdsToShareOfLevel = new ArrayList<>();
+            for (String childOrgId : organizationIdsOfLevel) {
+                Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false, false);
+                // Only share with organizations of type TENANT.
+                if (TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
+                    orgIdsToShareOfLevel.add(sharingChildOrg.getId());
+                }
+            }
+            if (!orgIdsToShareOfLevel.isEmpty()) {
+                orgIdsToShare.addAll(orgIdsToShareOfLevel);
+                orgIdsToShareByLevel.add(orgIdsToShareOfLevel);
+            }
+        }
+        /*
+         * Organizations of the same hierarchy level are shared concurrently, and a level is shared only after its
+         * parent level is completed.
+         */
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> shareApplicationByLevel(mainApplication,
+                orgIdsToShareByLevel, sharingChildOrgId -> {
                     try {
                         shareApplicationWithPolicy(
                                 mainOrganizationId,
                                 mainApplication,
-                                sharingChildOrg.getId(),
+                                sharingChildOrgId,
                                 PolicyEnum.SELECTED_ORG_ONLY,
                                 generalApplicationShare.getRoleSharing(),
                                 operationId
                         );
                     } catch (OrganizationManagementException e) {
                         LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
-                                mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
+                                mainApplication.getApplicationResourceId(), sharingChildOrgId), e);
                     }
-                }, executorService);
-                futures.add(future);
-            }
-        }
+                }), executorService);
         if (StringUtils.isNotBlank(operationId)) {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
+            future.thenRun(() -> {
                 try {
                     getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
                 } catch (AsyncOperationStatusMgtException e) {
@@ -2210,6 +2276,18 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         return getOrgApplicationMgtDAO().hasFragments(mainApplicationId);
     }
 
+    @Override
+    public Map<String, ApplicationShareRolePolicy.Mode> getRoleSharingModesOfSharedApplications(String ownerOrgId,
+                                                                                              String mainAppId)
+            throws OrganizationManagementException {
+
+        Map<String, ApplicationShareRolePolicy.Mode> roleSharingModes = new HashMap<>();
+        getOrgApplicationMgtDAO().getSharedApplicationMetadata(mainAppId, ownerOrgId, ROLE_SHARING_MODE)
+                .forEach((sharedOrgId, roleSharingMode) -> roleSharingModes.put(sharedOrgId,
+                        ApplicationShareRolePolicy.Mode.valueOf(roleSharingMode)));
+        return roleSharingModes;
+    }
+
     /**
      * Returns whether the given application is a main application.
      *
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for the claim metadata of the parent organizations in the form it is inherited by their child organizations.
+ */
+public class InheritableClaimMetadataCache extends BaseCache<InheritableClaimMetadataCacheKey,
+        InheritableClaimMetadataCacheEntry> {
+
+    private static final String CACHE_NAME = "InheritableClaimMetadataCache";
+    private static final InheritableClaimMetadataCache INSTANCE = new InheritableClaimMetadataCache();
+
+    private InheritableClaimMetadataCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the InheritableClaimMetadataCache.
+     *
+     * @return InheritableClaimMetadataCache instance.
+     */
+    public static InheritableClaimMetadataCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the inheritable claim metadata of the given parent organization to the cache.
+     *
+     * @param key   Cache key.
+     * @param entry Cache entry.
+     */
+    public void addInheritableClaimMetadataToCache(InheritableClaimMetadataCacheKey key,
+                                                   InheritableClaimMetadataCacheEntry entry) {
+
+        addToCache(key, entry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the cached inheritable claim metadata of the given parent organization.
+     *
+     * @param key Cache key.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public InheritableClaimMetadataCacheEntry getInheritableClaimMetadataFromCache(
+            InheritableClaimMetadataCacheKey key) {
+
+        return getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached inheritable claim metadata of the given parent organization.
+     *
+     * @param key Cache key.
+     */
+    public void clearInheritableClaimMetadataFromCache(InheritableClaimMetadataCacheKey key) {
+
+        clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache entry for the {@link InheritableClaimMetadataCache}. Holds the local claims of a parent organization in the
+ * form they are inherited by its child organizations, along with the external claims mapped to each of them.
+ */
+public class InheritableClaimMetadataCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7524026331874409113L;
+
+    private final HashMap<String, HashMap<String, String>> inheritableClaimProperties;
+    private final HashMap<String, String> primaryAttributeNames;
+    private final HashMap<String, HashMap<String, List<String>>> mappedExternalClaims;
+
+    /**
+     * Create the inheritable claim metadata entry.
+     *
+     * @param inheritableClaimProperties Inheritable claim properties by the local claim URI.
+     * @param primaryAttributeNames      Primary user store attribute names by the local claim URI.
+     * @param mappedExternalClaims       External claim URIs by their dialect URI, by the mapped local claim URI.
+     */
+    public InheritableClaimMetadataCacheEntry(HashMap<String, HashMap<String, String>> inheritableClaimProperties,
+                                              HashMap<String, String> primaryAttributeNames,
+                                              HashMap<String, HashMap<String, List<String>>> mappedExternalClaims) {
+
+        this.inheritableClaimProperties = inheritableClaimProperties;
+        this.primaryAttributeNames = primaryAttributeNames;
+        this.mappedExternalClaims = mappedExternalClaims;
+    }
+
+    /**
+     * Get the URIs of the local claims of the parent organization.
+     *
+     * @return Local claim URIs.
+     */
+    public Set<String> getClaimURIs() {
+
+        return Collections.unmodifiableSet(inheritableClaimProperties.keySet());
+    }
+
+    /**
+     * Get the claim properties of the given local claim, as inherited by the child organizations.
+     *
+     * @param claimURI Local claim URI.
+     * @return A copy of the inheritable claim properties, or null if the parent organization does not have the claim.
+     */
+    public Map<String, String> getInheritableClaimProperties(String claimURI) {
+
+        Map<String, String> claimProperties = inheritableClaimProperties.get(claimURI);
+        return claimProperties == null ? null : new HashMap<>(claimProperties);
+    }
+
+    /**
+     * Get the primary user store attribute name of the given local claim.
+     *
+     * @param claimURI Local claim URI.
+     * @return The attribute name, or null if the claim does not have a primary user store attribute mapping.
+     */
+    public String getPrimaryAttributeName(String claimURI) {
+
+        return primaryAttributeNames.get(claimURI);
+    }
+
+    /**
+     * Get the external claims mapped to the given local claim.
+     *
+     * @param claimURI Local claim URI.
+     * @return External claim URIs by their dialect URI.
+     */
+    public Map<String, List<String>> getMappedExternalClaims(String claimURI) {
+
+        Map<String, List<String>> externalClaims = mappedExternalClaims.get(claimURI);
+        return externalClaims == null ? Collections.emptyMap() : Collections.unmodifiableMap(externalClaims);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link InheritableClaimMetadataCache}.
+ */
+public class InheritableClaimMetadataCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -4318792560147736612L;
+
+    private final String tenantDomain;
+
+    public InheritableClaimMetadataCacheKey(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InheritableClaimMetadataCacheKey)) {
+            return false;
+        }
+        InheritableClaimMetadataCacheKey that = (InheritableClaimMetadataCacheKey) o;
+        return Objects.equals(tenantDomain, that.tenantDomain);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(tenantDomain);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for the main application links of shared (fragment) applications.
+ */
+public class MainApplicationCache extends BaseCache<MainApplicationCacheKey, MainApplicationCacheEntry> {
+
+    private static final String CACHE_NAME = "MainApplicationCache";
+    private static final MainApplicationCache INSTANCE = new MainApplicationCache();
+
+    private MainApplicationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the MainApplicationCache.
+     *
+     * @return MainApplicationCache instance.
+     */
+    public static MainApplicationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the main application link of the given shared application to the cache.
+     *
+     * @param key   Cache key.
+     * @param entry Cache entry.
+     */
+    public void addMainApplicationToCache(MainApplicationCacheKey key, MainApplicationCacheEntry entry) {
+
+        addToCache(key, entry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the cached main application link of the given shared application.
+     *
+     * @param key Cache key.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public MainApplicationCacheEntry getMainApplicationFromCache(MainApplicationCacheKey key) {
+
+        return getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached main application link of the given shared application.
+     *
+     * @param key Cache key.
+     */
+    public void clearMainApplicationFromCache(MainApplicationCacheKey key) {
+
+        clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear all the cached entries.
+     */
+    public void clearAllFromCache() {
+
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+
+import java.util.Optional;
+
+/**
+ * Cache entry for the {@link MainApplicationCache}. An entry without a main application records that the application
+ * is not a shared application of the organization.
+ */
+public class MainApplicationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7305528418967234470L;
+
+    private final String mainApplicationId;
+    private final String ownerOrganizationId;
+
+    public MainApplicationCacheEntry(MainApplicationDO mainApplication) {
+
+        this.mainApplicationId = mainApplication != null ? mainApplication.getMainApplicationId() : null;
+        this.ownerOrganizationId = mainApplication != null ? mainApplication.getOrganizationId() : null;
+    }
+
+    /**
+     * Get the cached main application.
+     *
+     * @return The main application, or an empty optional if the application is not a shared application.
+     */
+    public Optional<MainApplicationDO> getMainApplication() {
+
+        if (mainApplicationId == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new MainApplicationDO(ownerOrganizationId, mainApplicationId));
+    }
+}
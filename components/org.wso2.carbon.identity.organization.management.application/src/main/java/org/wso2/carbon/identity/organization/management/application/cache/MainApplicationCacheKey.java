@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link MainApplicationCache}.
+ */
+public class MainApplicationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 2690415837312906574L;
+
+    private final String sharedApplicationId;
+    private final String sharedOrganizationId;
+
+    public MainApplicationCacheKey(String sharedApplicationId, String sharedOrganizationId) {
+
+        this.sharedApplicationId = sharedApplicationId;
+        this.sharedOrganizationId = sharedOrganizationId;
+    }
+
+    public String getSharedApplicationId() {
+
+        return sharedApplicationId;
+    }
+
+    public String getSharedOrganizationId() {
+
+        return sharedOrganizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MainApplicationCacheKey)) {
+            return false;
+        }
+        MainApplicationCacheKey that = (MainApplicationCacheKey) o;
+        return Objects.equals(sharedApplicationId, that.sharedApplicationId) &&
+                Objects.equals(sharedOrganizationId, that.sharedOrganizationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(sharedApplicationId, sharedOrganizationId);
+    }
+}
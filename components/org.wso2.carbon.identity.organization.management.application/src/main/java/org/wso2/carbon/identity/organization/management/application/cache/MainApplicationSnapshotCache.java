@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for the configurations of main applications which are inherited by their shared (fragment) applications.
+ */
+public class MainApplicationSnapshotCache
+        extends BaseCache<MainApplicationSnapshotCacheKey, MainApplicationSnapshotCacheEntry> {
+
+    private static final String CACHE_NAME = "MainApplicationSnapshotCache";
+    private static final MainApplicationSnapshotCache INSTANCE = new MainApplicationSnapshotCache();
+
+    private MainApplicationSnapshotCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the MainApplicationSnapshotCache.
+     *
+     * @return MainApplicationSnapshotCache instance.
+     */
+    public static MainApplicationSnapshotCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the snapshot of the given main application to the cache.
+     *
+     * @param key   Cache key.
+     * @param entry Cache entry.
+     */
+    public void addSnapshotToCache(MainApplicationSnapshotCacheKey key, MainApplicationSnapshotCacheEntry entry) {
+
+        addToCache(key, entry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the cached snapshot of the given main application.
+     *
+     * @param key Cache key.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public MainApplicationSnapshotCacheEntry getSnapshotFromCache(MainApplicationSnapshotCacheKey key) {
+
+        return getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached snapshot of the given main application.
+     *
+     * @param key Cache key.
+     */
+    public void clearSnapshotFromCache(MainApplicationSnapshotCacheKey key) {
+
+        clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear all the cached snapshots.
+     */
+    public void clearAllSnapshotsFromCache() {
+
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.RoleV2;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME;
+
+/**
+ * Cache entry for the {@link MainApplicationSnapshotCache}. Holds the configurations of a main application which are
+ * applied to its shared (fragment) applications, so that the main application need not be loaded for every fragment
+ * application retrieval.
+ */
+public class MainApplicationSnapshotCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 5194037726108453912L;
+
+    private final ClaimMapping[] claimMappings;
+    private final boolean alwaysSendMappedLocalSubjectId;
+    private final boolean mappedLocalSubjectMandatory;
+    private final boolean associatedRolesConfigured;
+    private final String associatedRolesAllowedAudience;
+    private final LinkedHashMap<String, String> associatedRoleNamesById = new LinkedHashMap<>();
+    private final boolean apiBasedAuthenticationPropertyEnabled;
+    private final boolean apiBasedAuthenticationEnabled;
+    private final boolean applicationEnabled;
+    private final boolean discoverable;
+    private final String accessUrl;
+    private final String applicationVersion;
+
+    /**
+     * Create the snapshot of the given main application.
+     *
+     * @param mainApplication The main application.
+     * @param claimMappings   The claim mappings of the main application which are inherited by shared applications.
+     */
+    public MainApplicationSnapshotCacheEntry(ServiceProvider mainApplication, ClaimMapping[] claimMappings) {
+
+        this.claimMappings = copyOf(claimMappings);
+        this.alwaysSendMappedLocalSubjectId = mainApplication.getClaimConfig().isAlwaysSendMappedLocalSubjectId();
+        this.mappedLocalSubjectMandatory = mainApplication.getClaimConfig().isMappedLocalSubjectMandatory();
+        AssociatedRolesConfig associatedRolesConfig = mainApplication.getAssociatedRolesConfig();
+        this.associatedRolesConfigured = associatedRolesConfig != null;
+        this.associatedRolesAllowedAudience = associatedRolesConfig != null ?
+                associatedRolesConfig.getAllowedAudience() : null;
+        if (associatedRolesConfig != null && associatedRolesConfig.getRoles() != null) {
+            for (RoleV2 role : associatedRolesConfig.getRoles()) {
+                associatedRoleNamesById.putIfAbsent(role.getId(), role.getName());
+            }
+        }
+        this.apiBasedAuthenticationPropertyEnabled = mainApplication.getSpProperties() != null &&
+                Arrays.stream(mainApplication.getSpProperties()).anyMatch(
+                        p -> IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME.equalsIgnoreCase(p.getName()) &&
+                                Boolean.parseBoolean(p.getValue()));
+        this.apiBasedAuthenticationEnabled = mainApplication.isAPIBasedAuthenticationEnabled();
+        this.applicationEnabled = mainApplication.isApplicationEnabled();
+        this.discoverable = mainApplication.isDiscoverable();
+        this.accessUrl = mainApplication.getAccessUrl();
+        this.applicationVersion = mainApplication.getApplicationVersion();
+    }
+
+    /**
+     * Get the claim mappings inherited by the shared applications. A copy of the mappings is returned on each
+     * invocation so that the cached mappings are not altered through a shared application.
+     *
+     * @return The inherited claim mappings.
+     */
+    public ClaimMapping[] getClaimMappings() {
+
+        return copyOf(claimMappings);
+    }
+
+    public boolean isAlwaysSendMappedLocalSubjectId() {
+
+        return alwaysSendMappedLocalSubjectId;
+    }
+
+    public boolean isMappedLocalSubjectMandatory() {
+
+        return mappedLocalSubjectMandatory;
+    }
+
+    public boolean isAssociatedRolesConfigured() {
+
+        return associatedRolesConfigured;
+    }
+
+    public String getAssociatedRolesAllowedAudience() {
+
+        return associatedRolesAllowedAudience;
+    }
+
+    /**
+     * Get the names of the roles associated with the main application keyed by the role ID.
+     *
+     * @return Unmodifiable map of the associated role names.
+     */
+    public Map<String, String> getAssociatedRoleNamesById() {
+
+        return Collections.unmodifiableMap(associatedRoleNamesById);
+    }
+
+    public boolean isApiBasedAuthenticationPropertyEnabled() {
+
+        return apiBasedAuthenticationPropertyEnabled;
+    }
+
+    public boolean isApiBasedAuthenticationEnabled() {
+
+        return apiBasedAuthenticationEnabled;
+    }
+
+    public boolean isApplicationEnabled() {
+
+        return applicationEnabled;
+    }
+
+    public boolean isDiscoverable() {
+
+        return discoverable;
+    }
+
+    public String getAccessUrl() {
+
+        return accessUrl;
+    }
+
+    public String getApplicationVersion() {
+
+        return applicationVersion;
+    }
+
+    private static ClaimMapping[] copyOf(ClaimMapping[] claimMappings) {
+
+        if (claimMappings == null) {
+            return null;
+        }
+        return Arrays.stream(claimMappings).map(MainApplicationSnapshotCacheEntry::copyOf)
+                .toArray(ClaimMapping[]::new);
+    }
+
+    private static ClaimMapping copyOf(ClaimMapping claimMapping) {
+
+        if (claimMapping == null) {
+            return null;
+        }
+        ClaimMapping copy = new ClaimMapping();
+        copy.setLocalClaim(copyOf(claimMapping.getLocalClaim()));
+        copy.setRemoteClaim(copyOf(claimMapping.getRemoteClaim()));
+        copy.setDefaultValue(claimMapping.getDefaultValue());
+        copy.setRequested(claimMapping.isRequested());
+        copy.setMandatory(claimMapping.isMandatory());
+        return copy;
+    }
+
+    private static Claim copyOf(Claim claim) {
+
+        if (claim == null) {
+            return null;
+        }
+        Claim copy = new Claim();
+        copy.setClaimUri(claim.getClaimUri());
+        copy.setClaimId(claim.getClaimId());
+        return copy;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link MainApplicationSnapshotCache}.
+ */
+public class MainApplicationSnapshotCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -3728164059371205816L;
+
+    private final String mainApplicationId;
+    private final String ownerOrganizationId;
+
+    public MainApplicationSnapshotCacheKey(String mainApplicationId, String ownerOrganizationId) {
+
+        this.mainApplicationId = mainApplicationId;
+        this.ownerOrganizationId = ownerOrganizationId;
+    }
+
+    public String getMainApplicationId() {
+
+        return mainApplicationId;
+    }
+
+    public String getOwnerOrganizationId() {
+
+        return ownerOrganizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MainApplicationSnapshotCacheKey)) {
+            return false;
+        }
+        MainApplicationSnapshotCacheKey that = (MainApplicationSnapshotCacheKey) o;
+        return Objects.equals(mainApplicationId, that.mainApplicationId) &&
+                Objects.equals(ownerOrganizationId, that.ownerOrganizationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(mainApplicationId, ownerOrganizationId);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Optional;
+
+/**
+ * Cache entry for the {@link SharedApplicationCache}. An entry without a shared application ID records that the main
+ * application is not shared with the organization.
+ */
+public class SharedApplicationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -5521096728730914183L;
+
+    private final String sharedApplicationId;
+
+    public SharedApplicationCacheEntry(String sharedApplicationId) {
+
+        this.sharedApplicationId = sharedApplicationId;
+    }
+
+    /**
+     * Get the cached shared application ID.
+     *
+     * @return The shared application ID, or an empty optional if the application is not shared with the organization.
+     */
+    public Optional<String> getSharedApplicationId() {
+
+        return Optional.ofNullable(sharedApplicationId);
+    }
+}
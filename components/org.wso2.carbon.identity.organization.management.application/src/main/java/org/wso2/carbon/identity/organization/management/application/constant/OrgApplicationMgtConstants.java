@@ -113,6 +113,21 @@ public class OrgApplicationMgtConstants {
     public static final String EVENT_POST_GET_SHARED_APPLICATIONS = "POST_GET_SHARED_APPLICATIONS";
     public static final String TENANT_CONTEXT_PATH_COMPONENT = "/t/%s";
 
+    public static final String APPLICATION_SHARING_PARALLELISM = "OrganizationApplicationSharing.Parallelism";
+    public static final int DEFAULT_APPLICATION_SHARING_PARALLELISM = 4;
+    public static final String APPLICATION_SHARING_THREAD_NAME_PREFIX = "org-app-sharing-worker";
+    public static final String CLAIM_PROPAGATION_PARALLELISM = "OrganizationClaimPropagation.Parallelism";
+    public static final int DEFAULT_CLAIM_PROPAGATION_PARALLELISM = 4;
+    public static final String CLAIM_PROPAGATION_THREAD_NAME_PREFIX = "org-claim-propagation-worker";
+    public static final int CLAIM_PROPAGATION_MAX_ATTEMPTS = 3;
+    public static final int CLAIM_PROPAGATION_PROGRESS_LOG_INTERVAL = 100;
+    public static final String ORG_CREATION_APP_SHARING_PARALLELISM =
+            "OrganizationCreationApplicationSharing.Parallelism";
+    public static final int DEFAULT_ORG_CREATION_APP_SHARING_PARALLELISM = 4;
+    public static final String ORG_CREATION_APP_SHARING_ASYNC = "OrganizationCreationApplicationSharing.Async";
+    public static final String ORG_CREATION_APP_SHARING_THREAD_NAME_PREFIX = "org-creation-app-sharing-worker";
+    public static final String ORG_CREATION_APP_SHARING_SUBJECT_TYPE = "ORGANIZATION";
+
     public static final String APPLICATION_ALREADY_EXISTS_ERROR_CODE = "APP-60007";
     public static final String B2B_APPLICATION = "APPLICATION";
 
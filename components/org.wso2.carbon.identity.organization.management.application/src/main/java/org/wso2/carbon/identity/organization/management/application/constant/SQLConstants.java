@@ -25,6 +25,8 @@ public class SQLConstants {
 
     public static final String ID_COLUMN_NAME = "ID";
     public static final String SHARED_ORG_ID_COLUMN_NAME = "SHARED_ORG_ID";
+    // Oracle allows at most 1000 expressions in an IN list.
+    public static final int SHARED_ORG_IDS_IN_CLAUSE_CHUNK_SIZE = 1000;
 
     public static final String INSERT_SHARED_APP = "INSERT INTO SP_SHARED_APP (MAIN_APP_ID, OWNER_ORG_ID, " +
             "SHARED_APP_ID, SHARED_ORG_ID, SHARE_WITH_ALL_CHILDREN) VALUES (:" +
@@ -65,6 +67,20 @@ public class SQLConstants {
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_NAME + "; AND `VALUE` = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_VALUE + ";";
 
+    public static final String GET_SHARED_APPLICATION_METADATA = "SELECT SP_SHARED_APP.SHARED_ORG_ID, " +
+            "SP_METADATA.VALUE AS " + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_VALUE + " FROM SP_SHARED_APP " +
+            "JOIN SP_APP ON SP_APP.UUID = SP_SHARED_APP.SHARED_APP_ID JOIN SP_METADATA ON SP_METADATA.SP_ID = " +
+            "SP_APP.ID WHERE SP_SHARED_APP.MAIN_APP_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID +
+            "; AND SP_SHARED_APP.OWNER_ORG_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID +
+            "; AND SP_METADATA.NAME = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_NAME + ";";
+
+    public static final String GET_SHARED_APPLICATION_METADATA_H2 = "SELECT SP_SHARED_APP.SHARED_ORG_ID, " +
+            "SP_METADATA.`VALUE` AS " + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_VALUE + " FROM SP_SHARED_APP " +
+            "JOIN SP_APP ON SP_APP.UUID = SP_SHARED_APP.SHARED_APP_ID JOIN SP_METADATA ON SP_METADATA.SP_ID = " +
+            "SP_APP.ID WHERE SP_SHARED_APP.MAIN_APP_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID +
+            "; AND SP_SHARED_APP.OWNER_ORG_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID +
+            "; AND SP_METADATA.NAME = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_NAME + ";";
+
     public static final String UPDATE_SHARE_WITH_ALL_CHILDREN = "UPDATE SP_SHARED_APP SET SHARE_WITH_ALL_CHILDREN = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARE_WITH_ALL_CHILDREN + "; WHERE MAIN_APP_ID = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID + "; AND OWNER_ORG_ID = :"
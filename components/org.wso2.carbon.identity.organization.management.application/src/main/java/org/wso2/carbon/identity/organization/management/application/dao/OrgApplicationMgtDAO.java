@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.NotImp
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -127,6 +128,24 @@ public interface OrgApplicationMgtDAO {
      */
     boolean isFragmentApplication(int applicationId) throws OrganizationManagementException;
 
+    /**
+     * Returns the value of the given metadata property of each shared application of a main application.
+     *
+     * @param mainAppId    The unique ID of the main application.
+     * @param ownerOrgId   The organization ID of the owner.
+     * @param metadataName Name of the metadata property.
+     * @return Map of the shared organization ID to the property value of the shared application. Shared applications
+     * without the property are not included.
+     * @throws OrganizationManagementException the server exception is thrown in a failure when retrieving the
+     *                                         metadata of the shared applications.
+     */
+    default Map<String, String> getSharedApplicationMetadata(String mainAppId, String ownerOrgId, String metadataName)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getSharedApplicationMetadata method is not implemented in " + this.getClass().getName());
+    }
+
     /**
      * Update the shareWithAllChildren value of shared applications for a given main application.
      *
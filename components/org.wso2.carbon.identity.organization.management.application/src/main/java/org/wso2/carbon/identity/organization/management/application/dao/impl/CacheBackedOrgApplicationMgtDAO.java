@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.dao.impl;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationCache;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationCacheKey;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCache;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache backed implementation of {@link OrgApplicationMgtDAO}. The links between main applications and their shared
+ * applications are cached, as they are resolved on the login path. The caches are invalidated per link when a link is
+ * added, and cleared when the links of an organization are removed. Invalidations are propagated across the cluster
+ * through the carbon cache invalidation mechanism.
+ */
+public class CacheBackedOrgApplicationMgtDAO implements OrgApplicationMgtDAO {
+
+    private static final Log LOG = LogFactory.getLog(CacheBackedOrgApplicationMgtDAO.class);
+
+    private final OrgApplicationMgtDAO orgApplicationMgtDAO;
+    private final MainApplicationCache mainApplicationCache = MainApplicationCache.getInstance();
+    private final SharedApplicationCache sharedApplicationCache = SharedApplicationCache.getInstance();
+
+    public CacheBackedOrgApplicationMgtDAO(OrgApplicationMgtDAO orgApplicationMgtDAO) {
+
+        this.orgApplicationMgtDAO = orgApplicationMgtDAO;
+    }
+
+    @Override
+    public void addSharedApplication(String mainAppId, String ownerOrgId, String sharedAppId, String sharedOrgId,
+                                     boolean shareWithAllChildren) throws OrganizationManagementException {
+
+        orgApplicationMgtDAO.addSharedApplication(mainAppId, ownerOrgId, sharedAppId, sharedOrgId,
+                shareWithAllChildren);
+        clearSharedApplicationLink(mainAppId, ownerOrgId, sharedAppId, sharedOrgId);
+    }
+
+    @Override
+    public void addSharedApplication(String mainAppResourceId, String ownerOrgId, String shareAppResourceId,
+                                     String sharedOrgId) throws OrganizationManagementException {
+
+        orgApplicationMgtDAO.addSharedApplication(mainAppResourceId, ownerOrgId, shareAppResourceId, sharedOrgId);
+        clearSharedApplicationLink(mainAppResourceId, ownerOrgId, shareAppResourceId, sharedOrgId);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplications(String organizationId, String applicationId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplications(organizationId, applicationId);
+    }
+
+    @Override
+    public Optional<MainApplicationDO> getMainApplication(String sharedAppId, String sharedOrgId)
+            throws OrganizationManagementException {
+
+        MainApplicationCacheKey cacheKey = new MainApplicationCacheKey(sharedAppId, sharedOrgId);
+        MainApplicationCacheEntry cacheEntry = mainApplicationCache.getMainApplicationFromCache(cacheKey);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache hit for the main application of the shared application: " + sharedAppId +
+                        " in organization: " + sharedOrgId);
+            }
+            return cacheEntry.getMainApplication();
+        }
+
+        Optional<MainApplicationDO> mainApplication =
+                orgApplicationMgtDAO.getMainApplication(sharedAppId, sharedOrgId);
+        mainApplicationCache.addMainApplicationToCache(cacheKey,
+                new MainApplicationCacheEntry(mainApplication.orElse(null)));
+        return mainApplication;
+    }
+
+    @Override
+    public Optional<SharedApplicationDO> getSharedApplication(int sharedAppId, String sharedOrgId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplication(sharedAppId, sharedOrgId);
+    }
+
+    @Override
+    public Optional<String> getSharedApplicationResourceId(String mainAppId, String ownerOrgId, String sharedOrgId)
+            throws OrganizationManagementException {
+
+        SharedApplicationCacheKey cacheKey = new SharedApplicationCacheKey(mainAppId, ownerOrgId, sharedOrgId);
+        SharedApplicationCacheEntry cacheEntry = sharedApplicationCache.getSharedApplicationFromCache(cacheKey);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache hit for the shared application of the main application: " + mainAppId +
+                        " in organization: " + sharedOrgId);
+            }
+            return cacheEntry.getSharedApplicationId();
+        }
+
+        Optional<String> sharedApplicationId =
+                orgApplicationMgtDAO.getSharedApplicationResourceId(mainAppId, ownerOrgId, sharedOrgId);
+        sharedApplicationCache.addSharedApplicationToCache(cacheKey,
+                new SharedApplicationCacheEntry(sharedApplicationId.orElse(null)));
+        return sharedApplicationId;
+    }
+
+    @Override
+    public boolean hasFragments(String applicationId) throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.hasFragments(applicationId);
+    }
+
+    @Override
+    public boolean isFragmentApplication(int applicationId) throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.isFragmentApplication(applicationId);
+    }
+
+    @Override
+    public Map<String, String> getSharedApplicationMetadata(String mainAppId, String ownerOrgId, String metadataName)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplicationMetadata(mainAppId, ownerOrgId, metadataName);
+    }
+
+    @Override
+    public void updateShareWithAllChildren(String mainApplicationId, String ownerOrganizationId,
+                                           boolean shareWithAllChildren) throws OrganizationManagementException {
+
+        orgApplicationMgtDAO.updateShareWithAllChildren(mainApplicationId, ownerOrganizationId, shareWithAllChildren);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplications(String mainAppId, String ownerOrgId,
+                                                           List<String> sharedOrgIds)
+            throws OrganizationManagementException {
+
+        if (CollectionUtils.isEmpty(sharedOrgIds)) {
+            return Collections.emptyList();
+        }
+
+        // Resolve the cached links first and fetch only the links of the remaining organizations.
+        List<SharedApplicationDO> sharedApplications = new ArrayList<>();
+        List<String> uncachedOrgIds = new ArrayList<>();
+        for (String sharedOrgId : sharedOrgIds) {
+            SharedApplicationCacheEntry cacheEntry = sharedApplicationCache.getSharedApplicationFromCache(
+                    new SharedApplicationCacheKey(mainAppId, ownerOrgId, sharedOrgId));
+            if (cacheEntry == null) {
+                uncachedOrgIds.add(sharedOrgId);
+            } else {
+                cacheEntry.getSharedApplicationId().ifPresent(sharedAppId ->
+                        sharedApplications.add(new SharedApplicationDO(sharedOrgId, sharedAppId)));
+            }
+        }
+        if (uncachedOrgIds.isEmpty()) {
+            return sharedApplications;
+        }
+
+        Map<String, String> sharedAppIdsByOrgId = new HashMap<>();
+        for (SharedApplicationDO sharedApplication :
+                orgApplicationMgtDAO.getSharedApplications(mainAppId, ownerOrgId, uncachedOrgIds)) {
+            sharedAppIdsByOrgId.put(sharedApplication.getOrganizationId(),
+                    sharedApplication.getFragmentApplicationId());
+            sharedApplications.add(sharedApplication);
+        }
+        for (String sharedOrgId : uncachedOrgIds) {
+            sharedApplicationCache.addSharedApplicationToCache(
+                    new SharedApplicationCacheKey(mainAppId, ownerOrgId, sharedOrgId),
+                    new SharedApplicationCacheEntry(sharedAppIdsByOrgId.get(sharedOrgId)));
+        }
+        return sharedApplications;
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplications(String ownerOrgId, String mainApplicationId,
+                                                           List<String> sharedOrgIds,
+                                                           List<ExpressionNode> expressionNodes,
+                                                           String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplications(ownerOrgId, mainApplicationId, sharedOrgIds,
+                expressionNodes, sortOrder, limit);
+    }
+
+    @Override
+    public List<ApplicationBasicInfo> getDiscoverableSharedApplicationBasicInfo(int limit, int offset, String filter,
+                                                                                String sortOrder, String sortBy,
+                                                                                String tenantDomain,
+                                                                                String rootOrgId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getDiscoverableSharedApplicationBasicInfo(limit, offset, filter, sortOrder,
+                sortBy, tenantDomain, rootOrgId);
+    }
+
+    @Override
+    public int getCountOfDiscoverableSharedApplications(String filter, String tenantDomain, String rootOrgId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getCountOfDiscoverableSharedApplications(filter, tenantDomain, rootOrgId);
+    }
+
+    @Override
+    public void deleteSharedAppLinks(String organizationId) throws OrganizationManagementException {
+
+        orgApplicationMgtDAO.deleteSharedAppLinks(organizationId);
+        // The removed links are not known to be invalidated individually. Since the links of an organization are
+        // removed only when the organization is deleted, the caches are cleared as a whole.
+        mainApplicationCache.clearAllFromCache();
+        sharedApplicationCache.clearAllFromCache();
+    }
+
+    /**
+     * Clear the cached entries of the link between the given main application and the shared application.
+     *
+     * @param mainAppId   The ID of the main application.
+     * @param ownerOrgId  The ID of the organization which owns the main application.
+     * @param sharedAppId The ID of the shared application.
+     * @param sharedOrgId The ID of the organization to which the application is shared.
+     */
+    public static void clearSharedApplicationLink(String mainAppId, String ownerOrgId, String sharedAppId,
+                                                  String sharedOrgId) {
+
+        MainApplicationCache.getInstance().clearMainApplicationFromCache(
+                new MainApplicationCacheKey(sharedAppId, sharedOrgId));
+        SharedApplicationCache.getInstance().clearSharedApplicationFromCache(
+                new SharedApplicationCacheKey(mainAppId, ownerOrgId, sharedOrgId));
+    }
+}
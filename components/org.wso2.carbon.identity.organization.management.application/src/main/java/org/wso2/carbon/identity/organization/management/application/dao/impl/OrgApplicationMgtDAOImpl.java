@@ -53,6 +53,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -74,6 +76,8 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATION_METADATA;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATION_METADATA_H2;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.HAS_FRAGMENT_APPS;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.INSERT_SHARED_APP;
@@ -91,6 +95,7 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APPS_BY_TENANT_POSTGRES;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APP_COUNT_BY_APP_NAME_AND_TENANT;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APP_COUNT_BY_TENANT;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SHARED_ORG_IDS_IN_CLAUSE_CHUNK_SIZE;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_NAME;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_VALUE;
@@ -105,6 +110,7 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.SHARED_ORG_ID_PLACEHOLDER_PREFIX;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.UPDATE_SHARE_WITH_ALL_CHILDREN;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.getNewTemplate;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ASC_SORT_ORDER;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_APPLICATION_HAS_FRAGMENTS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_APPLICATION_IS_A_FRAGMENT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_DELETING_SHARED_APPLICATION_LINK;
@@ -267,6 +273,29 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         }
     }
 
+    @Override
+    public Map<String, String> getSharedApplicationMetadata(String mainAppId, String ownerOrgId, String metadataName)
+            throws OrganizationManagementException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        Map<String, String> sharedApplicationMetadata = new HashMap<>();
+        try {
+            String prepStmt = JdbcUtils.isH2DB() ? GET_SHARED_APPLICATION_METADATA_H2 : GET_SHARED_APPLICATION_METADATA;
+            namedJdbcTemplate.executeQuery(prepStmt,
+                    (resultSet, rowNumber) -> sharedApplicationMetadata.put(
+                            resultSet.getString(DB_SCHEMA_COLUMN_NAME_SHARED_ORG_ID),
+                            resultSet.getString(DB_SCHEMA_COLUMN_NAME_METADATA_VALUE)),
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID, mainAppId);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID, ownerOrgId);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_METADATA_NAME, metadataName);
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RESOLVING_SHARED_APPLICATION, e, mainAppId, ownerOrgId);
+        }
+        return sharedApplicationMetadata;
+    }
+
     @Override
     public void updateShareWithAllChildren(String mainApplicationId, String ownerOrganizationId,
                                            boolean shareWithAllChildren) throws OrganizationManagementException {
@@ -329,6 +358,37 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         if (CollectionUtils.isEmpty(sharedOrgIds)) {
             return Collections.emptyList();
         }
+        if (sharedOrgIds.size() <= SHARED_ORG_IDS_IN_CLAUSE_CHUNK_SIZE) {
+            return getSharedApplicationsInOrgScope(ownerOrgId, mainApplicationId, sharedOrgIds, expressionNodes,
+                    sortOrder, limit);
+        }
+        // Query the organizations in chunks to keep the IN list within the database limits. Each chunk returns at
+        // most the limit in the requested order, so the merged results are sorted again and cut to the limit.
+        List<SharedApplicationDO> sharedApplications = new ArrayList<>();
+        for (int i = 0; i < sharedOrgIds.size(); i += SHARED_ORG_IDS_IN_CLAUSE_CHUNK_SIZE) {
+            List<String> sharedOrgIdsChunk = sharedOrgIds.subList(i,
+                    Math.min(i + SHARED_ORG_IDS_IN_CLAUSE_CHUNK_SIZE, sharedOrgIds.size()));
+            sharedApplications.addAll(getSharedApplicationsInOrgScope(ownerOrgId, mainApplicationId,
+                    sharedOrgIdsChunk, expressionNodes, sortOrder, limit));
+        }
+        Comparator<SharedApplicationDO> comparator = Comparator.comparing(SharedApplicationDO::getAppId);
+        sharedApplications.sort(ASC_SORT_ORDER.equalsIgnoreCase(sortOrder) ? comparator : comparator.reversed());
+        if (limit > 0 && sharedApplications.size() > limit) {
+            return new ArrayList<>(sharedApplications.subList(0, limit));
+        }
+        return sharedApplications;
+    }
+
+    /**
+     * Retrieve the shared applications of the given main application which are shared with one of the given
+     * organizations.
+     */
+    private List<SharedApplicationDO> getSharedApplicationsInOrgScope(String ownerOrgId, String mainApplicationId,
+                                                                      List<String> sharedOrgIds,
+                                                                      List<ExpressionNode> expressionNodes,
+                                                                      String sortOrder, int limit)
+            throws OrganizationManagementException {
+
         FilterQueryBuilder filterQueryBuilder = FilterQueriesUtil.getSharedAppOrgsFilterQueryBuilder(expressionNodes);
         String filterQuery = filterQueryBuilder.getFilterQuery();
         Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
@@ -23,24 +23,31 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
-import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManagerImpl;
+import org.wso2.carbon.identity.organization.management.application.cache.InheritableClaimMetadataCache;
+import org.wso2.carbon.identity.organization.management.application.cache.InheritableClaimMetadataCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.InheritableClaimMetadataCacheKey;
 import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.util.OrgHierarchyLevelExecutor;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
@@ -52,17 +59,26 @@ import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.CLAIM_PROPAGATION_MAX_ATTEMPTS;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.CLAIM_PROPAGATION_PARALLELISM;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.CLAIM_PROPAGATION_PROGRESS_LOG_INTERVAL;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.CLAIM_PROPAGATION_THREAD_NAME_PREFIX;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_CLAIM_PROPAGATION_PARALLELISM;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT;
 
 /**
@@ -71,13 +87,74 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
  */
 public class OrgClaimMgtHandler extends AbstractEventHandler {
 
-    private final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    private final ExecutorService executorService;
+    private final OrgHierarchyLevelExecutor claimPropagationExecutor;
     private static final Log LOG = LogFactory.getLog(OrgClaimMgtHandler.class);
+    private static final Set<String> CLAIM_METADATA_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM,
+            IdentityEventConstants.Event.POST_DELETE_LOCAL_CLAIM,
+            IdentityEventConstants.Event.POST_DELETE_EXTERNAL_CLAIM,
+            IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM,
+            IdentityEventConstants.Event.POST_UPDATE_EXTERNAL_CLAIM,
+            IdentityEventConstants.Event.POST_ADD_EXTERNAL_CLAIM,
+            IdentityEventConstants.Event.POST_ADD_CLAIM_DIALECT,
+            IdentityEventConstants.Event.POST_UPDATE_CLAIM_DIALECT,
+            IdentityEventConstants.Event.POST_DELETE_CLAIM_DIALECT)));
+    private static final Set<String> HANDLED_EVENTS;
+
+    static {
+        Set<String> handledEvents = new HashSet<>(CLAIM_METADATA_EVENTS);
+        handledEvents.add(OrgApplicationMgtConstants.EVENT_POST_SHARE_APPLICATION);
+        handledEvents.add(IdentityEventConstants.Event.POST_APP_USER_ATTRIBUTE_UPDATE);
+        handledEvents.add(Constants.EVENT_POST_ADD_ORGANIZATION);
+        HANDLED_EVENTS = Collections.unmodifiableSet(handledEvents);
+    }
+
+    public OrgClaimMgtHandler() {
+
+        // A single thread submits the propagations, so that the changes are applied in the order they are made.
+        this(Executors.newFixedThreadPool(1), OrgHierarchyLevelExecutor.fromConfiguration(
+                CLAIM_PROPAGATION_THREAD_NAME_PREFIX, CLAIM_PROPAGATION_PARALLELISM,
+                DEFAULT_CLAIM_PROPAGATION_PARALLELISM));
+    }
+
+    OrgClaimMgtHandler(ExecutorService executorService, OrgHierarchyLevelExecutor claimPropagationExecutor) {
+
+        this.executorService = executorService;
+        this.claimPropagationExecutor = claimPropagationExecutor;
+    }
+
+    /**
+     * Shut down the executors of the handler. The propagations which are already submitted are completed, but new
+     * propagations are rejected.
+     */
+    public void shutdown() {
+
+        executorService.shutdown();
+        claimPropagationExecutor.shutdown();
+    }
+
+    /**
+     * The handler accepts its events by itself, so that the cached inheritable claim metadata is cleared upon every
+     * claim change without a subscription in the identity event configuration.
+     *
+     * @param messageContext The message context of the event.
+     * @return True if the handler can handle the event.
+     */
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && HANDLED_EVENTS.contains(event.getEventName());
+    }
 
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
         String eventName = event.getEventName();
+        if (CLAIM_METADATA_EVENTS.contains(eventName)) {
+            clearInheritableClaimMetadata(event);
+        }
         switch (eventName) {
             case OrgApplicationMgtConstants.EVENT_POST_SHARE_APPLICATION:
                 handlePostShareApplication(event);
@@ -181,22 +258,15 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                                         .startsWith(OrgApplicationMgtConstants.RUNTIME_CLAIM_URI_PREFIX))
                                 .toArray(ClaimMapping[]::new);
 
-                for (BasicOrganization organization : sharedOrganizations) {
-                    String sharedOrganizationTenantDomain = getOrganizationManager()
-                            .resolveTenantDomain(organization.getId());
-                    List<String> missingClaims = getMissingClaims(sharedOrganizationTenantDomain,
-                            filteredClaimMappings);
-                    List<LocalClaim> parentOrgCustomLocalClaims = getClaimMetadataManagementService().
-                            getLocalClaims(tenantDomain);
-                    CompletableFuture.runAsync(() -> {
-                        try {
-                            addClaimsToSubOrganization(parentOrgCustomLocalClaims, sharedOrganizationTenantDomain,
-                                    missingClaims, tenantDomain);
-                        } catch (IdentityEventException e) {
-                            LOG.error("An error occurred while adding the claims:", e);
-                        }
-                    }, executorService);
-                }
+                // The local claims of the parent organization are loaded once for all the shared organizations.
+                List<LocalClaim> parentOrgCustomLocalClaims = getClaimMetadataManagementService().
+                        getLocalClaims(tenantDomain);
+                String operation = "add the user attributes of the application " + applicationId;
+                submitPropagation(operation, () -> propagateToOrganizations(sharedOrganizations, operation,
+                        sharedOrganizationTenantDomain -> addClaimsToSubOrganization(parentOrgCustomLocalClaims,
+                                sharedOrganizationTenantDomain,
+                                getMissingClaims(sharedOrganizationTenantDomain, filteredClaimMappings),
+                                tenantDomain)));
             }
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
@@ -224,17 +294,14 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
 
         try {
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                if (isExistingExternalClaimURI(externalClaimDialectURI, externalClaimURI,
-                        sharedOrganizationTenantDomain)) {
-                    getClaimMetadataManagementService().removeExternalClaim(externalClaimDialectURI, externalClaimURI,
-                            sharedOrganizationTenantDomain);
-                }
-            }
+            propagateToChildOrganizations(organizationId, "delete the external claim " + externalClaimURI,
+                    sharedOrganizationTenantDomain -> {
+                        if (isExistingExternalClaimURI(externalClaimDialectURI, externalClaimURI,
+                                sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().removeExternalClaim(externalClaimDialectURI,
+                                    externalClaimURI, sharedOrganizationTenantDomain);
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -245,9 +312,6 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
             }
             throw new IdentityEventException("An error occurred while deleting the external claim " + externalClaimURI,
                     e);
-        } catch (ClaimMetadataException e) {
-            throw new IdentityEventException("An error occurred while deleting the external claim " + externalClaimURI,
-                    e);
         }
     }
 
@@ -260,15 +324,13 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
 
         try {
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                if (isExistingLocalClaimURI(localClaimUri, sharedOrganizationTenantDomain)) {
-                    getClaimMetadataManagementService().removeLocalClaim(localClaimUri, sharedOrganizationTenantDomain);
-                }
-            }
+            propagateToChildOrganizations(organizationId, "delete the local claim " + localClaimUri,
+                    sharedOrganizationTenantDomain -> {
+                        if (isExistingLocalClaimURI(localClaimUri, sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().removeLocalClaim(localClaimUri,
+                                    sharedOrganizationTenantDomain);
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -278,8 +340,6 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             throw new IdentityEventException("An error occurred while deleting local claim " + localClaimUri, e);
-        } catch (ClaimMetadataException e) {
-            throw new IdentityEventException("An error occurred while deleting local claim " + localClaimUri, e);
         }
     }
 
@@ -301,31 +361,28 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                Optional<LocalClaim> existingLocalClaim =
-                        getExistingLocalClaim(localClaimURI, sharedOrganizationTenantDomain);
-
-                if (existingLocalClaim.isPresent()) {
-                    String primaryUserStoreDomain = getPrimaryUserStoreDomain(tenantDomain);
-                    List<AttributeMapping> modifiedAttributeMappings = mergeAttributeMappings(
-                            existingLocalClaim.get().getMappedAttributes(), mappedAttributes, primaryUserStoreDomain);
-
-                    if (!modifiedAttributeMappings.isEmpty()) {
-                        Map<String, String> modifiedLocalClaimProperties = processLocalClaimProperties(
-                                existingLocalClaim.get().getClaimProperties(),
-                                localClaimProperties,
-                                primaryUserStoreDomain);
-                        getClaimMetadataManagementService().updateLocalClaim(
-                                new LocalClaim(localClaimURI, modifiedAttributeMappings, modifiedLocalClaimProperties),
-                                sharedOrganizationTenantDomain);
-                    }
-
-                }
-            }
+            String primaryUserStoreDomain = getPrimaryUserStoreDomain(tenantDomain);
+            propagateToChildOrganizations(organizationId, "update the local claim " + localClaimURI,
+                    sharedOrganizationTenantDomain -> {
+                        Optional<LocalClaim> existingLocalClaim =
+                                getExistingLocalClaim(localClaimURI, sharedOrganizationTenantDomain);
+
+                        if (existingLocalClaim.isPresent()) {
+                            List<AttributeMapping> modifiedAttributeMappings = mergeAttributeMappings(
+                                    existingLocalClaim.get().getMappedAttributes(), mappedAttributes,
+                                    primaryUserStoreDomain);
+
+                            if (!modifiedAttributeMappings.isEmpty()) {
+                                Map<String, String> modifiedLocalClaimProperties = processLocalClaimProperties(
+                                        existingLocalClaim.get().getClaimProperties(),
+                                        localClaimProperties,
+                                        primaryUserStoreDomain);
+                                getClaimMetadataManagementService().updateLocalClaim(new LocalClaim(localClaimURI,
+                                        modifiedAttributeMappings, modifiedLocalClaimProperties),
+                                        sharedOrganizationTenantDomain);
+                            }
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -335,7 +392,7 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             throw new IdentityEventException("An error occurred while updating the local claim " + localClaimURI, e);
-        } catch (ClaimMetadataException | UserStoreException e) {
+        } catch (UserStoreException e) {
             throw new IdentityEventException("An error occurred while updating the local claim " + localClaimURI, e);
         }
     }
@@ -431,16 +488,14 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                if (isExistingExternalClaimURI(claimDialectURI, claimURI, sharedOrganizationTenantDomain)) {
-                    getClaimMetadataManagementService().updateExternalClaim(new ExternalClaim(claimDialectURI,
-                            claimURI, mappedLocalClaim, claimProperties), sharedOrganizationTenantDomain);
-                }
-            }
+            propagateToChildOrganizations(organizationId, "update the external claim " + claimURI,
+                    sharedOrganizationTenantDomain -> {
+                        if (isExistingExternalClaimURI(claimDialectURI, claimURI, sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().updateExternalClaim(new ExternalClaim(
+                                    claimDialectURI, claimURI, mappedLocalClaim, claimProperties),
+                                    sharedOrganizationTenantDomain);
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -450,8 +505,6 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             throw new IdentityEventException("An error occurred while updating the external claim " + claimURI, e);
-        } catch (ClaimMetadataException e) {
-            throw new IdentityEventException("An error occurred while updating the external claim " + claimURI, e);
         }
     }
 
@@ -473,19 +526,19 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                /* This checks if the local claim exists within the organization. Local claims are added to
-                sub-organizations when updating application user attributes or when sharing applications with already
-                added requested attributes. */
-                if (isExistingLocalClaimURI(mappedLocalClaim, sharedOrganizationTenantDomain)) {
-                    getClaimMetadataManagementService().addExternalClaim(new ExternalClaim(claimDialectURI,
-                            claimURI, mappedLocalClaim, claimProperties), sharedOrganizationTenantDomain);
-                }
-            }
+            propagateToChildOrganizations(organizationId, "add the external claim " + claimURI,
+                    sharedOrganizationTenantDomain -> {
+                        /* This checks if the local claim exists within the organization. Local claims are added to
+                        sub-organizations when updating application user attributes or when sharing applications with
+                        already added requested attributes. The external claim is skipped if it is already added, so
+                        that a retried propagation does not fail on the organizations which are already updated. */
+                        if (isExistingLocalClaimURI(mappedLocalClaim, sharedOrganizationTenantDomain) &&
+                                !isExistingExternalClaimURI(claimDialectURI, claimURI,
+                                        sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().addExternalClaim(new ExternalClaim(claimDialectURI,
+                                    claimURI, mappedLocalClaim, claimProperties), sharedOrganizationTenantDomain);
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -495,8 +548,6 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             throw new IdentityEventException("An error occurred while adding the external claim " + claimURI, e);
-        } catch (ClaimMetadataException e) {
-            throw new IdentityEventException("An error occurred while adding the external claim " + claimURI, e);
         }
     }
 
@@ -512,16 +563,13 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                if (!isDialectExists(claimDialectURI, sharedOrganizationTenantDomain)) {
-                    getClaimMetadataManagementService().addClaimDialect(
-                            new ClaimDialect(claimDialectURI), sharedOrganizationTenantDomain);
-                }
-            }
+            propagateToChildOrganizations(organizationId, "add the claim dialect " + claimDialectURI,
+                    sharedOrganizationTenantDomain -> {
+                        if (!isDialectExists(claimDialectURI, sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().addClaimDialect(
+                                    new ClaimDialect(claimDialectURI), sharedOrganizationTenantDomain);
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -531,8 +579,6 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             throw new IdentityEventException("An error occurred while adding the claim dialect " + claimDialectURI, e);
-        } catch (ClaimMetadataException e) {
-            throw new IdentityEventException("An error occurred while adding the claim dialect " + claimDialectURI, e);
         }
     }
 
@@ -550,14 +596,15 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 return;
             }
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                getClaimMetadataManagementService().renameClaimDialect(new ClaimDialect(oldClaimDialectURI),
-                        new ClaimDialect(newClaimDialectURI), sharedOrganizationTenantDomain);
-            }
+            propagateToChildOrganizations(organizationId, "update the claim dialect " + oldClaimDialectURI,
+                    sharedOrganizationTenantDomain -> {
+                        // The dialect is already renamed if a previous attempt succeeded in the organization.
+                        if (isDialectExists(oldClaimDialectURI, sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().renameClaimDialect(
+                                    new ClaimDialect(oldClaimDialectURI), new ClaimDialect(newClaimDialectURI),
+                                    sharedOrganizationTenantDomain);
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -568,9 +615,6 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
             }
             throw new IdentityEventException(
                     "An error occurred while updating the claim dialect " + oldClaimDialectURI, e);
-        } catch (ClaimMetadataException e) {
-            throw new IdentityEventException(
-                    "An error occurred while updating the claim dialect " + oldClaimDialectURI, e);
         }
     }
 
@@ -583,14 +627,13 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                 (String) eventProperties.get(IdentityEventConstants.EventProperty.CLAIM_DIALECT_URI);
         try {
             String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
-            List<BasicOrganization> childOrganizations = getOrganizationManager().
-                    getChildOrganizations(organizationId, true);
-            for (BasicOrganization organization : childOrganizations) {
-                String sharedOrganizationTenantDomain = getOrganizationManager().
-                        resolveTenantDomain(organization.getId());
-                getClaimMetadataManagementService().removeClaimDialect(
-                        new ClaimDialect(claimDialectURI), sharedOrganizationTenantDomain);
-            }
+            propagateToChildOrganizations(organizationId, "delete the claim dialect " + claimDialectURI,
+                    sharedOrganizationTenantDomain -> {
+                        if (isDialectExists(claimDialectURI, sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().removeClaimDialect(
+                                    new ClaimDialect(claimDialectURI), sharedOrganizationTenantDomain);
+                        }
+                    });
         } catch (OrganizationManagementException e) {
             // This is to handle the scenario where the tenant is not modeled as an organization.
             if (ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT.getCode().equals(e.getErrorCode())) {
@@ -601,9 +644,6 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
             }
             throw new IdentityEventException(
                     "An error occurred while deleting the claim dialect " + claimDialectURI, e);
-        } catch (ClaimMetadataException e) {
-            throw new IdentityEventException(
-                    "An error occurred while deleting the claim dialect " + claimDialectURI, e);
         }
     }
 
@@ -634,45 +674,142 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
         }
     }
 
+    /**
+     * Submit the propagation of a claim metadata change to every descendant organization of the given organization.
+     * The descendant organizations are resolved when the propagation runs.
+     *
+     * @param organizationId ID of the organization which owns the claim metadata change.
+     * @param operation      Description of the change, used for the logs and the error messages.
+     * @param updater        Updater which applies the change to a single organization.
+     */
+    private void propagateToChildOrganizations(String organizationId, String operation,
+                                               OrganizationClaimUpdater updater) {
+
+        submitPropagation(operation, () -> propagateToOrganizations(
+                getOrganizationManager().getChildOrganizations(organizationId, true), operation, updater));
+    }
+
+    /**
+     * Submit a claim metadata propagation, so that the thread which fired the claim event does not wait for the
+     * organizations to be updated. The propagations run one after another, in the order they are submitted, and the
+     * failures are logged.
+     *
+     * @param operation   Description of the change, used for the logs.
+     * @param propagation Propagation to be run.
+     */
+    private void submitPropagation(String operation, ClaimPropagation propagation) {
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                propagation.run();
+            } catch (OrganizationManagementException | IdentityEventException e) {
+                LOG.error("An error occurred while trying to " + operation + " in the organizations.", e);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Propagate a claim metadata change to the given organizations. The organizations are updated concurrently, up to
+     * the configured parallelism, and the update of an organization is retried before it is considered as failed.
+     * Hence, the updaters should be idempotent. The organizations are independent of each other as the change is
+     * applied from the metadata of the parent organization, so they are processed as a single level.
+     * <p>
+     * Only the failures which are not caused by the client are retried, since the same request fails again with the
+     * same client error.
+     *
+     * @param organizations Organizations to which the change is propagated.
+     * @param operation     Description of the change, used for the logs and the error messages.
+     * @param updater       Updater which applies the change to a single organization.
+     * @throws IdentityEventException If the change could not be applied to some of the organizations.
+     */
+    private void propagateToOrganizations(List<BasicOrganization> organizations, String operation,
+                                          OrganizationClaimUpdater updater) throws IdentityEventException {
+
+        if (organizations.isEmpty()) {
+            return;
+        }
+        ClaimPropagationProgress progress = new ClaimPropagationProgress(operation, organizations.size());
+        try {
+            claimPropagationExecutor.executeByLevel(Collections.singletonList(organizations),
+                    organization -> propagateToOrganization(organization.getId(), updater, progress));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityEventException("Interrupted while trying to " + operation + " in the organizations.", e);
+        }
+        if (!progress.getFailedOrganizationIds().isEmpty()) {
+            throw new IdentityEventException(String.format("Failed to %s in %d of %d organizations: %s", operation,
+                    progress.getFailedOrganizationIds().size(), organizations.size(),
+                    progress.getFailedOrganizationIds()));
+        }
+    }
+
+    private void propagateToOrganization(String organizationId, OrganizationClaimUpdater updater,
+                                         ClaimPropagationProgress progress) {
+
+        for (int attempt = 1; attempt <= CLAIM_PROPAGATION_MAX_ATTEMPTS; attempt++) {
+            try {
+                updater.update(getOrganizationManager().resolveTenantDomain(organizationId));
+                progress.markCompleted();
+                return;
+            } catch (OrganizationManagementException | ClaimMetadataException | IdentityEventException e) {
+                if (isClientError(e)) {
+                    LOG.error(String.format("Failed to %s in the organization: %s due to a client error.",
+                            progress.getOperation(), organizationId), e);
+                    break;
+                }
+                if (attempt == CLAIM_PROPAGATION_MAX_ATTEMPTS) {
+                    LOG.error(String.format("Failed to %s in the organization: %s after %d attempts.",
+                            progress.getOperation(), organizationId, attempt), e);
+                } else if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("Attempt %d to %s in the organization: %s failed. Retrying.", attempt,
+                            progress.getOperation(), organizationId), e);
+                }
+            }
+        }
+        progress.markFailed(organizationId);
+    }
+
+    private static boolean isClientError(Exception e) {
+
+        // The updaters wrap the errors of the lookups they run in an IdentityEventException.
+        Throwable error = e instanceof IdentityEventException && e.getCause() != null ? e.getCause() : e;
+        return error instanceof OrganizationManagementClientException || error instanceof ClaimMetadataClientException;
+    }
+
     private void inheritClaimPropertiesAndAttributeMapping(String createdOrgTenantDomain, String parentOrgTenantDomain)
             throws IdentityEventException {
 
         try {
+            InheritableClaimMetadataCacheEntry inheritableClaimMetadata =
+                    getInheritableClaimMetadata(parentOrgTenantDomain);
             List<LocalClaim> createdOrgLocalClaims =
                     getClaimMetadataManagementService().getLocalClaims(createdOrgTenantDomain);
-            List<LocalClaim> parentOrgLocalClaims =
-                    getClaimMetadataManagementService().getLocalClaims(parentOrgTenantDomain);
-            Map<String, LocalClaim> parentClaimMap = parentOrgLocalClaims.stream()
-                    .collect(Collectors.toMap(LocalClaim::getClaimURI, claim -> claim));
 
             // The custom local claims are not inherited as the created organization's claims are only updated.
             for (LocalClaim createdOrgClaim : createdOrgLocalClaims) {
-                LocalClaim parentClaim = parentClaimMap.get(createdOrgClaim.getClaimURI());
-
-                if (parentClaim != null) {
-                    Map<String, String> updatedClaimProperties = new HashMap<>(parentClaim.getClaimProperties());
-
-                    // The ExcludedUserStores claim property is excluded when inheriting the properties.
-                    updatedClaimProperties.remove(ClaimConstants.EXCLUDED_USER_STORES_PROPERTY);
-                    boolean isClaimPropertiesDifferent = !Objects.equals(
-                            createdOrgClaim.getClaimProperties(), updatedClaimProperties);
-
-                    // Only the PRIMARY user store attribute mapping gets inherited.
-                    List<AttributeMapping> primaryDomainParentMappedAttributes = parentClaim.getMappedAttributes()
-                            .stream().filter(attr -> UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME
-                                    .equals(attr.getUserStoreDomain()))
-                            .collect(Collectors.toList());
-                    boolean isMappedAttributesDifferent = !Objects.equals(
-                            createdOrgClaim.getMappedAttributes().get(0).getAttributeName(),
-                            primaryDomainParentMappedAttributes.get(0).getAttributeName());
-
-                    // If either the PRIMARY user store attribute mapping or any of the claim properties differ from
-                    // the parent organization, the claim is updated in the created organization.
-                    if (isClaimPropertiesDifferent || isMappedAttributesDifferent) {
-                        parentClaim.setClaimProperties(updatedClaimProperties);
-                        parentClaim.setMappedAttributes(primaryDomainParentMappedAttributes);
-                        getClaimMetadataManagementService().updateLocalClaim(parentClaim, createdOrgTenantDomain);
-                    }
+                String claimURI = createdOrgClaim.getClaimURI();
+                Map<String, String> inheritedClaimProperties =
+                        inheritableClaimMetadata.getInheritableClaimProperties(claimURI);
+                if (inheritedClaimProperties == null) {
+                    continue;
+                }
+                boolean isClaimPropertiesDifferent = !Objects.equals(
+                        createdOrgClaim.getClaimProperties(), inheritedClaimProperties);
+
+                // Only the PRIMARY user store attribute mapping gets inherited.
+                String primaryAttributeName = inheritableClaimMetadata.getPrimaryAttributeName(claimURI);
+                boolean isMappedAttributesDifferent = primaryAttributeName != null && !Objects.equals(
+                        createdOrgClaim.getMappedAttributes().get(0).getAttributeName(), primaryAttributeName);
+
+                // If either the PRIMARY user store attribute mapping or any of the claim properties differ from
+                // the parent organization, the claim is updated in the created organization.
+                if (isClaimPropertiesDifferent || isMappedAttributesDifferent) {
+                    List<AttributeMapping> inheritedMappedAttributes = primaryAttributeName == null ?
+                            createdOrgClaim.getMappedAttributes() : Collections.singletonList(
+                            new AttributeMapping(UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME, primaryAttributeName));
+                    getClaimMetadataManagementService().updateLocalClaim(new LocalClaim(claimURI,
+                            new ArrayList<>(inheritedMappedAttributes), inheritedClaimProperties),
+                            createdOrgTenantDomain);
                 }
             }
         } catch (ClaimMetadataException e) {
@@ -685,33 +822,38 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
                                             List<String> missingClaims, String parentTenantDomain)
             throws IdentityEventException {
 
-        for (String claimURI : missingClaims) {
-            Optional<LocalClaim> matchingClaim = parentOrgCustomLocalClaims.stream()
-                    .filter(claim -> claimURI.equals(claim.getClaimURI()))
-                    .findFirst();
-            if (matchingClaim.isPresent()) {
-                LocalClaim claim = matchingClaim.get();
-                try {
-                    getClaimMetadataManagementService().addLocalClaim(claim, sharedOrganizationTenantDomain);
-
-                    List<Claim> externalClaimMappingsInParentOrg =
-                            getMappedExternalClaims(claimURI, parentTenantDomain);
-                    if (!externalClaimMappingsInParentOrg.isEmpty()) {
-                        for (Claim externalClaim : externalClaimMappingsInParentOrg) {
-                            if (!isDialectExists(externalClaim.getClaimDialectURI(), sharedOrganizationTenantDomain)) {
-                                getClaimMetadataManagementService().addClaimDialect(new ClaimDialect(
-                                        externalClaim.getClaimDialectURI()), sharedOrganizationTenantDomain);
-                            }
-                            getClaimMetadataManagementService().addExternalClaim((new ExternalClaim(
-                                            externalClaim.getClaimDialectURI(), externalClaim.getClaimURI(), claimURI)),
+        if (missingClaims.isEmpty()) {
+            return;
+        }
+        try {
+            // The external claim mappings of the parent organization are resolved from its inheritable claim
+            // metadata, instead of looking them up for each missing claim.
+            InheritableClaimMetadataCacheEntry inheritableClaimMetadata =
+                    getInheritableClaimMetadata(parentTenantDomain);
+            for (String claimURI : missingClaims) {
+                Optional<LocalClaim> matchingClaim = parentOrgCustomLocalClaims.stream()
+                        .filter(claim -> claimURI.equals(claim.getClaimURI()))
+                        .findFirst();
+                if (matchingClaim.isPresent()) {
+                    getClaimMetadataManagementService().addLocalClaim(matchingClaim.get(),
+                            sharedOrganizationTenantDomain);
+
+                    for (Map.Entry<String, List<String>> dialectExternalClaims :
+                            inheritableClaimMetadata.getMappedExternalClaims(claimURI).entrySet()) {
+                        String claimDialectURI = dialectExternalClaims.getKey();
+                        if (!isDialectExists(claimDialectURI, sharedOrganizationTenantDomain)) {
+                            getClaimMetadataManagementService().addClaimDialect(new ClaimDialect(claimDialectURI),
                                     sharedOrganizationTenantDomain);
                         }
+                        for (String externalClaimURI : dialectExternalClaims.getValue()) {
+                            getClaimMetadataManagementService().addExternalClaim(new ExternalClaim(claimDialectURI,
+                                    externalClaimURI, claimURI), sharedOrganizationTenantDomain);
+                        }
                     }
-                } catch (ClaimMetadataException e) {
-                    throw new IdentityEventException("An error occurred while adding claims to the sub-organization",
-                            e);
                 }
             }
+        } catch (ClaimMetadataException e) {
+            throw new IdentityEventException("An error occurred while adding claims to the sub-organization", e);
         }
     }
 
@@ -736,10 +878,79 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
         }
     }
 
-    private List<Claim> getMappedExternalClaims(String localClaimURI, String tenantDomain)
+    /**
+     * Get the inheritable claim metadata of the given parent organization. It holds the local claims of the parent
+     * organization in the form they are inherited by its child organizations, and the external claims mapped to them.
+     * It is computed once and reused for the child organizations until the claims of the parent organization change.
+     *
+     * @param parentTenantDomain Tenant domain of the parent organization.
+     * @return The inheritable claim metadata.
+     * @throws ClaimMetadataException If an error occurs while retrieving the claims of the parent organization.
+     */
+    private InheritableClaimMetadataCacheEntry getInheritableClaimMetadata(String parentTenantDomain)
             throws ClaimMetadataException {
 
-        return getClaimMetadataManagementService().getMappedExternalClaimsForLocalClaim(localClaimURI, tenantDomain);
+        InheritableClaimMetadataCacheKey cacheKey = new InheritableClaimMetadataCacheKey(parentTenantDomain);
+        InheritableClaimMetadataCacheEntry inheritableClaimMetadata =
+                InheritableClaimMetadataCache.getInstance().getInheritableClaimMetadataFromCache(cacheKey);
+        if (inheritableClaimMetadata != null) {
+            return inheritableClaimMetadata;
+        }
+
+        HashMap<String, HashMap<String, String>> inheritableClaimProperties = new HashMap<>();
+        HashMap<String, String> primaryAttributeNames = new HashMap<>();
+        for (LocalClaim localClaim : getClaimMetadataManagementService().getLocalClaims(parentTenantDomain)) {
+            HashMap<String, String> claimProperties = new HashMap<>(localClaim.getClaimProperties());
+            // The ExcludedUserStores claim property is excluded when inheriting the properties.
+            claimProperties.remove(ClaimConstants.EXCLUDED_USER_STORES_PROPERTY);
+            inheritableClaimProperties.put(localClaim.getClaimURI(), claimProperties);
+            localClaim.getMappedAttributes().stream()
+                    .filter(attr -> UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME.equals(attr.getUserStoreDomain()))
+                    .findFirst()
+                    .ifPresent(attr -> primaryAttributeNames.put(localClaim.getClaimURI(), attr.getAttributeName()));
+        }
+
+        // The external claims are loaded per dialect and indexed by the local claim they are mapped to.
+        HashMap<String, HashMap<String, List<String>>> mappedExternalClaims = new HashMap<>();
+        for (ClaimDialect claimDialect : getClaimMetadataManagementService().getClaimDialects(parentTenantDomain)) {
+            String claimDialectURI = claimDialect.getClaimDialectURI();
+            if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equals(claimDialectURI)) {
+                continue;
+            }
+            for (ExternalClaim externalClaim : getClaimMetadataManagementService()
+                    .getExternalClaims(claimDialectURI, parentTenantDomain)) {
+                mappedExternalClaims.computeIfAbsent(externalClaim.getMappedLocalClaim(), k -> new HashMap<>())
+                        .computeIfAbsent(claimDialectURI, k -> new ArrayList<>())
+                        .add(externalClaim.getClaimURI());
+            }
+        }
+
+        inheritableClaimMetadata = new InheritableClaimMetadataCacheEntry(inheritableClaimProperties,
+                primaryAttributeNames, mappedExternalClaims);
+        InheritableClaimMetadataCache.getInstance().addInheritableClaimMetadataToCache(cacheKey,
+                inheritableClaimMetadata);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Computed the inheritable claim metadata of the tenant: %s with %d local " +
+                    "claim(s).", parentTenantDomain, inheritableClaimProperties.size()));
+        }
+        return inheritableClaimMetadata;
+    }
+
+    /**
+     * Clear the inheritable claim metadata of the tenant of the given claim metadata event, as the claims it is
+     * computed from are changed. The child organizations updated by the propagation of the change raise their own
+     * events.
+     *
+     * @param event Claim metadata event.
+     */
+    private void clearInheritableClaimMetadata(Event event) {
+
+        Object tenantId = event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_ID);
+        if (!(tenantId instanceof Integer)) {
+            return;
+        }
+        InheritableClaimMetadataCache.getInstance().clearInheritableClaimMetadataFromCache(
+                new InheritableClaimMetadataCacheKey(IdentityTenantUtil.getTenantDomain((int) tenantId)));
     }
 
     private ClaimMetadataManagementService getClaimMetadataManagementService() {
@@ -794,4 +1005,71 @@ public class OrgClaimMgtHandler extends AbstractEventHandler {
         }
         return primaryUserStoreDomain;
     }
+
+    /**
+     * Propagation of a claim metadata change to a set of organizations.
+     */
+    @FunctionalInterface
+    private interface ClaimPropagation {
+
+        void run() throws OrganizationManagementException, IdentityEventException;
+    }
+
+    /**
+     * Updater which applies a claim metadata change to a single organization.
+     */
+    @FunctionalInterface
+    private interface OrganizationClaimUpdater {
+
+        void update(String organizationTenantDomain) throws ClaimMetadataException, IdentityEventException;
+    }
+
+    /**
+     * Tracks the progress of a claim metadata change propagated to a set of organizations.
+     */
+    private static class ClaimPropagationProgress {
+
+        private final String operation;
+        private final int totalCount;
+        private final AtomicInteger processedCount = new AtomicInteger();
+        private final ConcurrentLinkedQueue<String> failedOrganizationIds = new ConcurrentLinkedQueue<>();
+
+        ClaimPropagationProgress(String operation, int totalCount) {
+
+            this.operation = operation;
+            this.totalCount = totalCount;
+        }
+
+        String getOperation() {
+
+            return operation;
+        }
+
+        List<String> getFailedOrganizationIds() {
+
+            return new ArrayList<>(failedOrganizationIds);
+        }
+
+        void markCompleted() {
+
+            logProgress(processedCount.incrementAndGet());
+        }
+
+        void markFailed(String organizationId) {
+
+            failedOrganizationIds.add(organizationId);
+            logProgress(processedCount.incrementAndGet());
+        }
+
+        private void logProgress(int processed) {
+
+            if (processed % CLAIM_PROPAGATION_PROGRESS_LOG_INTERVAL == 0) {
+                LOG.info(String.format("Processed %d of %d organizations to %s. Failed organizations: %d.",
+                        processed, totalCount, operation, failedOrganizationIds.size()));
+            } else if (processed == totalCount && LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Processed all %d organizations to %s. Failed organizations: %d.",
+                        totalCount, operation, failedOrganizationIds.size()));
+            }
+        }
+    }
 }
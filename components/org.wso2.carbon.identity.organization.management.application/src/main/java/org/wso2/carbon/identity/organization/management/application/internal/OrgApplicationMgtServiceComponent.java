@@ -24,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -36,16 +37,19 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManagerImpl;
+import org.wso2.carbon.identity.organization.management.application.dao.impl.CacheBackedOrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.dao.impl.OrgApplicationMgtDAOImpl;
 import org.wso2.carbon.identity.organization.management.application.handler.OrgClaimMgtHandler;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListenerImpl;
 import org.wso2.carbon.identity.organization.management.application.listener.FragmentApplicationMgtListener;
 import org.wso2.carbon.identity.organization.management.application.listener.MainApplicationEventListener;
+import org.wso2.carbon.identity.organization.management.application.listener.MainApplicationSnapshotRoleListener;
 import org.wso2.carbon.identity.organization.management.application.listener.OrganizationCreationHandler;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
+import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleManagementListener;
 import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
@@ -59,6 +63,9 @@ import org.wso2.carbon.user.core.service.RealmService;
 public class OrgApplicationMgtServiceComponent {
 
     private static final Log log = LogFactory.getLog(OrgApplicationMgtServiceComponent.class);
+    private OrgApplicationManagerImpl orgApplicationManager;
+    private OrganizationCreationHandler organizationCreationHandler;
+    private OrgClaimMgtHandler orgClaimMgtHandler;
 
     /**
      * Register the Organization Application Mgt service in the OSGI context.
@@ -70,19 +77,23 @@ public class OrgApplicationMgtServiceComponent {
 
         try {
             OrgApplicationMgtDataHolder.getInstance()
-                    .setOrgApplicationMgtDAO(new OrgApplicationMgtDAOImpl());
+                    .setOrgApplicationMgtDAO(new CacheBackedOrgApplicationMgtDAO(new OrgApplicationMgtDAOImpl()));
             OrgApplicationMgtDataHolder.getInstance()
                     .setApplicationSharingManagerListener(new ApplicationSharingManagerListenerImpl());
             BundleContext bundleContext = componentContext.getBundleContext();
-            bundleContext.registerService(OrgApplicationManager.class.getName(), new OrgApplicationManagerImpl(), null);
+            orgApplicationManager = new OrgApplicationManagerImpl();
+            bundleContext.registerService(OrgApplicationManager.class.getName(), orgApplicationManager, null);
             //Fragment application listener.
             bundleContext.registerService(ApplicationMgtListener.class.getName(), new FragmentApplicationMgtListener(),
                     null);
             bundleContext.registerService(ApplicationMgtListener.class.getName(),
                     new MainApplicationEventListener(), null);
-            bundleContext.registerService(AbstractEventHandler.class.getName(), new OrganizationCreationHandler(),
-                    null);
-            bundleContext.registerService(AbstractEventHandler.class.getName(), new OrgClaimMgtHandler(), null);
+            bundleContext.registerService(RoleManagementListener.class.getName(),
+                    new MainApplicationSnapshotRoleListener(), null);
+            organizationCreationHandler = new OrganizationCreationHandler();
+            bundleContext.registerService(AbstractEventHandler.class.getName(), organizationCreationHandler, null);
+            orgClaimMgtHandler = new OrgClaimMgtHandler();
+            bundleContext.registerService(AbstractEventHandler.class.getName(), orgClaimMgtHandler, null);
             if (log.isDebugEnabled()) {
                 log.debug("Organization Application Management component activated successfully.");
             }
@@ -91,6 +102,28 @@ public class OrgApplicationMgtServiceComponent {
         }
     }
 
+    /**
+     * Shut down the executors of the registered services when the bundle is deactivated.
+     *
+     * @param componentContext OSGi service component context.
+     */
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        if (orgApplicationManager != null) {
+            orgApplicationManager.shutdown();
+        }
+        if (organizationCreationHandler != null) {
+            organizationCreationHandler.shutdown();
+        }
+        if (orgClaimMgtHandler != null) {
+            orgClaimMgtHandler.shutdown();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Organization Application Management component deactivated successfully.");
+        }
+    }
+
     @Reference(
             name = "realm.service",
             service = RealmService.class,
@@ -47,8 +47,12 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationSnapshotCache;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationSnapshotCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationSnapshotCacheKey;
 import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.dao.impl.CacheBackedOrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
@@ -74,7 +78,6 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
@@ -109,6 +112,7 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
 
     private static final Log LOG = LogFactory.getLog(FragmentApplicationMgtListener.class);
     private static final String IS_APP_NAME_UPDATED = "isAppNameUpdated";
+    private static final String MAIN_APP_OF_DELETED_FRAGMENT_APP = "mainAppOfDeletedFragmentApp.";
     private final ExecutorService executorService = Executors.newFixedThreadPool(5);
 
     @Override
@@ -261,6 +265,9 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
     public boolean doPostUpdateApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
             throws IdentityApplicationManagementException {
 
+        if (!isFragmentApp(serviceProvider)) {
+            clearMainApplicationSnapshot(serviceProvider.getApplicationResourceId(), tenantDomain);
+        }
         try {
             if (!OrganizationManagementUtil.isOrganization(tenantDomain)) {
                 Object isAppNameUpdated = IdentityUtil.threadLocalProperties.get().get(IS_APP_NAME_UPDATED);
@@ -292,41 +299,24 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                         .getMainApplication(serviceProvider.getApplicationResourceId(), sharedOrgId);
                 // Add the skip logout consent property to true for the shared application
                 serviceProvider.getLocalAndOutBoundAuthenticationConfig().setSkipLogoutConsent(true);
+                MainApplicationSnapshotCacheEntry mainApplication = null;
                 if (mainApplicationDO.isPresent()) {
+                    mainApplication = getMainApplicationSnapshot(mainApplicationDO.get());
+                }
+                if (mainApplication != null) {
                     /* Add User Attribute Section related configurations from the
                     main application to the shared application
                      */
-                    String mainApplicationTenantDomain = getOrganizationManager()
-                            .resolveTenantDomain(mainApplicationDO.get().getOrganizationId());
-                    ServiceProvider mainApplication = getApplicationByResourceId
-                            (mainApplicationDO.get().getMainApplicationId(), mainApplicationTenantDomain);
-                    ClaimMapping[] filteredClaimMappings =
-                            Arrays.stream(mainApplication.getClaimConfig().getClaimMappings())
-                                    .filter(claim -> !claim.getLocalClaim().getClaimUri()
-                                            .startsWith("http://wso2.org/claims/runtime/"))
-                                    .toArray(ClaimMapping[]::new);
-                    if (!mainApplication.isEnhancedOrganizationAuthenticationEnabled()) {
-                        // Roles related claim mappings should be added mandatory for only legacy organization login.
-                        if (isB2BApplicationRoleSupportEnabled()) {
-                            // Add application roles to the filtered claim mappings (if any
-                            filteredClaimMappings = addApplicationRolesToFilteredClaimMappings(filteredClaimMappings);
-                        }
-                        // Add roles to the filtered claim mappings.
-                        filteredClaimMappings = addRolesClaimToFilteredClaimMappings(filteredClaimMappings);
-                    }
                     ClaimConfig claimConfig = new ClaimConfig();
-                    claimConfig.setClaimMappings(filteredClaimMappings);
-                    claimConfig.setAlwaysSendMappedLocalSubjectId(
-                            mainApplication.getClaimConfig().isAlwaysSendMappedLocalSubjectId());
-                    claimConfig.setMappedLocalSubjectMandatory(
-                            mainApplication.getClaimConfig().isMappedLocalSubjectMandatory());
+                    claimConfig.setClaimMappings(mainApplication.getClaimMappings());
+                    claimConfig.setAlwaysSendMappedLocalSubjectId(mainApplication.isAlwaysSendMappedLocalSubjectId());
+                    claimConfig.setMappedLocalSubjectMandatory(mainApplication.isMappedLocalSubjectMandatory());
                     serviceProvider.setClaimConfig(claimConfig);
 
                     // Set application's associated roles.
-                    AssociatedRolesConfig associatedRolesConfigOfMainApp = mainApplication.getAssociatedRolesConfig();
-                    if (associatedRolesConfigOfMainApp != null) {
+                    if (mainApplication.isAssociatedRolesConfigured()) {
                         AssociatedRolesConfig associatedRolesConfigForSharedApp =
-                                getAssociatedRolesConfigForSharedApp(associatedRolesConfigOfMainApp, tenantDomain);
+                                getAssociatedRolesConfigForSharedApp(mainApplication, tenantDomain);
                         serviceProvider.setAssociatedRolesConfig(associatedRolesConfigForSharedApp);
                     }
                     // Inherit API based authentication enabled property from the main application.
@@ -375,11 +365,11 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
             String sharedOrgId = getOrganizationManager().resolveOrganizationId(tenantDomain);
             mainApplicationDO = getOrgApplicationMgtDAO()
                     .getMainApplication(serviceProvider.getApplicationResourceId(), sharedOrgId);
+            MainApplicationSnapshotCacheEntry mainApplication = null;
             if (mainApplicationDO.isPresent()) {
-                String mainApplicationTenantDomain = getOrganizationManager().resolveTenantDomain(
-                        mainApplicationDO.get().getOrganizationId());
-                ServiceProvider mainApplication = getApplicationByResourceId(
-                        mainApplicationDO.get().getMainApplicationId(), mainApplicationTenantDomain);
+                mainApplication = getMainApplicationSnapshot(mainApplicationDO.get());
+            }
+            if (mainApplication != null) {
                 inheritDiscoverabilityProperty(mainApplication, serviceProvider);
                 if (StringUtils.isBlank(serviceProvider.getAccessUrl())) {
                     serviceProvider.setAccessUrl(mainApplication.getAccessUrl());
@@ -399,21 +389,91 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                         Boolean.parseBoolean(property.getValue()));
     }
 
-    private void inheritDiscoverabilityProperty(ServiceProvider mainApplication, ServiceProvider sharedApplication) {
+    /**
+     * Get the snapshot of the configurations of the main application which are inherited by its shared applications.
+     * The snapshot is cached against the main application, hence the main application is loaded only on a cache miss.
+     *
+     * @param mainApplicationDO The main application of the shared application.
+     * @return The snapshot of the main application, or null if the main application is not found.
+     */
+    private MainApplicationSnapshotCacheEntry getMainApplicationSnapshot(MainApplicationDO mainApplicationDO)
+            throws IdentityApplicationManagementException, OrganizationManagementException {
+
+        MainApplicationSnapshotCacheKey cacheKey = new MainApplicationSnapshotCacheKey(
+                mainApplicationDO.getMainApplicationId(), mainApplicationDO.getOrganizationId());
+        MainApplicationSnapshotCacheEntry snapshot =
+                MainApplicationSnapshotCache.getInstance().getSnapshotFromCache(cacheKey);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        String mainApplicationTenantDomain =
+                getOrganizationManager().resolveTenantDomain(mainApplicationDO.getOrganizationId());
+        ServiceProvider mainApplication =
+                getApplicationByResourceId(mainApplicationDO.getMainApplicationId(), mainApplicationTenantDomain);
+        if (mainApplication == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Main application: " + mainApplicationDO.getMainApplicationId() +
+                        " is not found in the organization: " + mainApplicationDO.getOrganizationId());
+            }
+            return null;
+        }
+        ClaimMapping[] filteredClaimMappings =
+                Arrays.stream(mainApplication.getClaimConfig().getClaimMappings())
+                        .filter(claim -> !claim.getLocalClaim().getClaimUri()
+                                .startsWith("http://wso2.org/claims/runtime/"))
+                        .toArray(ClaimMapping[]::new);
+        if (!mainApplication.isEnhancedOrganizationAuthenticationEnabled()) {
+            // Roles related claim mappings should be added mandatory for only legacy organization login.
+            if (isB2BApplicationRoleSupportEnabled()) {
+                // Add application roles to the filtered claim mappings (if any
+                filteredClaimMappings = addApplicationRolesToFilteredClaimMappings(filteredClaimMappings);
+            }
+            // Add roles to the filtered claim mappings.
+            filteredClaimMappings = addRolesClaimToFilteredClaimMappings(filteredClaimMappings);
+        }
+        snapshot = new MainApplicationSnapshotCacheEntry(mainApplication, filteredClaimMappings);
+        MainApplicationSnapshotCache.getInstance().addSnapshotToCache(cacheKey, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Clear the cached snapshot of the given main application, so that the shared applications pick the updated
+     * configurations of the main application.
+     *
+     * @param applicationResourceId The resource ID of the main application.
+     * @param tenantDomain          The tenant domain of the main application.
+     */
+    private void clearMainApplicationSnapshot(String applicationResourceId, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        try {
+            String organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
+            if (organizationId == null) {
+                organizationId = SUPER_ORG_ID;
+            }
+            MainApplicationSnapshotCache.getInstance().clearSnapshotFromCache(
+                    new MainApplicationSnapshotCacheKey(applicationResourceId, organizationId));
+        } catch (OrganizationManagementException e) {
+            throw new IdentityApplicationManagementException(
+                    String.format("Error while resolving the organization for the tenant  %s .", tenantDomain), e);
+        }
+    }
+
+    private void inheritDiscoverabilityProperty(MainApplicationSnapshotCacheEntry mainApplication,
+                                                ServiceProvider sharedApplication) {
 
         sharedApplication.setDiscoverable(mainApplication.isDiscoverable() || sharedApplication.isDiscoverable());
     }
 
-    private void inheritAPIBasedAuthenticationEnabledProperty(ServiceProvider mainApplication,
+    private void inheritAPIBasedAuthenticationEnabledProperty(MainApplicationSnapshotCacheEntry mainApplication,
                                                               ServiceProvider sharedApplication) {
 
         /*
          If the main application's IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME property is set to true,
          shared app inherit the value.
          */
-        if (!Arrays.stream(mainApplication.getSpProperties())
-                .anyMatch(p -> IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME.equalsIgnoreCase(
-                        p.getName()) && Boolean.parseBoolean(p.getValue()))) {
+        if (!mainApplication.isApiBasedAuthenticationPropertyEnabled()) {
             return;
         }
         ServiceProviderProperty[] properties = sharedApplication.getSpProperties();
@@ -441,11 +501,12 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                 }
             }
             sharedApplication.setSpProperties(properties);
-            sharedApplication.setAPIBasedAuthenticationEnabled(mainApplication.isAPIBasedAuthenticationEnabled());
+            sharedApplication.setAPIBasedAuthenticationEnabled(mainApplication.isApiBasedAuthenticationEnabled());
         }
     }
 
-    private void inheritApplicationEnabledProperty(ServiceProvider mainApplication, ServiceProvider sharedApplication) {
+    private void inheritApplicationEnabledProperty(MainApplicationSnapshotCacheEntry mainApplication,
+                                                   ServiceProvider sharedApplication) {
 
         sharedApplication.setApplicationEnabled(mainApplication.isApplicationEnabled());
     }
@@ -484,35 +545,23 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
     }
 
     private AssociatedRolesConfig getAssociatedRolesConfigForSharedApp(
-            AssociatedRolesConfig associatedRolesConfigOfMainApp, String tenantDomainOfSharedApp)
+            MainApplicationSnapshotCacheEntry mainApplication, String tenantDomainOfSharedApp)
             throws IdentityRoleManagementException {
 
-        String allowedAudience = associatedRolesConfigOfMainApp.getAllowedAudience();
-        RoleV2[] mainAppRoles = associatedRolesConfigOfMainApp.getRoles();
-        List<RoleV2> mainappRoleList = Arrays.asList(mainAppRoles);
+        Map<String, String> mainAppRoleNamesById = mainApplication.getAssociatedRoleNamesById();
         AssociatedRolesConfig associatedRolesConfigForSharedApp = new AssociatedRolesConfig();
-        associatedRolesConfigForSharedApp.setAllowedAudience(allowedAudience);
-        List<String> mainAppRoleIds =
-                mainappRoleList.stream().map(RoleV2::getId).collect(Collectors.toList());
+        associatedRolesConfigForSharedApp.setAllowedAudience(mainApplication.getAssociatedRolesAllowedAudience());
+        List<String> mainAppRoleIds = new ArrayList<>(mainAppRoleNamesById.keySet());
         Map<String, String> mainRoleToSharedRoleMappingsBySubOrg =
                 getRoleManagementServiceV2().getMainRoleToSharedRoleMappingsBySubOrg(mainAppRoleIds,
                         tenantDomainOfSharedApp);
 
         RoleV2[] associatedRolesOfSharedApp = mainRoleToSharedRoleMappingsBySubOrg.entrySet().stream()
                 .map(entry -> {
-                    String sharedRoleId = entry.getValue();
-                    String mainRoleId = entry.getKey();
-
-                    // Find the main role by ID and retrieve its name.
-                    String mainRoleName = mainappRoleList.stream()
-                            .filter(role -> role.getId().equals(mainRoleId))
-                            .findFirst()
-                            .map(RoleV2::getName)
-                            .orElse(null);
-
                     RoleV2 sharedRole = new RoleV2();
-                    sharedRole.setId(sharedRoleId);
-                    sharedRole.setName(mainRoleName);
+                    sharedRole.setId(entry.getValue());
+                    // Resolve the name of the shared role from the main role.
+                    sharedRole.setName(mainAppRoleNamesById.get(entry.getKey()));
                     return sharedRole;
                 })
                 .toArray(RoleV2[]::new);
@@ -556,6 +605,20 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                             (!sharedApplicationDO.get().shareWithAllChildren() &&
                                     IdentityUtil.threadLocalProperties.get()
                                             .containsKey(DELETE_FRAGMENT_APPLICATION))) {
+                        // The link to the main application is removed along with the fragment application.
+                        Optional<MainApplicationDO> mainApplicationDO = getOrgApplicationMgtDAO().getMainApplication(
+                                application.getApplicationResourceId(), organizationId);
+                        if (mainApplicationDO.isPresent()) {
+                            CacheBackedOrgApplicationMgtDAO.clearSharedApplicationLink(
+                                    mainApplicationDO.get().getMainApplicationId(),
+                                    mainApplicationDO.get().getOrganizationId(),
+                                    application.getApplicationResourceId(), organizationId);
+                            // The link is cleared again once the application is deleted, as it could be cached
+                            // again by a concurrent read before the delete.
+                            IdentityUtil.threadLocalProperties.get().put(
+                                    MAIN_APP_OF_DELETED_FRAGMENT_APP + application.getApplicationResourceId(),
+                                    mainApplicationDO.get());
+                        }
                         return true;
                     }
                     throw new IdentityApplicationManagementClientException(
@@ -569,6 +632,8 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                                 application.getApplicationResourceId()));
             }
         }
+        MainApplicationSnapshotCache.getInstance().clearSnapshotFromCache(
+                new MainApplicationSnapshotCacheKey(application.getApplicationResourceId(), organizationId));
         try {
             // If an application has fragment applications, delete all its fragment applications.
             if (getOrgApplicationMgtDAO().hasFragments(application.getApplicationResourceId())) {
@@ -601,6 +666,36 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
         return super.doPreDeleteApplication(applicationName, tenantDomain, userName);
     }
 
+    @Override
+    public boolean doPostDeleteApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        String applicationResourceId = serviceProvider.getApplicationResourceId();
+        Object mainApplication = IdentityUtil.threadLocalProperties.get()
+                .remove(MAIN_APP_OF_DELETED_FRAGMENT_APP + applicationResourceId);
+        String organizationId;
+        try {
+            organizationId = getOrganizationManager().resolveOrganizationId(tenantDomain);
+            if (organizationId == null) {
+                organizationId = SUPER_ORG_ID;
+            }
+        } catch (OrganizationManagementException e) {
+            throw new IdentityApplicationManagementException(
+                    String.format("Error while resolving the organization for the tenant  %s .", tenantDomain), e);
+        }
+        // Caches are cleared after the delete as well, so that the entries cached by concurrent reads during the
+        // delete are not retained.
+        if (mainApplication instanceof MainApplicationDO) {
+            MainApplicationDO mainApplicationDO = (MainApplicationDO) mainApplication;
+            CacheBackedOrgApplicationMgtDAO.clearSharedApplicationLink(mainApplicationDO.getMainApplicationId(),
+                    mainApplicationDO.getOrganizationId(), applicationResourceId, organizationId);
+        } else {
+            MainApplicationSnapshotCache.getInstance().clearSnapshotFromCache(
+                    new MainApplicationSnapshotCacheKey(applicationResourceId, organizationId));
+        }
+        return super.doPostDeleteApplication(serviceProvider, tenantDomain, userName);
+    }
+
     private ServiceProvider getApplicationByResourceId(String applicationResourceId, String tenantDomain)
             throws IdentityApplicationManagementException {
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationSnapshotCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.listener.AbstractRoleManagementListener;
+
+/**
+ * Role management listener which clears the cached main application snapshots when a role is renamed or deleted.
+ * The snapshots hold the names of the roles associated with the main applications, and a role does not carry the
+ * applications it is associated with. Hence, all the snapshots are cleared, as role renames and deletions are rare
+ * compared to the fragment application retrievals served by the snapshots.
+ */
+public class MainApplicationSnapshotRoleListener extends AbstractRoleManagementListener {
+
+    private static final Log LOG = LogFactory.getLog(MainApplicationSnapshotRoleListener.class);
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return 90;
+    }
+
+    @Override
+    public boolean isEnable() {
+
+        return true;
+    }
+
+    @Override
+    public void postUpdateRoleName(String roleId, String newRoleName, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        clearMainApplicationSnapshots(roleId, tenantDomain);
+    }
+
+    @Override
+    public void postDeleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        clearMainApplicationSnapshots(roleId, tenantDomain);
+    }
+
+    private void clearMainApplicationSnapshots(String roleId, String tenantDomain) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing the main application snapshots as the role: " + roleId + " of the tenant: " +
+                    tenantDomain + " is changed.");
+        }
+        MainApplicationSnapshotCache.getInstance().clearAllSnapshotsFromCache();
+    }
+}
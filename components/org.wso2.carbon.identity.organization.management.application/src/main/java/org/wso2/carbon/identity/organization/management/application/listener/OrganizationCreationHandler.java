@@ -22,6 +22,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
@@ -29,9 +30,15 @@ import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManagerImpl;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
@@ -39,9 +46,11 @@ import org.wso2.carbon.identity.organization.management.application.internal.Org
 import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
 import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
+import org.wso2.carbon.identity.organization.management.application.util.OrgHierarchyLevelExecutor;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
@@ -57,12 +66,33 @@ import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.CORRELATION_ID_MDC;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_ORG_CREATION_APP_SHARING_PARALLELISM;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORG_CREATION_APP_SHARING_ASYNC;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORG_CREATION_APP_SHARING_PARALLELISM;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORG_CREATION_APP_SHARING_SUBJECT_TYPE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORG_CREATION_APP_SHARING_THREAD_NAME_PREFIX;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARE_WITH_ALL_CHILDREN;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ShareOperationType.APPLICATION_SHARE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SharePolicy.SHARE_WITH_ALL;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.getAppAssociatedRoleSharingMode;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setIsAppSharedProperty;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.IS_APP_SHARED;
@@ -77,6 +107,30 @@ public class OrganizationCreationHandler extends AbstractEventHandler {
 
     private static final Log LOG = LogFactory.getLog(OrganizationCreationHandler.class);
 
+    private final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    private final OrgHierarchyLevelExecutor applicationProvisioningExecutor;
+
+    public OrganizationCreationHandler() {
+
+        this(OrgHierarchyLevelExecutor.fromConfiguration(ORG_CREATION_APP_SHARING_THREAD_NAME_PREFIX,
+                ORG_CREATION_APP_SHARING_PARALLELISM, DEFAULT_ORG_CREATION_APP_SHARING_PARALLELISM));
+    }
+
+    OrganizationCreationHandler(OrgHierarchyLevelExecutor applicationProvisioningExecutor) {
+
+        this.applicationProvisioningExecutor = applicationProvisioningExecutor;
+    }
+
+    /**
+     * Shut down the executors of the handler. The provisioning tasks which are already submitted are completed, but
+     * new tasks are rejected.
+     */
+    public void shutdown() {
+
+        executorService.shutdown();
+        applicationProvisioningExecutor.shutdown();
+    }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
@@ -132,125 +186,385 @@ public class OrganizationCreationHandler extends AbstractEventHandler {
         String parentOrgHandle = getOrganizationManager().resolveTenantDomain(parentOrgId);
         List<String> ancestorOrganizationIds = getOrganizationManager().getAncestorOrganizationIds(parentOrgId);
         List<ResourceSharingPolicy> resourceSharingPolicies = getResourceSharingPolicyHandlerService()
-                .getResourceSharingPoliciesByResourceType(ancestorOrganizationIds, ResourceType.APPLICATION.name());
+                .getResourceSharingPoliciesByResourceType(ancestorOrganizationIds, ResourceType.APPLICATION.name())
+                .stream()
+                .filter(policy -> isValidApplicationSharePolicy(policy.getSharingPolicy()))
+                .collect(Collectors.toList());
+        // The shared attributes of all the applicable policies are loaded at once.
+        Map<Integer, List<SharedResourceAttribute>> sharedResourceAttributes =
+                getResourceSharingPolicyHandlerService().getSharedResourceAttributesBySharingPolicyIds(
+                        resourceSharingPolicies.stream().map(ResourceSharingPolicy::getResourceSharingPolicyId)
+                                .distinct().collect(Collectors.toList()));
+        String primaryOrganizationId = getOrganizationManager().getPrimaryOrganizationId(orgId);
+        if (primaryOrganizationId == null) {
+            primaryOrganizationId = SUPER_ORG_ID;
+        }
+        ApplicationProvisioningContext context = new ApplicationProvisioningContext(orgId, parentOrgId,
+                parentOrgHandle, primaryOrganizationId, sharedResourceAttributes);
 
-        List<String> alreadyHandledSharedAppIds = new ArrayList<>();
-        for (ResourceSharingPolicy resourceSharingPolicy : resourceSharingPolicies) {
-            PolicyEnum sharingPolicy = resourceSharingPolicy.getSharingPolicy();
-            if (!isValidApplicationSharePolicy(sharingPolicy)) {
-                continue;
-            }
-            String mainOrganizationId = resourceSharingPolicy.getInitiatingOrgId();
-            String mainTenantDomain = getOrganizationManager().resolveTenantDomain(mainOrganizationId);
-            String mainApplicationId = resourceSharingPolicy.getResourceId();
-            boolean isMainOrganization = parentOrgId.equals(mainOrganizationId);
-            ServiceProvider sharedApplication = resolveSharedApplication(orgId, parentOrgId, parentOrgHandle,
-                    mainOrganizationId, mainApplicationId);
-            if (sharedApplication == null) {
-                continue;
-            }
-            ApplicationShareRolePolicy.Mode roleSharingMode = getAppAssociatedRoleSharingMode(sharedApplication);
-            ApplicationShareRolePolicy.Builder roleSharingConfigBuilder = new ApplicationShareRolePolicy.Builder()
-                    .mode(roleSharingMode);
-            if (ApplicationShareRolePolicy.Mode.SELECTED.ordinal() == roleSharingMode.ordinal()) {
-                List<RoleWithAudienceDO> roleWithAudienceDOs = new ArrayList<>();
-                List<SharedResourceAttribute> sharedResourceAttributes =
-                        getResourceSharingPolicyHandlerService().getSharedResourceAttributesBySharingPolicyId(
-                                resourceSharingPolicy.getResourceSharingPolicyId());
-
-                for (SharedResourceAttribute sharedResourceAttribute : sharedResourceAttributes) {
-                    if (SharedAttributeType.ROLE.ordinal() != sharedResourceAttribute.getSharedAttributeType()
-                            .ordinal()) {
-                        continue;
-                    }
-                    String mainRoleId = sharedResourceAttribute.getSharedAttributeId();
-                    RoleBasicInfo mainRoleBasicInfo;
-                    try {
-                        mainRoleBasicInfo = getRoleManagementServiceV2().getRoleBasicInfoById(mainRoleId,
-                                mainTenantDomain);
-                        RoleWithAudienceDO.AudienceType audienceType =
-                                RoleWithAudienceDO.AudienceType.fromValue(
-                                        mainRoleBasicInfo.getAudience());
-                        RoleWithAudienceDO roleWithAudienceDO =
-                                new RoleWithAudienceDO(mainRoleBasicInfo.getName(),
-                                        mainRoleBasicInfo.getAudienceName(), audienceType);
-                        roleWithAudienceDOs.add(roleWithAudienceDO);
-                    } catch (IdentityRoleManagementException e) {
-                        LOG.error("Failed to retrieve the role with ID: " + mainRoleId + " in tenant domain: " +
-                                mainTenantDomain + ". Skipping sharing of this role for application: " +
-                                mainApplicationId + " to organization: " + orgId + ".", e);
-                    }
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(ORG_CREATION_APP_SHARING_ASYNC))) {
+            provisionSharedApplications(context, resourceSharingPolicies);
+            return;
+        }
+        // The outcome of the asynchronous provisioning is recorded as an async operation of the created
+        // organization, with a unit operation for each application.
+        context.operationId = registerProvisioningOperation(context);
+        CompletableFuture.runAsync(() -> {
+            boolean isTenantFlowStarted = startTenantFlow(context);
+            try {
+                provisionSharedApplications(context, resourceSharingPolicies);
+            } catch (IdentityApplicationManagementException | OrganizationManagementException e) {
+                context.provisioningFailed = true;
+                LOG.error("An error occurred while creating shared applications in the new organization: " + orgId,
+                        e);
+            } finally {
+                updateProvisioningOperationStatus(context);
+                if (isTenantFlowStarted) {
+                    PrivilegedCarbonContext.endTenantFlow();
                 }
-                roleSharingConfigBuilder = roleSharingConfigBuilder.roleWithAudienceDOList(roleWithAudienceDOs);
             }
-            ServiceProvider mainApplication;
-            if (isMainOrganization) {
-                mainApplication = sharedApplication;
-            } else {
-                mainApplication = getApplicationManagementService().getApplicationByResourceId(
-                        mainApplicationId, mainTenantDomain);
-            }
-            getOrgApplicationManager().shareApplicationWithPolicy(mainOrganizationId, mainApplication, orgId,
-                    PolicyEnum.SELECTED_ORG_ONLY, roleSharingConfigBuilder.build(), null);
-            alreadyHandledSharedAppIds.add(mainApplicationId);
-
-            if (isMainOrganization) {
-                boolean isAppShared = isAppShared(mainApplication);
-                if (!isAppShared) {
-                    // Update the `isAppShared` property of the main application to true.
-                    updateApplicationWithIsAppSharedProperty(true, mainApplication);
-                }
+        }, executorService);
+    }
+
+    /**
+     * Share the applications which are shared with all the future organizations with a newly created organization.
+     * The applications are shared concurrently, up to the configured parallelism, as they are independent of each
+     * other. The policies of the same application are applied in order by the same task.
+     *
+     * @param context                 Provisioning context of the created organization.
+     * @param resourceSharingPolicies Applicable application sharing policies of the ancestor organizations.
+     * @throws IdentityApplicationManagementException If an error occurs while sharing an application.
+     * @throws OrganizationManagementException        If an error occurs while sharing an application.
+     */
+    private void provisionSharedApplications(ApplicationProvisioningContext context,
+                                             List<ResourceSharingPolicy> resourceSharingPolicies)
+            throws IdentityApplicationManagementException, OrganizationManagementException {
+
+        long startTime = System.currentTimeMillis();
+        List<List<ResourceSharingPolicy>> policiesByApplication = new ArrayList<>(resourceSharingPolicies.stream()
+                .collect(Collectors.groupingBy(ResourceSharingPolicy::getResourceId, LinkedHashMap::new,
+                        Collectors.toList()))
+                .values());
+        runProvisioningTasks(context, policiesByApplication, policies -> policies.get(0).getResourceId(), policies -> {
+            boolean isApplicationShared = false;
+            for (ResourceSharingPolicy resourceSharingPolicy : policies) {
+                isApplicationShared |= shareApplicationOfPolicy(context, resourceSharingPolicy);
             }
-        }
+            return isApplicationShared;
+        });
 
         // NOTE: The below code is to handle the backward compatibility of the applications that are shared with
         // all children organizations using the `shareWithAllChildren` property.
-        String primaryOrganizationId = getOrganizationManager().getPrimaryOrganizationId(organization.getId());
-        if (primaryOrganizationId == null) {
-            primaryOrganizationId = SUPER_ORG_ID;
+        ApplicationBasicInfo[] applicationBasicInfos = getApplicationManagementService()
+                .getApplicationBasicInfoBySPProperty(resolveTenantDomain(context, context.primaryOrganizationId),
+                        getAuthenticatedUsername(), SHARE_WITH_ALL_CHILDREN, "true");
+        List<ApplicationBasicInfo> legacyApplications = Arrays.stream(applicationBasicInfos)
+                .filter(applicationBasicInfo -> !context.handledMainApplicationIds.contains(
+                        applicationBasicInfo.getUuid()))
+                .collect(Collectors.toList());
+        runProvisioningTasks(context, legacyApplications, ApplicationBasicInfo::getUuid,
+                applicationBasicInfo -> shareApplicationWithAllChildren(context, applicationBasicInfo));
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Shared %d application(s) and skipped %d application(s) with the " +
+                            "organization: %s in %d ms.", context.sharedApplicationCount.get(),
+                    context.skippedApplicationCount.get(), context.organizationId,
+                    System.currentTimeMillis() - startTime));
         }
-        ApplicationBasicInfo[] applicationBasicInfos;
-        applicationBasicInfos = getApplicationManagementService().getApplicationBasicInfoBySPProperty(
-                getOrganizationManager().resolveTenantDomain(primaryOrganizationId), getAuthenticatedUsername(),
-                SHARE_WITH_ALL_CHILDREN, "true");
+    }
 
-        for (ApplicationBasicInfo applicationBasicInfo : applicationBasicInfos) {
-            String mainApplicationId = applicationBasicInfo.getUuid();
-            if (alreadyHandledSharedAppIds.contains(mainApplicationId)) {
-                continue;
-            }
-            ServiceProvider mainApplication;
-            mainApplication = getApplicationManagementService()
-                    .getServiceProvider(applicationBasicInfo.getApplicationId());
-            if (mainApplication != null) {
-                // Check whether the application is shared with the parent organization.
-                ServiceProvider sharedApplication = resolveSharedApplication(orgId, parentOrgId, parentOrgHandle,
-                        primaryOrganizationId, mainApplicationId);
-                if (sharedApplication == null) {
+    /**
+     * Share the application of the given policy with the newly created organization.
+     *
+     * @return False if the sharing is skipped, as the application is not shared with the parent organization.
+     */
+    private boolean shareApplicationOfPolicy(ApplicationProvisioningContext context,
+                                             ResourceSharingPolicy resourceSharingPolicy)
+            throws IdentityApplicationManagementException, OrganizationManagementException {
+
+        String orgId = context.organizationId;
+        String mainOrganizationId = resourceSharingPolicy.getInitiatingOrgId();
+        String mainTenantDomain = resolveTenantDomain(context, mainOrganizationId);
+        String mainApplicationId = resourceSharingPolicy.getResourceId();
+        boolean isMainOrganization = context.parentOrganizationId.equals(mainOrganizationId);
+        ServiceProvider sharedApplication = resolveSharedApplication(orgId, context.parentOrganizationId,
+                context.parentOrganizationHandle, mainOrganizationId, mainApplicationId);
+        if (sharedApplication == null) {
+            return false;
+        }
+        ApplicationShareRolePolicy.Mode roleSharingMode = getAppAssociatedRoleSharingMode(sharedApplication);
+        ApplicationShareRolePolicy.Builder roleSharingConfigBuilder = new ApplicationShareRolePolicy.Builder()
+                .mode(roleSharingMode);
+        if (ApplicationShareRolePolicy.Mode.SELECTED.ordinal() == roleSharingMode.ordinal()) {
+            List<RoleWithAudienceDO> roleWithAudienceDOs = new ArrayList<>();
+            List<SharedResourceAttribute> sharedResourceAttributes = context.sharedResourceAttributes.getOrDefault(
+                    resourceSharingPolicy.getResourceSharingPolicyId(), Collections.emptyList());
+
+            for (SharedResourceAttribute sharedResourceAttribute : sharedResourceAttributes) {
+                if (SharedAttributeType.ROLE.ordinal() != sharedResourceAttribute.getSharedAttributeType()
+                        .ordinal()) {
                     continue;
                 }
-                ApplicationShareRolePolicy roleSharingConfigBuilder = new ApplicationShareRolePolicy.Builder()
-                        .mode(ApplicationShareRolePolicy.Mode.ALL).build();
-
-                // Share the application to the newly created organization.
-                getOrgApplicationManager().shareApplicationWithPolicy(primaryOrganizationId, mainApplication, orgId,
-                        PolicyEnum.SELECTED_ORG_ONLY, roleSharingConfigBuilder, null);
-
-                // Add the resource sharing policy for the main application.
-                String ownerTenantDomain = getOrganizationManager().resolveTenantDomain(primaryOrganizationId);
-                getOrgApplicationManager().addOrUpdatePolicy(mainApplication.getApplicationResourceId(),
-                        primaryOrganizationId, primaryOrganizationId, ownerTenantDomain,
-                        PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS, roleSharingConfigBuilder);
-
-                // Check whether the application is shared with any child organization using `isAppShared` property.
-                boolean isAppShared = isAppShared(mainApplication);
-                if (!isAppShared) {
-                    // Update the `isAppShared` property of the main application to true if it hasn't been shared
-                    // previously.
-                    updateApplicationWithIsAppSharedProperty(true, mainApplication);
-                }
+                getRoleWithAudience(context, sharedResourceAttribute.getSharedAttributeId(), mainTenantDomain,
+                        mainApplicationId).ifPresent(roleWithAudienceDOs::add);
             }
+            roleSharingConfigBuilder = roleSharingConfigBuilder.roleWithAudienceDOList(roleWithAudienceDOs);
+        }
+        ServiceProvider mainApplication;
+        if (isMainOrganization) {
+            mainApplication = sharedApplication;
+        } else {
+            mainApplication = getApplicationManagementService().getApplicationByResourceId(
+                    mainApplicationId, mainTenantDomain);
+        }
+        getOrgApplicationManager().shareApplicationWithPolicy(mainOrganizationId, mainApplication, orgId,
+                PolicyEnum.SELECTED_ORG_ONLY, roleSharingConfigBuilder.build(), null);
+        context.handledMainApplicationIds.add(mainApplicationId);
+
+        if (isMainOrganization) {
+            boolean isAppShared = isAppShared(mainApplication);
+            if (!isAppShared) {
+                // Update the `isAppShared` property of the main application to true.
+                updateApplicationWithIsAppSharedProperty(true, mainApplication);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Share the given application, which is shared with all children organizations using the legacy
+     * `shareWithAllChildren` property, with the newly created organization.
+     *
+     * @return False if the sharing is skipped, as the application or its shared application in the parent
+     * organization is not found.
+     */
+    private boolean shareApplicationWithAllChildren(ApplicationProvisioningContext context,
+                                                    ApplicationBasicInfo applicationBasicInfo)
+            throws IdentityApplicationManagementException, OrganizationManagementException {
+
+        String primaryOrganizationId = context.primaryOrganizationId;
+        String mainApplicationId = applicationBasicInfo.getUuid();
+        ServiceProvider mainApplication;
+        mainApplication = getApplicationManagementService()
+                .getServiceProvider(applicationBasicInfo.getApplicationId());
+        if (mainApplication == null) {
+            return false;
+        }
+        // Check whether the application is shared with the parent organization.
+        ServiceProvider sharedApplication = resolveSharedApplication(context.organizationId,
+                context.parentOrganizationId, context.parentOrganizationHandle, primaryOrganizationId,
+                mainApplicationId);
+        if (sharedApplication == null) {
+            return false;
+        }
+        ApplicationShareRolePolicy roleSharingConfigBuilder = new ApplicationShareRolePolicy.Builder()
+                .mode(ApplicationShareRolePolicy.Mode.ALL).build();
+
+        // Share the application to the newly created organization.
+        getOrgApplicationManager().shareApplicationWithPolicy(primaryOrganizationId, mainApplication,
+                context.organizationId, PolicyEnum.SELECTED_ORG_ONLY, roleSharingConfigBuilder, null);
+        context.handledMainApplicationIds.add(mainApplicationId);
+
+        // Add the resource sharing policy for the main application.
+        String ownerTenantDomain = resolveTenantDomain(context, primaryOrganizationId);
+        getOrgApplicationManager().addOrUpdatePolicy(mainApplication.getApplicationResourceId(),
+                primaryOrganizationId, primaryOrganizationId, ownerTenantDomain,
+                PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS, roleSharingConfigBuilder);
+
+        // Check whether the application is shared with any child organization using `isAppShared` property.
+        boolean isAppShared = isAppShared(mainApplication);
+        if (!isAppShared) {
+            // Update the `isAppShared` property of the main application to true if it hasn't been shared
+            // previously.
+            updateApplicationWithIsAppSharedProperty(true, mainApplication);
         }
+        return true;
+    }
+
+    /**
+     * Run the given provisioning task for each of the given items, using the application provisioning executor.
+     * The tasks run with the carbon context of the thread which created the organization. Each failed task is logged
+     * and recorded against its application. A task which skips its application is only counted as skipped. Once
+     * all the tasks are completed, the first failure is thrown with the other failures added to it as suppressed
+     * exceptions.
+     */
+    private <T> void runProvisioningTasks(ApplicationProvisioningContext context, List<T> items,
+                                          Function<T, String> applicationIdResolver, ProvisioningTask<T> task)
+            throws IdentityApplicationManagementException, OrganizationManagementException {
+
+        if (items.isEmpty()) {
+            return;
+        }
+        Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+        try {
+            applicationProvisioningExecutor.executeByLevel(Collections.singletonList(items), item -> {
+                String applicationId = applicationIdResolver.apply(item);
+                boolean isTenantFlowStarted = startTenantFlow(context);
+                try {
+                    if (task.run(item)) {
+                        recordApplicationProvisioning(context, applicationId, OperationStatus.SUCCESS, null);
+                    } else {
+                        recordSkippedApplicationProvisioning(context, applicationId);
+                    }
+                } catch (IdentityApplicationManagementException | OrganizationManagementException e) {
+                    LOG.error("Failed to share the application: " + applicationId + " with the organization: " +
+                            context.organizationId, e);
+                    recordApplicationProvisioning(context, applicationId, OperationStatus.FAILED, e.getMessage());
+                    failures.add(e);
+                } finally {
+                    if (isTenantFlowStarted) {
+                        PrivilegedCarbonContext.endTenantFlow();
+                    }
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrganizationManagementServerException("Interrupted while sharing the applications with the " +
+                    "organization: " + context.organizationId, null, e);
+        }
+        Exception failure = failures.poll();
+        if (failure == null) {
+            return;
+        }
+        failures.forEach(failure::addSuppressed);
+        if (failure instanceof OrganizationManagementException) {
+            throw (OrganizationManagementException) failure;
+        }
+        throw (IdentityApplicationManagementException) failure;
+    }
+
+    /**
+     * Start a tenant flow with the carbon context of the thread which created the organization, if the task runs on
+     * a different thread.
+     *
+     * @return True if a tenant flow is started.
+     */
+    private boolean startTenantFlow(ApplicationProvisioningContext context) {
+
+        if (Thread.currentThread() == context.initiatingThread) {
+            return false;
+        }
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        if (StringUtils.isNotBlank(context.tenantDomain)) {
+            carbonContext.setTenantDomain(context.tenantDomain, true);
+        }
+        carbonContext.setUsername(context.username);
+        carbonContext.setUserId(context.userId);
+        carbonContext.setOrganizationId(context.initiatingOrganizationId);
+        return true;
+    }
+
+    private String registerProvisioningOperation(ApplicationProvisioningContext context) {
+
+        AsyncOperationStatusMgtService asyncOperationStatusMgtService = getAsyncOperationStatusMgtService();
+        if (asyncOperationStatusMgtService == null) {
+            return null;
+        }
+        try {
+            // If Async Operation Status persistence is disabled, operationId will not be returned.
+            return asyncOperationStatusMgtService.registerOperationStatus(new OperationInitDTO(getCorrelation(),
+                    APPLICATION_SHARE.getValue(), ORG_CREATION_APP_SHARING_SUBJECT_TYPE, context.organizationId,
+                    context.parentOrganizationId, context.userId, SHARE_WITH_ALL.getValue()), false);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while registering the application sharing operation of the organization: " +
+                    context.organizationId, e);
+            return null;
+        }
+    }
+
+    private void recordApplicationProvisioning(ApplicationProvisioningContext context, String applicationId,
+                                               OperationStatus status, String statusMessage) {
+
+        if (status == OperationStatus.SUCCESS) {
+            context.sharedApplicationCount.incrementAndGet();
+        } else {
+            context.failedApplicationCount.incrementAndGet();
+        }
+        if (StringUtils.isBlank(context.operationId)) {
+            return;
+        }
+        try {
+            getAsyncOperationStatusMgtService().registerUnitOperationStatus(new UnitOperationInitDTO(
+                    context.operationId, applicationId, context.organizationId, status, statusMessage));
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while recording the sharing status of the application: " + applicationId +
+                    " with the organization: " + context.organizationId, e);
+        }
+    }
+
+    private void recordSkippedApplicationProvisioning(ApplicationProvisioningContext context, String applicationId) {
+
+        // The async operation status has no skipped state. Hence, no unit operation is recorded for the application
+        // and it neither counts as shared nor as failed.
+        context.skippedApplicationCount.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Skipped sharing the application: " + applicationId + " with the organization: " +
+                    context.organizationId + " as it is not available in the parent organization.");
+        }
+    }
+
+    private void updateProvisioningOperationStatus(ApplicationProvisioningContext context) {
+
+        if (StringUtils.isBlank(context.operationId)) {
+            return;
+        }
+        OperationStatus status;
+        if (context.failedApplicationCount.get() == 0 && !context.provisioningFailed) {
+            status = OperationStatus.SUCCESS;
+        } else if (context.sharedApplicationCount.get() == 0) {
+            status = OperationStatus.FAILED;
+        } else {
+            status = OperationStatus.PARTIALLY_COMPLETED;
+        }
+        try {
+            getAsyncOperationStatusMgtService().updateOperationStatus(context.operationId, status);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while updating the application sharing operation of the organization: " +
+                    context.organizationId, e);
+        }
+    }
+
+    private String getCorrelation() {
+
+        String correlationId = MDC.get(CORRELATION_ID_MDC);
+        return correlationId != null ? correlationId : UUID.randomUUID().toString();
+    }
+
+    private String resolveTenantDomain(ApplicationProvisioningContext context, String organizationId)
+            throws OrganizationManagementException {
+
+        String tenantDomain = context.tenantDomains.get(organizationId);
+        if (tenantDomain == null) {
+            tenantDomain = getOrganizationManager().resolveTenantDomain(organizationId);
+            context.tenantDomains.put(organizationId, tenantDomain);
+        }
+        return tenantDomain;
+    }
+
+    private Optional<RoleWithAudienceDO> getRoleWithAudience(ApplicationProvisioningContext context,
+                                                             String mainRoleId, String mainTenantDomain,
+                                                             String mainApplicationId) {
+
+        Optional<RoleWithAudienceDO> roleWithAudience = context.roles.get(mainRoleId);
+        if (roleWithAudience != null) {
+            return roleWithAudience;
+        }
+        try {
+            RoleBasicInfo mainRoleBasicInfo = getRoleManagementServiceV2().getRoleBasicInfoById(mainRoleId,
+                    mainTenantDomain);
+            RoleWithAudienceDO.AudienceType audienceType =
+                    RoleWithAudienceDO.AudienceType.fromValue(mainRoleBasicInfo.getAudience());
+            roleWithAudience = Optional.of(new RoleWithAudienceDO(mainRoleBasicInfo.getName(),
+                    mainRoleBasicInfo.getAudienceName(), audienceType));
+        } catch (IdentityRoleManagementException e) {
+            LOG.error("Failed to retrieve the role with ID: " + mainRoleId + " in tenant domain: " +
+                    mainTenantDomain + ". Skipping sharing of this role for application: " +
+                    mainApplicationId + " to organization: " + context.organizationId + ".", e);
+            roleWithAudience = Optional.empty();
+        }
+        context.roles.put(mainRoleId, roleWithAudience);
+        return roleWithAudience;
     }
 
     private ServiceProvider resolveSharedApplication(String orgId, String parentOrgId, String parentOrgHandle,
@@ -441,4 +755,69 @@ public class OrganizationCreationHandler extends AbstractEventHandler {
         return OrgApplicationMgtDataHolder.getInstance().getRoleManagementServiceV2();
     }
 
+    private AsyncOperationStatusMgtService getAsyncOperationStatusMgtService() {
+
+        return OrgApplicationMgtDataHolder.getInstance().getAsyncOperationStatusMgtService();
+    }
+
+
+    /**
+     * Task which provisions a shared application of a newly created organization.
+     *
+     * @param <T> Type of the item the task is run for.
+     */
+    @FunctionalInterface
+    private interface ProvisioningTask<T> {
+
+        /**
+         * Provision the shared application of the given item.
+         *
+         * @param item Item to provision the shared application for.
+         * @return True if the application is shared, false if the sharing is skipped.
+         */
+        boolean run(T item) throws IdentityApplicationManagementException, OrganizationManagementException;
+    }
+
+    /**
+     * State shared by the tasks which provision the shared applications of a newly created organization. The lookups
+     * which are common to the applications are resolved once per organization creation.
+     */
+    private static class ApplicationProvisioningContext {
+
+        private final String organizationId;
+        private final String parentOrganizationId;
+        private final String parentOrganizationHandle;
+        private final String primaryOrganizationId;
+        private final Map<Integer, List<SharedResourceAttribute>> sharedResourceAttributes;
+        private final Map<String, String> tenantDomains = new ConcurrentHashMap<>();
+        private final Map<String, Optional<RoleWithAudienceDO>> roles = new ConcurrentHashMap<>();
+        private final Set<String> handledMainApplicationIds = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger sharedApplicationCount = new AtomicInteger();
+        private final AtomicInteger failedApplicationCount = new AtomicInteger();
+        private final AtomicInteger skippedApplicationCount = new AtomicInteger();
+        private final String tenantDomain;
+        private final String username;
+        private final String userId;
+        private final String initiatingOrganizationId;
+        private final Thread initiatingThread;
+        private volatile String operationId;
+        private volatile boolean provisioningFailed;
+
+        private ApplicationProvisioningContext(String organizationId, String parentOrganizationId,
+                                               String parentOrganizationHandle, String primaryOrganizationId,
+                                               Map<Integer, List<SharedResourceAttribute>> sharedResourceAttributes) {
+
+            this.organizationId = organizationId;
+            this.parentOrganizationId = parentOrganizationId;
+            this.parentOrganizationHandle = parentOrganizationHandle;
+            this.primaryOrganizationId = primaryOrganizationId;
+            this.sharedResourceAttributes = sharedResourceAttributes;
+            this.tenantDomains.put(parentOrganizationId, parentOrganizationHandle);
+            this.tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            this.username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+            this.userId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
+            this.initiatingOrganizationId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getOrganizationId();
+            this.initiatingThread = Thread.currentThread();
+        }
+    }
 }
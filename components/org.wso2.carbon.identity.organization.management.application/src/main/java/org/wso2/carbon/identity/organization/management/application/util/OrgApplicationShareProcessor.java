@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 /**
  * Utility class to process organization shares ordered by hierarchy.
@@ -42,6 +44,7 @@ public class OrgApplicationShareProcessor {
 
         final Map<String, OrganizationNode> allNodesById = new HashMap<>();
         final List<String> bfsOrder = new ArrayList<>();
+        final Map<String, Integer> levelsById = new HashMap<>();
     }
 
     /**
@@ -61,11 +64,13 @@ public class OrgApplicationShareProcessor {
             if (!info.allNodesById.containsKey(node.getId())) {
                 info.allNodesById.put(node.getId(), node);
                 info.bfsOrder.add(node.getId());
+                info.levelsById.put(node.getId(), 0);
             }
         }
 
         while (!queue.isEmpty()) {
             OrganizationNode current = queue.poll();
+            int childLevel = info.levelsById.get(current.getId()) + 1;
 
             List<OrganizationNode> children = current.getChildren();
             if (children != null) {
@@ -74,6 +79,7 @@ public class OrgApplicationShareProcessor {
                     if (!info.allNodesById.containsKey(child.getId())) {
                         info.allNodesById.put(child.getId(), child);
                         info.bfsOrder.add(child.getId());
+                        info.levelsById.put(child.getId(), childLevel);
                         queue.offer(child);
                     }
                 }
@@ -269,6 +275,67 @@ public class OrgApplicationShareProcessor {
         return hierarchyInfo.bfsOrder;
     }
 
+    /**
+     * Retrieves all organization IDs under a given root organization, grouped by their level in the hierarchy.
+     * Example output: [[A, B, C], [A.1, A.2, B.1, C.1], [A.1.1]]
+     * where A, B, C are direct children of the 'mainOrganizationId'. Flattening the levels gives the same order as
+     * {@link #getAllOrganizationIdsInBfsOrder(String)}.
+     *
+     * @param mainOrganizationId The ID of the organization that serves as the root
+     *                           for fetching the entire hierarchy of interest.
+     * @return A List of levels, each holding the organization IDs of that level in BFS order.
+     * @throws OrganizationManagementException If there's an error fetching organization data.
+     */
+    public static List<List<String>> getAllOrganizationIdsByLevel(String mainOrganizationId)
+            throws OrganizationManagementException {
+
+        List<OrganizationNode> effectiveTopLevelNodes = OrgApplicationMgtDataHolder.getInstance()
+                .getOrganizationManager()
+                .getChildOrganizationGraph(mainOrganizationId, true);
+        return groupByHierarchyLevel(effectiveTopLevelNodes, getOrganizationIdsInBfsOrder(effectiveTopLevelNodes),
+                Function.identity());
+    }
+
+    /**
+     * Groups the given items by the level of their organization in the given organization graph. Items of the
+     * same level keep their relative order, and the levels are ordered from the top of the graph downwards, so that
+     * every item is placed in a later level than the items of its ancestor organizations.
+     * <p>
+     * Example Input: items=["A.1.1", "B", "A.1", "A"]
+     * Example Hierarchy: ROOT -> [A, B, C], A -> [A.1, A.2], A.1 -> [A.1.1]
+     * Example Output: [["B", "A"], ["A.1"], ["A.1.1"]]
+     * Items of organizations which are not part of the graph are placed in a final level of their own.
+     *
+     * @param organizationNodes    The top level nodes of the organization graph.
+     * @param items                The items to be grouped.
+     * @param organizationIdMapper A function which returns the organization ID of an item.
+     * @param <T>                  The type of the items.
+     * @return A List of levels, each holding the items of that level.
+     */
+    public static <T> List<List<T>> groupByHierarchyLevel(List<OrganizationNode> organizationNodes, List<T> items,
+                                                          Function<T, String> organizationIdMapper) {
+
+        if (items == null || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, Integer> levelsById = getAllNodesAndBfsOrder(organizationNodes).levelsById;
+        Map<Integer, List<T>> itemsByLevel = new TreeMap<>();
+        List<T> itemsOutsideHierarchy = new ArrayList<>();
+        for (T item : items) {
+            Integer level = levelsById.get(organizationIdMapper.apply(item));
+            if (level == null) {
+                itemsOutsideHierarchy.add(item);
+                continue;
+            }
+            itemsByLevel.computeIfAbsent(level, key -> new ArrayList<>()).add(item);
+        }
+        List<List<T>> levels = new ArrayList<>(itemsByLevel.values());
+        if (!itemsOutsideHierarchy.isEmpty()) {
+            levels.add(itemsOutsideHierarchy);
+        }
+        return levels;
+    }
+
     /**
      * Filters a given list of organization IDs against the hierarchy under a main organization,
      * includes all descendants of the valid input IDs, and returns the unique, valid IDs
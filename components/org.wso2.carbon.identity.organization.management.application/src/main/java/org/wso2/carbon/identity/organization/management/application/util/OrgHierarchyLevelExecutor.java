@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Executor which processes the items of an organization hierarchy level by level.
+ * <p>
+ * The items of a level are processed concurrently, up to the configured parallelism, and a level is started only
+ * after every item of the previous level is processed. Hence, an item is always processed after the items of its
+ * ancestor organizations. A parallelism of 1 processes the items one after another on the calling thread.
+ * <p>
+ * An item may trigger a nested execution, for example through the events fired while processing it. A nested
+ * execution on a worker thread processes its items on that thread, as waiting for other workers of the bounded pools
+ * from a worker could exhaust the pools and never complete.
+ */
+public class OrgHierarchyLevelExecutor {
+
+    private static final Log LOG = LogFactory.getLog(OrgHierarchyLevelExecutor.class);
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final ThreadLocal<Boolean> WORKER_THREAD = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final String name;
+    private final int parallelism;
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    /**
+     * Create an executor which processes the levels with the given parallelism.
+     *
+     * @param name        Name of the executor, used for the worker thread names and the logs.
+     * @param parallelism Maximum number of items of a level processed at the same time.
+     */
+    public OrgHierarchyLevelExecutor(String name, int parallelism) {
+
+        this.name = name;
+        this.parallelism = parallelism;
+        if (parallelism > 1) {
+            this.threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism, KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new WorkerThreadFactory(name));
+            this.threadPoolExecutor.allowCoreThreadTimeOut(true);
+        } else {
+            this.threadPoolExecutor = null;
+        }
+    }
+
+    /**
+     * Create an executor which processes the levels with the parallelism configured by the given property.
+     *
+     * @param name               Name of the executor, used for the worker thread names and the logs.
+     * @param property           Name of the identity configuration property which holds the parallelism.
+     * @param defaultParallelism Parallelism used if the property is not configured or is invalid.
+     * @return OrgHierarchyLevelExecutor instance.
+     */
+    public static OrgHierarchyLevelExecutor fromConfiguration(String name, String property, int defaultParallelism) {
+
+        return new OrgHierarchyLevelExecutor(name, getConfiguredParallelism(property, defaultParallelism));
+    }
+
+    /**
+     * Get the maximum number of items of a level processed at the same time.
+     *
+     * @return Degree of parallelism.
+     */
+    public int getParallelism() {
+
+        return parallelism;
+    }
+
+    /**
+     * Process every item of the given levels with the given action and wait until all the items are processed.
+     * The action is responsible for handling its own failures. An unexpected failure of an item is logged and does
+     * not stop the processing of the remaining items.
+     *
+     * @param levels Items grouped by their level in the hierarchy, starting from the top most level.
+     * @param action Action which processes a single item.
+     * @param <T>    Type of the items.
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the items.
+     */
+    public <T> void executeByLevel(List<List<T>> levels, Consumer<T> action) throws InterruptedException {
+
+        long startTime = System.currentTimeMillis();
+        int itemCount = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            List<T> items = levels.get(level);
+            long levelStartTime = System.currentTimeMillis();
+            if (threadPoolExecutor == null || items.size() == 1 || WORKER_THREAD.get()) {
+                processSequentially(items, action);
+            } else {
+                processConcurrently(items, action);
+            }
+            itemCount += items.size();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("%s processed %d item(s) of the hierarchy level %d in %d ms.", name,
+                        items.size(), level, System.currentTimeMillis() - levelStartTime));
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("%s processed %d item(s) of %d hierarchy level(s) in %d ms with the " +
+                    "parallelism of %d.", name, itemCount, levels.size(), System.currentTimeMillis() - startTime,
+                    parallelism));
+        }
+    }
+
+    /**
+     * Shut down the executor. Items which are already submitted are processed, but new items are rejected.
+     */
+    public void shutdown() {
+
+        if (threadPoolExecutor != null) {
+            threadPoolExecutor.shutdown();
+        }
+    }
+
+    private <T> void processSequentially(List<T> items, Consumer<T> action) {
+
+        for (T item : items) {
+            try {
+                action.accept(item);
+            } catch (RuntimeException e) {
+                LOG.error("Unexpected error occurred while processing an item in " + name + ".", e);
+            }
+        }
+    }
+
+    private <T> void processConcurrently(List<T> items, Consumer<T> action) throws InterruptedException {
+
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                futures.add(threadPoolExecutor.submit(() -> processOnWorker(item, action)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    LOG.error("Unexpected error occurred while processing an item in " + name + ".", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    private static <T> void processOnWorker(T item, Consumer<T> action) {
+
+        WORKER_THREAD.set(Boolean.TRUE);
+        try {
+            action.accept(item);
+        } finally {
+            WORKER_THREAD.remove();
+        }
+    }
+
+    private static int getConfiguredParallelism(String property, int defaultParallelism) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultParallelism;
+        }
+        try {
+            int configuredValue = Integer.parseInt(value.trim());
+            if (configuredValue > 0) {
+                return configuredValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        LOG.warn("Invalid value: " + value + " configured for the property: " + property +
+                ". Using the default value: " + defaultParallelism);
+        return defaultParallelism;
+    }
+
+    /**
+     * Thread factory which names the worker threads, so that they can be identified in the thread dumps.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final String threadNamePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        WorkerThreadFactory(String threadNamePrefix) {
+
+            this.threadNamePrefix = threadNamePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -56,6 +56,7 @@ import org.wso2.carbon.identity.organization.management.application.model.Shared
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
 import org.wso2.carbon.identity.organization.management.application.model.operation.GeneralApplicationShareOperation;
 import org.wso2.carbon.identity.organization.management.application.model.operation.SelectiveShareApplicationOperation;
+import org.wso2.carbon.identity.organization.management.application.util.OrgHierarchyLevelExecutor;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
@@ -172,7 +173,7 @@ public class OrgApplicationManagerImplTest {
         OrgApplicationMgtDataHolder.getInstance().setApplicationManagementService(applicationManagementService);
         OrgApplicationMgtDataHolder.getInstance().setIdpManager(idpManager);
 
-        orgApplicationManager = new OrgApplicationManagerImpl();
+        orgApplicationManager = createOrgApplicationManager();
     }
 
     @DataProvider(name = "parentAppIdRetrievalTestData")
@@ -545,7 +546,7 @@ public class OrgApplicationManagerImplTest {
             when(orgApplicationMgtDAO.getSharedApplications(anyString(), anyString()))
                     .thenReturn(Collections.emptyList());
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
 
             String mainOrgId = "main-org-id";
             String mainAppId = "main-app-id";
@@ -626,7 +627,7 @@ public class OrgApplicationManagerImplTest {
             when(orgApplicationMgtDAO.getSharedApplications(anyString(), anyString()))
                     .thenReturn(Collections.emptyList());
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
 
             // Setup hierarchy: Main -> Child1 -> GrandChild1, Main -> Child2.
             String mainOrgId = "main-org-id";
@@ -717,7 +718,7 @@ public class OrgApplicationManagerImplTest {
             when(orgApplicationMgtDAO.getSharedApplications(anyString(), anyString()))
                     .thenReturn(Collections.emptyList());
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
 
             String mainOrgId = "main-org-id";
             String mainAppId = "main-app-id";
@@ -809,7 +810,7 @@ public class OrgApplicationManagerImplTest {
             when(orgApplicationMgtDAO.getSharedApplications(anyString(), anyString()))
                     .thenReturn(Collections.emptyList());
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
 
             String mainOrgId = "main-org-id";
             String mainAppId = "main-app-id";
@@ -1024,7 +1025,7 @@ public class OrgApplicationManagerImplTest {
             when(orgApplicationMgtDAO.getSharedApplications(anyString(), anyString()))
                     .thenReturn(Collections.emptyList());
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
             when(organizationManager.resolveTenantDomain(mainOrgId)).thenReturn("main-tenant-domain");
             ServiceProvider mainApplication = createMockServiceProvider("main-app", false);
             when(applicationManagementService.getApplicationByResourceId(mainAppId, "main-tenant-domain"))
@@ -1225,7 +1226,7 @@ public class OrgApplicationManagerImplTest {
             when(orgApplicationMgtDAO.getSharedApplications(anyString(), anyString()))
                     .thenReturn(Collections.emptyList());
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
 
             when(organizationManager.resolveTenantDomain(mainOrgId)).thenReturn("main-tenant-domain");
             ServiceProvider mainApplication = createMockServiceProvider("main-app", false);
@@ -1534,7 +1535,7 @@ public class OrgApplicationManagerImplTest {
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
                     Collections.singletonList(shareOperation));
 
@@ -1624,7 +1625,7 @@ public class OrgApplicationManagerImplTest {
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
                     Collections.singletonList(shareOperation));
 
@@ -1706,7 +1707,7 @@ public class OrgApplicationManagerImplTest {
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
 
-            OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
+            OrgApplicationManager testOrgApplicationManager = createOrgApplicationManager();
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
                     Collections.singletonList(shareOperation));
 
@@ -1723,6 +1724,12 @@ public class OrgApplicationManagerImplTest {
     // Helper Methods for Test Setup
     // ========================================
 
+    private OrgApplicationManagerImpl createOrgApplicationManager() {
+
+        // Share on the calling thread, so that the static mocks of the test apply to the sharing tasks.
+        return new OrgApplicationManagerImpl(new OrgHierarchyLevelExecutor("org-app-sharing-test", 1));
+    }
+
     private ServiceProvider createMockServiceProvider(String appName, boolean isFragmentApp) {
 
         ServiceProvider serviceProvider = mock(ServiceProvider.class);
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.dao.impl;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationCache;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationCacheKey;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCache;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link CacheBackedOrgApplicationMgtDAO}.
+ */
+public class CacheBackedOrgApplicationMgtDAOTest {
+
+    private static final String MAIN_APP_ID = "c3a1e3f2-61a5-4a4b-9b1b-1d5d5b6e8f01";
+    private static final String OWNER_ORG_ID = "72b81cba-51c7-4dc1-91be-b267e177c17a";
+    private static final String SHARED_APP_ID_1 = "d8e1c3a4-5f6b-4c7d-8e9f-0a1b2c3d4e51";
+    private static final String SHARED_APP_ID_2 = "d8e1c3a4-5f6b-4c7d-8e9f-0a1b2c3d4e52";
+    private static final String SHARED_ORG_ID_1 = "30b701c6-e309-4241-b047-0c299c45d1a0";
+    private static final String SHARED_ORG_ID_2 = "93d996f9-a5ba-4275-a52b-adaad9eba869";
+    private static final String UN_SHARED_ORG_ID = "89d996f9-a5ba-4275-a52b-adaad9eba869";
+
+    private MockedStatic<MainApplicationCache> mockedMainApplicationCache;
+    private MockedStatic<SharedApplicationCache> mockedSharedApplicationCache;
+    private MainApplicationCache mainApplicationCache;
+    private SharedApplicationCache sharedApplicationCache;
+    private OrgApplicationMgtDAO orgApplicationMgtDAO;
+    private CacheBackedOrgApplicationMgtDAO cacheBackedOrgApplicationMgtDAO;
+
+    @BeforeMethod
+    public void setUp() {
+
+        mainApplicationCache = mock(MainApplicationCache.class);
+        sharedApplicationCache = mock(SharedApplicationCache.class);
+        mockedMainApplicationCache = mockStatic(MainApplicationCache.class);
+        mockedMainApplicationCache.when(MainApplicationCache::getInstance).thenReturn(mainApplicationCache);
+        mockedSharedApplicationCache = mockStatic(SharedApplicationCache.class);
+        mockedSharedApplicationCache.when(SharedApplicationCache::getInstance).thenReturn(sharedApplicationCache);
+        orgApplicationMgtDAO = mock(OrgApplicationMgtDAO.class);
+        cacheBackedOrgApplicationMgtDAO = new CacheBackedOrgApplicationMgtDAO(orgApplicationMgtDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedMainApplicationCache.close();
+        mockedSharedApplicationCache.close();
+    }
+
+    @Test
+    public void testGetMainApplicationFromCache() throws Exception {
+
+        when(mainApplicationCache.getMainApplicationFromCache(
+                new MainApplicationCacheKey(SHARED_APP_ID_1, SHARED_ORG_ID_1)))
+                .thenReturn(new MainApplicationCacheEntry(new MainApplicationDO(OWNER_ORG_ID, MAIN_APP_ID)));
+
+        Optional<MainApplicationDO> mainApplication =
+                cacheBackedOrgApplicationMgtDAO.getMainApplication(SHARED_APP_ID_1, SHARED_ORG_ID_1);
+
+        assertTrue(mainApplication.isPresent());
+        assertEquals(mainApplication.get().getMainApplicationId(), MAIN_APP_ID);
+        assertEquals(mainApplication.get().getOrganizationId(), OWNER_ORG_ID);
+        verify(orgApplicationMgtDAO, never()).getMainApplication(anyString(), anyString());
+    }
+
+    @Test
+    public void testGetMainApplicationCachesAbsentLink() throws Exception {
+
+        when(orgApplicationMgtDAO.getMainApplication(SHARED_APP_ID_1, SHARED_ORG_ID_1)).thenReturn(Optional.empty());
+
+        Optional<MainApplicationDO> mainApplication =
+                cacheBackedOrgApplicationMgtDAO.getMainApplication(SHARED_APP_ID_1, SHARED_ORG_ID_1);
+
+        assertFalse(mainApplication.isPresent());
+        verify(mainApplicationCache).addMainApplicationToCache(
+                eq(new MainApplicationCacheKey(SHARED_APP_ID_1, SHARED_ORG_ID_1)),
+                any(MainApplicationCacheEntry.class));
+    }
+
+    @Test
+    public void testGetSharedApplicationsFetchesOnlyUncachedOrganizations() throws Exception {
+
+        when(sharedApplicationCache.getSharedApplicationFromCache(
+                new SharedApplicationCacheKey(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID_1)))
+                .thenReturn(new SharedApplicationCacheEntry(SHARED_APP_ID_1));
+        when(orgApplicationMgtDAO.getSharedApplications(MAIN_APP_ID, OWNER_ORG_ID,
+                Arrays.asList(SHARED_ORG_ID_2, UN_SHARED_ORG_ID)))
+                .thenReturn(Collections.singletonList(new SharedApplicationDO(SHARED_ORG_ID_2, SHARED_APP_ID_2)));
+
+        List<SharedApplicationDO> sharedApplications = cacheBackedOrgApplicationMgtDAO.getSharedApplications(
+                MAIN_APP_ID, OWNER_ORG_ID, Arrays.asList(SHARED_ORG_ID_1, SHARED_ORG_ID_2, UN_SHARED_ORG_ID));
+
+        assertEquals(sharedApplications.size(), 2);
+        assertEquals(sharedApplications.get(0).getFragmentApplicationId(), SHARED_APP_ID_1);
+        assertEquals(sharedApplications.get(1).getFragmentApplicationId(), SHARED_APP_ID_2);
+        verify(sharedApplicationCache).addSharedApplicationToCache(
+                eq(new SharedApplicationCacheKey(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID_2)),
+                any(SharedApplicationCacheEntry.class));
+        // The organization without a shared application is cached as well.
+        verify(sharedApplicationCache).addSharedApplicationToCache(
+                eq(new SharedApplicationCacheKey(MAIN_APP_ID, OWNER_ORG_ID, UN_SHARED_ORG_ID)),
+                any(SharedApplicationCacheEntry.class));
+    }
+
+    @Test
+    public void testAddSharedApplicationClearsCachedLink() throws Exception {
+
+        cacheBackedOrgApplicationMgtDAO.addSharedApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_APP_ID_1,
+                SHARED_ORG_ID_1, false);
+
+        verify(orgApplicationMgtDAO).addSharedApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_APP_ID_1,
+                SHARED_ORG_ID_1, false);
+        verify(mainApplicationCache).clearMainApplicationFromCache(
+                new MainApplicationCacheKey(SHARED_APP_ID_1, SHARED_ORG_ID_1));
+        verify(sharedApplicationCache).clearSharedApplicationFromCache(
+                new SharedApplicationCacheKey(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID_1));
+    }
+}
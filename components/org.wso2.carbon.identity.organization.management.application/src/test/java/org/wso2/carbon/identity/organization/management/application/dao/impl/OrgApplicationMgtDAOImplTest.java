@@ -60,6 +60,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -70,6 +71,7 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertThrows;
 import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.DESC;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SHARED_ORG_IDS_IN_CLAUSE_CHUNK_SIZE;
 import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
 
@@ -233,6 +235,37 @@ public class OrgApplicationMgtDAOImplTest {
         }
     }
 
+    @Test(dependsOnMethods = {"testGetSharedApplications"})
+    public void testGetSharedApplicationsInChunks() throws Exception {
+
+        // The shared organizations fall into different chunks of the IN clause.
+        List<String> sharedOrgIds = new ArrayList<>();
+        sharedOrgIds.add(SHARED_ORG_ID_1);
+        for (int i = 0; i < SHARED_ORG_IDS_IN_CLAUSE_CHUNK_SIZE; i++) {
+            sharedOrgIds.add(UUID.randomUUID().toString());
+        }
+        sharedOrgIds.add(SHARED_ORG_ID_2);
+
+        try (MockedStatic<Utils> mockUtil = mockStatic(Utils.class)) {
+
+            mockUtil.when(Utils::isOracleDB).thenReturn(false);
+            mockUtil.when(Utils::isMSSqlDB).thenReturn(false);
+
+            String rootAppUUID = applicationDAO.getApplication(SAMPLE_APP_4, SUPER_TENANT_DOMAIN_NAME)
+                    .getApplicationResourceId();
+            List<SharedApplicationDO> sharedApplications = orgApplicationMgtDAO.getSharedApplications(
+                    ROOT_ORG_ID, rootAppUUID, sharedOrgIds, Collections.emptyList(), DESC, 0);
+            Assert.assertEquals(sharedApplications.size(), 2);
+            Assert.assertTrue(sharedApplications.get(0).getAppId() > sharedApplications.get(1).getAppId());
+
+            // The merged results of the chunks are cut to the limit in the requested order.
+            List<SharedApplicationDO> limitedSharedApplications = orgApplicationMgtDAO.getSharedApplications(
+                    ROOT_ORG_ID, rootAppUUID, sharedOrgIds, Collections.emptyList(), DESC, 1);
+            Assert.assertEquals(limitedSharedApplications.size(), 1);
+            Assert.assertEquals(limitedSharedApplications.get(0).getAppId(), sharedApplications.get(0).getAppId());
+        }
+    }
+
     @Test(description = "Test the correct discoverable apps list for logged in user",
             dependsOnMethods = {"testGetFilteredSharedApplications"})
     public void testDiscoverableAppsList()
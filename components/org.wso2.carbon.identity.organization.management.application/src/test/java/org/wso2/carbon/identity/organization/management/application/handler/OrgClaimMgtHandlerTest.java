@@ -28,12 +28,20 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.application.cache.InheritableClaimMetadataCache;
+import org.wso2.carbon.identity.organization.management.application.cache.InheritableClaimMetadataCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.InheritableClaimMetadataCacheKey;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.util.OrgHierarchyLevelExecutor;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
@@ -51,13 +59,22 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.POST_ADD_CLAIM_DIALECT;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM;
 import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.EventProperty.CLAIM_DIALECT_URI;
 import static org.wso2.carbon.identity.event.IdentityEventConstants.EventProperty.LOCAL_CLAIM_PROPERTIES;
 import static org.wso2.carbon.identity.event.IdentityEventConstants.EventProperty.LOCAL_CLAIM_URI;
 import static org.wso2.carbon.identity.event.IdentityEventConstants.EventProperty.MAPPED_ATTRIBUTES;
@@ -83,9 +100,16 @@ public class OrgClaimMgtHandlerTest {
     @Mock
     private OrgApplicationMgtDataHolder orgApplicationMgtDataHolder;
 
+    @Mock
+    private InheritableClaimMetadataCache inheritableClaimMetadataCache;
+
+    @Mock
+    private ExecutorService propagationExecutorService;
+
     private MockedStatic<OrgApplicationMgtDataHolder> mockedOrgApplicationMgtDataHolder;
     private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
     private MockedStatic<Utils> mockedUtils;
+    private MockedStatic<InheritableClaimMetadataCache> mockedInheritableClaimMetadataCache;
 
     private OrgClaimMgtHandler orgClaimMgtHandler;
 
@@ -95,6 +119,9 @@ public class OrgClaimMgtHandlerTest {
     private static final int TEST_TENANT_ID = 2;
     private static final String TEST_ORG_ID = "org123";
     private static final String TEST_CHILD_ORG_ID = "child123";
+    private static final String TEST_SECOND_CHILD_ORG_ID = "child456";
+    private static final String TEST_SECOND_CHILD_ORG_TENANT_DOMAIN = "child2.com";
+    private static final String TEST_CLAIM_DIALECT_URI = "http://test.com/claims";
     private static final String TEST_PRIMARY_USER_STORE = "PRIMARY";
     private static final String TEST_SECONDARY_USER_STORE = "SECONDARY";
     private static final String TEST_LOCAL_CLAIM_URI = "http://wso2.org/claims/test";
@@ -110,11 +137,20 @@ public class OrgClaimMgtHandlerTest {
     public void setUp() throws Exception {
 
         MockitoAnnotations.openMocks(this);
-        orgClaimMgtHandler = new OrgClaimMgtHandler();
+        // The propagations are run on the calling thread, where the static mocks are registered.
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(propagationExecutorService).execute(any(Runnable.class));
+        orgClaimMgtHandler = new OrgClaimMgtHandler(propagationExecutorService,
+                new OrgHierarchyLevelExecutor("org-claim-propagation-test", 1));
 
         mockedOrgApplicationMgtDataHolder = mockStatic(OrgApplicationMgtDataHolder.class);
         mockedIdentityTenantUtil = mockStatic(IdentityTenantUtil.class);
         mockedUtils = mockStatic(Utils.class);
+        mockedInheritableClaimMetadataCache = mockStatic(InheritableClaimMetadataCache.class);
+        mockedInheritableClaimMetadataCache.when(InheritableClaimMetadataCache::getInstance)
+                .thenReturn(inheritableClaimMetadataCache);
 
         mockedOrgApplicationMgtDataHolder.when(OrgApplicationMgtDataHolder::getInstance)
                 .thenReturn(orgApplicationMgtDataHolder);
@@ -141,6 +177,21 @@ public class OrgClaimMgtHandlerTest {
         mockedOrgApplicationMgtDataHolder.close();
         mockedIdentityTenantUtil.close();
         mockedUtils.close();
+        mockedInheritableClaimMetadataCache.close();
+    }
+
+    /**
+     * Tests that the claim events are accepted without a subscription in the identity event configuration.
+     */
+    @Test
+    public void testCanHandleClaimEvents() {
+
+        Assert.assertTrue(orgClaimMgtHandler.canHandle(
+                new IdentityEventMessageContext(new Event(POST_UPDATE_LOCAL_CLAIM, new HashMap<>()))));
+        Assert.assertTrue(orgClaimMgtHandler.canHandle(
+                new IdentityEventMessageContext(new Event(POST_ADD_CLAIM_DIALECT, new HashMap<>()))));
+        Assert.assertFalse(orgClaimMgtHandler.canHandle(
+                new IdentityEventMessageContext(new Event(Constants.EVENT_POST_DELETE_ORGANIZATION, new HashMap<>()))));
     }
 
     /**
@@ -313,6 +364,149 @@ public class OrgClaimMgtHandlerTest {
         }
     }
 
+    /**
+     * Tests that the cached inheritable claim metadata of the parent organization is applied to a created organization
+     * without loading the claims of the parent organization.
+     */
+    @Test
+    public void testClaimInheritanceFromCachedMetadata() throws Exception {
+
+        try (MockedStatic<OrganizationManagementUtil> organizationManagementUtil
+                     = mockStatic(OrganizationManagementUtil.class)) {
+
+            Organization organization = new Organization();
+            organization.setParent(new ParentOrganizationDO());
+            organization.setId(TEST_ORG_ID);
+            when(OrganizationManagementUtil.isOrganization(TEST_ORG_ID)).thenReturn(true);
+            when(organizationManager.resolveTenantDomain(null)).thenReturn(TEST_TENANT_DOMAIN);
+
+            HashMap<String, HashMap<String, String>> inheritableClaimProperties = new HashMap<>();
+            HashMap<String, String> parentClaimProperties = new HashMap<>(getLocalClaimProperties(null));
+            parentClaimProperties.put(ClaimConstants.DISPLAY_NAME_PROPERTY, TEST_UPDATED_LOCAL_CLAIM_DISPLAY_NAME);
+            inheritableClaimProperties.put(TEST_LOCAL_CLAIM_URI, parentClaimProperties);
+            HashMap<String, String> primaryAttributeNames = new HashMap<>();
+            primaryAttributeNames.put(TEST_LOCAL_CLAIM_URI, TEST_PRIMARY_ATTRIBUTE_MAPPING);
+            when(inheritableClaimMetadataCache.getInheritableClaimMetadataFromCache(
+                    new InheritableClaimMetadataCacheKey(TEST_TENANT_DOMAIN))).thenReturn(
+                    new InheritableClaimMetadataCacheEntry(inheritableClaimProperties, primaryAttributeNames,
+                            new HashMap<>()));
+
+            LocalClaim defaultCreatedOrgLocalClaim
+                    = createLocalClaim(TEST_LOCAL_CLAIM_URI, TEST_PRIMARY_ATTRIBUTE_MAPPING, null, null);
+            when(claimMetadataManagementService.getLocalClaims(TEST_ORG_ID))
+                    .thenReturn(new ArrayList<>(Collections.singletonList(defaultCreatedOrgLocalClaim)));
+
+            Map<String, Object> eventProperties = new HashMap<>();
+            eventProperties.put(Constants.EVENT_PROP_ORGANIZATION, organization);
+            orgClaimMgtHandler.handleEvent(new Event(Constants.EVENT_POST_ADD_ORGANIZATION, eventProperties));
+
+            ArgumentCaptor<LocalClaim> localClaimCaptor = ArgumentCaptor.forClass(LocalClaim.class);
+            verify(claimMetadataManagementService, times(1))
+                    .updateLocalClaim(localClaimCaptor.capture(), eq(TEST_ORG_ID));
+            Assert.assertEquals(localClaimCaptor.getValue().getClaimProperties()
+                    .get(ClaimConstants.DISPLAY_NAME_PROPERTY), TEST_UPDATED_LOCAL_CLAIM_DISPLAY_NAME);
+            verify(claimMetadataManagementService, never()).getLocalClaims(TEST_TENANT_DOMAIN);
+        }
+    }
+
+    /**
+     * Tests that adding a local claim clears the cached inheritable claim metadata of the tenant.
+     */
+    @Test
+    public void testHandleEventForAddLocalClaimClearsInheritableClaimMetadata() throws Exception {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(TENANT_ID, TEST_TENANT_ID);
+        eventProperties.put(LOCAL_CLAIM_URI, TEST_LOCAL_CLAIM_URI);
+
+        orgClaimMgtHandler.handleEvent(new Event(POST_ADD_LOCAL_CLAIM, eventProperties));
+
+        verify(inheritableClaimMetadataCache).clearInheritableClaimMetadataFromCache(
+                new InheritableClaimMetadataCacheKey(TEST_TENANT_DOMAIN));
+    }
+
+    /**
+     * Tests that a failed propagation of a claim dialect is retried only for the failed organization.
+     */
+    @Test
+    public void testHandleEventForAddClaimDialectRetriesFailedOrganization() throws Exception {
+
+        mockChildOrganizationsForClaimDialect();
+        doThrow(new ClaimMetadataException("Transient error.")).doNothing().when(claimMetadataManagementService)
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_CHILD_ORD_TENANT_DOMAIN));
+
+        orgClaimMgtHandler.handleEvent(getAddClaimDialectEvent());
+
+        // The propagation is submitted instead of being run by the thread which fired the event.
+        verify(propagationExecutorService).execute(any(Runnable.class));
+        verify(claimMetadataManagementService, times(2))
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_CHILD_ORD_TENANT_DOMAIN));
+        verify(claimMetadataManagementService, times(1))
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_SECOND_CHILD_ORG_TENANT_DOMAIN));
+    }
+
+    /**
+     * Tests that an organization is given up once its attempts are exhausted, after the remaining organizations are
+     * updated, without failing the event.
+     */
+    @Test
+    public void testHandleEventForAddClaimDialectGivesUpAfterMaxAttempts() throws Exception {
+
+        mockChildOrganizationsForClaimDialect();
+        doThrow(new ClaimMetadataException("Persistent error.")).when(claimMetadataManagementService)
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_CHILD_ORD_TENANT_DOMAIN));
+
+        orgClaimMgtHandler.handleEvent(getAddClaimDialectEvent());
+
+        verify(claimMetadataManagementService, times(3))
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_CHILD_ORD_TENANT_DOMAIN));
+        verify(claimMetadataManagementService, times(1))
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_SECOND_CHILD_ORG_TENANT_DOMAIN));
+    }
+
+    /**
+     * Tests that a client error of an organization is not retried.
+     */
+    @Test
+    public void testHandleEventForAddClaimDialectDoesNotRetryClientError() throws Exception {
+
+        mockChildOrganizationsForClaimDialect();
+        doThrow(new ClaimMetadataClientException("60001", "Invalid claim dialect."))
+                .when(claimMetadataManagementService)
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_CHILD_ORD_TENANT_DOMAIN));
+
+        orgClaimMgtHandler.handleEvent(getAddClaimDialectEvent());
+
+        verify(claimMetadataManagementService, times(1))
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_CHILD_ORD_TENANT_DOMAIN));
+        verify(claimMetadataManagementService, times(1))
+                .addClaimDialect(any(ClaimDialect.class), eq(TEST_SECOND_CHILD_ORG_TENANT_DOMAIN));
+    }
+
+    private void mockChildOrganizationsForClaimDialect() throws Exception {
+
+        when(organizationManager.resolveOrganizationId(TEST_TENANT_DOMAIN)).thenReturn(TEST_ORG_ID);
+        BasicOrganization childOrg = new BasicOrganization();
+        childOrg.setId(TEST_CHILD_ORG_ID);
+        BasicOrganization secondChildOrg = new BasicOrganization();
+        secondChildOrg.setId(TEST_SECOND_CHILD_ORG_ID);
+        List<BasicOrganization> childOrgs = new ArrayList<>();
+        childOrgs.add(childOrg);
+        childOrgs.add(secondChildOrg);
+        when(organizationManager.getChildOrganizations(TEST_ORG_ID, true)).thenReturn(childOrgs);
+        when(organizationManager.resolveTenantDomain(TEST_CHILD_ORG_ID)).thenReturn(TEST_CHILD_ORD_TENANT_DOMAIN);
+        when(organizationManager.resolveTenantDomain(TEST_SECOND_CHILD_ORG_ID))
+                .thenReturn(TEST_SECOND_CHILD_ORG_TENANT_DOMAIN);
+    }
+
+    private Event getAddClaimDialectEvent() {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(TENANT_ID, TEST_TENANT_ID);
+        eventProperties.put(CLAIM_DIALECT_URI, TEST_CLAIM_DIALECT_URI);
+        return new Event(POST_ADD_CLAIM_DIALECT, eventProperties);
+    }
+
     private LocalClaim createLocalClaim(String claimURI, String attributeMapping,
                                         AttributeMapping secondaryUserStoreMapping, String excludedUserStores) {
 
@@ -45,7 +45,11 @@ import org.wso2.carbon.identity.application.common.model.script.AuthenticationSc
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationSnapshotCache;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationSnapshotCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.MainApplicationSnapshotCacheKey;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.dao.impl.CacheBackedOrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
@@ -65,8 +69,11 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertFalse;
@@ -80,6 +87,7 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORGANIZATION_IDENTIFIER_HANDLER;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORGANIZATION_LOGIN_AUTHENTICATOR;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.IS_APP_SHARED;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
 
 /**
  * Test class for FragmentApplicationMgtListener.
@@ -102,6 +110,8 @@ public class FragmentApplicationMgtListenerTest {
     private FragmentApplicationMgtListener fragmentApplicationMgtListener;
 
     private MockedStatic<IdentityTenantUtil> mockedUtilities;
+    private MockedStatic<MainApplicationSnapshotCache> mockedMainApplicationSnapshotCache;
+    private MainApplicationSnapshotCache mainApplicationSnapshotCache;
 
     private ServiceProvider serviceProvider;
     private static final String primaryTenantDomain = "primaryTenantDomain";
@@ -126,6 +136,10 @@ public class FragmentApplicationMgtListenerTest {
         OrgApplicationMgtDataHolder.getInstance().setApplicationManagementService(applicationManagementService);
         mockedUtilities = Mockito.mockStatic(IdentityTenantUtil.class, Mockito.withSettings()
                 .defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        mainApplicationSnapshotCache = mock(MainApplicationSnapshotCache.class);
+        mockedMainApplicationSnapshotCache = mockStatic(MainApplicationSnapshotCache.class);
+        mockedMainApplicationSnapshotCache.when(MainApplicationSnapshotCache::getInstance)
+                .thenReturn(mainApplicationSnapshotCache);
     }
 
     @DataProvider(name = "subOrganizationMetaData")
@@ -333,6 +347,41 @@ public class FragmentApplicationMgtListenerTest {
         }
     }
 
+    @Test
+    public void testSharedApplicationLinkClearedAfterFragmentApplicationDeletion() throws Exception {
+
+        Map<String, Object> threadLocalProperties = new HashMap<>();
+        threadLocalProperties.put(DELETE_MAIN_APPLICATION, true);
+        IdentityUtil.threadLocalProperties.set(threadLocalProperties);
+
+        String mainApplicationId = "main-application-id";
+        when(serviceProvider.getSpProperties()).thenReturn(new ServiceProviderProperty[]{
+                mockServiceProviderProperty(IS_FRAGMENT_APP, TRUE)});
+        when(applicationManagementService.getServiceProvider(applicationName, tenantDomain))
+                .thenReturn(serviceProvider);
+        when(serviceProvider.getApplicationID()).thenReturn(1);
+        when(serviceProvider.getApplicationResourceId()).thenReturn(applicationResourceID);
+        when(organizationManager.resolveOrganizationId(tenantDomain)).thenReturn(organizationID);
+        when(orgApplicationMgtDAO.getSharedApplication(1, organizationID))
+                .thenReturn(Optional.of(sharedApplicationDO));
+        when(orgApplicationMgtDAO.getMainApplication(applicationResourceID, organizationID))
+                .thenReturn(Optional.of(new MainApplicationDO(SUPER_ORG_ID, mainApplicationId)));
+
+        try (MockedStatic<CacheBackedOrgApplicationMgtDAO> mockedCacheBackedDAO =
+                     mockStatic(CacheBackedOrgApplicationMgtDAO.class)) {
+            assertTrue(fragmentApplicationMgtListener.doPreDeleteApplication(applicationName, tenantDomain,
+                    userName));
+            assertTrue(fragmentApplicationMgtListener.doPostDeleteApplication(serviceProvider, tenantDomain,
+                    userName));
+
+            // The link is cleared before the delete, and again after the delete.
+            mockedCacheBackedDAO.verify(() -> CacheBackedOrgApplicationMgtDAO.clearSharedApplicationLink(
+                    mainApplicationId, SUPER_ORG_ID, applicationResourceID, organizationID), times(2));
+        } finally {
+            IdentityUtil.threadLocalProperties.remove();
+        }
+    }
+
     private void mockClaimConfig(ServiceProvider mainApplication) {
 
         ClaimConfig claimConfig = mock(ClaimConfig.class);
@@ -447,6 +496,76 @@ public class FragmentApplicationMgtListenerTest {
         }
     }
 
+    @Test
+    public void testMainApplicationSnapshotCachedOnMiss() throws Exception {
+
+        ServiceProvider sharedSP = new ServiceProvider();
+        sharedSP.setApplicationResourceId(applicationResourceID);
+        sharedSP.setLocalAndOutBoundAuthenticationConfig(new LocalAndOutboundAuthenticationConfig());
+        sharedSP.setSpProperties(new ServiceProviderProperty[]{mockServiceProviderProperty(IS_FRAGMENT_APP, TRUE)});
+
+        ClaimConfig mainClaimConfig = new ClaimConfig();
+        mainClaimConfig.setClaimMappings(new ClaimMapping[]{
+                ClaimMapping.build("http://wso2.org/claims/email", null, null, false)});
+        ServiceProvider mainSp = new ServiceProvider();
+        mainSp.setClaimConfig(mainClaimConfig);
+        mainSp.setEnhancedOrganizationAuthenticationEnabled(true);
+        mainSp.setSpProperties(new ServiceProviderProperty[0]);
+        mainSp.setAccessUrl("https://localhost:5000/main-app");
+
+        when(organizationManager.resolveOrganizationId(tenantDomain)).thenReturn(organizationID);
+        when(orgApplicationMgtDAO.getMainApplication(applicationResourceID, organizationID))
+                .thenReturn(Optional.of(new MainApplicationDO(organizationID, applicationResourceID)));
+        when(organizationManager.resolveTenantDomain(organizationID)).thenReturn(tenantDomain);
+        when(applicationManagementService.getApplicationByResourceId(any(), anyString())).thenReturn(mainSp);
+
+        fragmentApplicationMgtListener.doPostGetServiceProvider(sharedSP, applicationName, tenantDomain);
+
+        verify(mainApplicationSnapshotCache).addSnapshotToCache(
+                eq(new MainApplicationSnapshotCacheKey(applicationResourceID, organizationID)),
+                any(MainApplicationSnapshotCacheEntry.class));
+        assertEquals("https://localhost:5000/main-app", sharedSP.getAccessUrl());
+    }
+
+    @Test
+    public void testMainApplicationSnapshotReusedFromCache() throws Exception {
+
+        ServiceProvider sharedSP = new ServiceProvider();
+        sharedSP.setApplicationResourceId(applicationResourceID);
+        sharedSP.setLocalAndOutBoundAuthenticationConfig(new LocalAndOutboundAuthenticationConfig());
+        sharedSP.setSpProperties(new ServiceProviderProperty[]{mockServiceProviderProperty(IS_FRAGMENT_APP, TRUE)});
+
+        ClaimConfig mainClaimConfig = new ClaimConfig();
+        mainClaimConfig.setAlwaysSendMappedLocalSubjectId(true);
+        ServiceProvider mainSp = new ServiceProvider();
+        mainSp.setClaimConfig(mainClaimConfig);
+        mainSp.setSpProperties(new ServiceProviderProperty[0]);
+        mainSp.setDiscoverable(true);
+        mainSp.setApplicationVersion("v2.0.0");
+        ClaimMapping[] inheritedClaimMappings = new ClaimMapping[]{
+                ClaimMapping.build("http://wso2.org/claims/email", null, null, false)};
+
+        when(organizationManager.resolveOrganizationId(tenantDomain)).thenReturn(organizationID);
+        when(orgApplicationMgtDAO.getMainApplication(applicationResourceID, organizationID))
+                .thenReturn(Optional.of(new MainApplicationDO(organizationID, applicationResourceID)));
+        MainApplicationSnapshotCacheEntry snapshot = new MainApplicationSnapshotCacheEntry(mainSp,
+                inheritedClaimMappings);
+        when(mainApplicationSnapshotCache.getSnapshotFromCache(
+                new MainApplicationSnapshotCacheKey(applicationResourceID, organizationID))).thenReturn(snapshot);
+
+        fragmentApplicationMgtListener.doPostGetServiceProvider(sharedSP, applicationName, tenantDomain);
+
+        // The main application should not be loaded when its snapshot is cached.
+        verify(applicationManagementService, never()).getApplicationByResourceId(any(), anyString());
+        assertEquals(1, sharedSP.getClaimConfig().getClaimMappings().length);
+        // Altering the mappings of the shared application should not alter the cached snapshot.
+        sharedSP.getClaimConfig().getClaimMappings()[0].getLocalClaim().setClaimUri("http://wso2.org/claims/altered");
+        assertEquals("http://wso2.org/claims/email", snapshot.getClaimMappings()[0].getLocalClaim().getClaimUri());
+        assertTrue(sharedSP.getClaimConfig().isAlwaysSendMappedLocalSubjectId());
+        assertTrue(sharedSP.isDiscoverable());
+        assertEquals("v2.0.0", sharedSP.getApplicationVersion());
+    }
+
     @DataProvider(name = "testRoleClaimsNotAddedWhenEnhancedOrgAuthEnabledDataProvider")
     public Object[][] testRoleClaimsNotAddedWhenEnhancedOrgAuthEnabledDataProvider() {
 
@@ -1042,6 +1161,7 @@ public class FragmentApplicationMgtListenerTest {
     public void tearDown() {
 
         mockedUtilities.close();
+        mockedMainApplicationSnapshotCache.close();
     }
 }
 
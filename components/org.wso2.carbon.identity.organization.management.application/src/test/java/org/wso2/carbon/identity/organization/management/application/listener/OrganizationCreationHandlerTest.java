@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.organization.management.application.listener;
 
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
@@ -33,11 +32,19 @@ import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
+import org.wso2.carbon.identity.organization.management.application.util.OrgHierarchyLevelExecutor;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
@@ -54,6 +61,7 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -61,13 +69,21 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.SUPER_TENANT;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORG_CREATION_APP_SHARING_ASYNC;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ROLE_SHARING_MODE;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARE_WITH_ALL_CHILDREN;
 import static org.wso2.carbon.identity.organization.management.ext.Constants.EVENT_PROP_ORGANIZATION;
@@ -87,8 +103,9 @@ public class OrganizationCreationHandlerTest {
     private static final String sharedApplicationResourceID = "shared-app-resource-id";
     private static final String adminUserId = "admin-user-id";
     private static final String USERNAME = "test-user";
+    private static final String secondApplicationResourceID = "second-app-resource-id";
+    private static final String OPERATION_ID = "operation-id";
 
-    @InjectMocks
     private OrganizationCreationHandler organizationCreationHandler;
 
     @Mock
@@ -128,6 +145,9 @@ public class OrganizationCreationHandlerTest {
     public void setUp() throws OrganizationManagementException, UserStoreException {
 
         MockitoAnnotations.openMocks(this);
+        // Provision on the calling thread, so that the static mocks of the test apply to the provisioning tasks.
+        organizationCreationHandler =
+                new OrganizationCreationHandler(new OrgHierarchyLevelExecutor("org-creation-app-sharing-test", 1));
         mockPrivilegedCarbonContext();
         mockRealConfig();
 
@@ -241,6 +261,114 @@ public class OrganizationCreationHandlerTest {
                 anyString(), anyString(), anyString(), any(ApplicationShareRolePolicy.class));
     }
 
+    @Test
+    public void testAllProvisioningFailuresReported() throws Exception {
+
+        mockFailingApplicationProvisioning();
+
+        IdentityEventException exception = expectThrows(IdentityEventException.class,
+                () -> organizationCreationHandler.handleEvent(getPostAddOrganizationEvent()));
+
+        // The first failure is thrown, and the failure of the other application is added to it.
+        Throwable failure = exception.getCause();
+        assertEquals(failure.getClass(), IdentityApplicationManagementException.class);
+        assertEquals(failure.getSuppressed().length, 1);
+        verify(applicationManagementService, times(2)).getApplicationByResourceId(anyString(),
+                eq(parentOrganizationHandle));
+    }
+
+    @Test
+    public void testAsyncProvisioningFailuresRecorded() throws Exception {
+
+        mockFailingApplicationProvisioning();
+        AsyncOperationStatusMgtService asyncOperationStatusMgtService = mock(AsyncOperationStatusMgtService.class);
+        when(asyncOperationStatusMgtService.registerOperationStatus(any(OperationInitDTO.class), anyBoolean()))
+                .thenReturn(OPERATION_ID);
+        OrgApplicationMgtDataHolder.getInstance().setAsyncOperationStatusMgtService(asyncOperationStatusMgtService);
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(ORG_CREATION_APP_SHARING_ASYNC)).thenReturn("true");
+
+            // The organization creation does not wait for the provisioning, nor fail with it.
+            organizationCreationHandler.handleEvent(getPostAddOrganizationEvent());
+
+            verify(asyncOperationStatusMgtService, timeout(10000).times(2))
+                    .registerUnitOperationStatus(any(UnitOperationInitDTO.class));
+            verify(asyncOperationStatusMgtService, timeout(10000))
+                    .updateOperationStatus(OPERATION_ID, OperationStatus.FAILED);
+        } finally {
+            OrgApplicationMgtDataHolder.getInstance().setAsyncOperationStatusMgtService(null);
+        }
+    }
+
+    @Test
+    public void testAsyncProvisioningSkippedApplicationsNotRecordedAsShared() throws Exception {
+
+        when(organization.getId()).thenReturn(organizationID);
+        when(organization.getParent()).thenReturn(parentOrganizationDO);
+        when(parentOrganizationDO.getId()).thenReturn(parentOrganizationID);
+        when(organizationManager.resolveTenantDomain(parentOrganizationID)).thenReturn(parentOrganizationHandle);
+        when(organizationManager.getAncestorOrganizationIds(any()))
+                .thenReturn(Collections.singletonList(SUPER_ORG_ID));
+        when(resourceSharingPolicyHandlerService.getResourceSharingPoliciesByResourceType(
+                Collections.singletonList(SUPER_ORG_ID), ResourceType.APPLICATION.name()))
+                .thenReturn(getResourceSharingPolicies());
+        when(applicationManagementService.getApplicationBasicInfoBySPProperty(SUPER_TENANT, USERNAME,
+                SHARE_WITH_ALL_CHILDREN, "true")).thenReturn(new ApplicationBasicInfo[0]);
+        // The application is not shared with the parent organization.
+        when(orgApplicationMgtDAO.getSharedApplicationResourceId(applicationResourceID, SUPER_ORG_ID,
+                parentOrganizationID)).thenReturn(Optional.empty());
+        AsyncOperationStatusMgtService asyncOperationStatusMgtService = mock(AsyncOperationStatusMgtService.class);
+        when(asyncOperationStatusMgtService.registerOperationStatus(any(OperationInitDTO.class), anyBoolean()))
+                .thenReturn(OPERATION_ID);
+        OrgApplicationMgtDataHolder.getInstance().setAsyncOperationStatusMgtService(asyncOperationStatusMgtService);
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(ORG_CREATION_APP_SHARING_ASYNC)).thenReturn("true");
+
+            organizationCreationHandler.handleEvent(getPostAddOrganizationEvent());
+
+            // The skipped application is neither recorded as shared nor fails the operation.
+            verify(asyncOperationStatusMgtService, timeout(10000))
+                    .updateOperationStatus(OPERATION_ID, OperationStatus.SUCCESS);
+            verify(asyncOperationStatusMgtService, never())
+                    .registerUnitOperationStatus(any(UnitOperationInitDTO.class));
+        } finally {
+            OrgApplicationMgtDataHolder.getInstance().setAsyncOperationStatusMgtService(null);
+        }
+    }
+
+    private void mockFailingApplicationProvisioning() throws Exception {
+
+        when(organization.getId()).thenReturn(organizationID);
+        when(organization.getParent()).thenReturn(parentOrganizationDO);
+        when(parentOrganizationDO.getId()).thenReturn(parentOrganizationID);
+        when(organizationManager.resolveTenantDomain(parentOrganizationID)).thenReturn(parentOrganizationHandle);
+        when(organizationManager.getAncestorOrganizationIds(any()))
+                .thenReturn(Collections.singletonList(parentOrganizationID));
+
+        // The applications of the parent organization fail to be loaded for sharing.
+        ResourceSharingPolicy firstPolicy = getResourceSharingPolicies().get(0);
+        firstPolicy.setInitiatingOrgId(parentOrganizationID);
+        ResourceSharingPolicy secondPolicy = getResourceSharingPolicies().get(0);
+        secondPolicy.setResourceSharingPolicyId(2);
+        secondPolicy.setResourceId(secondApplicationResourceID);
+        secondPolicy.setInitiatingOrgId(parentOrganizationID);
+        when(resourceSharingPolicyHandlerService.getResourceSharingPoliciesByResourceType(
+                Collections.singletonList(parentOrganizationID), ResourceType.APPLICATION.name()))
+                .thenReturn(Arrays.asList(firstPolicy, secondPolicy));
+        when(applicationManagementService.getApplicationByResourceId(anyString(), eq(parentOrganizationHandle)))
+                .thenThrow(new IdentityApplicationManagementException("Error while retrieving the application."));
+    }
+
+    private Event getPostAddOrganizationEvent() {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(EVENT_PROP_ORGANIZATION_ID, organizationID);
+        properties.put(EVENT_PROP_ORGANIZATION, organization);
+        return new Event(Constants.EVENT_POST_ADD_ORGANIZATION, properties);
+    }
+
     private ServiceProvider getApplication(String mode) {
 
         ServiceProviderProperty roleSharingModeProp = new ServiceProviderProperty();
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.util;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link OrgHierarchyLevelExecutor}.
+ */
+public class OrgHierarchyLevelExecutorTest {
+
+    private static final String ORG_A = "org-a";
+    private static final String ORG_B = "org-b";
+    private static final String ORG_A_1 = "org-a-1";
+    private static final String ORG_A_2 = "org-a-2";
+    private static final String ORG_A_1_1 = "org-a-1-1";
+    private static final String ORG_B_1 = "org-b-1";
+    private static final String ORG_B_2 = "org-b-2";
+    private static final String ORG_UNKNOWN = "org-unknown";
+
+    @Test
+    public void testGroupByHierarchyLevel() {
+
+        List<List<String>> levels = OrgApplicationShareProcessor.groupByHierarchyLevel(createOrganizationGraph(),
+                Arrays.asList(ORG_A_1_1, ORG_B, ORG_UNKNOWN, ORG_A_1, ORG_A), orgId -> orgId);
+
+        assertEquals(levels.size(), 4);
+        assertEquals(levels.get(0), Arrays.asList(ORG_B, ORG_A));
+        assertEquals(levels.get(1), Collections.singletonList(ORG_A_1));
+        assertEquals(levels.get(2), Collections.singletonList(ORG_A_1_1));
+        assertEquals(levels.get(3), Collections.singletonList(ORG_UNKNOWN));
+    }
+
+    @DataProvider(name = "parallelismDataProvider")
+    public Object[][] parallelismDataProvider() {
+
+        return new Object[][]{
+                {1},
+                {4}
+        };
+    }
+
+    @Test(dataProvider = "parallelismDataProvider")
+    public void testExecuteByLevelProcessesLevelsInOrder(int parallelism) throws InterruptedException {
+
+        List<List<String>> levels = OrgApplicationShareProcessor.groupByHierarchyLevel(createOrganizationGraph(),
+                Arrays.asList(ORG_A, ORG_B, ORG_A_1, ORG_A_2, ORG_A_1_1), orgId -> orgId);
+        Map<String, Integer> processingOrder = new ConcurrentHashMap<>();
+        AtomicInteger counter = new AtomicInteger();
+        List<String> failingOrgs = Collections.singletonList(ORG_A_2);
+
+        OrgHierarchyLevelExecutor executor = new OrgHierarchyLevelExecutor("test-executor", parallelism);
+        try {
+            executor.executeByLevel(levels, orgId -> {
+                processingOrder.put(orgId, counter.incrementAndGet());
+                if (failingOrgs.contains(orgId)) {
+                    throw new IllegalStateException("Failed to process: " + orgId);
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        // A failure of an organization does not stop the processing of the others.
+        assertEquals(processingOrder.size(), 5);
+        int lastOrderOfPreviousLevel = 0;
+        for (List<String> level : levels) {
+            List<Integer> ordersOfLevel = new ArrayList<>();
+            level.forEach(orgId -> ordersOfLevel.add(processingOrder.get(orgId)));
+            assertTrue(Collections.min(ordersOfLevel) > lastOrderOfPreviousLevel,
+                    "A level was processed before its parent level was completed.");
+            lastOrderOfPreviousLevel = Collections.max(ordersOfLevel);
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void testNestedExecuteByLevelOnWorkerThreads() throws InterruptedException {
+
+        // Both the root organizations have more children than the free workers, when their parents occupy them.
+        OrganizationNode orgA1 = createOrganizationNode(ORG_A_1, Collections.singletonList(
+                createOrganizationNode(ORG_A_1_1, Collections.emptyList())));
+        OrganizationNode orgA = createOrganizationNode(ORG_A, Arrays.asList(orgA1,
+                createOrganizationNode(ORG_A_2, Collections.emptyList())));
+        OrganizationNode orgB = createOrganizationNode(ORG_B, Arrays.asList(
+                createOrganizationNode(ORG_B_1, Collections.emptyList()),
+                createOrganizationNode(ORG_B_2, Collections.emptyList())));
+        List<OrganizationNode> organizationGraph = Arrays.asList(orgA, orgB);
+        Map<String, Integer> processingCount = new ConcurrentHashMap<>();
+
+        OrgHierarchyLevelExecutor executor = new OrgHierarchyLevelExecutor("test-executor", 2);
+        try {
+            // Each organization triggers a nested execution for its children, as a propagated change fires the
+            // event of the organization on the worker thread. The nested executions should not wait for the
+            // workers which are occupied by their parent executions.
+            executor.executeByLevel(Collections.singletonList(organizationGraph),
+                    new NestedExecution(executor, processingCount));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(processingCount.size(), 7);
+        processingCount.values().forEach(count -> assertEquals(count.intValue(), 1));
+    }
+
+    private List<OrganizationNode> createOrganizationGraph() {
+
+        OrganizationNode orgA11 = createOrganizationNode(ORG_A_1_1, Collections.emptyList());
+        OrganizationNode orgA1 = createOrganizationNode(ORG_A_1, Collections.singletonList(orgA11));
+        OrganizationNode orgA2 = createOrganizationNode(ORG_A_2, Collections.emptyList());
+        OrganizationNode orgA = createOrganizationNode(ORG_A, Arrays.asList(orgA1, orgA2));
+        OrganizationNode orgB = createOrganizationNode(ORG_B, Collections.emptyList());
+        return Arrays.asList(orgA, orgB);
+    }
+
+    private OrganizationNode createOrganizationNode(String id, List<OrganizationNode> children) {
+
+        OrganizationNode organizationNode = mock(OrganizationNode.class);
+        when(organizationNode.getId()).thenReturn(id);
+        when(organizationNode.getChildren()).thenReturn(children);
+        return organizationNode;
+    }
+
+    /**
+     * Action which processes an organization and then its children through a nested execution.
+     */
+    private static class NestedExecution implements Consumer<OrganizationNode> {
+
+        private final OrgHierarchyLevelExecutor executor;
+        private final Map<String, Integer> processingCount;
+
+        NestedExecution(OrgHierarchyLevelExecutor executor, Map<String, Integer> processingCount) {
+
+            this.executor = executor;
+            this.processingCount = processingCount;
+        }
+
+        @Override
+        public void accept(OrganizationNode organization) {
+
+            processingCount.merge(organization.getId(), 1, Integer::sum);
+            if (organization.getChildren().isEmpty()) {
+                return;
+            }
+            try {
+                executor.executeByLevel(Collections.singletonList(organization.getChildren()), this);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
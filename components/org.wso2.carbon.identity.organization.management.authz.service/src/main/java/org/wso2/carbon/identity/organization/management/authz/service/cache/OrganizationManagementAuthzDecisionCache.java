@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.organization.management.authz.service.constant.AuthorizationConstants.AUTHZ_DECISION_CACHE_TIME_TO_LIVE;
+import static org.wso2.carbon.identity.organization.management.authz.service.constant.AuthorizationConstants.DEFAULT_AUTHZ_DECISION_CACHE_TIME_TO_LIVE;
+
+/**
+ * Cache for the organization management authorization decisions of the users.
+ * <p>
+ * The decisions are kept in the cache of the tenant of the accessed organization, so that a role, permission or user
+ * change of a tenant clears only the decisions made for that tenant. Since not every change which affects a decision
+ * raises an event, a decision is only used for a short time to live, which is configured in seconds through the
+ * {@code OrganizationManagementAuthzDecisionCache.TimeToLive} property. A non positive value disables the cache.
+ * The number of cached decisions is bounded by the capacity configured for this cache in the identity cache
+ * configuration.
+ */
+public class OrganizationManagementAuthzDecisionCache
+        extends BaseCache<OrganizationManagementAuthzDecisionCacheKey, OrganizationManagementAuthzDecisionCacheEntry> {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationManagementAuthzDecisionCache.class);
+    private static final String CACHE_NAME = "OrganizationManagementAuthzDecisionCache";
+    private static final OrganizationManagementAuthzDecisionCache INSTANCE =
+            new OrganizationManagementAuthzDecisionCache();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile Long timeToLive;
+
+    private OrganizationManagementAuthzDecisionCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the OrganizationManagementAuthzDecisionCache.
+     *
+     * @return OrganizationManagementAuthzDecisionCache instance.
+     */
+    public static OrganizationManagementAuthzDecisionCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Check whether the authorization decisions should be cached.
+     *
+     * @return True if the configured time to live of a decision is positive.
+     */
+    public boolean isDecisionCachingEnabled() {
+
+        return getTimeToLive() > 0;
+    }
+
+    /**
+     * Add the authorization decision of the given user, organization and permission to the cache.
+     *
+     * @param key        Cache key.
+     * @param authorized Whether the user is authorized for the permission.
+     * @param tenantId   Tenant ID of the accessed organization.
+     */
+    public void addDecisionToCache(OrganizationManagementAuthzDecisionCacheKey key, boolean authorized,
+                                   int tenantId) {
+
+        long timeToLive = getTimeToLive();
+        if (timeToLive <= 0) {
+            return;
+        }
+        addToCache(key, new OrganizationManagementAuthzDecisionCacheEntry(authorized,
+                System.currentTimeMillis() + timeToLive), tenantId);
+    }
+
+    /**
+     * Get the cached authorization decision of the given user, organization and permission. An expired decision is
+     * removed from the cache and treated as a cache miss.
+     *
+     * @param key      Cache key.
+     * @param tenantId Tenant ID of the accessed organization.
+     * @return The cache entry, or null if a valid decision is not cached.
+     */
+    public OrganizationManagementAuthzDecisionCacheEntry getDecisionFromCache(
+            OrganizationManagementAuthzDecisionCacheKey key, int tenantId) {
+
+        OrganizationManagementAuthzDecisionCacheEntry entry = getValueFromCache(key, tenantId);
+        if (entry != null && entry.getExpiryTime() < System.currentTimeMillis()) {
+            clearCacheEntry(key, tenantId);
+            entry = null;
+        }
+        if (entry == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Authorization decision cache " + (entry == null ? "miss" : "hit") + " for the permission: " +
+                    key.getPermission() + " in the organization: " + key.getOrganizationId() + ". Hits: " +
+                    hitCount.sum() + ", misses: " + missCount.sum());
+        }
+        return entry;
+    }
+
+    /**
+     * Clear all the cached authorization decisions made for the organization of the given tenant.
+     *
+     * @param tenantId Tenant ID of the accessed organization.
+     */
+    public void clearDecisionsOfTenant(int tenantId) {
+
+        clear(tenantId);
+    }
+
+    /**
+     * Get the number of lookups which were served from the cache.
+     *
+     * @return The cache hit count.
+     */
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    /**
+     * Get the number of lookups which were not served from the cache.
+     *
+     * @return The cache miss count.
+     */
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    private long getTimeToLive() {
+
+        if (timeToLive == null) {
+            timeToLive = TimeUnit.SECONDS.toMillis(getConfiguredTimeToLive());
+        }
+        return timeToLive;
+    }
+
+    private static long getConfiguredTimeToLive() {
+
+        String value = IdentityUtil.getProperty(AUTHZ_DECISION_CACHE_TIME_TO_LIVE);
+        if (StringUtils.isBlank(value)) {
+            return DEFAULT_AUTHZ_DECISION_CACHE_TIME_TO_LIVE;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid value: " + value + " configured for the property: " +
+                    AUTHZ_DECISION_CACHE_TIME_TO_LIVE + ". Using the default value: " +
+                    DEFAULT_AUTHZ_DECISION_CACHE_TIME_TO_LIVE);
+            return DEFAULT_AUTHZ_DECISION_CACHE_TIME_TO_LIVE;
+        }
+    }
+}
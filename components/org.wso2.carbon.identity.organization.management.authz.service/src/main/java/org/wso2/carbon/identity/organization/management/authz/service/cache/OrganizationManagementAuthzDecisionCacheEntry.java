@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry for the {@link OrganizationManagementAuthzDecisionCache}. Both granted and denied decisions are cached.
+ */
+public class OrganizationManagementAuthzDecisionCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7352046128736180952L;
+
+    private final boolean authorized;
+    private final long expiryTime;
+
+    public OrganizationManagementAuthzDecisionCacheEntry(boolean authorized, long expiryTime) {
+
+        this.authorized = authorized;
+        this.expiryTime = expiryTime;
+    }
+
+    /**
+     * Get whether the user was authorized for the permission.
+     *
+     * @return True if the user was authorized.
+     */
+    public boolean isAuthorized() {
+
+        return authorized;
+    }
+
+    /**
+     * Get the time, in milliseconds since the epoch, after which the decision should no longer be used.
+     *
+     * @return The expiry time of the decision.
+     */
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link OrganizationManagementAuthzDecisionCache}. A decision is bound to the authenticated user,
+ * the organization being accessed and the required permission.
+ */
+public class OrganizationManagementAuthzDecisionCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -2841065579310624718L;
+
+    private final String userTenantDomain;
+    private final String userStoreDomain;
+    private final String userName;
+    private final String organizationId;
+    private final String permission;
+
+    public OrganizationManagementAuthzDecisionCacheKey(String userTenantDomain, String userStoreDomain,
+                                                       String userName, String organizationId, String permission) {
+
+        this.userTenantDomain = userTenantDomain;
+        this.userStoreDomain = userStoreDomain;
+        this.userName = userName;
+        this.organizationId = organizationId;
+        this.permission = permission;
+    }
+
+    public String getUserTenantDomain() {
+
+        return userTenantDomain;
+    }
+
+    public String getUserStoreDomain() {
+
+        return userStoreDomain;
+    }
+
+    public String getUserName() {
+
+        return userName;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public String getPermission() {
+
+        return permission;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OrganizationManagementAuthzDecisionCacheKey)) {
+            return false;
+        }
+        OrganizationManagementAuthzDecisionCacheKey that = (OrganizationManagementAuthzDecisionCacheKey) o;
+        return Objects.equals(userTenantDomain, that.userTenantDomain) &&
+                Objects.equals(userStoreDomain, that.userStoreDomain) && Objects.equals(userName, that.userName) &&
+                Objects.equals(organizationId, that.organizationId) && Objects.equals(permission, that.permission);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(userTenantDomain, userStoreDomain, userName, organizationId, permission);
+    }
+}
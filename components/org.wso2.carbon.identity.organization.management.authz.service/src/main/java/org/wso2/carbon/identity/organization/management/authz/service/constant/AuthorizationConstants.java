@@ -25,4 +25,7 @@ public class AuthorizationConstants {
 
     public static final String PERMISSION_SPLITTER = "/";
     public static final String RESOURCE_PERMISSION_NONE = "none";
+    public static final String AUTHZ_DECISION_CACHE_TIME_TO_LIVE =
+            "OrganizationManagementAuthzDecisionCache.TimeToLive";
+    public static final long DEFAULT_AUTHZ_DECISION_CACHE_TIME_TO_LIVE = 60;
 }
@@ -32,8 +32,12 @@ import org.wso2.carbon.identity.authz.service.handler.AuthorizationHandler;
 import org.wso2.carbon.identity.core.handler.InitConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.organization.management.authz.service.OrganizationManagementAuthorizationContext;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCache;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCacheEntry;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCacheKey;
 import org.wso2.carbon.identity.organization.management.authz.service.exception.OrganizationManagementAuthzServiceServerException;
 import org.wso2.carbon.identity.organization.management.authz.service.internal.OrganizationManagementAuthzServiceHolder;
+import org.wso2.carbon.identity.organization.management.ext.cache.OrganizationTenantMappingCache;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
 import org.wso2.carbon.identity.organization.management.service.authz.OrganizationManagementAuthorizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -84,7 +88,8 @@ public class OrganizationManagementAuthzHandler extends AuthorizationHandler {
                 if (isScopeValidationRequired(validateScope, authorizationContext)) {
                     validateScopes(allowedScopes, authorizationContext, authorizationResult);
                 } else if (StringUtils.isNotBlank(permissionString)) {
-                    validatePermissions(tenantOrgUUIDOfURLDomain, permissionString, user, authorizationResult);
+                    validatePermissions(tenantOrgUUIDOfURLDomain, tenantDomainFromURL, permissionString, user,
+                            authorizationResult);
                 }
             } catch (OrganizationManagementAuthzServiceServerException e) {
                 String errorMessage = "Error occurred while evaluating authorization of user for organization " +
@@ -122,11 +127,17 @@ public class OrganizationManagementAuthzHandler extends AuthorizationHandler {
             if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(tenantDomainFromURL)) {
                 return OrganizationManagementAuthorizationManager.getInstance().getSuperOrganizationId();
             }
+            OrganizationTenantMappingCache mappingCache = OrganizationTenantMappingCache.getInstance();
+            String cachedOrgId = mappingCache.getOrganizationId(tenantDomainFromURL);
+            if (cachedOrgId != null) {
+                return cachedOrgId;
+            }
             int tenantIdForURLDomain = IdentityTenantUtil.getTenantId(tenantDomainFromURL);
             RealmService realmService = OrganizationManagementAuthzServiceHolder.getInstance().getRealmService();
             Tenant tenant = realmService.getTenantManager().getTenant(tenantIdForURLDomain);
             if (tenant != null) {
                 associatedOrgId = tenant.getAssociatedOrganizationUUID();
+                mappingCache.addMapping(associatedOrgId, tenantDomainFromURL);
             }
             return associatedOrgId;
         } catch (UserStoreException | OrganizationManagementServerException e) {
@@ -136,7 +147,7 @@ public class OrganizationManagementAuthzHandler extends AuthorizationHandler {
         }
     }
 
-    private void validatePermissions(String orgId, String permissionString, User user,
+    private void validatePermissions(String orgId, String tenantDomain, String permissionString, User user,
                                      AuthorizationResult authorizationResult)
             throws OrganizationManagementAuthzServiceServerException {
 
@@ -145,9 +156,30 @@ public class OrganizationManagementAuthzHandler extends AuthorizationHandler {
             return;
         }
 
+        OrganizationManagementAuthzDecisionCache decisionCache = OrganizationManagementAuthzDecisionCache.getInstance();
+        boolean isDecisionCachingEnabled = decisionCache.isDecisionCachingEnabled();
+        OrganizationManagementAuthzDecisionCacheKey cacheKey = null;
+        int tenantId = 0;
+        if (isDecisionCachingEnabled) {
+            cacheKey = new OrganizationManagementAuthzDecisionCacheKey(user.getTenantDomain(),
+                    user.getUserStoreDomain(), user.getUserName(), orgId, permissionString);
+            tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+            OrganizationManagementAuthzDecisionCacheEntry cacheEntry =
+                    decisionCache.getDecisionFromCache(cacheKey, tenantId);
+            if (cacheEntry != null) {
+                if (cacheEntry.isAuthorized()) {
+                    authorizationResult.setAuthorizationStatus(AuthorizationStatus.GRANT);
+                }
+                return;
+            }
+        }
+
         try {
             boolean isUserAuthorized = OrganizationManagementAuthorizationManager.getInstance().isUserAuthorized
                     (getUserId(user, orgId), permissionString, orgId);
+            if (isDecisionCachingEnabled) {
+                decisionCache.addDecisionToCache(cacheKey, isUserAuthorized, tenantId);
+            }
             if (isUserAuthorized) {
                 authorizationResult.setAuthorizationStatus(AuthorizationStatus.GRANT);
             }
@@ -26,6 +26,9 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.authz.service.listener.OrganizationManagementAuthzCacheHandler;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -41,6 +44,8 @@ public class OrganizationManagementAuthzServiceComponent {
     @Activate
     protected void activate(ComponentContext componentContext) {
 
+        componentContext.getBundleContext().registerService(AbstractEventHandler.class,
+                new OrganizationManagementAuthzCacheHandler(), null);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Organization management authorization service component activated successfully.");
         }
@@ -67,4 +72,26 @@ public class OrganizationManagementAuthzServiceComponent {
         }
         OrganizationManagementAuthzServiceHolder.getInstance().setRealmService(null);
     }
+
+    @Reference(
+            name = "identity.organization.management.component",
+            service = OrganizationManager.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetOrganizationManager")
+    protected void setOrganizationManager(OrganizationManager organizationManager) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Setting the organization management service.");
+        }
+        OrganizationManagementAuthzServiceHolder.getInstance().setOrganizationManager(organizationManager);
+    }
+
+    protected void unsetOrganizationManager(OrganizationManager organizationManager) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Unsetting the organization management service.");
+        }
+        OrganizationManagementAuthzServiceHolder.getInstance().setOrganizationManager(null);
+    }
 }
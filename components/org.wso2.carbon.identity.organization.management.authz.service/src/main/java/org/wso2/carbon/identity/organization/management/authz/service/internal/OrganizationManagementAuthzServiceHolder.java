@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.organization.management.authz.service.internal;
 
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -27,6 +28,7 @@ public class OrganizationManagementAuthzServiceHolder {
 
     private static OrganizationManagementAuthzServiceHolder instance = new OrganizationManagementAuthzServiceHolder();
     private RealmService realmService = null;
+    private OrganizationManager organizationManager = null;
 
     private OrganizationManagementAuthzServiceHolder() {
         
@@ -46,4 +48,14 @@ public class OrganizationManagementAuthzServiceHolder {
 
         this.realmService = realmService;
     }
+
+    public OrganizationManager getOrganizationManager() {
+
+        return organizationManager;
+    }
+
+    public void setOrganizationManager(OrganizationManager organizationManager) {
+
+        this.organizationManager = organizationManager;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.listener;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCache;
+import org.wso2.carbon.identity.organization.management.authz.service.internal.OrganizationManagementAuthzServiceHolder;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Event handler to invalidate the cached organization management authorization decisions of a tenant when its roles,
+ * role permissions, role assignments, group memberships or users are changed. Sharing a user with an organization or
+ * unsharing it adds or deletes the shared user in the organization, hence the user association changes are covered
+ * as well.
+ * <p>
+ * The permissions of a shared role are inherited from its main role. Hence, when the permissions of a role are
+ * updated or a role is deleted, the decisions of the organizations below the organization of the role are cleared as
+ * well.
+ * <p>
+ * The handler accepts the below events by itself, so it does not need a subscription in the identity event
+ * configuration. They must be published by the identity event service, i.e. the identity store event listener and
+ * the role management event publisher must be enabled.
+ * <ul>
+ *     <li>Role events: POST_UPDATE_PERMISSIONS_FOR_ROLE_V2_EVENT, POST_UPDATE_USER_LIST_OF_ROLE_V2_EVENT,
+ *     POST_UPDATE_GROUP_LIST_OF_ROLE_V2_EVENT, POST_ADD_ROLE_V2_EVENT, POST_DELETE_ROLE_V2_EVENT</li>
+ *     <li>User store events: POST_ADD_USER, POST_DELETE_USER, POST_DELETE_USER_WITH_ID, POST_UPDATE_ROLE_LIST_OF_USER,
+ *     POST_UPDATE_USER_LIST_OF_ROLE, POST_DELETE_ROLE. The group memberships of the user store are updated through
+ *     the role list of a user and the user list of a role.</li>
+ * </ul>
+ */
+public class OrganizationManagementAuthzCacheHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationManagementAuthzCacheHandler.class);
+
+    private static final Set<String> INHERITED_ROLE_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            IdentityEventConstants.Event.POST_UPDATE_PERMISSIONS_FOR_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT)));
+    private static final Set<String> AUTHZ_DECISION_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            IdentityEventConstants.Event.POST_UPDATE_PERMISSIONS_FOR_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_UPDATE_GROUP_LIST_OF_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_ADD_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_ADD_USER,
+            IdentityEventConstants.Event.POST_DELETE_USER,
+            IdentityEventConstants.Event.POST_DELETE_USER_WITH_ID,
+            IdentityEventConstants.Event.POST_UPDATE_ROLE_LIST_OF_USER,
+            IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE,
+            IdentityEventConstants.Event.POST_DELETE_ROLE)));
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && AUTHZ_DECISION_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String eventName = event.getEventName();
+        if (!AUTHZ_DECISION_EVENTS.contains(eventName)) {
+            return;
+        }
+
+        String tenantDomain =
+                (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+        if (StringUtils.isBlank(tenantDomain)) {
+            tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        }
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        OrganizationManagementAuthzDecisionCache.getInstance()
+                .clearDecisionsOfTenant(IdentityTenantUtil.getTenantId(tenantDomain));
+        if (INHERITED_ROLE_EVENTS.contains(eventName)) {
+            clearDecisionsOfDescendantOrganizations(tenantDomain);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared the cached organization management authorization decisions of the tenant: " +
+                    tenantDomain + " upon the event: " + eventName);
+        }
+    }
+
+    @Override
+    public String getName() {
+
+        return "OrganizationManagementAuthzCacheHandler";
+    }
+
+    private void clearDecisionsOfDescendantOrganizations(String tenantDomain) throws IdentityEventException {
+
+        OrganizationManager organizationManager =
+                OrganizationManagementAuthzServiceHolder.getInstance().getOrganizationManager();
+        if (organizationManager == null) {
+            return;
+        }
+        try {
+            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            for (String childOrganizationId : organizationManager.getChildOrganizationsIds(organizationId, true)) {
+                OrganizationManagementAuthzDecisionCache.getInstance().clearDecisionsOfTenant(
+                        IdentityTenantUtil.getTenantId(organizationManager.resolveTenantDomain(childOrganizationId)));
+            }
+        } catch (OrganizationManagementException e) {
+            throw new IdentityEventException("Error while clearing the cached organization management " +
+                    "authorization decisions of the organizations below the tenant: " + tenantDomain, e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.handler;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.authz.service.AuthorizationResult;
+import org.wso2.carbon.identity.authz.service.AuthorizationStatus;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.organization.management.authz.service.OrganizationManagementAuthorizationContext;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCache;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCacheEntry;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCacheKey;
+import org.wso2.carbon.identity.organization.management.authz.service.util.OrganizationManagementAuthzUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
+import org.wso2.carbon.identity.organization.management.service.authz.OrganizationManagementAuthorizationManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for the authorization decision caching of OrganizationManagementAuthzHandler.
+ */
+public class OrganizationManagementAuthzHandlerTest {
+
+    private static final String SUPER_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String USER_NAME = "alex";
+    private static final String USER_ID = "alex-id";
+    private static final String PERMISSION = "/permission/admin/manage/identity/organizationmgt/view";
+
+    @Mock
+    private OrganizationManagementAuthzDecisionCache decisionCache;
+
+    @Mock
+    private OrganizationManagementAuthorizationManager authorizationManager;
+
+    private MockedStatic<OrganizationManagementAuthzDecisionCache> mockedDecisionCache;
+    private MockedStatic<OrganizationManagementAuthorizationManager> mockedAuthorizationManager;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private OrganizationManagementAuthzHandler authzHandler;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        openMocks(this);
+        mockedDecisionCache = mockStatic(OrganizationManagementAuthzDecisionCache.class);
+        mockedDecisionCache.when(OrganizationManagementAuthzDecisionCache::getInstance).thenReturn(decisionCache);
+        when(decisionCache.isDecisionCachingEnabled()).thenReturn(true);
+        mockedAuthorizationManager = mockStatic(OrganizationManagementAuthorizationManager.class);
+        mockedAuthorizationManager.when(OrganizationManagementAuthorizationManager::getInstance)
+                .thenReturn(authorizationManager);
+        when(authorizationManager.getSuperOrganizationId()).thenReturn(SUPER_ORG_ID);
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME))
+                .thenReturn(MultitenantConstants.SUPER_TENANT_ID);
+        authzHandler = new OrganizationManagementAuthzHandler();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityTenantUtil.close();
+        mockedAuthorizationManager.close();
+        mockedDecisionCache.close();
+    }
+
+    @Test
+    public void testCachedGrantDecision() throws Exception {
+
+        when(decisionCache.getDecisionFromCache(getCacheKey(), MultitenantConstants.SUPER_TENANT_ID))
+                .thenReturn(new OrganizationManagementAuthzDecisionCacheEntry(true, Long.MAX_VALUE));
+
+        AuthorizationResult result = authzHandler.handleAuthorization(getAuthorizationContext());
+
+        assertEquals(result.getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        verify(authorizationManager, never()).isUserAuthorized(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testCachedDenyDecision() throws Exception {
+
+        when(decisionCache.getDecisionFromCache(getCacheKey(), MultitenantConstants.SUPER_TENANT_ID))
+                .thenReturn(new OrganizationManagementAuthzDecisionCacheEntry(false, Long.MAX_VALUE));
+
+        AuthorizationResult result = authzHandler.handleAuthorization(getAuthorizationContext());
+
+        // A cached denial is served without evaluating the permissions of the user again.
+        assertEquals(result.getAuthorizationStatus(), AuthorizationStatus.DENY);
+        verify(authorizationManager, never()).isUserAuthorized(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testDecisionCachedOnCacheMiss() throws Exception {
+
+        AbstractUserStoreManager userStoreManager = mock(AbstractUserStoreManager.class);
+        org.wso2.carbon.user.core.common.User storedUser = mock(org.wso2.carbon.user.core.common.User.class);
+        when(storedUser.getUserID()).thenReturn(USER_ID);
+        when(userStoreManager.getUser(null, USER_NAME)).thenReturn(storedUser);
+        when(authorizationManager.isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true);
+
+        try (MockedStatic<OrganizationManagementAuthzUtil> authzUtil =
+                     mockStatic(OrganizationManagementAuthzUtil.class);
+             MockedStatic<OrganizationSharedUserUtil> sharedUserUtil =
+                     mockStatic(OrganizationSharedUserUtil.class)) {
+            authzUtil.when(() -> OrganizationManagementAuthzUtil.getUserStoreManager(any(User.class)))
+                    .thenReturn(userStoreManager);
+            sharedUserUtil.when(() -> OrganizationSharedUserUtil.getUserIdOfAssociatedUserByOrgId(USER_ID,
+                    SUPER_ORG_ID)).thenReturn(Optional.empty());
+
+            AuthorizationResult result = authzHandler.handleAuthorization(getAuthorizationContext());
+
+            assertEquals(result.getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        }
+        verify(decisionCache).addDecisionToCache(getCacheKey(), true, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private OrganizationManagementAuthorizationContext getAuthorizationContext() {
+
+        User user = new User();
+        user.setUserName(USER_NAME);
+        user.setUserStoreDomain("PRIMARY");
+        user.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        OrganizationManagementAuthorizationContext authorizationContext =
+                new OrganizationManagementAuthorizationContext();
+        authorizationContext.setUser(user);
+        authorizationContext.setPermissionString(PERMISSION);
+        authorizationContext.setTenantDomainFromURLMapping(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        return authorizationContext;
+    }
+
+    private OrganizationManagementAuthzDecisionCacheKey getCacheKey() {
+
+        return new OrganizationManagementAuthzDecisionCacheKey(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME,
+                "PRIMARY", USER_NAME, SUPER_ORG_ID, PERMISSION);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.listener;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrganizationManagementAuthzDecisionCache;
+import org.wso2.carbon.identity.organization.management.authz.service.internal.OrganizationManagementAuthzServiceHolder;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for OrganizationManagementAuthzCacheHandler.
+ */
+public class OrganizationManagementAuthzCacheHandlerTest {
+
+    private static final String ROOT_TENANT_DOMAIN = "root.com";
+    private static final int ROOT_TENANT_ID = 1;
+    private static final String ROOT_ORG_ID = "root-org-id";
+    private static final String CHILD_ORG_ID = "child-org-id";
+    private static final String CHILD_TENANT_DOMAIN = "child-org-id";
+    private static final int CHILD_TENANT_ID = 2;
+    private static final String GRAND_CHILD_ORG_ID = "grand-child-org-id";
+    private static final String GRAND_CHILD_TENANT_DOMAIN = "grand-child-org-id";
+    private static final int GRAND_CHILD_TENANT_ID = 3;
+
+    @Mock
+    private OrganizationManagementAuthzDecisionCache decisionCache;
+
+    @Mock
+    private OrganizationManager organizationManager;
+
+    private MockedStatic<OrganizationManagementAuthzDecisionCache> mockedDecisionCache;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private OrganizationManagementAuthzCacheHandler cacheHandler;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        openMocks(this);
+        mockedDecisionCache = mockStatic(OrganizationManagementAuthzDecisionCache.class);
+        mockedDecisionCache.when(OrganizationManagementAuthzDecisionCache::getInstance).thenReturn(decisionCache);
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(ROOT_TENANT_DOMAIN)).thenReturn(ROOT_TENANT_ID);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(CHILD_TENANT_DOMAIN))
+                .thenReturn(CHILD_TENANT_ID);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(GRAND_CHILD_TENANT_DOMAIN))
+                .thenReturn(GRAND_CHILD_TENANT_ID);
+
+        when(organizationManager.resolveOrganizationId(ROOT_TENANT_DOMAIN)).thenReturn(ROOT_ORG_ID);
+        when(organizationManager.getChildOrganizationsIds(ROOT_ORG_ID, true))
+                .thenReturn(Arrays.asList(CHILD_ORG_ID, GRAND_CHILD_ORG_ID));
+        when(organizationManager.resolveTenantDomain(CHILD_ORG_ID)).thenReturn(CHILD_TENANT_DOMAIN);
+        when(organizationManager.resolveTenantDomain(GRAND_CHILD_ORG_ID)).thenReturn(GRAND_CHILD_TENANT_DOMAIN);
+        OrganizationManagementAuthzServiceHolder.getInstance().setOrganizationManager(organizationManager);
+        cacheHandler = new OrganizationManagementAuthzCacheHandler();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        OrganizationManagementAuthzServiceHolder.getInstance().setOrganizationManager(null);
+        identityTenantUtil.close();
+        mockedDecisionCache.close();
+    }
+
+    @DataProvider(name = "tenantScopedEventProvider")
+    public Object[][] tenantScopedEventProvider() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_UPDATE_GROUP_LIST_OF_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_ADD_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_ADD_USER},
+                {IdentityEventConstants.Event.POST_DELETE_USER},
+                {IdentityEventConstants.Event.POST_DELETE_USER_WITH_ID},
+                {IdentityEventConstants.Event.POST_UPDATE_ROLE_LIST_OF_USER},
+                {IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE},
+                {IdentityEventConstants.Event.POST_DELETE_ROLE}
+        };
+    }
+
+    @Test(dataProvider = "tenantScopedEventProvider")
+    public void testClearDecisionsOfTenant(String eventName) throws Exception {
+
+        Event event = getEvent(eventName);
+
+        assertTrue(cacheHandler.canHandle(new IdentityEventMessageContext(event)));
+        cacheHandler.handleEvent(event);
+
+        verify(decisionCache).clearDecisionsOfTenant(ROOT_TENANT_ID);
+        verify(decisionCache, never()).clearDecisionsOfTenant(CHILD_TENANT_ID);
+        verify(organizationManager, never()).getChildOrganizationsIds(anyString(), anyBoolean());
+    }
+
+    @DataProvider(name = "inheritedRoleEventProvider")
+    public Object[][] inheritedRoleEventProvider() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_UPDATE_PERMISSIONS_FOR_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT}
+        };
+    }
+
+    @Test(dataProvider = "inheritedRoleEventProvider")
+    public void testClearDecisionsOfDescendantOrganizations(String eventName) throws Exception {
+
+        Event event = getEvent(eventName);
+
+        assertTrue(cacheHandler.canHandle(new IdentityEventMessageContext(event)));
+        cacheHandler.handleEvent(event);
+
+        // The shared roles of the descendant organizations inherit the permissions of the main role.
+        verify(decisionCache).clearDecisionsOfTenant(ROOT_TENANT_ID);
+        verify(decisionCache).clearDecisionsOfTenant(CHILD_TENANT_ID);
+        verify(decisionCache).clearDecisionsOfTenant(GRAND_CHILD_TENANT_ID);
+    }
+
+    @Test
+    public void testUnrelatedEventIgnored() throws Exception {
+
+        Event event = getEvent(IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM);
+
+        assertFalse(cacheHandler.canHandle(new IdentityEventMessageContext(event)));
+        cacheHandler.handleEvent(event);
+
+        verify(decisionCache, never()).clearDecisionsOfTenant(anyInt());
+    }
+
+    private Event getEvent(String eventName) {
+
+        Event event = new Event(eventName);
+        event.addEventProperty(IdentityEventConstants.EventProperty.TENANT_DOMAIN, ROOT_TENANT_DOMAIN);
+        return event;
+    }
+}
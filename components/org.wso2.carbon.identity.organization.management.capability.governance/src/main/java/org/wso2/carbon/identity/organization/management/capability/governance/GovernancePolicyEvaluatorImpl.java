@@ -20,6 +20,9 @@ package org.wso2.carbon.identity.organization.management.capability.governance;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCache;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCacheEntry;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCacheKey;
 import org.wso2.carbon.identity.organization.management.capability.governance.dao.GovernancePolicyDAO;
 import org.wso2.carbon.identity.organization.management.capability.governance.dao.GovernancePolicyDAOImpl;
 import org.wso2.carbon.identity.organization.management.capability.governance.exception.GovernancePolicyMgtClientException;
@@ -49,6 +52,10 @@ import static org.wso2.carbon.identity.organization.management.capability.govern
  * {@code coversOrg} is used to produce a {@link GovernancePolicyEvaluationResult}
  * indicating whether a governance policy matched and the associated access decision.
  * If no ancestor has a matching policy, the result reflects no match (default deny).</p>
+ *
+ * <p>The decision is cached per organization, capability and resource type in the
+ * {@link GovernancePolicyEvaluationCache}, so the ancestor chain is walked and the organization is checked only on a
+ * cache miss.</p>
  */
 public class GovernancePolicyEvaluatorImpl implements GovernancePolicyEvaluator {
 
@@ -60,6 +67,17 @@ public class GovernancePolicyEvaluatorImpl implements GovernancePolicyEvaluator
     public GovernancePolicyEvaluationResult evaluate(String orgId, String capability, String resourceType)
             throws GovernancePolicyMgtException {
 
+        GovernancePolicyEvaluationCache evaluationCache = GovernancePolicyEvaluationCache.getInstance();
+        long cacheGeneration = evaluationCache.getGeneration();
+        GovernancePolicyEvaluationCacheKey cacheKey =
+                new GovernancePolicyEvaluationCacheKey(orgId, capability, resourceType);
+        GovernancePolicyEvaluationCacheEntry cacheEntry = evaluationCache.getEvaluationFromCache(cacheKey);
+        if (cacheEntry != null) {
+            // Only the decisions of organizations are cached, hence the organization check is not repeated.
+            GovernancePolicyEvaluationResult result = new GovernancePolicyEvaluationResult();
+            result.setAllowed(cacheEntry.isAllowed());
+            return result;
+        }
         try {
             if (!OrganizationManagementUtil.isOrganization(orgId)) {
                 throw new GovernancePolicyMgtClientException(ERROR_CODE_POLICY_EVALUATION_NOT_SUPPORTED.getCode(),
@@ -92,6 +110,8 @@ public class GovernancePolicyEvaluatorImpl implements GovernancePolicyEvaluator
 
         GovernancePolicyEvaluationResult result = new GovernancePolicyEvaluationResult();
         result.setAllowed(policy != null && !Policy.DENY_ALL.equals(policy.getPolicy()));
+        evaluationCache.addEvaluationToCache(cacheKey, new GovernancePolicyEvaluationCacheEntry(result.isAllowed()),
+                cacheGeneration);
         return result;
     }
 
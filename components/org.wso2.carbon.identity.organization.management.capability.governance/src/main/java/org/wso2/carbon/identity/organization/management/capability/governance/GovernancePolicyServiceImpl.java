@@ -19,6 +19,7 @@ package org.wso2.carbon.identity.organization.management.capability.governance;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCache;
 import org.wso2.carbon.identity.organization.management.capability.governance.dao.GovernancePolicyDAO;
 import org.wso2.carbon.identity.organization.management.capability.governance.dao.GovernancePolicyDAOImpl;
 import org.wso2.carbon.identity.organization.management.capability.governance.exception.GovernancePolicyMgtClientException;
@@ -67,6 +68,9 @@ public class GovernancePolicyServiceImpl implements GovernancePolicyService {
             validateSelectedOrgs(policy.getGoverningOrgId(), policy.getSelectedOrgs());
         }
         GOVERNANCE_POLICY_DAO.addOrgGovernancePolicy(policy);
+        // Clearing advances the cache generation, so a concurrent evaluation that read the policies before the write
+        // does not cache its decision.
+        GovernancePolicyEvaluationCache.getInstance().clearAllFromCache();
         return GOVERNANCE_POLICY_DAO.findOrgGovernancePolicy(
                         policy.getGoverningOrgId(), policy.getCapability(), policy.getResourceType())
                 .orElseThrow(() -> new GovernancePolicyMgtServerException(
@@ -102,6 +106,7 @@ public class GovernancePolicyServiceImpl implements GovernancePolicyService {
         validatePrimaryOrg(governingOrgId);
         getOrgGovernancePolicyByKey(governingOrgId, resourceType, capability);
         GOVERNANCE_POLICY_DAO.deleteOrgGovernancePolicyByKey(governingOrgId, resourceType, capability);
+        GovernancePolicyEvaluationCache.getInstance().clearAllFromCache();
     }
 
     private void validateSelectedOrgs(String governingOrgId, List<GovernanceOrgSelected> selectedOrgs)
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.capability.governance.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for the effective governance policy decisions of organizations, keyed by the organization, capability and
+ * resource type.
+ *
+ * <p>A decision depends on the policies of every ancestor of the organization, hence all entries are cleared when a
+ * governance policy is written or the organization hierarchy changes.</p>
+ *
+ * <p>Every clear advances the generation of the cache. A decision is only cached if no clear happened since the
+ * evaluation read the generation, so a decision computed from the policies read before a write is not cached after
+ * the write cleared the cache.</p>
+ */
+public class GovernancePolicyEvaluationCache
+        extends BaseCache<GovernancePolicyEvaluationCacheKey, GovernancePolicyEvaluationCacheEntry> {
+
+    private static final String CACHE_NAME = "GovernancePolicyEvaluationCache";
+    private static final GovernancePolicyEvaluationCache INSTANCE = new GovernancePolicyEvaluationCache();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private GovernancePolicyEvaluationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Returns the singleton instance of the GovernancePolicyEvaluationCache.
+     *
+     * @return the GovernancePolicyEvaluationCache instance
+     */
+    public static GovernancePolicyEvaluationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the current generation of the cache. It must be read before the policies the decision is computed
+     * from.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+
+        return generation.get();
+    }
+
+    /**
+     * Adds the effective governance policy decision of an organization to the cache, unless the cache was cleared
+     * after the given generation was read.
+     *
+     * @param key        the cache key
+     * @param entry      the cache entry
+     * @param generation the generation of the cache read before the decision was computed
+     */
+    public void addEvaluationToCache(GovernancePolicyEvaluationCacheKey key,
+                                     GovernancePolicyEvaluationCacheEntry entry, long generation) {
+
+        if (generation != this.generation.get()) {
+            return;
+        }
+        addToCache(key, entry, MultitenantConstants.SUPER_TENANT_ID);
+        // A clear that ran between the check and the addition may not have seen the entry.
+        if (generation != this.generation.get()) {
+            clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    /**
+     * Returns the cached governance policy decision of an organization.
+     *
+     * @param key the cache key
+     * @return the cache entry, or {@code null} if the decision is not cached
+     */
+    public GovernancePolicyEvaluationCacheEntry getEvaluationFromCache(GovernancePolicyEvaluationCacheKey key) {
+
+        return getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clears all the cached governance policy decisions.
+     */
+    public void clearAllFromCache() {
+
+        generation.incrementAndGet();
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.capability.governance.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link GovernancePolicyEvaluationCache}.
+ */
+public class GovernancePolicyEvaluationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 4610523815578109734L;
+
+    private final String orgId;
+    private final String capability;
+    private final String resourceType;
+
+    public GovernancePolicyEvaluationCacheKey(String orgId, String capability, String resourceType) {
+
+        this.orgId = orgId;
+        this.capability = capability;
+        this.resourceType = resourceType;
+    }
+
+    public String getOrgId() {
+
+        return orgId;
+    }
+
+    public String getCapability() {
+
+        return capability;
+    }
+
+    public String getResourceType() {
+
+        return resourceType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GovernancePolicyEvaluationCacheKey)) {
+            return false;
+        }
+        GovernancePolicyEvaluationCacheKey that = (GovernancePolicyEvaluationCacheKey) o;
+        return Objects.equals(orgId, that.orgId) && Objects.equals(capability, that.capability) &&
+                Objects.equals(resourceType, that.resourceType);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(orgId, capability, resourceType);
+    }
+}
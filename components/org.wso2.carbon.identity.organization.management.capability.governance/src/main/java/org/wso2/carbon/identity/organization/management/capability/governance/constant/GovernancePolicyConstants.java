@@ -33,6 +33,11 @@ public class GovernancePolicyConstants {
     public static final String COL_UM_RESOURCE_TYPE = "UM_RESOURCE_TYPE";
     public static final String COL_UM_GOVERNING_ORG_ID = "UM_GOVERNING_ORG_ID";
 
+    // Organization management events.
+    public static final String EVENT_POST_UPDATE_ORGANIZATION = "POST_UPDATE_ORGANIZATION";
+    public static final String EVENT_POST_PATCH_ORGANIZATION = "POST_PATCH_ORGANIZATION";
+    public static final String EVENT_POST_DELETE_ORGANIZATION = "POST_DELETE_ORGANIZATION";
+
     /**
      * Error messages.
      */
@@ -26,10 +26,12 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.management.capability.governance.GovernancePolicyEvaluator;
 import org.wso2.carbon.identity.organization.management.capability.governance.GovernancePolicyEvaluatorImpl;
 import org.wso2.carbon.identity.organization.management.capability.governance.GovernancePolicyService;
 import org.wso2.carbon.identity.organization.management.capability.governance.GovernancePolicyServiceImpl;
+import org.wso2.carbon.identity.organization.management.capability.governance.listener.GovernancePolicyEvaluationCacheHandler;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
 
@@ -45,7 +47,8 @@ public class GovernancePolicyServiceComponent {
     private static final Log LOG = LogFactory.getLog(GovernancePolicyServiceComponent.class);
 
     /**
-     * Activates the bundle and registers the GovernancePolicyService and GovernancePolicyEvaluator OSGi services.
+     * Activates the bundle and registers the GovernancePolicyService and GovernancePolicyEvaluator OSGi services along
+     * with the event handler that invalidates the cached governance policy decisions.
      *
      * @param componentContext the OSGi component context.
      */
@@ -57,6 +60,8 @@ public class GovernancePolicyServiceComponent {
                 new GovernancePolicyServiceImpl(), null);
         bundleContext.registerService(GovernancePolicyEvaluator.class.getName(),
                 new GovernancePolicyEvaluatorImpl(), null);
+        bundleContext.registerService(AbstractEventHandler.class.getName(),
+                new GovernancePolicyEvaluationCacheHandler(), null);
         if (LOG.isDebugEnabled()) {
             LOG.debug("GovernancePolicyServiceComponent activated successfully.");
         }
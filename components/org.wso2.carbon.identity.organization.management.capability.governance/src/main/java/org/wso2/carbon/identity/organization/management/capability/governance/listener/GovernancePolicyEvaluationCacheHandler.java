@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.capability.governance.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.organization.management.capability.governance.constant.GovernancePolicyConstants.EVENT_POST_DELETE_ORGANIZATION;
+import static org.wso2.carbon.identity.organization.management.capability.governance.constant.GovernancePolicyConstants.EVENT_POST_PATCH_ORGANIZATION;
+import static org.wso2.carbon.identity.organization.management.capability.governance.constant.GovernancePolicyConstants.EVENT_POST_UPDATE_ORGANIZATION;
+
+/**
+ * Event handler to invalidate the cached governance policy decisions when an existing organization is updated,
+ * patched or deleted. A newly created organization has no cached decisions, hence creation is not handled.
+ * <p>
+ * The handler accepts these events by itself, so it does not need a subscription in the identity event configuration.
+ */
+public class GovernancePolicyEvaluationCacheHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(GovernancePolicyEvaluationCacheHandler.class);
+
+    private static final Set<String> ORGANIZATION_CHANGE_EVENTS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(EVENT_POST_UPDATE_ORGANIZATION, EVENT_POST_PATCH_ORGANIZATION,
+                    EVENT_POST_DELETE_ORGANIZATION)));
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && ORGANIZATION_CHANGE_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String eventName = event.getEventName();
+        if (!ORGANIZATION_CHANGE_EVENTS.contains(eventName)) {
+            return;
+        }
+        // A decision depends on the whole ancestor chain, hence every cached decision is cleared.
+        GovernancePolicyEvaluationCache.getInstance().clearAllFromCache();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared the cached governance policy decisions upon the event: " + eventName);
+        }
+    }
+
+    @Override
+    public String getName() {
+
+        return "GovernancePolicyEvaluationCacheHandler";
+    }
+}
@@ -18,7 +18,11 @@
 package org.wso2.carbon.identity.organization.management.capability.governance.model;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Model representing an org-level governance policy.
@@ -31,6 +35,7 @@ public class OrgGovernancePolicy {
     private String governingOrgId;
     private Policy policy;
     private List<GovernanceOrgSelected> selectedOrgs = new ArrayList<>();
+    private Set<String> selectedOrgIds;
 
     /**
      * Returns the database record ID of this governance policy.
@@ -150,6 +155,7 @@ public class OrgGovernancePolicy {
     public void setSelectedOrgs(List<GovernanceOrgSelected> selectedOrgs) {
 
         this.selectedOrgs = selectedOrgs;
+        this.selectedOrgIds = null;
     }
 
     /**
@@ -167,7 +173,8 @@ public class OrgGovernancePolicy {
      *       returns {@code true} only when {@code isDirectChild} is {@code true}.</li>
      *   <li>{@link Policy#ALLOW_SELECTED} — covers only the organizations explicitly listed in
      *       {@link #getSelectedOrgs()}; returns {@code true} when {@code targetOrgId} matches
-     *       any entry in that list.</li>
+     *       any entry in that list. The IDs of the selected organizations are indexed in a set on
+     *       the first evaluation.</li>
      * </ul>
      *
      * @param targetOrgId  the ID of the organization being evaluated
@@ -183,9 +190,18 @@ public class OrgGovernancePolicy {
             case ALLOW_IMMEDIATE:
                 return isDirectChild;
             case ALLOW_SELECTED:
-                return selectedOrgs.stream().anyMatch(s -> targetOrgId.equals(s.getTargetOrgId()));
+                return getSelectedOrgIds().contains(targetOrgId);
             default:
                 return false;
         }
     }
+
+    private Set<String> getSelectedOrgIds() {
+
+        if (selectedOrgIds == null) {
+            selectedOrgIds = selectedOrgs.stream().map(GovernanceOrgSelected::getTargetOrgId)
+                    .filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+        }
+        return selectedOrgIds;
+    }
 }
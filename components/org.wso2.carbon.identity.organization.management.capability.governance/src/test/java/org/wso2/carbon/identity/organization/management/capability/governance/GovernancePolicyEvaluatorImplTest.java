@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.capability.governance;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCache;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCacheEntry;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCacheKey;
+import org.wso2.carbon.identity.organization.management.capability.governance.exception.GovernancePolicyMgtClientException;
+import org.wso2.carbon.identity.organization.management.capability.governance.internal.GovernancePolicyDataHolder;
+import org.wso2.carbon.identity.organization.management.capability.governance.model.OrgGovernancePolicy;
+import org.wso2.carbon.identity.organization.management.capability.governance.model.Policy;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link GovernancePolicyEvaluatorImpl}.
+ */
+public class GovernancePolicyEvaluatorImplTest {
+
+    private static final String ORG_ID = "org-id";
+    private static final String ROOT_ORG_ID = "root-org-id";
+    private static final String CAPABILITY = "ADAPTIVE_SCRIPT";
+    private static final String RESOURCE_TYPE = "APPLICATION";
+
+    private final Map<GovernancePolicyEvaluationCacheKey, GovernancePolicyEvaluationCacheEntry> cachedEvaluations =
+            new HashMap<>();
+    private final AtomicLong cacheGeneration = new AtomicLong();
+
+    private GovernancePolicyEvaluatorImpl evaluator;
+    private GovernancePolicyEvaluationCache evaluationCache;
+    private OrgResourceResolverService orgResourceResolverService;
+    private MockedStatic<GovernancePolicyEvaluationCache> mockedEvaluationCache;
+    private MockedStatic<OrganizationManagementUtil> mockedOrgMgmtUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        evaluator = new GovernancePolicyEvaluatorImpl();
+        cachedEvaluations.clear();
+        cacheGeneration.set(0);
+
+        evaluationCache = mock(GovernancePolicyEvaluationCache.class);
+        when(evaluationCache.getGeneration()).thenAnswer(invocation -> cacheGeneration.get());
+        when(evaluationCache.getEvaluationFromCache(any()))
+                .thenAnswer(invocation -> cachedEvaluations.get(invocation.getArgument(0)));
+        doAnswer(invocation -> {
+            if ((long) invocation.getArgument(2) == cacheGeneration.get()) {
+                cachedEvaluations.put(invocation.getArgument(0), invocation.getArgument(1));
+            }
+            return null;
+        }).when(evaluationCache).addEvaluationToCache(any(), any(), anyLong());
+        doAnswer(invocation -> {
+            cacheGeneration.incrementAndGet();
+            cachedEvaluations.clear();
+            return null;
+        }).when(evaluationCache).clearAllFromCache();
+        mockedEvaluationCache = mockStatic(GovernancePolicyEvaluationCache.class);
+        mockedEvaluationCache.when(GovernancePolicyEvaluationCache::getInstance).thenReturn(evaluationCache);
+
+        mockedOrgMgmtUtil = mockStatic(OrganizationManagementUtil.class);
+        mockedOrgMgmtUtil.when(() -> OrganizationManagementUtil.isOrganization(ORG_ID)).thenReturn(true);
+        mockedOrgMgmtUtil.when(() -> OrganizationManagementUtil.isOrganization(ROOT_ORG_ID)).thenReturn(false);
+
+        orgResourceResolverService = mock(OrgResourceResolverService.class);
+        OrgGovernancePolicy policy = new OrgGovernancePolicy();
+        policy.setPolicy(Policy.ALLOW_ALL);
+        when(orgResourceResolverService.getResourcesFromOrgHierarchy(eq(ORG_ID), any(), any())).thenReturn(policy);
+        GovernancePolicyDataHolder.getInstance().setOrgResourceResolverService(orgResourceResolverService);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedEvaluationCache.close();
+        mockedOrgMgmtUtil.close();
+        GovernancePolicyDataHolder.getInstance().setOrgResourceResolverService(null);
+    }
+
+    @Test
+    public void testEvaluateSkipsHierarchyWalkWhenCached() throws Exception {
+
+        Assert.assertTrue(evaluator.evaluate(ORG_ID, CAPABILITY, RESOURCE_TYPE).isAllowed());
+        Assert.assertTrue(evaluator.evaluate(ORG_ID, CAPABILITY, RESOURCE_TYPE).isAllowed());
+
+        verify(orgResourceResolverService, times(1)).getResourcesFromOrgHierarchy(eq(ORG_ID), any(), any());
+        mockedOrgMgmtUtil.verify(() -> OrganizationManagementUtil.isOrganization(ORG_ID), times(1));
+    }
+
+    @Test
+    public void testEvaluateWalksHierarchyAfterCacheIsCleared() throws Exception {
+
+        evaluator.evaluate(ORG_ID, CAPABILITY, RESOURCE_TYPE);
+        evaluationCache.clearAllFromCache();
+        evaluator.evaluate(ORG_ID, CAPABILITY, RESOURCE_TYPE);
+
+        verify(orgResourceResolverService, times(2)).getResourcesFromOrgHierarchy(eq(ORG_ID), any(), any());
+    }
+
+    @Test
+    public void testEvaluateDoesNotCacheDecisionWhenClearedDuringWalk() throws Exception {
+
+        // A policy write clears the cache while the ancestor chain is walked with the policies read before it.
+        when(orgResourceResolverService.getResourcesFromOrgHierarchy(eq(ORG_ID), any(), any()))
+                .thenAnswer(invocation -> {
+                    evaluationCache.clearAllFromCache();
+                    return null;
+                });
+
+        Assert.assertFalse(evaluator.evaluate(ORG_ID, CAPABILITY, RESOURCE_TYPE).isAllowed());
+
+        verify(evaluationCache).addEvaluationToCache(any(), any(), eq(0L));
+        Assert.assertTrue(cachedEvaluations.isEmpty());
+    }
+
+    @Test
+    public void testEvaluateForRootOrganizationFails() throws Exception {
+
+        try {
+            evaluator.evaluate(ROOT_ORG_ID, CAPABILITY, RESOURCE_TYPE);
+            Assert.fail("Expected GovernancePolicyMgtClientException for the root organization.");
+        } catch (GovernancePolicyMgtClientException e) {
+            Assert.assertEquals(e.getErrorCode(), "OCGM-60005");
+        }
+        verify(orgResourceResolverService, never()).getResourcesFromOrgHierarchy(eq(ROOT_ORG_ID), any(), any());
+    }
+}
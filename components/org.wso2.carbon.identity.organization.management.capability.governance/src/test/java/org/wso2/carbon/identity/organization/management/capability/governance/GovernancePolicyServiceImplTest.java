@@ -28,6 +28,9 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.base.CarbonBaseConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.internal.CarbonContextDataHolder;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCache;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCacheEntry;
+import org.wso2.carbon.identity.organization.management.capability.governance.cache.GovernancePolicyEvaluationCacheKey;
 import org.wso2.carbon.identity.organization.management.capability.governance.exception.GovernancePolicyMgtClientException;
 import org.wso2.carbon.identity.organization.management.capability.governance.internal.GovernancePolicyDataHolder;
 import org.wso2.carbon.identity.organization.management.capability.governance.model.GovernanceOrgSelected;
@@ -36,6 +39,7 @@ import org.wso2.carbon.identity.organization.management.capability.governance.mo
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.core.util.DatabaseUtil;
 
@@ -46,11 +50,20 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 import javax.sql.DataSource;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -71,10 +84,18 @@ public class GovernancePolicyServiceImplTest {
 
     @Mock
     private OrganizationManager organizationManager;
+    @Mock
+    private GovernancePolicyEvaluationCache governancePolicyEvaluationCache;
+    @Mock
+    private OrgResourceResolverService orgResourceResolverService;
+
+    private final Map<GovernancePolicyEvaluationCacheKey, GovernancePolicyEvaluationCacheEntry> cachedEvaluations =
+            new HashMap<>();
 
     private GovernancePolicyServiceImpl service;
     private MockedStatic<Utils> mockedUtils;
     private MockedStatic<OrganizationManagementUtil> mockedOrgMgmtUtil;
+    private MockedStatic<GovernancePolicyEvaluationCache> mockedEvaluationCache;
     private DataSource originalDatabaseUtilDataSource;
     private DataSource originalUtilsDataSource;
 
@@ -92,6 +113,10 @@ public class GovernancePolicyServiceImplTest {
         mockedUtils.when(Utils::getOrganizationId).thenReturn(SUPER_ORG_ID);
         mockedOrgMgmtUtil = mockStatic(OrganizationManagementUtil.class, org.mockito.Mockito.CALLS_REAL_METHODS);
         mockedOrgMgmtUtil.when(() -> OrganizationManagementUtil.isOrganization(SUPER_ORG_ID)).thenReturn(false);
+        mockedEvaluationCache = mockStatic(GovernancePolicyEvaluationCache.class);
+        mockedEvaluationCache.when(GovernancePolicyEvaluationCache::getInstance)
+                .thenReturn(governancePolicyEvaluationCache);
+        mockEvaluationCache();
     }
 
     @AfterClass
@@ -103,6 +128,10 @@ public class GovernancePolicyServiceImplTest {
         if (mockedOrgMgmtUtil != null) {
             mockedOrgMgmtUtil.close();
         }
+        if (mockedEvaluationCache != null) {
+            mockedEvaluationCache.close();
+        }
+        GovernancePolicyDataHolder.getInstance().setOrgResourceResolverService(null);
         setStatic(DatabaseUtil.class.getDeclaredField("dataSource"), originalDatabaseUtilDataSource);
         setStatic(Utils.class.getDeclaredField("dataSource"), originalUtilsDataSource);
         BasicDataSource dataSource = DATA_SOURCE_MAP.remove(DB_NAME);
@@ -111,6 +140,33 @@ public class GovernancePolicyServiceImplTest {
         }
     }
 
+    // Cached evaluations.
+
+    @Test
+    public void testAddAndDeleteOrgGovernancePolicyInvalidatesCachedEvaluations() throws Exception {
+
+        String capability = "EVALUATION_CAPABILITY";
+        GovernancePolicyEvaluator evaluator = new GovernancePolicyEvaluatorImpl();
+        mockedOrgMgmtUtil.when(() -> OrganizationManagementUtil.isOrganization(ORG_L1_ID)).thenReturn(true);
+        // Walks the ancestor chain of the organization, which only consists of the root organization.
+        when(orgResourceResolverService.getResourcesFromOrgHierarchy(eq(ORG_L1_ID), any(), any()))
+                .thenAnswer(invocation -> {
+                    Function<String, Optional<OrgGovernancePolicy>> policyRetriever = invocation.getArgument(1);
+                    return policyRetriever.apply(SUPER_ORG_ID).orElse(null);
+                });
+        GovernancePolicyDataHolder.getInstance().setOrgResourceResolverService(orgResourceResolverService);
+
+        Assert.assertFalse(evaluator.evaluate(ORG_L1_ID, capability, RESOURCE_TYPE_APP).isAllowed());
+
+        OrgGovernancePolicy policy = buildOrgPolicy(SUPER_ORG_ID, Policy.ALLOW_ALL);
+        policy.setCapability(capability);
+        service.addOrgGovernancePolicy(policy);
+        Assert.assertTrue(evaluator.evaluate(ORG_L1_ID, capability, RESOURCE_TYPE_APP).isAllowed());
+
+        service.deleteOrgGovernancePolicyByKey(SUPER_ORG_ID, RESOURCE_TYPE_APP, capability);
+        Assert.assertFalse(evaluator.evaluate(ORG_L1_ID, capability, RESOURCE_TYPE_APP).isAllowed());
+    }
+
     // Org-level CRUD.
 
     @Test
@@ -144,7 +200,9 @@ public class GovernancePolicyServiceImplTest {
         policy.setCapability("CAPABILITY_TO_DELETE");
         service.addOrgGovernancePolicy(policy);
 
+        clearInvocations(governancePolicyEvaluationCache);
         service.deleteOrgGovernancePolicyByKey(SUPER_ORG_ID, RESOURCE_TYPE_APP, "CAPABILITY_TO_DELETE");
+        verify(governancePolicyEvaluationCache, atLeastOnce()).clearAllFromCache();
 
         try {
             service.getOrgGovernancePolicyByKey(SUPER_ORG_ID, RESOURCE_TYPE_APP, "CAPABILITY_TO_DELETE");
@@ -224,6 +282,13 @@ public class GovernancePolicyServiceImplTest {
 
         Assert.assertTrue(policy.coversOrg("target-org", false));
         Assert.assertFalse(policy.coversOrg("other-org", false));
+
+        GovernanceOrgSelected otherSelected = new GovernanceOrgSelected();
+        otherSelected.setTargetOrgId("other-org");
+        policy.setSelectedOrgs(Collections.singletonList(otherSelected));
+
+        Assert.assertFalse(policy.coversOrg("target-org", false));
+        Assert.assertTrue(policy.coversOrg("other-org", false));
     }
 
     // Natural key lookups.
@@ -311,6 +376,18 @@ public class GovernancePolicyServiceImplTest {
         return policy;
     }
 
+    private void mockEvaluationCache() {
+
+        when(governancePolicyEvaluationCache.getEvaluationFromCache(any()))
+                .thenAnswer(invocation -> cachedEvaluations.get(invocation.getArgument(0)));
+        doAnswer(invocation -> cachedEvaluations.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(governancePolicyEvaluationCache).addEvaluationToCache(any(), any(), anyLong());
+        doAnswer(invocation -> {
+            cachedEvaluations.clear();
+            return null;
+        }).when(governancePolicyEvaluationCache).clearAllFromCache();
+    }
+
     // H2 / DataSource setup.
 
     private void initiateH2Base() throws Exception {
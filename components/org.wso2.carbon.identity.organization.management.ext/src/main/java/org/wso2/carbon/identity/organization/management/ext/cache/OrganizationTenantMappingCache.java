@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.ext.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Locale;
+
+/**
+ * Bidirectional cache of the mappings between the organizations and their tenant domains.
+ * <p>
+ * Both directions are kept in the super tenant's caches, since a mapping is looked up before the tenant of the
+ * request is known. Only resolved mappings are cached, hence an organization whose tenant is not created yet is
+ * looked up again on the next request. Tenant domains are case insensitive, so they are cached in lower case.
+ */
+public class OrganizationTenantMappingCache {
+
+    private static final OrganizationTenantMappingCache INSTANCE = new OrganizationTenantMappingCache();
+
+    private OrganizationTenantMappingCache() {
+
+    }
+
+    /**
+     * Get the singleton instance of the OrganizationTenantMappingCache.
+     *
+     * @return OrganizationTenantMappingCache instance.
+     */
+    public static OrganizationTenantMappingCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached tenant domain of the given organization.
+     *
+     * @param organizationId ID of the organization.
+     * @return The tenant domain, or null if the mapping is not cached.
+     */
+    public String getTenantDomain(String organizationId) {
+
+        if (StringUtils.isBlank(organizationId)) {
+            return null;
+        }
+        OrganizationTenantMappingCacheEntry entry = OrganizationTenantMappingCacheByOrgId.getInstance()
+                .getValueFromCache(organizationId, MultitenantConstants.SUPER_TENANT_ID);
+        return entry != null ? entry.getTenantDomain() : null;
+    }
+
+    /**
+     * Get the cached ID of the organization associated with the given tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return The organization ID, or null if the mapping is not cached.
+     */
+    public String getOrganizationId(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return null;
+        }
+        OrganizationTenantMappingCacheEntry entry = OrganizationTenantMappingCacheByTenantDomain.getInstance()
+                .getValueFromCache(toKey(tenantDomain), MultitenantConstants.SUPER_TENANT_ID);
+        return entry != null ? entry.getOrganizationId() : null;
+    }
+
+    /**
+     * Add the mapping between the given organization and tenant domain to both directions of the cache.
+     *
+     * @param organizationId ID of the organization.
+     * @param tenantDomain   Tenant domain of the organization.
+     */
+    public void addMapping(String organizationId, String tenantDomain) {
+
+        if (StringUtils.isBlank(organizationId) || StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        OrganizationTenantMappingCacheEntry entry = new OrganizationTenantMappingCacheEntry(organizationId,
+                tenantDomain);
+        OrganizationTenantMappingCacheByOrgId.getInstance().addToCache(organizationId, entry,
+                MultitenantConstants.SUPER_TENANT_ID);
+        OrganizationTenantMappingCacheByTenantDomain.getInstance().addToCache(toKey(tenantDomain), entry,
+                MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear both directions of the cached mapping of the given organization.
+     *
+     * @param organizationId ID of the organization.
+     */
+    public void clearMappingOfOrganization(String organizationId) {
+
+        if (StringUtils.isBlank(organizationId)) {
+            return;
+        }
+        String tenantDomain = getTenantDomain(organizationId);
+        OrganizationTenantMappingCacheByOrgId.getInstance().clearCacheEntry(organizationId,
+                MultitenantConstants.SUPER_TENANT_ID);
+        if (tenantDomain != null) {
+            OrganizationTenantMappingCacheByTenantDomain.getInstance().clearCacheEntry(toKey(tenantDomain),
+                    MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    /**
+     * Clear both directions of the cached mapping of the given tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearMappingOfTenantDomain(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        String organizationId = getOrganizationId(tenantDomain);
+        OrganizationTenantMappingCacheByTenantDomain.getInstance().clearCacheEntry(toKey(tenantDomain),
+                MultitenantConstants.SUPER_TENANT_ID);
+        if (organizationId != null) {
+            OrganizationTenantMappingCacheByOrgId.getInstance().clearCacheEntry(organizationId,
+                    MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    private static String toKey(String tenantDomain) {
+
+        return tenantDomain.toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.ext.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache for the organization and tenant domain mappings, keyed by the tenant domain. Use
+ * {@link OrganizationTenantMappingCache} to keep both directions of a mapping in sync.
+ */
+public class OrganizationTenantMappingCacheByTenantDomain
+        extends BaseCache<String, OrganizationTenantMappingCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationTenantMappingCacheByTenantDomain";
+    private static final OrganizationTenantMappingCacheByTenantDomain INSTANCE =
+            new OrganizationTenantMappingCacheByTenantDomain();
+
+    private OrganizationTenantMappingCacheByTenantDomain() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the OrganizationTenantMappingCacheByTenantDomain.
+     *
+     * @return OrganizationTenantMappingCacheByTenantDomain instance.
+     */
+    public static OrganizationTenantMappingCacheByTenantDomain getInstance() {
+
+        return INSTANCE;
+    }
+}
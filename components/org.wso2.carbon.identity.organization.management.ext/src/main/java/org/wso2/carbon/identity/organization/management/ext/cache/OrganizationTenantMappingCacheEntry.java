@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.ext.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry holding the mapping between an organization and the tenant domain of the organization.
+ */
+public class OrganizationTenantMappingCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 3308751640917734625L;
+
+    private final String organizationId;
+    private final String tenantDomain;
+
+    public OrganizationTenantMappingCacheEntry(String organizationId, String tenantDomain) {
+
+        this.organizationId = organizationId;
+        this.tenantDomain = tenantDomain;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.handler;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+import org.wso2.carbon.identity.organization.management.ext.cache.OrganizationTenantMappingCache;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPathIndex;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Event handler to invalidate the cached organization hierarchy data when organizations are created, updated or
+ * deleted. The cached tenant domain mapping of an organization is invalidated when the organization is deleted.
+ * <p>
+ * The handler accepts the organization events by itself, so it does not need a subscription in the identity event
+ * configuration.
+ */
+public class OrganizationHierarchyCacheHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationHierarchyCacheHandler.class);
+
+    private static final Set<String> ORGANIZATION_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Constants.EVENT_POST_ADD_ORGANIZATION,
+            Constants.EVENT_POST_UPDATE_ORGANIZATION,
+            Constants.EVENT_POST_PATCH_ORGANIZATION,
+            Constants.EVENT_POST_DELETE_ORGANIZATION)));
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && ORGANIZATION_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String eventName = event.getEventName();
+        Map<String, Object> eventProperties = event.getEventProperties();
+        String organizationId;
+        switch (eventName) {
+            case Constants.EVENT_POST_ADD_ORGANIZATION:
+                Organization organization = (Organization) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION);
+                organizationId = organization != null ? organization.getId() : null;
+                break;
+            case Constants.EVENT_POST_UPDATE_ORGANIZATION:
+            case Constants.EVENT_POST_PATCH_ORGANIZATION:
+            case Constants.EVENT_POST_DELETE_ORGANIZATION:
+                organizationId = (String) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION_ID);
+                break;
+            default:
+                return;
+        }
+
+        if (StringUtils.isBlank(organizationId)) {
+            return;
+        }
+        OrgAncestorPathIndex.getInstance().invalidate(organizationId);
+        if (Constants.EVENT_POST_DELETE_ORGANIZATION.equals(eventName)) {
+            OrganizationTenantMappingCache.getInstance().clearMappingOfOrganization(organizationId);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Invalidated the cached hierarchy data referring to the organization: " + organizationId +
+                    " upon the event: " + eventName);
+        }
+    }
+
+    @Override
+    public String getName() {
+
+        return "OrganizationHierarchyCacheHandler";
+    }
+}
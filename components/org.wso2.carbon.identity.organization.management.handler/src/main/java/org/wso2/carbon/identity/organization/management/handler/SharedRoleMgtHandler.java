@@ -42,11 +42,10 @@ import org.wso2.carbon.identity.organization.management.application.model.RoleWi
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplication;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareUpdateOperation;
-import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
+import org.wso2.carbon.identity.organization.management.application.util.OrgHierarchyLevelExecutor;
 import org.wso2.carbon.identity.organization.management.handler.internal.OrganizationManagementHandlerDataHolder;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
-import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.ChildOrganizationDO;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
@@ -60,17 +59,23 @@ import org.wso2.carbon.utils.AuditLog;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SKIP_ORGANIZATION_HIERARCHY_VALIDATION;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.getAppAssociatedRoleSharingMode;
-import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_APPLICATION;
 
 /**
  * Event handler to manage shared roles in sub-organizations.
@@ -81,7 +86,16 @@ public class SharedRoleMgtHandler extends AbstractEventHandler {
     private static final String ALLOWED_AUDIENCE_FOR_ASSOCIATED_ROLES = "allowedAudienceForAssociatedRoles";
     private static final String SYSTEM_PREFIX = "system_";
     private static final String DOMAIN_NAME_SEPARATOR = "/";
+    private static final String SHARED_ROLE_PROVISIONING_PARALLELISM = "SharedRoleProvisioning.Parallelism";
+    private static final int DEFAULT_SHARED_ROLE_PROVISIONING_PARALLELISM = 5;
+    private static final String SHARED_ROLE_PROVISIONING_THREAD_NAME_PREFIX = "shared-role-provisioning-worker";
+    private static final int SHARED_ROLE_PROVISIONING_CHUNK_SIZE = 100;
     private final ExecutorService executorService = Executors.newFixedThreadPool(5);
+    private final OrgHierarchyLevelExecutor sharedRoleProvisioningExecutor =
+            OrgHierarchyLevelExecutor.fromConfiguration(SHARED_ROLE_PROVISIONING_THREAD_NAME_PREFIX,
+                    SHARED_ROLE_PROVISIONING_PARALLELISM, DEFAULT_SHARED_ROLE_PROVISIONING_PARALLELISM);
+    private final ConcurrentMap<String, CompletableFuture<Void>> pendingSharedRoleProvisioning =
+            new ConcurrentHashMap<>();
 
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
@@ -305,41 +319,17 @@ public class SharedRoleMgtHandler extends AbstractEventHandler {
             return;
         }
         String sharedAppTenantDomain = getOrganizationManager().resolveTenantDomain(sharedAppOrgId);
-
-        Map<String, String> mainRoleToSharedRoleMappingsInSharedOrg =
-                getMainRoleToSharedRoleMappingsInChunks(rolesList, sharedAppTenantDomain);
-
+        Map<String, String> mainRoleNames = new LinkedHashMap<>();
         for (RoleV2 role : rolesList) {
-            // Check if the role exists in the application shared org.
-            boolean roleExistsInSharedOrg =
-                    getRoleManagementServiceV2().isExistingRoleName(role.getName(), RoleConstants.ORGANIZATION,
-                            sharedAppOrgId, sharedAppTenantDomain);
-
-            boolean roleRelationshipExistsInSharedOrg =
-                    mainRoleToSharedRoleMappingsInSharedOrg.get(role.getId()) != null;
-            if (roleExistsInSharedOrg && !roleRelationshipExistsInSharedOrg) {
-                // Add relationship between main role and shared role.
-                String roleIdInSharedOrg =
-                        getRoleManagementServiceV2().getRoleIdByName(role.getName(), RoleConstants.ORGANIZATION,
-                                sharedAppOrgId, sharedAppTenantDomain);
-                getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(role.getId(),
-                        roleIdInSharedOrg, mainAppTenantDomain, sharedAppTenantDomain);
-            } else if (!roleExistsInSharedOrg && !roleRelationshipExistsInSharedOrg) {
-
-                if (role.getName().contains(DOMAIN_NAME_SEPARATOR) || role.getName().startsWith(SYSTEM_PREFIX)) {
-                    continue;
-                }
-
-                // Create the role in the shared org.
-                RoleBasicInfo sharedRole =
-                        getRoleManagementServiceV2().addRole(role.getName(), Collections.emptyList(),
-                                Collections.emptyList(), Collections.emptyList(), RoleConstants.ORGANIZATION,
-                                sharedAppOrgId, sharedAppTenantDomain);
-                // Add relationship between main role and shared role.
-                getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(role.getId(),
-                        sharedRole.getId(), mainAppTenantDomain, sharedAppTenantDomain);
-            }
+            mainRoleNames.put(role.getId(), role.getName());
         }
+        // Roles which already exist in the shared org without a relationship are linked to the main roles.
+        new SharedRoleProvisioner(RoleConstants.ORGANIZATION, mainAppTenantDomain)
+                .linkExistingRoles(true)
+                .creatableRoleNames(roleName -> !roleName.contains(DOMAIN_NAME_SEPARATOR) &&
+                        !roleName.startsWith(SYSTEM_PREFIX))
+                .provision(mainRoleNames, Collections.singletonList(
+                        new SharedRoleProvisioner.Target(sharedAppOrgId, sharedAppTenantDomain)));
     }
 
     /**
@@ -491,27 +481,19 @@ public class SharedRoleMgtHandler extends AbstractEventHandler {
                                                                       successfullyProvisionedOrExistingRoles)
             throws IdentityRoleManagementException {
 
-        for (RoleBasicInfo roleToBeShared : rolesToShare) {
-            boolean isRoleAlreadyExist = getRoleManagementServiceV2().isExistingRoleName(roleToBeShared.getName(),
-                    RoleConstants.APPLICATION, sharedAppId, sharedAppTenantDomain);
+        Map<String, List<RoleBasicInfo>> sharedRoles = new SharedRoleProvisioner(RoleConstants.APPLICATION,
+                mainTenantDomain).provision(getMainRoleNames(rolesToShare), Collections.singletonList(
+                        new SharedRoleProvisioner.Target(sharedAppId, sharedAppTenantDomain)));
+        successfullyProvisionedOrExistingRoles.addAll(sharedRoles.getOrDefault(sharedAppId, Collections.emptyList()));
+    }
 
-            if (isRoleAlreadyExist) {
-                successfullyProvisionedOrExistingRoles.add(roleToBeShared);
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Role '" + roleToBeShared.getName() + "' already exists in the shared sub org: '" +
-                            sharedAppTenantDomain + "' for app ID '" + sharedAppId + "'. Skipping creation but " +
-                            "acknowledging for sharing.");
-                }
-                continue;
-            }
+    private Map<String, String> getMainRoleNames(List<RoleBasicInfo> mainRoles) {
 
-            RoleBasicInfo subOrgRole = getRoleManagementServiceV2().addRole(roleToBeShared.getName(),
-                    Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
-                    RoleConstants.APPLICATION, sharedAppId, sharedAppTenantDomain);
-            getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(roleToBeShared.getId(),
-                    subOrgRole.getId(), mainTenantDomain, sharedAppTenantDomain);
-            successfullyProvisionedOrExistingRoles.add(subOrgRole);
+        Map<String, String> mainRoleNames = new LinkedHashMap<>();
+        for (RoleBasicInfo mainRole : mainRoles) {
+            mainRoleNames.put(mainRole.getId(), mainRole.getName());
         }
+        return mainRoleNames;
     }
 
     /**
@@ -696,27 +678,10 @@ public class SharedRoleMgtHandler extends AbstractEventHandler {
                                                            String mainTenantDomain, String sharedAppId,
                                                            String sharedAppTenantDomain)
             throws IdentityRoleManagementException {
-        for (RoleBasicInfo roleToBeShared : rolesToAdd) {
-            boolean isRoleAlreadyExist = getRoleManagementServiceV2().isExistingRoleName(roleToBeShared.getName(),
-                    RoleConstants.APPLICATION, sharedAppId, sharedAppTenantDomain);
-            if (isRoleAlreadyExist) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Role '" + roleToBeShared.getName() + "' already exists in the shared sub org: '" +
-                            sharedAppTenantDomain + "' for app ID '" + sharedAppId + "'. Skipping creation.");
-                }
-                continue;
-            }
-            RoleBasicInfo subOrgRole = getRoleManagementServiceV2().addRole(roleToBeShared.getName(),
-                    Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
-                    RoleConstants.APPLICATION, sharedAppId, sharedAppTenantDomain);
-            getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(roleToBeShared.getId(),
-                    subOrgRole.getId(), mainTenantDomain, sharedAppTenantDomain);
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Added role '" + subOrgRole.getName() + "' to shared app " + sharedAppId);
-            }
-        }
-    }
 
+        new SharedRoleProvisioner(RoleConstants.APPLICATION, mainTenantDomain).provision(getMainRoleNames(rolesToAdd),
+                Collections.singletonList(new SharedRoleProvisioner.Target(sharedAppId, sharedAppTenantDomain)));
+    }
 
     /**
      * Removes specified application roles from a shared application and its child organizations' shared applications.
@@ -795,36 +760,22 @@ public class SharedRoleMgtHandler extends AbstractEventHandler {
         if (rolesToDelete == null || rolesToDelete.isEmpty()) {
             return;
         }
-        String appRolesFilter = RoleConstants.AUDIENCE_ID + " " + RoleConstants.EQ + " " + applicationResourceId;
-        List<RoleBasicInfo> existingAppRoles = getRoleManagementServiceV2().getRoles(appRolesFilter, null,
-                0, null, null, tenantDomain);
-
-        if (existingAppRoles.isEmpty()) {
-            return;
-        }
-
+        // In this context, the audience name of the existing roles IS applicationResourceId. So the audience name of
+        // the criteria must also be applicationResourceId for the roles to match.
+        Map<String, Set<String>> roleNamesToDeleteByAudienceName = new HashMap<>();
         for (RoleWithAudienceDO roleCriterion : rolesToDelete) {
             // Ensure the criterion is for an APPLICATION role before attempting to match and delete.
-            if (!RoleConstants.APPLICATION.equals(roleCriterion.getAudienceType().toString())) {
-                continue;
-            }
-            for (RoleBasicInfo existingRole : existingAppRoles) {
-                boolean isRoleNameEqual = existingRole.getName().equals(roleCriterion.getRoleName());
-                // In this context, existingRole.getAudienceName() IS applicationResourceId.
-                // So, roleCriterion.getAudienceName() must also be applicationResourceId for this to match.
-                // This implies the RoleWithAudienceDO for deletion is constructed with audienceName = sharedAppId.
-                boolean isAudienceNameEqual = existingRole.getAudienceName().equals(roleCriterion.getAudienceName());
-
-                if (isRoleNameEqual && isAudienceNameEqual) {
-                    getRoleManagementServiceV2().deleteRole(existingRole.getId(), tenantDomain);
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Deleted role '" + existingRole.getName() + "' (ID: " + existingRole.getId() +
-                                ") from app " + applicationResourceId + " in tenant " + tenantDomain);
-                    }
-                    break;
-                }
+            if (RoleConstants.APPLICATION.equals(roleCriterion.getAudienceType().toString())) {
+                roleNamesToDeleteByAudienceName.computeIfAbsent(roleCriterion.getAudienceName(),
+                        audienceName -> new HashSet<>()).add(roleCriterion.getRoleName());
             }
         }
+        if (roleNamesToDeleteByAudienceName.isEmpty()) {
+            return;
+        }
+        SharedRoleProvisioner.deleteSharedRoles(new SharedRoleProvisioner.Target(applicationResourceId, tenantDomain),
+                existingRole -> roleNamesToDeleteByAudienceName.getOrDefault(existingRole.getAudienceName(),
+                        Collections.emptySet()).contains(existingRole.getName()));
     }
 
     /**
@@ -962,214 +913,234 @@ public class SharedRoleMgtHandler extends AbstractEventHandler {
                 sharedAppId);
     }
 
-    private Map<String, String> getMainRoleToSharedRoleMappingsInChunks(List<RoleV2> rolesList,
-                                                                        String sharedAppTenantDomain)
-            throws IdentityRoleManagementException {
-
-        Map<String, String> allMappings = new HashMap<>();
-        int chunkSize = 1000;
-
-        for (int i = 0; i < rolesList.size(); i += chunkSize) {
-            int end = Math.min(i + chunkSize, rolesList.size());
-            List<RoleV2> chunk = rolesList.subList(i, end);
+    private void createSharedRolesOnNewRoleCreation(Map<String, Object> eventProperties)
+            throws IdentityEventException {
 
-            List<String> roleIds = chunk.stream()
-                    .map(RoleV2::getId)
-                    .collect(Collectors.toList());
+        String mainRoleUUID = (String) eventProperties.get(IdentityEventConstants.EventProperty.ROLE_ID);
+        String mainRoleName = (String) eventProperties.get(IdentityEventConstants.EventProperty.ROLE_NAME);
+        String roleTenantDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+        String roleAudienceType = (String) eventProperties.get(IdentityEventConstants.EventProperty.AUDIENCE);
+        String roleAudienceId = (String) eventProperties.get(IdentityEventConstants.EventProperty.AUDIENCE_ID);
+        String roleOrgId;
+        try {
+            roleOrgId = getOrganizationManager().resolveOrganizationId(roleTenantDomain);
+            if (OrganizationManagementUtil.isOrganization(roleTenantDomain)) {
+                return;
+            }
+        } catch (OrganizationManagementException e) {
+            throw new IdentityEventException("Error occurred while retrieving shared applications.", e);
+        }
+        SharedRoleProvisioningJob job = new SharedRoleProvisioningJob(mainRoleUUID, mainRoleName, roleTenantDomain,
+                roleOrgId, roleAudienceType, roleAudienceId);
+        /*
+        The shared roles are provisioned in the background, so that the role creation does not wait for them. The
+        provisioning is registered against the role id before it is submitted and deregistered before it completes,
+        so that it can be looked up for as long as it is in progress.
+        */
+        CompletableFuture<Void> provisioning = new CompletableFuture<>();
+        pendingSharedRoleProvisioning.put(mainRoleUUID, provisioning);
+        try {
+            executorService.execute(() -> {
+                try {
+                    provisionSharedRoles(job);
+                    completeSharedRoleProvisioning(mainRoleUUID, provisioning, null);
+                } catch (RuntimeException e) {
+                    LOG.error(String.format("Exception occurred during creating the shared roles of the role: %s",
+                            mainRoleName), e);
+                    completeSharedRoleProvisioning(mainRoleUUID, provisioning, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.error(String.format("Shared role provisioning of the role: %s could not be scheduled.",
+                    mainRoleName), e);
+            completeSharedRoleProvisioning(mainRoleUUID, provisioning, e);
+        }
+    }
 
-            Map<String, String> chunkMappings = getRoleManagementServiceV2()
-                    .getMainRoleToSharedRoleMappingsBySubOrg(roleIds, sharedAppTenantDomain);
+    private void completeSharedRoleProvisioning(String mainRoleId, CompletableFuture<Void> provisioning,
+                                                Throwable throwable) {
 
-            allMappings.putAll(chunkMappings);
+        pendingSharedRoleProvisioning.remove(mainRoleId, provisioning);
+        if (throwable == null) {
+            provisioning.complete(null);
+        } else {
+            provisioning.completeExceptionally(throwable);
         }
+    }
 
-        return allMappings;
+    /**
+     * Get the in-progress shared role provisioning triggered by the creation of the given role.
+     *
+     * @param mainRoleId ID of the role whose shared roles are being provisioned.
+     * @return The provisioning future, or empty if there is no provisioning in progress for the role.
+     */
+    public Optional<CompletableFuture<Void>> getPendingSharedRoleProvisioning(String mainRoleId) {
+
+        return Optional.ofNullable(pendingSharedRoleProvisioning.get(mainRoleId));
     }
 
-    private void createSharedRolesOnNewRoleCreation(Map<String, Object> eventProperties)
-            throws IdentityEventException {
+    private void provisionSharedRoles(SharedRoleProvisioningJob job) {
 
+        long startTime = System.currentTimeMillis();
+        List<String> sharedRoleTargets;
         try {
-            String mainRoleUUID = (String) eventProperties.get(IdentityEventConstants.EventProperty.ROLE_ID);
-            String mainRoleName = (String) eventProperties.get(IdentityEventConstants.EventProperty.ROLE_NAME);
-            String roleTenantDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
-            String roleAudienceType = (String) eventProperties.get(IdentityEventConstants.EventProperty.AUDIENCE);
-            String roleAudienceId = (String) eventProperties.get(IdentityEventConstants.EventProperty.AUDIENCE_ID);
-            String roleOrgId = getOrganizationManager().resolveOrganizationId(roleTenantDomain);
-            if (OrganizationManagementUtil.isOrganization(roleTenantDomain)) {
-                return;
-            }
-            switch (roleAudienceType.toLowerCase()) {
+            switch (job.audienceType.toLowerCase()) {
                 case RoleConstants.APPLICATION:
-                    // If this is a shared application, create the role in the shared apps' org space.
-                    List<SharedApplication> sharedApplications =
-                            getOrgApplicationManager().getSharedApplications(roleOrgId, roleAudienceId);
-                    int noOfSharedApps = sharedApplications.size();
-                    for (int i = 0; i < noOfSharedApps; i++) {
-                        final int taskId = i;
-                        CompletableFuture.runAsync(() -> {
-                            try {
-                                String sharedApplicationId = sharedApplications.get(taskId).getSharedApplicationId();
-                                String sharedOrganizationId = sharedApplications.get(taskId).getOrganizationId();
-                                String shareAppTenantDomain =
-                                        getOrganizationManager().resolveTenantDomain(sharedOrganizationId);
-                                String associatedUserName =
-                                        PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-                                try {
-                                    PrivilegedCarbonContext.startTenantFlow();
-                                    PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                            .setTenantDomain(shareAppTenantDomain, true);
-                                    PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                            .setUsername(associatedUserName);
-                                    ServiceProvider sharedServiceProvider = getApplicationManagementService()
-                                            .getApplicationByResourceId(sharedApplicationId, shareAppTenantDomain);
-                                    boolean isRoleSharingModeAll = false;
-                                    ApplicationShareRolePolicy.Mode roleSharingMode =
-                                            OrgApplicationManagerUtil.getAppAssociatedRoleSharingMode(
-                                                    sharedServiceProvider);
-                                    if (ApplicationShareRolePolicy.Mode.ALL.name().equals(roleSharingMode.name())) {
-                                        isRoleSharingModeAll = true;
-                                    }
-                                    /*
-                                     If the role sharing mode is not ALL, do not create the role in the shared
-                                     app when a new application role is created.
-                                    */
-                                    if (!isRoleSharingModeAll) {
-                                        return;
-                                    }
-
-                                    RoleBasicInfo sharedRoleInfo =
-                                        getRoleManagementServiceV2().addRole(mainRoleName, Collections.emptyList(),
-                                                Collections.emptyList(),
-                                                Collections.emptyList(), RoleConstants.APPLICATION, sharedApplicationId,
-                                                shareAppTenantDomain);
-                                    // Add relationship between main role and shared role.
-                                    getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(mainRoleUUID,
-                                            sharedRoleInfo.getId(), roleTenantDomain, shareAppTenantDomain);
-                                } finally {
-                                    PrivilegedCarbonContext.endTenantFlow();
-                                }
-                            } catch (IdentityRoleManagementException | OrganizationManagementException e) {
-                                LOG.error("Error occurred while creating shared role in organization with id: " +
-                                        sharedApplications.get(taskId).getOrganizationId(), e);
-                            } catch (IdentityApplicationManagementException e) {
-                                LOG.error(String.format(ERROR_CODE_INVALID_APPLICATION.getMessage(),
-                                        sharedApplications.get(taskId).getSharedApplicationId(),
-                                        sharedApplications.get(taskId).getOrganizationId()), e);
-                            }
-                        }, executorService).exceptionally(throwable -> {
-                            LOG.error(String.format(
-                                    "Exception occurred during creating a shared role: %s in organization: %s",
-                                    mainRoleName, sharedApplications.get(taskId).getOrganizationId()), throwable);
-                            return null;
-                        });
-                    }
+                    sharedRoleTargets = getApplicationRoleTargets(job);
                     break;
                 case RoleConstants.ORGANIZATION:
-                    ApplicationBasicInfo[] applicationBasicInfo =
-                            getApplicationMgtService().getApplicationBasicInfoBySPProperty(roleTenantDomain,
-                                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername(),
-                                    ALLOWED_AUDIENCE_FOR_ASSOCIATED_ROLES, RoleConstants.ORGANIZATION);
-                    List<String> applicationIdList = new ArrayList<>();
-                    for (ApplicationBasicInfo basicInfo : applicationBasicInfo) {
-                        applicationIdList.add(basicInfo.getUuid());
-                    }
-
-                    List<BasicOrganization> applicationSharedOrganizations = new ArrayList<>();
-                    for (String applicationId : applicationIdList) {
-                        List<BasicOrganization> applicationSharedOrganizationsCopy = getOrgApplicationManager().
-                                getApplicationSharedOrganizations(roleOrgId, applicationId);
-
-                        List<SharedApplication> orgAudienceSharedApplications =
-                                getOrgApplicationManager().getSharedApplications(roleOrgId, applicationId);
-                        for (SharedApplication sharedApplication : orgAudienceSharedApplications) {
-                            try {
-                                String shareAppTenantDomain = getOrganizationManager().resolveTenantDomain(
-                                        sharedApplication.getOrganizationId());
-                                String associatedUserName =
-                                        PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-                                PrivilegedCarbonContext.startTenantFlow();
-                                PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                        .setTenantDomain(shareAppTenantDomain, true);
-                                PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(associatedUserName);
-                                ServiceProvider sharedServiceProvider = getApplicationManagementService()
-                                        .getApplicationByResourceId(sharedApplication.getSharedApplicationId(),
-                                                getOrganizationManager().resolveTenantDomain(
-                                                        sharedApplication.getOrganizationId()));
-                                boolean isRoleSharingModeAll = false;
-                                ApplicationShareRolePolicy.Mode roleSharingMode =
-                                        OrgApplicationManagerUtil.getAppAssociatedRoleSharingMode(
-                                                sharedServiceProvider);
-                                if (ApplicationShareRolePolicy.Mode.ALL.name().equals(roleSharingMode.name())) {
-                                    isRoleSharingModeAll = true;
-                                }
-                                /*
-                                 If the role sharing mode is not ALL, do not create the role in the shared
-                                 app when a new application role is created.
-                                */
-                                if (!isRoleSharingModeAll) {
-                                    return;
-                                }
-
-                                /*
-                                 Extracting the organization IDs which the applications are shared. If a particular
-                                 organization is already added to the list, then skipping that and move to the
-                                 next organization.
-                                */
-                                for (BasicOrganization organizationCopy : applicationSharedOrganizationsCopy) {
-                                    boolean found = false;
-                                    for (BasicOrganization organization : applicationSharedOrganizations) {
-                                        if (organization.getId().equals(organizationCopy.getId())) {
-                                            found = true;
-                                            break;
-                                        }
-                                    }
-                                    if (!found) {
-                                        applicationSharedOrganizations.add(organizationCopy);
-                                    }
-                                }
-                            } finally {
-                                PrivilegedCarbonContext.endTenantFlow();
-                            }
-                        }
-                    }
-                    for (BasicOrganization organization : applicationSharedOrganizations) {
-                        String shareAppTenantDomain =
-                                getOrganizationManager().resolveTenantDomain(organization.getId());
-                        if (!getRoleManagementServiceV2().isExistingRoleName(mainRoleName, RoleConstants.ORGANIZATION,
-                                organization.getId(), shareAppTenantDomain)) {
-                            RoleBasicInfo sharedRoleInfo = getRoleManagementServiceV2().addRole(mainRoleName,
-                                    Collections.emptyList(),
-                                    Collections.emptyList(),
-                                    Collections.emptyList(), RoleConstants.ORGANIZATION, organization.getId(),
-                                    shareAppTenantDomain);
-                            getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(mainRoleUUID,
-                                    sharedRoleInfo.getId(), roleTenantDomain, shareAppTenantDomain);
-                        } else {
-                            String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-                            String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().
-                                    getTenantDomain();
-                            AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
-                                    IdentityUtil.getInitiatorId(username, tenantDomain),
-                                    LoggerUtils.Target.User.name(), mainRoleName, LoggerUtils.Target.Role.name(),
-                                    LogConstants.UserManagement.ADD_ROLE_ACTION)
-                                    .data(buildAuditData(roleOrgId, null, organization.getId(), mainRoleName,
-                                    mainRoleUUID, "Role conflict"));
-                            LoggerUtils.triggerAuditLogEvent(auditLogBuilder, true);
-                            LOG.warn(String.format("Organization %s has a non shared role with name %s, ",
-                                    organization.getId(), mainRoleName));
-                        }
-                    }
+                    sharedRoleTargets = getOrganizationRoleTargets(job);
                     break;
                 default:
-                    LOG.error("Unsupported audience type: " + roleAudienceType);
+                    LOG.error("Unsupported audience type: " + job.audienceType);
+                    return;
             }
-        } catch (OrganizationManagementException | IdentityApplicationManagementException |
-                 IdentityRoleManagementException e) {
-            throw new IdentityEventException("Error occurred while retrieving shared applications.", e);
+        } catch (OrganizationManagementException | IdentityApplicationManagementException e) {
+            LOG.error("Error occurred while retrieving shared applications of the role: " + job.mainRoleId, e);
+            return;
+        }
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < sharedRoleTargets.size(); i += SHARED_ROLE_PROVISIONING_CHUNK_SIZE) {
+            chunks.add(sharedRoleTargets.subList(i, Math.min(i + SHARED_ROLE_PROVISIONING_CHUNK_SIZE,
+                    sharedRoleTargets.size())));
+        }
+        try {
+            sharedRoleProvisioningExecutor.executeByLevel(Collections.singletonList(chunks),
+                    chunk -> chunk.forEach(target -> createSharedRole(job, target)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Creating the shared roles of the role: " + job.mainRoleId + " was interrupted.", e);
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Processed %d shared role(s) of the role: %s in %d ms.", sharedRoleTargets.size(),
+                    job.mainRoleId, System.currentTimeMillis() - startTime));
         }
     }
 
+    /**
+     * Get the organizations of the shared applications in which the new application role should be created. Only the
+     * shared applications which share all the roles are considered.
+     */
+    private List<String> getApplicationRoleTargets(SharedRoleProvisioningJob job)
+            throws OrganizationManagementException {
+
+        List<SharedApplication> sharedApplications =
+                getOrgApplicationManager().getSharedApplications(job.roleOrgId, job.audienceId);
+        Map<String, ApplicationShareRolePolicy.Mode> roleSharingModes =
+                getOrgApplicationManager().getRoleSharingModesOfSharedApplications(job.roleOrgId, job.audienceId);
+        Set<String> sharedOrganizationIds = new HashSet<>();
+        List<String> targets = new ArrayList<>();
+        for (SharedApplication sharedApplication : sharedApplications) {
+            String sharedOrganizationId = sharedApplication.getOrganizationId();
+            if (isRoleSharingModeAll(roleSharingModes, sharedOrganizationId)
+                    && sharedOrganizationIds.add(sharedOrganizationId)) {
+                job.sharedApplicationIds.put(sharedOrganizationId, sharedApplication.getSharedApplicationId());
+                targets.add(sharedOrganizationId);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Get the organizations in which the new organization role should be created. These are the organizations with
+     * which an application that uses organization roles is shared with all its roles.
+     */
+    private List<String> getOrganizationRoleTargets(SharedRoleProvisioningJob job)
+            throws OrganizationManagementException, IdentityApplicationManagementException {
+
+        ApplicationBasicInfo[] applicationBasicInfo = getApplicationMgtService().getApplicationBasicInfoBySPProperty(
+                job.roleTenantDomain, job.username, ALLOWED_AUDIENCE_FOR_ASSOCIATED_ROLES, RoleConstants.ORGANIZATION);
+        // Organizations with which several applications are shared are only considered once.
+        Set<String> sharedOrganizationIds = new LinkedHashSet<>();
+        for (ApplicationBasicInfo basicInfo : applicationBasicInfo) {
+            String applicationId = basicInfo.getUuid();
+            List<SharedApplication> sharedApplications =
+                    getOrgApplicationManager().getSharedApplications(job.roleOrgId, applicationId);
+            Map<String, ApplicationShareRolePolicy.Mode> roleSharingModes =
+                    getOrgApplicationManager().getRoleSharingModesOfSharedApplications(job.roleOrgId, applicationId);
+            for (SharedApplication sharedApplication : sharedApplications) {
+                /*
+                 If the role sharing mode is not ALL, do not create the role in the shared
+                 app when a new organization role is created.
+                */
+                if (isRoleSharingModeAll(roleSharingModes, sharedApplication.getOrganizationId())) {
+                    sharedOrganizationIds.add(sharedApplication.getOrganizationId());
+                }
+            }
+        }
+        return new ArrayList<>(sharedOrganizationIds);
+    }
+
+    private boolean isRoleSharingModeAll(Map<String, ApplicationShareRolePolicy.Mode> roleSharingModes,
+                                         String sharedOrganizationId) {
+
+        return ApplicationShareRolePolicy.Mode.ALL == roleSharingModes.getOrDefault(sharedOrganizationId,
+                ApplicationShareRolePolicy.Mode.ALL);
+    }
+
+    private void createSharedRole(SharedRoleProvisioningJob job, String sharedOrganizationId) {
+
+        boolean isApplicationRole = RoleConstants.APPLICATION.equalsIgnoreCase(job.audienceType);
+        try {
+            String sharedTenantDomain = getOrganizationManager().resolveTenantDomain(sharedOrganizationId);
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(
+                        isApplicationRole ? sharedTenantDomain : job.roleTenantDomain, true);
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(job.username);
+                if (isApplicationRole) {
+                    createSharedApplicationRole(job, sharedOrganizationId, sharedTenantDomain);
+                } else {
+                    createSharedOrganizationRole(job, sharedOrganizationId, sharedTenantDomain);
+                }
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        } catch (IdentityRoleManagementException | OrganizationManagementException e) {
+            LOG.error("Error occurred while creating shared role in organization with id: " + sharedOrganizationId,
+                    e);
+        }
+    }
+
+    private void createSharedApplicationRole(SharedRoleProvisioningJob job, String sharedOrganizationId,
+                                             String sharedTenantDomain) throws IdentityRoleManagementException {
+
+        String sharedApplicationId = job.sharedApplicationIds.get(sharedOrganizationId);
+        RoleBasicInfo sharedRoleInfo = getRoleManagementServiceV2().addRole(job.mainRoleName,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), RoleConstants.APPLICATION,
+                sharedApplicationId, sharedTenantDomain);
+        // Add relationship between main role and shared role.
+        getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(job.mainRoleId, sharedRoleInfo.getId(),
+                job.roleTenantDomain, sharedTenantDomain);
+    }
+
+    private void createSharedOrganizationRole(SharedRoleProvisioningJob job, String sharedOrganizationId,
+                                              String sharedTenantDomain) throws IdentityRoleManagementException {
+
+        if (!getRoleManagementServiceV2().isExistingRoleName(job.mainRoleName, RoleConstants.ORGANIZATION,
+                sharedOrganizationId, sharedTenantDomain)) {
+            RoleBasicInfo sharedRoleInfo = getRoleManagementServiceV2().addRole(job.mainRoleName,
+                    Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                    RoleConstants.ORGANIZATION, sharedOrganizationId, sharedTenantDomain);
+            getRoleManagementServiceV2().addMainRoleToSharedRoleRelationship(job.mainRoleId, sharedRoleInfo.getId(),
+                    job.roleTenantDomain, sharedTenantDomain);
+            return;
+        }
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
+                IdentityUtil.getInitiatorId(username, tenantDomain),
+                LoggerUtils.Target.User.name(), job.mainRoleName, LoggerUtils.Target.Role.name(),
+                LogConstants.UserManagement.ADD_ROLE_ACTION)
+                .data(buildAuditData(job.roleOrgId, null, sharedOrganizationId, job.mainRoleName, job.mainRoleId,
+                        "Role conflict"));
+        LoggerUtils.triggerAuditLogEvent(auditLogBuilder, true);
+        LOG.warn(String.format("Organization %s has a non shared role with name %s, ", sharedOrganizationId,
+                job.mainRoleName));
+    }
+
     private void checkSharingRoleConflicts(Map<String, Object> eventProperties) throws IdentityEventException {
 
         String parentOrganizationId =
@@ -1261,4 +1232,32 @@ public class SharedRoleMgtHandler extends AbstractEventHandler {
         auditData.put(RoleConstants.FAILURE_REASON, failureReason);
         return auditData;
     }
+
+    /**
+     * Provisioning of the shared roles of a newly created role. Holds the details of the created role and the carbon
+     * context of the thread which created it.
+     */
+    private static class SharedRoleProvisioningJob {
+
+        private final String mainRoleId;
+        private final String mainRoleName;
+        private final String roleTenantDomain;
+        private final String roleOrgId;
+        private final String audienceType;
+        private final String audienceId;
+        private final String username;
+        private final Map<String, String> sharedApplicationIds = new ConcurrentHashMap<>();
+
+        private SharedRoleProvisioningJob(String mainRoleId, String mainRoleName, String roleTenantDomain,
+                                          String roleOrgId, String audienceType, String audienceId) {
+
+            this.mainRoleId = mainRoleId;
+            this.mainRoleName = mainRoleName;
+            this.roleTenantDomain = roleTenantDomain;
+            this.roleOrgId = roleOrgId;
+            this.audienceType = audienceType;
+            this.audienceId = audienceId;
+            this.username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        }
+    }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.handler.internal.OrganizationManagementHandlerDataHolder;
+import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
+import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Provisions the shared roles of a set of main roles in a set of target organizations. What already exists in a
+ * target is resolved with set queries, i.e. one query per page of the roles of the audience and one query per chunk
+ * of main roles for their relationships, and only the missing roles and relationships are created.
+ */
+public class SharedRoleProvisioner {
+
+    private static final Log LOG = LogFactory.getLog(SharedRoleProvisioner.class);
+    private static final int MAIN_ROLE_CHUNK_SIZE = 1000;
+
+    private final String audienceType;
+    private final String mainTenantDomain;
+    private boolean linkExistingRoles;
+    private Predicate<String> creatableRoleNames = roleName -> true;
+
+    /**
+     * Create a provisioner of the shared roles of the given audience type.
+     *
+     * @param audienceType     Audience type of the roles, i.e. application or organization.
+     * @param mainTenantDomain Tenant domain of the main roles.
+     */
+    public SharedRoleProvisioner(String audienceType, String mainTenantDomain) {
+
+        this.audienceType = audienceType;
+        this.mainTenantDomain = mainTenantDomain;
+    }
+
+    /**
+     * Set whether a role which already exists in a target without a relationship with the main role should be linked
+     * to the main role. Otherwise, such a role is left as it is.
+     *
+     * @param linkExistingRoles Whether to link the existing roles.
+     * @return The provisioner.
+     */
+    public SharedRoleProvisioner linkExistingRoles(boolean linkExistingRoles) {
+
+        this.linkExistingRoles = linkExistingRoles;
+        return this;
+    }
+
+    /**
+     * Set the names of the roles which may be created in the targets. The roles which are not allowed are not created,
+     * but can still be linked if they exist.
+     *
+     * @param creatableRoleNames Predicate on the role name.
+     * @return The provisioner.
+     */
+    public SharedRoleProvisioner creatableRoleNames(Predicate<String> creatableRoleNames) {
+
+        this.creatableRoleNames = creatableRoleNames;
+        return this;
+    }
+
+    /**
+     * Provision the given main roles in each of the given targets.
+     *
+     * @param mainRoleNames Names of the main roles, keyed by their IDs.
+     * @param targets       Targets in which the shared roles are provisioned.
+     * @return The shared roles which exist or were created in each target, keyed by the audience ID of the target.
+     * @throws IdentityRoleManagementException If an error occurs while provisioning the roles.
+     */
+    public Map<String, List<RoleBasicInfo>> provision(Map<String, String> mainRoleNames, List<Target> targets)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<RoleBasicInfo>> sharedRoles = new HashMap<>();
+        if (mainRoleNames.isEmpty()) {
+            return sharedRoles;
+        }
+        for (Target target : targets) {
+            sharedRoles.put(target.getAudienceId(), provision(mainRoleNames, target));
+        }
+        return sharedRoles;
+    }
+
+    /**
+     * Delete the shared roles of a target which match the given predicate.
+     *
+     * @param target        Target of which the shared roles are deleted.
+     * @param rolesToDelete Predicate on the existing roles of the target.
+     * @return Number of deleted roles.
+     * @throws IdentityRoleManagementException If an error occurs while deleting the roles.
+     */
+    public static int deleteSharedRoles(Target target, Predicate<RoleBasicInfo> rolesToDelete)
+            throws IdentityRoleManagementException {
+
+        int deletedRoles = 0;
+        for (RoleBasicInfo existingRole : getRolesOfAudience(target)) {
+            if (!rolesToDelete.test(existingRole)) {
+                continue;
+            }
+            getRoleManagementService().deleteRole(existingRole.getId(), target.getTenantDomain());
+            deletedRoles++;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Deleted role '" + existingRole.getName() + "' (ID: " + existingRole.getId() +
+                        ") of the audience " + target.getAudienceId() + " in tenant " + target.getTenantDomain());
+            }
+        }
+        return deletedRoles;
+    }
+
+    private List<RoleBasicInfo> provision(Map<String, String> mainRoleNames, Target target)
+            throws IdentityRoleManagementException {
+
+        String tenantDomain = target.getTenantDomain();
+        Map<String, RoleBasicInfo> existingRoles = new HashMap<>();
+        for (RoleBasicInfo existingRole : getRolesOfAudience(target)) {
+            existingRoles.put(existingRole.getName(), existingRole);
+        }
+        Map<String, String> sharedRoleIds = linkExistingRoles ?
+                getMainRoleToSharedRoleMappings(new ArrayList<>(mainRoleNames.keySet()), tenantDomain) :
+                Collections.emptyMap();
+
+        List<RoleBasicInfo> sharedRoles = new ArrayList<>();
+        for (Map.Entry<String, String> mainRole : mainRoleNames.entrySet()) {
+            String mainRoleId = mainRole.getKey();
+            String roleName = mainRole.getValue();
+            RoleBasicInfo existingRole = existingRoles.get(roleName);
+            if (sharedRoleIds.containsKey(mainRoleId)) {
+                if (existingRole != null) {
+                    sharedRoles.add(existingRole);
+                }
+                continue;
+            }
+            if (existingRole != null) {
+                if (linkExistingRoles) {
+                    // Add relationship between main role and the role which already exists in the target.
+                    getRoleManagementService().addMainRoleToSharedRoleRelationship(mainRoleId, existingRole.getId(),
+                            mainTenantDomain, tenantDomain);
+                } else if (LOG.isDebugEnabled()) {
+                    LOG.debug("Role '" + roleName + "' already exists in the audience '" + target.getAudienceId() +
+                            "' of the tenant '" + tenantDomain + "'. Skipping creation.");
+                }
+                sharedRoles.add(existingRole);
+                continue;
+            }
+            if (!creatableRoleNames.test(roleName)) {
+                continue;
+            }
+            RoleBasicInfo sharedRole = getRoleManagementService().addRole(roleName, Collections.emptyList(),
+                    Collections.emptyList(), Collections.emptyList(), audienceType, target.getAudienceId(),
+                    tenantDomain);
+            // Add relationship between main role and shared role.
+            getRoleManagementService().addMainRoleToSharedRoleRelationship(mainRoleId, sharedRole.getId(),
+                    mainTenantDomain, tenantDomain);
+            sharedRoles.add(sharedRole);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Added role '" + roleName + "' to the audience " + target.getAudienceId() + " in tenant " +
+                        tenantDomain);
+            }
+        }
+        return sharedRoles;
+    }
+
+    private static List<RoleBasicInfo> getRolesOfAudience(Target target) throws IdentityRoleManagementException {
+
+        String filter = RoleConstants.AUDIENCE_ID + " " + RoleConstants.EQ + " " + target.getAudienceId();
+        // The roles are paged through, as a single query returns at most the maximum number of items per page.
+        int pageSize = IdentityUtil.getMaximumItemPerPage();
+        List<RoleBasicInfo> roles = new ArrayList<>();
+        List<RoleBasicInfo> page;
+        do {
+            page = getRoleManagementService().getRoles(filter, pageSize, roles.size(), null, null,
+                    target.getTenantDomain());
+            roles.addAll(page);
+        } while (!page.isEmpty() && page.size() == pageSize);
+        return roles;
+    }
+
+    private static Map<String, String> getMainRoleToSharedRoleMappings(List<String> mainRoleIds,
+                                                                       String sharedTenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, String> allMappings = new HashMap<>();
+        for (int i = 0; i < mainRoleIds.size(); i += MAIN_ROLE_CHUNK_SIZE) {
+            List<String> chunk = mainRoleIds.subList(i, Math.min(i + MAIN_ROLE_CHUNK_SIZE, mainRoleIds.size()));
+            allMappings.putAll(getRoleManagementService().getMainRoleToSharedRoleMappingsBySubOrg(chunk,
+                    sharedTenantDomain));
+        }
+        return allMappings;
+    }
+
+    private static RoleManagementService getRoleManagementService() {
+
+        return OrganizationManagementHandlerDataHolder.getInstance().getRoleManagementServiceV2();
+    }
+
+    /**
+     * Target in which shared roles are provisioned. The audience is the shared application for application roles and
+     * the organization for organization roles.
+     */
+    public static class Target {
+
+        private final String audienceId;
+        private final String tenantDomain;
+
+        public Target(String audienceId, String tenantDomain) {
+
+            this.audienceId = audienceId;
+            this.tenantDomain = tenantDomain;
+        }
+
+        public String getAudienceId() {
+
+            return audienceId;
+        }
+
+        public String getTenantDomain() {
+
+            return tenantDomain;
+        }
+    }
+}
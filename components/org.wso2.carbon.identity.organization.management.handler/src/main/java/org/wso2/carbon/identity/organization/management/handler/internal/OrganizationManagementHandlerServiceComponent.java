@@ -36,6 +36,7 @@ import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.handler.FragmentApplicationMgtHandler;
 import org.wso2.carbon.identity.organization.management.handler.GovernanceConfigUpdateHandler;
+import org.wso2.carbon.identity.organization.management.handler.OrganizationHierarchyCacheHandler;
 import org.wso2.carbon.identity.organization.management.handler.OrganizationManagementAuditLogHandler;
 import org.wso2.carbon.identity.organization.management.handler.OrganizationSessionHandler;
 import org.wso2.carbon.identity.organization.management.handler.OrganizationVersionHandler;
@@ -77,6 +78,7 @@ public class OrganizationManagementHandlerServiceComponent {
             bundleContext.registerService(AbstractEventHandler.class, new OrganizationSessionHandler(), null);
             bundleContext.registerService(AbstractEventHandler.class, new FragmentApplicationMgtHandler(), null);
             bundleContext.registerService(AbstractEventHandler.class, new OrganizationVersionHandler(), null);
+            bundleContext.registerService(AbstractEventHandler.class, new OrganizationHierarchyCacheHandler(), null);
             bundleContext.registerService(AbstractEventHandler.class.getName(),
                     OrganizationManagementAuditLogHandler.getInstance(), null);
             bundleContext.registerService(IdentityProviderMgtListener.class.getName(), new ResidentIdPMgtListener(),
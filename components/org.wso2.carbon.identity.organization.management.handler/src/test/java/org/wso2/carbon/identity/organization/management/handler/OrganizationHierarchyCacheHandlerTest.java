@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.handler;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+import org.wso2.carbon.identity.organization.management.ext.cache.OrganizationTenantMappingCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPathCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPathIndex;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for OrganizationHierarchyCacheHandler.
+ */
+public class OrganizationHierarchyCacheHandlerTest {
+
+    private static final String ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+
+    private MockedStatic<OrganizationTenantMappingCache> organizationTenantMappingCacheMockedStatic;
+    private MockedStatic<OrgAncestorPathIndex> orgAncestorPathIndexMockedStatic;
+    private MockedStatic<OrgAncestorPathCache> orgAncestorPathCacheMockedStatic;
+    private OrganizationTenantMappingCache organizationTenantMappingCache;
+    private OrgAncestorPathIndex orgAncestorPathIndex;
+    private OrganizationHierarchyCacheHandler organizationHierarchyCacheHandler;
+
+    @BeforeMethod
+    public void setUp() {
+
+        organizationTenantMappingCache = mock(OrganizationTenantMappingCache.class);
+        orgAncestorPathIndex = mock(OrgAncestorPathIndex.class);
+        organizationTenantMappingCacheMockedStatic = mockStatic(OrganizationTenantMappingCache.class);
+        organizationTenantMappingCacheMockedStatic.when(OrganizationTenantMappingCache::getInstance)
+                .thenReturn(organizationTenantMappingCache);
+        orgAncestorPathIndexMockedStatic = mockStatic(OrgAncestorPathIndex.class);
+        orgAncestorPathIndexMockedStatic.when(OrgAncestorPathIndex::getInstance).thenReturn(orgAncestorPathIndex);
+        orgAncestorPathCacheMockedStatic = mockStatic(OrgAncestorPathCache.class);
+        orgAncestorPathCacheMockedStatic.when(OrgAncestorPathCache::getInstance)
+                .thenReturn(mock(OrgAncestorPathCache.class));
+        organizationHierarchyCacheHandler = new OrganizationHierarchyCacheHandler();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        organizationTenantMappingCacheMockedStatic.close();
+        orgAncestorPathIndexMockedStatic.close();
+        orgAncestorPathCacheMockedStatic.close();
+    }
+
+    @Test
+    public void testCanHandleOrganizationEvents() {
+
+        assertTrue(organizationHierarchyCacheHandler.canHandle(
+                new IdentityEventMessageContext(createEvent(Constants.EVENT_POST_DELETE_ORGANIZATION))));
+        assertFalse(organizationHierarchyCacheHandler.canHandle(
+                new IdentityEventMessageContext(createEvent(Constants.EVENT_PRE_DELETE_ORGANIZATION))));
+    }
+
+    @Test
+    public void testHandleEventForDeleteOrganization() throws Exception {
+
+        organizationHierarchyCacheHandler.handleEvent(createEvent(Constants.EVENT_POST_DELETE_ORGANIZATION));
+
+        verify(orgAncestorPathIndex).invalidate(ORG_ID);
+        verify(organizationTenantMappingCache).clearMappingOfOrganization(ORG_ID);
+    }
+
+    @Test
+    public void testHandleEventForUpdateOrganization() throws Exception {
+
+        organizationHierarchyCacheHandler.handleEvent(createEvent(Constants.EVENT_POST_UPDATE_ORGANIZATION));
+
+        verify(orgAncestorPathIndex).invalidate(ORG_ID);
+        verify(organizationTenantMappingCache, never()).clearMappingOfOrganization(anyString());
+    }
+
+    private Event createEvent(String eventName) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(Constants.EVENT_PROP_ORGANIZATION_ID, ORG_ID);
+        return new Event(eventName, eventProperties);
+    }
+}
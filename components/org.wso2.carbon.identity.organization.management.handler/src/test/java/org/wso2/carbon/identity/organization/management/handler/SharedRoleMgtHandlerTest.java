@@ -29,26 +29,35 @@ import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
 import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplication;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareUpdateOperation;
 import org.wso2.carbon.identity.organization.management.handler.internal.OrganizationManagementHandlerDataHolder;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.model.ParentOrganizationDO;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -59,6 +68,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.EVENT_PROP_MAIN_APPLICATION_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.EVENT_PROP_MAIN_ORGANIZATION_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.EVENT_PROP_PARENT_APPLICATION_ID;
@@ -239,7 +249,7 @@ public class SharedRoleMgtHandlerTest {
                 "app-role1-id", MAIN_APP_ID));
         when(mockedRoleManagementService.getRoles(anyString(), eq(null), eq(0), eq(null), eq(null),
                 eq(MAIN_ORG_TENANT_DOMAIN))).thenReturn(mainAppRoles);
-        when(mockedRoleManagementService.getRoles(anyString(), eq(null), eq(0), eq(null), eq(null),
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
                 eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(Collections.emptyList()); // No existing shared roles
 
         Map<String, String> roleMappings = new HashMap<>();
@@ -247,8 +257,6 @@ public class SharedRoleMgtHandlerTest {
         when(mockedRoleManagementService.getMainRoleToSharedRoleMappingsBySubOrg(
                 Collections.singletonList("app-role1-id"), PARENT_ORG_TENANT_DOMAIN)).thenReturn(roleMappings);
 
-        when(mockedRoleManagementService.isExistingRoleName(anyString(), eq(RoleConstants.APPLICATION),
-                eq(SHARED_ORG_APP_ID), eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(false); // Role does not exist yet
         RoleBasicInfo createdRole = createMockRoleBasicInfo("role1", "shared-role1-id", SHARED_ORG_APP_ID);
         when(mockedRoleManagementService.addRole(eq("role1"), anyList(), anyList(), anyList(),
                 eq(RoleConstants.APPLICATION), eq(SHARED_ORG_APP_ID), eq(SHARED_ORG_TENANT_DOMAIN)))
@@ -293,7 +301,7 @@ public class SharedRoleMgtHandlerTest {
                 "app-role1-id", MAIN_APP_ID));
         when(mockedRoleManagementService.getRoles(anyString(), eq(null), eq(0), eq(null), eq(null),
                 eq(MAIN_ORG_TENANT_DOMAIN))).thenReturn(mainAppRoles);
-        when(mockedRoleManagementService.getRoles(anyString(), eq(null), eq(0), eq(null), eq(null),
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
                 eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(Collections.emptyList());
 
         Map<String, String> roleMappings = new HashMap<>();
@@ -302,8 +310,6 @@ public class SharedRoleMgtHandlerTest {
                 Collections.singletonList("app-role1-id"), PARENT_ORG_TENANT_DOMAIN))
                 .thenReturn(roleMappings);
 
-        when(mockedRoleManagementService.isExistingRoleName(anyString(), eq(RoleConstants.APPLICATION),
-                eq(SHARED_ORG_APP_ID), eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(false);
         RoleBasicInfo createdRole = createMockRoleBasicInfo("role1", "shared-role1-id", SHARED_ORG_APP_ID);
         when(mockedRoleManagementService.addRole(eq("role1"), anyList(), anyList(), anyList(),
                 eq(RoleConstants.APPLICATION), eq(SHARED_ORG_APP_ID), eq(SHARED_ORG_TENANT_DOMAIN)))
@@ -383,8 +389,8 @@ public class SharedRoleMgtHandlerTest {
                 .thenReturn(roleMappings);
 
         // Setup that the role doesn't exist yet in the shared org.
-        when(mockedRoleManagementService.isExistingRoleName(eq("newRole"), eq(RoleConstants.APPLICATION),
-                eq(SHARED_ORG_APP_ID), eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(false);
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
+                eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(Collections.emptyList());
 
         // Setup result for role creation.
         RoleBasicInfo createdRole = createMockRoleBasicInfo("newRole", "shared-role-id", SHARED_ORG_APP_ID);
@@ -449,7 +455,7 @@ public class SharedRoleMgtHandlerTest {
         // Setup existing roles in shared app.
         List<RoleBasicInfo> sharedAppRoles = Collections.singletonList(
                 createMockRoleBasicInfo("existingRole", "shared-role-id", SHARED_ORG_APP_ID));
-        when(mockedRoleManagementService.getRoles(anyString(), eq(null), eq(0), eq(null), eq(null),
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
                 eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(sharedAppRoles);
 
         // Execute the handler.
@@ -518,8 +524,8 @@ public class SharedRoleMgtHandlerTest {
                 MAIN_APP_ID, MAIN_ORG_TENANT_DOMAIN)).thenReturn(mainAppOrgRoles);
 
         // Setup that the role doesn't exist yet in the shared org.
-        when(mockedRoleManagementService.isExistingRoleName("newOrgRole", RoleConstants.ORGANIZATION,
-                SHARED_ORG_ID, SHARED_ORG_TENANT_DOMAIN)).thenReturn(false);
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
+                eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(Collections.emptyList());
 
         // Setup result for role creation.
         RoleBasicInfo createdRole = createMockRoleBasicInfo("newOrgRole", "shared-org-role-id", SHARED_ORG_ID);
@@ -720,8 +726,8 @@ public class SharedRoleMgtHandlerTest {
         OrganizationManagementHandlerDataHolder.getInstance().setRoleManagementServiceV2(mockedRoleManagementService);
 
         // Setup that neither role exists in shared org.
-        when(mockedRoleManagementService.isExistingRoleName(anyString(), eq(RoleConstants.ORGANIZATION),
-                eq(SHARED_ORG_ID), eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(false);
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
+                eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(Collections.emptyList());
         when(mockedRoleManagementService.getMainRoleToSharedRoleMappingsBySubOrg(anyList(),
                 eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(new HashMap<>());
 
@@ -792,8 +798,8 @@ public class SharedRoleMgtHandlerTest {
         OrganizationManagementHandlerDataHolder.getInstance().setRoleManagementServiceV2(mockedRoleManagementService);
 
         // Setup that neither role exists in shared org.
-        when(mockedRoleManagementService.isExistingRoleName(anyString(), eq(RoleConstants.ORGANIZATION),
-                eq(SHARED_ORG_ID), eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(false);
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
+                eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(Collections.emptyList());
         when(mockedRoleManagementService.getMainRoleToSharedRoleMappingsBySubOrg(anyList(),
                 eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(new HashMap<>());
 
@@ -875,8 +881,8 @@ public class SharedRoleMgtHandlerTest {
         OrganizationManagementHandlerDataHolder.getInstance().setRoleManagementServiceV2(mockedRoleManagementService);
 
         // Setup that no roles exist in shared org.
-        when(mockedRoleManagementService.isExistingRoleName(anyString(), eq(RoleConstants.ORGANIZATION),
-                eq(SHARED_ORG_ID), eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(false);
+        when(mockedRoleManagementService.getRoles(anyString(), any(), eq(0), eq(null), eq(null),
+                eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(Collections.emptyList());
         when(mockedRoleManagementService.getMainRoleToSharedRoleMappingsBySubOrg(anyList(),
                 eq(SHARED_ORG_TENANT_DOMAIN))).thenReturn(new HashMap<>());
 
@@ -923,4 +929,59 @@ public class SharedRoleMgtHandlerTest {
         verify(mockedRoleManagementService, never()).addMainRoleToSharedRoleRelationship(
                 eq("domain-role-id"), anyString(), anyString(), anyString());
     }
+
+    @Test
+    public void testCreateSharedRolesOnNewApplicationRoleCreation() throws Exception {
+
+        Event event = new Event(IdentityEventConstants.Event.POST_ADD_ROLE_V2_EVENT);
+        event.addEventProperty(IdentityEventConstants.EventProperty.ROLE_ID, "main-role-id");
+        event.addEventProperty(IdentityEventConstants.EventProperty.ROLE_NAME, "main-role");
+        event.addEventProperty(IdentityEventConstants.EventProperty.TENANT_DOMAIN, MAIN_ORG_TENANT_DOMAIN);
+        event.addEventProperty(IdentityEventConstants.EventProperty.AUDIENCE, APPLICATION_AUD);
+        event.addEventProperty(IdentityEventConstants.EventProperty.AUDIENCE_ID, MAIN_APP_ID);
+
+        OrganizationManager mockedOrganizationManager = mock(OrganizationManager.class);
+        OrganizationManagementHandlerDataHolder.getInstance().setOrganizationManager(mockedOrganizationManager);
+        when(mockedOrganizationManager.resolveOrganizationId(MAIN_ORG_TENANT_DOMAIN)).thenReturn(MAIN_ORG_ID);
+        when(mockedOrganizationManager.resolveTenantDomain(SHARED_ORG_ID)).thenReturn(SHARED_ORG_TENANT_DOMAIN);
+
+        // The application is shared with all the roles to one organization and with selected roles to another.
+        OrgApplicationManager mockedOrgApplicationManager = mock(OrgApplicationManager.class);
+        OrganizationManagementHandlerDataHolder.getInstance().setOrgApplicationManager(mockedOrgApplicationManager);
+        when(mockedOrgApplicationManager.getSharedApplications(MAIN_ORG_ID, MAIN_APP_ID)).thenReturn(Arrays.asList(
+                new SharedApplication(SHARED_ORG_APP_ID, SHARED_ORG_ID),
+                new SharedApplication("selected-shared-app-id", "selected-shared-org-id")));
+        when(mockedOrgApplicationManager.getRoleSharingModesOfSharedApplications(MAIN_ORG_ID, MAIN_APP_ID))
+                .thenReturn(Collections.singletonMap("selected-shared-org-id",
+                        ApplicationShareRolePolicy.Mode.SELECTED));
+
+        RoleManagementService mockedRoleManagementService = mock(RoleManagementService.class);
+        OrganizationManagementHandlerDataHolder.getInstance().setRoleManagementServiceV2(mockedRoleManagementService);
+        RoleBasicInfo sharedRole = createMockRoleBasicInfo("main-role", "shared-role-id", SHARED_ORG_ID);
+        when(mockedRoleManagementService.addRole(eq("main-role"), anyList(), anyList(), anyList(),
+                eq(RoleConstants.APPLICATION), eq(SHARED_ORG_APP_ID), eq(SHARED_ORG_TENANT_DOMAIN)))
+                .thenReturn(sharedRole);
+
+        SharedRoleMgtHandler sharedRoleMgtHandler = new SharedRoleMgtHandler();
+        try (MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
+                     mockStatic(OrganizationManagementUtil.class)) {
+            organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(MAIN_ORG_TENANT_DOMAIN))
+                    .thenReturn(false);
+            sharedRoleMgtHandler.handleEvent(event);
+        }
+
+        // The shared roles are provisioned in the background and the provisioning is looked up by the role id.
+        Optional<CompletableFuture<Void>> pendingProvisioning =
+                sharedRoleMgtHandler.getPendingSharedRoleProvisioning("main-role-id");
+        if (pendingProvisioning.isPresent()) {
+            pendingProvisioning.get().get(10, TimeUnit.SECONDS);
+        }
+        assertFalse(sharedRoleMgtHandler.getPendingSharedRoleProvisioning("main-role-id").isPresent());
+        verify(mockedRoleManagementService, times(1)).addRole(eq("main-role"), anyList(), anyList(),
+                anyList(), eq(RoleConstants.APPLICATION), eq(SHARED_ORG_APP_ID), eq(SHARED_ORG_TENANT_DOMAIN));
+        verify(mockedRoleManagementService, times(1)).addMainRoleToSharedRoleRelationship(
+                "main-role-id", "shared-role-id", MAIN_ORG_TENANT_DOMAIN, SHARED_ORG_TENANT_DOMAIN);
+        verify(mockedRoleManagementService, never()).addRole(anyString(), anyList(), anyList(), anyList(),
+                anyString(), eq("selected-shared-app-id"), anyString());
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.handler;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.handler.internal.OrganizationManagementHandlerDataHolder;
+import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
+import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for SharedRoleProvisioner.
+ */
+public class SharedRoleProvisionerTest {
+
+    private static final String MAIN_TENANT_DOMAIN = "main-tenant-domain";
+    private static final String SHARED_ORG_ID = "shared-org-id";
+    private static final String SHARED_TENANT_DOMAIN = "shared-tenant-domain";
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    RoleManagementService roleManagementService;
+
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        openMocks(this);
+        OrganizationManagementHandlerDataHolder.getInstance().setRoleManagementServiceV2(roleManagementService);
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(IdentityUtil::getMaximumItemPerPage).thenReturn(PAGE_SIZE);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+        reset(roleManagementService);
+    }
+
+    @Test
+    public void testProvisionOrganizationRoles() throws Exception {
+
+        // The linked role is already shared, the existing role is not linked yet and the new role does not exist.
+        // The roles of the audience span two pages.
+        Map<String, String> mainRoleNames = new LinkedHashMap<>();
+        mainRoleNames.put("linked-role-id", "linked-role");
+        mainRoleNames.put("existing-role-id", "existing-role");
+        mainRoleNames.put("new-role-id", "new-role");
+        mainRoleNames.put("system-role-id", "system_role");
+
+        RoleBasicInfo linkedRole = createRoleBasicInfo("linked-role", "shared-linked-role-id");
+        RoleBasicInfo existingRole = createRoleBasicInfo("existing-role", "shared-existing-role-id");
+        when(roleManagementService.getRoles(anyString(), eq(PAGE_SIZE), eq(0), eq(null), eq(null),
+                eq(SHARED_TENANT_DOMAIN))).thenReturn(Arrays.asList(createRoleBasicInfo("other-role",
+                "other-role-id"), linkedRole));
+        when(roleManagementService.getRoles(anyString(), eq(PAGE_SIZE), eq(PAGE_SIZE), eq(null), eq(null),
+                eq(SHARED_TENANT_DOMAIN))).thenReturn(Collections.singletonList(existingRole));
+        when(roleManagementService.getMainRoleToSharedRoleMappingsBySubOrg(anyList(), eq(SHARED_TENANT_DOMAIN)))
+                .thenReturn(Collections.singletonMap("linked-role-id", "shared-linked-role-id"));
+        RoleBasicInfo newRole = createRoleBasicInfo("new-role", "shared-new-role-id");
+        when(roleManagementService.addRole(eq("new-role"), anyList(), anyList(), anyList(),
+                eq(RoleConstants.ORGANIZATION), eq(SHARED_ORG_ID), eq(SHARED_TENANT_DOMAIN))).thenReturn(newRole);
+
+        Map<String, List<RoleBasicInfo>> sharedRoles =
+                new SharedRoleProvisioner(RoleConstants.ORGANIZATION, MAIN_TENANT_DOMAIN)
+                        .linkExistingRoles(true)
+                        .creatableRoleNames(roleName -> !roleName.startsWith("system_"))
+                        .provision(mainRoleNames, Collections.singletonList(
+                                new SharedRoleProvisioner.Target(SHARED_ORG_ID, SHARED_TENANT_DOMAIN)));
+
+        assertEquals(sharedRoles.get(SHARED_ORG_ID), Arrays.asList(linkedRole, existingRole, newRole));
+        verify(roleManagementService, times(2)).getRoles(anyString(), eq(PAGE_SIZE), anyInt(), eq(null), eq(null),
+                eq(SHARED_TENANT_DOMAIN));
+        verify(roleManagementService, never()).isExistingRoleName(anyString(), anyString(), anyString(),
+                anyString());
+        verify(roleManagementService, times(1)).addRole(anyString(), anyList(), anyList(), anyList(), anyString(),
+                anyString(), anyString());
+        verify(roleManagementService, times(1)).addMainRoleToSharedRoleRelationship("existing-role-id",
+                "shared-existing-role-id", MAIN_TENANT_DOMAIN, SHARED_TENANT_DOMAIN);
+        verify(roleManagementService, times(1)).addMainRoleToSharedRoleRelationship("new-role-id",
+                "shared-new-role-id", MAIN_TENANT_DOMAIN, SHARED_TENANT_DOMAIN);
+        verify(roleManagementService, never()).addMainRoleToSharedRoleRelationship(eq("linked-role-id"),
+                anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testProvisionApplicationRolesWithoutLinkingExistingRoles() throws Exception {
+
+        Map<String, String> mainRoleNames = new LinkedHashMap<>();
+        mainRoleNames.put("existing-role-id", "existing-role");
+        RoleBasicInfo existingRole = createRoleBasicInfo("existing-role", "shared-existing-role-id");
+        when(roleManagementService.getRoles(anyString(), eq(PAGE_SIZE), eq(0), eq(null), eq(null),
+                eq(SHARED_TENANT_DOMAIN))).thenReturn(Collections.singletonList(existingRole));
+
+        Map<String, List<RoleBasicInfo>> sharedRoles =
+                new SharedRoleProvisioner(RoleConstants.APPLICATION, MAIN_TENANT_DOMAIN).provision(mainRoleNames,
+                        Collections.singletonList(new SharedRoleProvisioner.Target("shared-app-id",
+                                SHARED_TENANT_DOMAIN)));
+
+        assertEquals(sharedRoles.get("shared-app-id"), Collections.singletonList(existingRole));
+        verify(roleManagementService, never()).getMainRoleToSharedRoleMappingsBySubOrg(anyList(), anyString());
+        verify(roleManagementService, never()).addMainRoleToSharedRoleRelationship(anyString(), anyString(),
+                anyString(), anyString());
+    }
+
+    @Test
+    public void testDeleteSharedRoles() throws Exception {
+
+        RoleBasicInfo roleToDelete = createRoleBasicInfo("role-to-delete", "role-to-delete-id");
+        RoleBasicInfo roleToKeep = createRoleBasicInfo("role-to-keep", "role-to-keep-id");
+        when(roleManagementService.getRoles(anyString(), eq(PAGE_SIZE), eq(0), eq(null), eq(null),
+                eq(SHARED_TENANT_DOMAIN))).thenReturn(Arrays.asList(roleToDelete, roleToKeep));
+
+        int deletedRoles = SharedRoleProvisioner.deleteSharedRoles(
+                new SharedRoleProvisioner.Target("shared-app-id", SHARED_TENANT_DOMAIN),
+                role -> "role-to-delete".equals(role.getName()));
+
+        assertEquals(deletedRoles, 1);
+        verify(roleManagementService, times(1)).deleteRole("role-to-delete-id", SHARED_TENANT_DOMAIN);
+        verify(roleManagementService, never()).deleteRole("role-to-keep-id", SHARED_TENANT_DOMAIN);
+    }
+
+    private RoleBasicInfo createRoleBasicInfo(String name, String id) {
+
+        RoleBasicInfo role = new RoleBasicInfo();
+        role.setName(name);
+        role.setId(id);
+        return role;
+    }
+}
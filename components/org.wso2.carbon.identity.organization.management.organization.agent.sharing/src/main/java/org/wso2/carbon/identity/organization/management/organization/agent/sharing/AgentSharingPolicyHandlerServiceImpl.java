@@ -53,6 +53,7 @@ import org.wso2.carbon.identity.organization.management.organization.agent.shari
 import org.wso2.carbon.identity.organization.management.organization.agent.sharing.models.dos.SelectiveAgentShareOrgDetailsDO;
 import org.wso2.carbon.identity.organization.management.organization.agent.sharing.models.dos.SelectiveAgentUnshareDO;
 import org.wso2.carbon.identity.organization.management.organization.agent.sharing.models.dos.SharingModeDO;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingTaskExecutor;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -83,8 +84,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.ACTION_AGENT_SHARE_ROLE_ASSIGNMENT_UPDATE;
@@ -134,6 +134,7 @@ import static org.wso2.carbon.identity.organization.management.organization.agen
 import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.ErrorMessage.ERROR_CODE_ROLES_NULL;
 import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.ErrorMessage.ERROR_CODE_ROLE_NAME_NULL;
 import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.ErrorMessage.ERROR_CODE_ROLE_NOT_FOUND;
+import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.ErrorMessage.ERROR_CODE_SHARING_REQUEST_LIMIT_EXCEEDED;
 import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.ErrorMessage.ERROR_GENERAL_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.ErrorMessage.ERROR_SELECTIVE_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.agent.sharing.constant.AgentSharingConstants.LOG_WARN_NON_RESIDENT_AGENT;
@@ -152,7 +153,6 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyHandlerService {
 
     private static final Log LOG = LogFactory.getLog(AgentSharingPolicyHandlerServiceImpl.class);
-    private final ExecutorService executorService = Executors.newFixedThreadPool(5);
     private static final Set<String> SUPPORTED_GET_ATTRIBUTES =
             new HashSet<>(java.util.Arrays.asList(SHARED_AGENT_SHARING_MODE_INCLUDED_KEY,
                     SHARED_AGENT_ROLE_INCLUDED_KEY));
@@ -179,7 +179,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
         String sharingInitiatedTenantDomain = carbonContext.getTenantDomain();
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_SELECTIVE_AGENT_SHARE, () -> {
                     logAsyncProcessing(ACTION_SELECTIVE_AGENT_SHARE, sharingInitiatedUserId, sharingInitiatedOrgId);
                     try {
                         initiateThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
@@ -189,7 +189,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
                         PrivilegedCarbonContext.endTenantFlow();
                         IdentityUtil.threadLocalProperties.get().clear();
                     }
-                }, executorService)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async selective agent share processing.", ex);
                     return null;
@@ -217,7 +217,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
         String sharingInitiatedTenantDomain = carbonContext.getTenantDomain();
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_GENERAL_AGENT_SHARE, () -> {
                     logAsyncProcessing(ACTION_GENERAL_AGENT_SHARE, sharingInitiatedUserId, sharingInitiatedOrgId);
                     try {
                         initiateThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
@@ -228,7 +228,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
                         PrivilegedCarbonContext.endTenantFlow();
                         IdentityUtil.threadLocalProperties.get().clear();
                     }
-                }, executorService)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async selective agent share processing for organization: "
                             + sharingInitiatedOrgId, ex);
@@ -255,7 +255,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
         String sharingInitiatedTenantDomain = carbonContext.getTenantDomain();
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_SELECTIVE_AGENT_UNSHARE, () -> {
                     logAsyncProcessing(ACTION_SELECTIVE_AGENT_UNSHARE, carbonContext.getUserId(),
                             sharingInitiatedOrgId);
                     try {
@@ -266,7 +266,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
                         PrivilegedCarbonContext.endTenantFlow();
                         IdentityUtil.threadLocalProperties.get().clear();
                     }
-                }, executorService)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async selective agent unshare processing.", ex);
                     return null;
@@ -291,7 +291,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
         String sharingInitiatedTenantDomain = carbonContext.getTenantDomain();
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_GENERAL_AGENT_UNSHARE, () -> {
                     logAsyncProcessing(ACTION_GENERAL_AGENT_UNSHARE, carbonContext.getUserId(), sharingInitiatedOrgId);
                     try {
                         initiateThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
@@ -301,7 +301,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
                         PrivilegedCarbonContext.endTenantFlow();
                         IdentityUtil.threadLocalProperties.get().clear();
                     }
-                }, executorService)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async general agent unshare processing.", ex);
                     return null;
@@ -326,7 +326,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
         String sharingInitiatedTenantDomain = carbonContext.getTenantDomain();
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_AGENT_SHARE_ROLE_ASSIGNMENT_UPDATE, () -> {
                     logAsyncProcessing(ACTION_AGENT_SHARE_ROLE_ASSIGNMENT_UPDATE, sharingInitiatedUserId,
                             sharingInitiatedOrgId);
                     try {
@@ -337,7 +337,7 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
                         PrivilegedCarbonContext.endTenantFlow();
                         IdentityUtil.threadLocalProperties.get().clear();
                     }
-                }, executorService)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async agent share role assignment update processing.", ex);
                     return null;
@@ -1613,6 +1613,24 @@ public class AgentSharingPolicyHandlerServiceImpl implements AgentSharingPolicyH
         }
     }
 
+    /**
+     * Submits the given sharing task to the sharing task executor shared with the user sharing.
+     *
+     * @param action Action performed by the task.
+     * @param task   Task to be executed asynchronously.
+     * @return A future which completes when the task completes.
+     * @throws AgentSharingMgtClientException If the executor is saturated and cannot accept the task.
+     */
+    private CompletableFuture<Void> submitSharingTask(String action, Runnable task)
+            throws AgentSharingMgtClientException {
+
+        try {
+            return SharingTaskExecutor.getInstance().submit(action, task);
+        } catch (RejectedExecutionException e) {
+            throw new AgentSharingMgtClientException(ERROR_CODE_SHARING_REQUEST_LIMIT_EXCEEDED, e);
+        }
+    }
+
     private <T extends AgentCriteriaType> void validateAgentShareInput(
             org.wso2.carbon.identity.organization.management.organization.agent.sharing.models.dos.BaseAgentShareDO<T>
                     baseAgentShareDO) throws AgentSharingMgtClientException {
@@ -175,6 +175,9 @@ public class AgentSharingConstants {
                 "Unauthorized deletion of shared agent.",
                 "Agents shared by an ancestor organization can only be deleted by the shared agent's " +
                         "resident organization."),
+        ERROR_CODE_SHARING_REQUEST_LIMIT_EXCEEDED("10033",
+                "Too many sharing requests.",
+                "The server is processing the maximum number of sharing requests. Retry the request later."),
 
         // Server errors.
         ERROR_SELECTIVE_SHARE("15001",
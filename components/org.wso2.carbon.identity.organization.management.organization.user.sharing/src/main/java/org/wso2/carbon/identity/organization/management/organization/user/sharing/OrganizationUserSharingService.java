@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service that manages the organization user sharing.
@@ -61,6 +62,39 @@ public interface OrganizationUserSharingService {
         throw new NotImplementedException("shareOrganizationUser method is not implemented.");
     }
 
+    /**
+     * Shares the user with the given organizations and creates the associations of the shared users in batches,
+     * instead of creating and reading back the association of each organization separately. The shared users of a
+     * batch are removed again if the associations of the batch could not be created.
+     *
+     * @param orgIds           Organization IDs which the user is shared with.
+     * @param associatedUserId Actual user who is associated for a shared user.
+     * @param associatedOrgId  The organization ID associated user.
+     * @param sharedType       The type of sharing for the user in the organizations.
+     * @return The user associations, with their generated IDs, of the organizations which the user got shared with.
+     * @throws OrganizationManagementException If an error occurs while creating the organization user associations.
+     */
+    default List<UserAssociation> shareOrganizationUserWithOrganizations(List<String> orgIds, String associatedUserId,
+                                                                         String associatedOrgId, SharedType sharedType)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("shareOrganizationUserWithOrganizations method is not implemented.");
+    }
+
+    /**
+     * Creates the given associations between the shared users and the actual users in batches.
+     *
+     * @param userAssociations The user associations to be created.
+     * @return The created user associations. The generated IDs of the associations are not populated.
+     * @throws OrganizationManagementServerException If an error occurs while creating the organization user
+     *                                               associations.
+     */
+    default List<UserAssociation> createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("createOrganizationUserAssociations method is not implemented.");
+    }
+
     /**
      * Unshare all the shared users for the given user.
      *
@@ -127,6 +161,21 @@ public interface OrganizationUserSharingService {
      */
     UserAssociation getUserAssociation(String userId, String orgId) throws OrganizationManagementException;
 
+    /**
+     * Get the user associations of the given users in an organization.
+     *
+     * @param userIds The IDs of the users.
+     * @param orgId   The organization ID of the users.
+     * @return A map of the user associations keyed by the user ID. Users without an association in the organization
+     * are not included.
+     * @throws OrganizationManagementException If an error occurs while retrieving the user associations.
+     */
+    default Map<String, UserAssociation> getUserAssociations(List<String> userIds, String orgId)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getUserAssociations method is not implemented.");
+    }
+
     /**
      * Get all the user associations for a given user.
      *
@@ -162,6 +211,29 @@ public interface OrganizationUserSharingService {
         throw new NotImplementedException("getUserAssociationsOfGivenUser method is not implemented.");
     }
 
+    /**
+     * Get all user associations for a given user within the organizations under the given parent organization,
+     * with filtering and sorting options.
+     *
+     * @param actualUserId    Actual user ID of the user.
+     * @param residentOrgId   The organization ID where the user is managed.
+     * @param parentOrgId     The ID of the parent organization whose descendants define the search scope.
+     * @param recursive       Whether to include all descendants or only the immediate child organizations.
+     * @param expressionNodes The list of expression nodes for filtering the results.
+     * @param sortOrder       The order in which to sort the results (e.g., ascending or descending).
+     * @param limit           The maximum number of results to return.
+     * @return A list of {@link UserAssociation}s.
+     * @throws OrganizationManagementException If an error occurs while fetching user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfGivenUserInHierarchy(String actualUserId, String residentOrgId,
+                                                                            String parentOrgId, boolean recursive,
+                                                                            List<ExpressionNode> expressionNodes,
+                                                                            String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getUserAssociationsOfGivenUserInHierarchy method is not implemented.");
+    }
+
     /**
      * Get all user associations for a given user filtered by shared type.
      *
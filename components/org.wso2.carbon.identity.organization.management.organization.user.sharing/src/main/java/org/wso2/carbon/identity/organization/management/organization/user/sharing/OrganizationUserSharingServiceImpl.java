@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.organization.management.organization.user.sharing;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
@@ -25,6 +27,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.CacheBackedOrganizationUserSharingDAO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.OrganizationUserSharingDAO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.OrganizationUserSharingDAOImpl;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
@@ -41,10 +44,13 @@ import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.USER_ASSOCIATION_BATCH_INSERT_SIZE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.CLAIM_MANAGED_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_PROFILE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ID_CLAIM_READ_ONLY;
@@ -67,7 +73,9 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 )
 public class OrganizationUserSharingServiceImpl implements OrganizationUserSharingService {
 
-    private final OrganizationUserSharingDAO organizationUserSharingDAO = new OrganizationUserSharingDAOImpl();
+    private static final Log LOG = LogFactory.getLog(OrganizationUserSharingServiceImpl.class);
+    private final OrganizationUserSharingDAO organizationUserSharingDAO =
+            new CacheBackedOrganizationUserSharingDAO(new OrganizationUserSharingDAOImpl());
 
     @Override
     public void shareOrganizationUser(String orgId, String associatedUserId, String associatedOrgId)
@@ -87,6 +95,63 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
         shareOrganizationUserWithOrWithoutType(orgId, associatedUserId, associatedOrgId, sharedType);
     }
 
+    @Override
+    public List<UserAssociation> shareOrganizationUserWithOrganizations(List<String> orgIds, String associatedUserId,
+                                                                        String associatedOrgId, SharedType sharedType)
+            throws OrganizationManagementException {
+
+        List<UserAssociation> sharedUserAssociations = new ArrayList<>();
+        // Create the shared users and their associations chunk by chunk, so that a failed insert only leaves the
+        // shared users of a single chunk to be removed.
+        for (int i = 0; i < orgIds.size(); i += USER_ASSOCIATION_BATCH_INSERT_SIZE) {
+            List<String> chunkOrgIds = orgIds.subList(i, Math.min(i + USER_ASSOCIATION_BATCH_INSERT_SIZE,
+                    orgIds.size()));
+            List<UserAssociation> userAssociations = new ArrayList<>();
+            for (String orgId : chunkOrgIds) {
+                try {
+                    UserAssociation userAssociation = new UserAssociation();
+                    userAssociation.setUserId(addSharedUser(orgId, associatedUserId, associatedOrgId));
+                    userAssociation.setOrganizationId(orgId);
+                    userAssociation.setAssociatedUserId(associatedUserId);
+                    userAssociation.setUserResidentOrganizationId(associatedOrgId);
+                    userAssociation.setSharedType(sharedType != null ? sharedType : SharedType.NOT_SPECIFIED);
+                    userAssociations.add(userAssociation);
+                } catch (OrganizationManagementException e) {
+                    // Continue sharing the user with the rest of the organizations.
+                    LOG.error("Error while sharing the user: " + associatedUserId + " with the organization: " +
+                            orgId, e);
+                }
+            }
+            if (userAssociations.isEmpty()) {
+                continue;
+            }
+            try {
+                createOrganizationUserAssociations(userAssociations);
+            } catch (OrganizationManagementServerException e) {
+                LOG.error("Error while creating the associations of the user: " + associatedUserId +
+                        ". Removing the shared users created for the organizations: " + chunkOrgIds, e);
+                removeSharedUsers(userAssociations);
+                continue;
+            }
+            // Read the created associations back to return them with their generated IDs.
+            for (UserAssociation userAssociation :
+                    organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId,
+                            chunkOrgIds)) {
+                if (associatedOrgId.equals(userAssociation.getUserResidentOrganizationId())) {
+                    sharedUserAssociations.add(userAssociation);
+                }
+            }
+        }
+        return sharedUserAssociations;
+    }
+
+    @Override
+    public List<UserAssociation> createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+    }
+
     @Override
     public boolean unshareOrganizationUsers(String associatedUserId, String associatedOrgId)
             throws OrganizationManagementException {
@@ -138,6 +203,18 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
         return organizationUserSharingDAO.getUserAssociation(sharedUserId, sharedOrganizationId);
     }
 
+    @Override
+    public Map<String, UserAssociation> getUserAssociations(List<String> sharedUserIds, String sharedOrganizationId)
+            throws OrganizationManagementException {
+
+        Map<String, UserAssociation> userAssociations = new HashMap<>();
+        for (UserAssociation userAssociation :
+                organizationUserSharingDAO.getUserAssociations(sharedUserIds, sharedOrganizationId)) {
+            userAssociations.put(userAssociation.getUserId(), userAssociation);
+        }
+        return userAssociations;
+    }
+
     @Override
     public List<UserAssociation> getUserAssociationsOfGivenUser(String actualUserId, String residentOrgId)
             throws OrganizationManagementException {
@@ -156,6 +233,17 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
                 orgIdsScope, expressionNodes, sortOrder, limit);
     }
 
+    @Override
+    public List<UserAssociation> getUserAssociationsOfGivenUserInHierarchy(String actualUserId, String residentOrgId,
+                                                                           String parentOrgId, boolean recursive,
+                                                                           List<ExpressionNode> expressionNodes,
+                                                                           String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfAssociatedUserInHierarchy(actualUserId, residentOrgId,
+                parentOrgId, recursive, expressionNodes, sortOrder, limit);
+    }
+
     @Override
     public List<UserAssociation> getUserAssociationsOfGivenUser(String actualUserId, String residentOrgId,
                                                                 SharedType sharedType)
@@ -262,6 +350,23 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
         }
     }
 
+    /**
+     * Removes the shared users of the given associations, whose associations could not be created.
+     *
+     * @param userAssociations The associations of the shared users to be removed.
+     */
+    private void removeSharedUsers(List<UserAssociation> userAssociations) {
+
+        for (UserAssociation userAssociation : userAssociations) {
+            try {
+                removeSharedUser(userAssociation);
+            } catch (OrganizationManagementException e) {
+                LOG.error("Error while removing the shared user: " + userAssociation.getUserId() +
+                        " from the organization: " + userAssociation.getOrganizationId(), e);
+            }
+        }
+    }
+
     private void deleteUserInTenantFlow(AbstractUserStoreManager userStoreManager, String userId,
                                         String tenantDomain, String organizationId) throws UserStoreException {
 
@@ -290,6 +395,28 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
     private void shareOrganizationUserWithOrWithoutType(String orgId, String associatedUserId, String associatedOrgId,
                                                         SharedType sharedType) throws OrganizationManagementException {
 
+        String userId = addSharedUser(orgId, associatedUserId, associatedOrgId);
+        if (SharedType.NOT_SPECIFIED.equals(sharedType)) {
+            organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
+                    associatedOrgId);
+        } else {
+            organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
+                    associatedOrgId, sharedType);
+        }
+    }
+
+    /**
+     * Adds the shared user of the associated user to the given organization.
+     *
+     * @param orgId            Organization ID of the user is shared.
+     * @param associatedUserId Actual user who is associated for a shared user.
+     * @param associatedOrgId  The organization ID associated user.
+     * @return The ID of the shared user created in the organization.
+     * @throws OrganizationManagementException If an error occurs while creating the shared user.
+     */
+    private String addSharedUser(String orgId, String associatedUserId, String associatedOrgId)
+            throws OrganizationManagementException {
+
         try {
             String suborgTenantDomain = getOrganizationManager().resolveTenantDomain(orgId);
             startTenantFlow(suborgTenantDomain);
@@ -332,14 +459,7 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
                 }
                 defaultUserStore.addUser(userName, generatePassword(), null, userClaims, DEFAULT_PROFILE);
             }
-            String userId = userStoreManager.getUserIDFromUserName(UserCoreUtil.addDomainToName(userName, domain));
-            if (SharedType.NOT_SPECIFIED.equals(sharedType)) {
-                organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
-                        associatedOrgId);
-            } else {
-                organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
-                        associatedOrgId, sharedType);
-            }
+            return userStoreManager.getUserIDFromUserName(UserCoreUtil.addDomainToName(userName, domain));
         } catch (UserStoreException | InterruptedException e) {
             throw handleServerException(ERROR_CODE_ERROR_CREATE_SHARED_USER, e, orgId);
         } finally {
@@ -22,6 +22,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
@@ -36,6 +37,11 @@ import org.wso2.carbon.identity.core.model.Node;
 import org.wso2.carbon.identity.core.model.OperationNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.RoleAssignmentMode;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
@@ -44,11 +50,14 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtClientException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingTaskExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingWorkerPool;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.BaseUserShare;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.GeneralUserShare;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.SelectiveUserShare;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserShareUnitResult;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.BaseUserShareDO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.BaseUserUnshareDO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.GeneralUserShareV2DO;
@@ -103,9 +112,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_GENERAL_USER_SHARE;
@@ -119,6 +131,9 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.AUDIT_FAILURE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.AUDIT_MESSAGE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.AUDIT_SUCCESS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.B2B_USER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.B2B_USER_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.CORRELATION_ID_MDC;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_AUDIENCE_NAME_NULL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_AUDIENCE_NOT_FOUND;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_AUDIENCE_TYPE_NULL;
@@ -152,6 +167,7 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ROLES_NULL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ROLE_NAME_NULL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ROLE_NOT_FOUND;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_SHARING_REQUEST_LIMIT_EXCEEDED;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_CRITERIA_INVALID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_CRITERIA_MISSING;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_ID_NULL;
@@ -169,10 +185,13 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.PATCH_PATH_PREFIX;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.PATCH_PATH_ROLES;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.PATCH_PATH_SUFFIX_ROLES;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SELECTIVE_USER_SHARE_OPERATION_POLICY;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARED_USER_ROLE_INCLUDED_KEY;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARED_USER_SHARING_MODE_INCLUDED_KEY;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_IDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_ASSOCIATION_NOT_CREATED_MESSAGE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_SKIPPED_EXISTING_USERNAME_MESSAGE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_LOG_TEMPLATE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.AND;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ASC_SORT_ORDER;
@@ -198,7 +217,6 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     private static final Log LOG = LogFactory.getLog(UserSharingPolicyHandlerServiceImplV2.class);
     private static final Log AUDIT_LOG = CarbonConstants.AUDIT_LOG;
     private final UserIDResolver userIDResolver = new UserIDResolver();
-    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(5);
     private static final Set<String> SUPPORTED_GET_ATTRIBUTES =
             new HashSet<>(Arrays.asList(SHARED_USER_SHARING_MODE_INCLUDED_KEY, SHARED_USER_ROLE_INCLUDED_KEY));
 
@@ -223,7 +241,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                 filterValidOrganizations(organizations, sharingInitiatorContext.getSharingInitiatedOrgId());
 
         // Run the selective user sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_SELECTIVE_USER_SHARE, () -> {
                     logAsyncProcessing(ACTION_SELECTIVE_USER_SHARE,
                             sharingInitiatorContext.getSharingInitiatedUserId(),
                             sharingInitiatorContext.getSharingInitiatedOrgId());
@@ -231,13 +249,12 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                         initiateThreadLocalContext(sharingInitiatorContext.getSharingInitiatedTenantDomain(),
                                 sharingInitiatorContext.getSharingInitiatedTenantId(),
                                 sharingInitiatorContext.getSharingInitiatedUsername(), threadLocalProperties);
-                        processSelectiveUserShare(userCriteria, validOrganizations,
-                                sharingInitiatorContext.getSharingInitiatedOrgId(),
-                                sharingInitiatorContext.getSharingInitiatedUserId());
+                        processSelectiveUserShare(userCriteria, validOrganizations, sharingInitiatorContext,
+                                threadLocalProperties);
                     } finally {
                         PrivilegedCarbonContext.endTenantFlow();
                     }
-                }, EXECUTOR)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async user selective share processing.", ex);
                     return null;
@@ -269,7 +286,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         RoleAssignmentMode roleAssignmentMode = generalUserShareV2DO.getRoleAssignments().getMode();
 
         // Run the general user sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_GENERAL_USER_SHARE, () -> {
                     logAsyncProcessing(ACTION_GENERAL_USER_SHARE,
                             sharingInitiatorContext.getSharingInitiatedUserId(),
                             sharingInitiatorContext.getSharingInitiatedOrgId());
@@ -278,12 +295,11 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                                 sharingInitiatorContext.getSharingInitiatedTenantId(),
                                 sharingInitiatorContext.getSharingInitiatedUsername(), threadLocalProperties);
                         processGeneralUserShare(userCriteria, policy, roleIds, roleAssignmentMode,
-                                sharingInitiatorContext.getSharingInitiatedOrgId(),
-                                sharingInitiatorContext.getSharingInitiatedUserId());
+                                sharingInitiatorContext, threadLocalProperties);
                     } finally {
                         PrivilegedCarbonContext.endTenantFlow();
                     }
-                }, EXECUTOR)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async general user share processing.", ex);
                     return null;
@@ -308,7 +324,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         List<String> organizations = selectiveUserUnshareDO.getOrganizations();
 
         // Run the selective user unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_SELECTIVE_USER_UNSHARE, () -> {
                     logAsyncProcessing(ACTION_SELECTIVE_USER_UNSHARE,
                             sharingInitiatorContext.getSharingInitiatedUserId(),
                             sharingInitiatorContext.getSharingInitiatedOrgId());
@@ -321,7 +337,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                     } finally {
                         PrivilegedCarbonContext.endTenantFlow();
                     }
-                }, EXECUTOR)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async user selective unshare processing.", ex);
                     return null;
@@ -344,7 +360,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         Map<String, UserCriteriaType> userCriteria = generalUserUnshareDO.getUserCriteria();
 
         // Run the general user unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_GENERAL_USER_UNSHARE, () -> {
                     logAsyncProcessing(ACTION_GENERAL_USER_UNSHARE,
                             sharingInitiatorContext.getSharingInitiatedUserId(),
                             sharingInitiatorContext.getSharingInitiatedOrgId());
@@ -356,7 +372,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                     } finally {
                         PrivilegedCarbonContext.endTenantFlow();
                     }
-                }, EXECUTOR)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async general user unshare processing.", ex);
                     return null;
@@ -379,7 +395,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         Map<String, UserCriteriaType> userCriteria = userSharePatchDO.getUserCriteria();
 
         // Run the shared user attribute update logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitSharingTask(ACTION_USER_SHARE_ATTRIBUTE_UPDATE, () -> {
                     logAsyncProcessing(ACTION_USER_SHARE_ATTRIBUTE_UPDATE,
                             sharingInitiatorContext.getSharingInitiatedUserId(),
                             sharingInitiatorContext.getSharingInitiatedOrgId());
@@ -393,7 +409,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                     } finally {
                         PrivilegedCarbonContext.endTenantFlow();
                     }
-                }, EXECUTOR)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async user share role assignment update processing.", ex);
                     return null;
@@ -423,9 +439,6 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
             List<ExpressionNode> expressionNodes = getExpressionNodes(filter, afterCursor, beforeCursor);
 
             String parentOrgId = resolveParentOrgId(expressionNodes, getUserSharedOrgsDO);
-            List<String> childOrgIds = StringUtils.isNotBlank(parentOrgId)
-                    ? getOrganizationManager().getChildOrganizationsIds(parentOrgId, recursive)
-                    : new ArrayList<>();
 
             SharingModeDO generalSharingMode = null;
             if (includedAttributes.contains(SHARED_USER_SHARING_MODE_INCLUDED_KEY)) {
@@ -434,9 +447,11 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
             boolean includeGeneralSharingMode = (generalSharingMode != null);
 
             int fetchLimit = (limit == 0) ? limit : limit + 1;
+            // The child organizations of the parent are resolved within the association query, so that the
+            // descendant IDs of large hierarchies are not materialized and bound as parameters.
             List<UserAssociation> userAssociations =
-                    getOrganizationUserSharingService().getUserAssociationsOfGivenUser(mainUserId, parentOrgId,
-                            childOrgIds, expressionNodes, sortOrder, fetchLimit);
+                    getOrganizationUserSharingService().getUserAssociationsOfGivenUserInHierarchy(mainUserId,
+                            parentOrgId, parentOrgId, recursive, expressionNodes, sortOrder, fetchLimit);
 
             if (CollectionUtils.isEmpty(userAssociations)) {
                 return buildEmptyResponseToGet(generalSharingMode);
@@ -480,32 +495,30 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
      * Processes selective user sharing based on the provided user criteria and organization details.
      * This method iterates over the user criteria map and shares users selectively with the specified organizations.
      *
-     * @param userCriteria           A map containing user criteria, such as user IDs.
-     * @param organizations          A list of organizations to which users will be shared selectively.
-     * @param sharingInitiatedOrgId  The ID of the organization that initiated the user sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param userCriteria            A map containing user criteria, such as user IDs.
+     * @param organizations           A list of organizations to which users will be shared selectively.
+     * @param sharingInitiatorContext The context of the user and organization that initiated the user sharing.
+     * @param threadLocalProperties   The thread-local properties captured from the sharing request.
      */
     private void processSelectiveUserShare(Map<String, UserCriteriaType> userCriteria,
                                            List<SelectiveUserShareOrgDetailsV2DO> organizations,
-                                           String sharingInitiatedOrgId, String sharingInitiatedUserId) {
+                                           SharingInitiatorContext sharingInitiatorContext,
+                                           Map<String, Object> threadLocalProperties) {
 
+        String sharingInitiatedOrgId = sharingInitiatorContext.getSharingInitiatedOrgId();
         for (Map.Entry<String, UserCriteriaType> criterion : userCriteria.entrySet()) {
             String criterionKey = criterion.getKey();
             UserCriteriaType criterionValues = criterion.getValue();
 
-            try {
-                if (USER_IDS.equals(criterionKey)) {
-                    if (criterionValues instanceof UserIdList) {
-                        selectiveUserShareByUserIds((UserIdList) criterionValues, organizations,
-                                sharingInitiatedOrgId, sharingInitiatedUserId);
-                    } else {
-                        LOG.error("Invalid user criteria provided for selective user share: " + criterionKey);
-                    }
+            if (USER_IDS.equals(criterionKey)) {
+                if (criterionValues instanceof UserIdList) {
+                    selectiveUserShareByUserIds((UserIdList) criterionValues, organizations,
+                            sharingInitiatorContext, threadLocalProperties);
                 } else {
                     LOG.error("Invalid user criteria provided for selective user share: " + criterionKey);
                 }
-            } catch (UserSharingMgtException e) {
-                LOG.error("Error occurred while sharing user from user criteria: " + USER_IDS, e);
+            } else {
+                LOG.error("Invalid user criteria provided for selective user share: " + criterionKey);
             }
         }
         if (LOG.isDebugEnabled()) {
@@ -517,33 +530,32 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
      * Processes general user sharing based on the provided user criteria and sharing policy.
      * This method iterates over the user criteria map and shares users according to the specified policy.
      *
-     * @param userCriteria           A map containing user criteria, such as user IDs.
-     * @param policy                 The sharing policy defining the scope of sharing.
-     * @param roleIds                A list of role IDs to be assigned during sharing.
-     * @param sharingInitiatedOrgId  The ID of the organization that initiated the user sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param userCriteria            A map containing user criteria, such as user IDs.
+     * @param policy                  The sharing policy defining the scope of sharing.
+     * @param roleIds                 A list of role IDs to be assigned during sharing.
+     * @param roleAssignmentMode      The mode of assigning the roles to the shared users.
+     * @param sharingInitiatorContext The context of the user and organization that initiated the user sharing.
+     * @param threadLocalProperties   The thread-local properties captured from the sharing request.
      */
     private void processGeneralUserShare(Map<String, UserCriteriaType> userCriteria, PolicyEnum policy,
                                          List<String> roleIds, RoleAssignmentMode roleAssignmentMode,
-                                         String sharingInitiatedOrgId, String sharingInitiatedUserId) {
+                                         SharingInitiatorContext sharingInitiatorContext,
+                                         Map<String, Object> threadLocalProperties) {
 
+        String sharingInitiatedOrgId = sharingInitiatorContext.getSharingInitiatedOrgId();
         for (Map.Entry<String, UserCriteriaType> criterion : userCriteria.entrySet()) {
             String criterionKey = criterion.getKey();
             UserCriteriaType criterionValues = criterion.getValue();
 
-            try {
-                if (USER_IDS.equals(criterionKey)) {
-                    if (criterionValues instanceof UserIdList) {
-                        generalUserShareByUserIds((UserIdList) criterionValues, policy, roleIds, roleAssignmentMode,
-                                sharingInitiatedOrgId, sharingInitiatedUserId);
-                    } else {
-                        LOG.error("Invalid user criteria provided for general user share: " + criterionKey);
-                    }
+            if (USER_IDS.equals(criterionKey)) {
+                if (criterionValues instanceof UserIdList) {
+                    generalUserShareByUserIds((UserIdList) criterionValues, policy, roleIds, roleAssignmentMode,
+                            sharingInitiatorContext, threadLocalProperties);
                 } else {
                     LOG.error("Invalid user criteria provided for general user share: " + criterionKey);
                 }
-            } catch (UserSharingMgtException e) {
-                LOG.error("Error occurred while sharing user from user criteria: " + USER_IDS, e);
+            } else {
+                LOG.error("Invalid user criteria provided for general user share: " + criterionKey);
             }
         }
         if (LOG.isDebugEnabled()) {
@@ -651,92 +663,171 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     // User Sharing & Unsharing Helper Methods.
 
     /**
-     * Shares a user with selected organizations based on the provided user list and sharing policies.
+     * Shares users with the specified organizations.
+     * The users are shared in parallel if the parallel user sharing is enabled. Otherwise, the users are shared
+     * one after another. In both cases the failure of a user does not stop the sharing of the remaining users.
+     *
+     * @param userIds                 The list of user IDs to be selectively shared.
+     * @param organizations           The list of organizations where the user should be shared.
+     * @param sharingInitiatorContext The context of the user and organization that initiated the user sharing.
+     * @param threadLocalProperties   The thread-local properties captured from the sharing request.
+     */
+    private void selectiveUserShareByUserIds(UserIdList userIds, List<SelectiveUserShareOrgDetailsV2DO> organizations,
+                                             SharingInitiatorContext sharingInitiatorContext,
+                                             Map<String, Object> threadLocalProperties) {
+
+        String sharingInitiatedOrgId = sharingInitiatorContext.getSharingInitiatedOrgId();
+        String sharingInitiatedUserId = sharingInitiatorContext.getSharingInitiatedUserId();
+        List<String> requestedOrgIds = new ArrayList<>();
+        for (SelectiveUserShareOrgDetailsV2DO organization : organizations) {
+            requestedOrgIds.add(organization.getOrganizationId());
+        }
+        shareUsers(userIds.getIds(), SELECTIVE_USER_SHARE_OPERATION_POLICY, () -> requestedOrgIds,
+                sharingInitiatorContext, threadLocalProperties,
+                associatedUserId -> selectiveUserShareByUserId(associatedUserId, organizations,
+                        sharingInitiatedOrgId, sharingInitiatedUserId));
+    }
+
+    /**
+     * Shares a user with the specified organizations.
      * If the user is not a resident user in the initiating organization, the sharing is skipped.
      * Each organization is processed with the appropriate role and policy before sharing.
      *
-     * @param userIds                The list of user IDs to be selectively shared.
+     * @param associatedUserId       The ID of the user to be selectively shared.
      * @param organizations          The list of organizations where the user should be shared.
      * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
      * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @return The outcomes of sharing the user with each target organization.
      */
-    private void selectiveUserShareByUserIds(UserIdList userIds, List<SelectiveUserShareOrgDetailsV2DO> organizations,
-                                             String sharingInitiatedOrgId, String sharingInitiatedUserId)
+    private List<UserShareUnitResult> selectiveUserShareByUserId(String associatedUserId,
+                                                                 List<SelectiveUserShareOrgDetailsV2DO> organizations,
+                                                                 String sharingInitiatedOrgId,
+                                                                 String sharingInitiatedUserId)
             throws UserSharingMgtException {
 
-        for (String associatedUserId : userIds.getIds()) {
-            try {
-                if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
-                        isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
-
-                    List<BaseUserShare> selectiveUserShareObjectsInRequest = new ArrayList<>();
-                    for (SelectiveUserShareOrgDetailsV2DO organization : organizations) {
-                        SelectiveUserShare selectiveUserShare = new SelectiveUserShare.Builder()
-                                .withUserId(associatedUserId)
-                                .withOrganizationId(organization.getOrganizationId())
-                                .withPolicy(organization.getPolicy())
-                                .withRoles(
-                                        getRoleIds(organization.getRoleAssignments().getRoles(), sharingInitiatedOrgId))
-                                .withRoleAssignmentMode(organization.getRoleAssignments().getMode())
-                                .build();
-                        selectiveUserShareObjectsInRequest.add(selectiveUserShare);
-                    }
-                    shareUser(associatedUserId, selectiveUserShareObjectsInRequest, sharingInitiatedOrgId,
-                            sharingInitiatedUserId);
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(String.format(LOG_WARN_NON_RESIDENT_USER, associatedUserId, sharingInitiatedOrgId));
-                    }
+        try {
+            if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
+                    isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
+
+                List<BaseUserShare> selectiveUserShareObjectsInRequest = new ArrayList<>();
+                for (SelectiveUserShareOrgDetailsV2DO organization : organizations) {
+                    SelectiveUserShare selectiveUserShare = new SelectiveUserShare.Builder()
+                            .withUserId(associatedUserId)
+                            .withOrganizationId(organization.getOrganizationId())
+                            .withPolicy(organization.getPolicy())
+                            .withRoles(
+                                    getRoleIds(organization.getRoleAssignments().getRoles(), sharingInitiatedOrgId))
+                            .withRoleAssignmentMode(organization.getRoleAssignments().getMode())
+                            .build();
+                    selectiveUserShareObjectsInRequest.add(selectiveUserShare);
                 }
-            } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
-                String errorMessage =
-                        String.format(ERROR_SELECTIVE_SHARE.getMessage(), associatedUserId, e.getMessage());
-                String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-                AUDIT_LOG.warn(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
-                        "Selective User Share", associatedUserId,
-                        getAuditData(tenantDomain, sharingInitiatedOrgId), AUDIT_FAILURE));
-                throw new UserSharingMgtServerException(ERROR_SELECTIVE_SHARE, errorMessage);
+                return shareUser(associatedUserId, selectiveUserShareObjectsInRequest, sharingInitiatedOrgId,
+                        sharingInitiatedUserId);
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format(LOG_WARN_NON_RESIDENT_USER, associatedUserId, sharingInitiatedOrgId));
+            }
+            return Collections.emptyList();
+        } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
+            String errorMessage =
+                    String.format(ERROR_SELECTIVE_SHARE.getMessage(), associatedUserId, e.getMessage());
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            AUDIT_LOG.warn(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
+                    "Selective User Share", associatedUserId,
+                    getAuditData(tenantDomain, sharingInitiatedOrgId), AUDIT_FAILURE));
+            throw new UserSharingMgtServerException(ERROR_SELECTIVE_SHARE, errorMessage);
+        }
+    }
+
+    /**
+     * Shares users with all applicable organizations based on the provided policy.
+     * The users are shared in parallel if the parallel user sharing is enabled. Otherwise, the users are shared
+     * one after another. In both cases the failure of a user does not stop the sharing of the remaining users.
+     *
+     * @param userIds                 The list of user IDs to be shared.
+     * @param policy                  The policy defining the scope of sharing.
+     * @param roleIds                 The list of role IDs to be assigned during sharing.
+     * @param roleAssignmentMode      The mode of assigning the roles to the shared users.
+     * @param sharingInitiatorContext The context of the user and organization that initiated the user sharing.
+     * @param threadLocalProperties   The thread-local properties captured from the sharing request.
+     */
+    private void generalUserShareByUserIds(UserIdList userIds, PolicyEnum policy, List<String> roleIds,
+                                           RoleAssignmentMode roleAssignmentMode,
+                                           SharingInitiatorContext sharingInitiatorContext,
+                                           Map<String, Object> threadLocalProperties) {
+
+        String sharingInitiatedOrgId = sharingInitiatorContext.getSharingInitiatedOrgId();
+        String sharingInitiatedUserId = sharingInitiatorContext.getSharingInitiatedUserId();
+        // The organizations of a general share are resolved from the policy, relative to the initiating org.
+        shareUsers(userIds.getIds(), policy.getValue(),
+                () -> getGeneralUserShareTargetOrgIds(policy, sharingInitiatedOrgId), sharingInitiatorContext,
+                threadLocalProperties,
+                associatedUserId -> generalUserShareByUserId(associatedUserId, policy, roleIds,
+                        roleAssignmentMode, sharingInitiatedOrgId, sharingInitiatedUserId));
+    }
+
+    /**
+     * Resolves the organizations the users of a general share are shared with, so that the failure of a user can be
+     * recorded against them. The sharing initiated organization is used if the organizations cannot be resolved.
+     *
+     * @param policy                The policy defining the scope of sharing.
+     * @param sharingInitiatedOrgId The ID of the organization that initiated the sharing.
+     * @return The IDs of the target organizations.
+     */
+    private List<String> getGeneralUserShareTargetOrgIds(PolicyEnum policy, String sharingInitiatedOrgId) {
+
+        try {
+            List<String> targetOrgIds = extractOrgListBasedOnSharingPolicy(sharingInitiatedOrgId, policy);
+            if (!targetOrgIds.isEmpty()) {
+                return targetOrgIds;
             }
+        } catch (OrganizationManagementException e) {
+            LOG.error("Error occurred while resolving the target organizations of the general user share " +
+                    "initiated from the organization: " + sharingInitiatedOrgId, e);
         }
+        return Collections.singletonList(sharingInitiatedOrgId);
     }
 
     /**
      * Shares a user with all applicable organizations based on the provided policy.
      * If the user is not a resident user in the initiating organization, the sharing is skipped.
      *
-     * @param userIds                The list of user IDs to be shared.
+     * @param associatedUserId       The ID of the user to be shared.
      * @param policy                 The policy defining the scope of sharing.
      * @param roleIds                The list of role IDs to be assigned during sharing.
+     * @param roleAssignmentMode     The mode of assigning the roles to the shared user.
      * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
      * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @return The outcomes of sharing the user with each target organization.
      */
-    private void generalUserShareByUserIds(UserIdList userIds, PolicyEnum policy, List<String> roleIds,
-                                           RoleAssignmentMode roleAssignmentMode, String sharingInitiatedOrgId,
-                                           String sharingInitiatedUserId)
+    private List<UserShareUnitResult> generalUserShareByUserId(String associatedUserId, PolicyEnum policy,
+                                                               List<String> roleIds,
+                                                               RoleAssignmentMode roleAssignmentMode,
+                                                               String sharingInitiatedOrgId,
+                                                               String sharingInitiatedUserId)
             throws UserSharingMgtException {
 
-        for (String associatedUserId : userIds.getIds()) {
-            try {
-                if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
-                        isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
-                    GeneralUserShare generalUserShare = new GeneralUserShare.Builder()
-                            .withUserId(associatedUserId)
-                            .withPolicy(policy)
-                            .withRoles(roleIds)
-                            .withRoleAssignmentMode(roleAssignmentMode)
-                            .build();
-                    List<BaseUserShare> generalUserShareObjectsInRequest = Collections.singletonList(generalUserShare);
-                    shareUser(associatedUserId, generalUserShareObjectsInRequest, sharingInitiatedOrgId,
-                            sharingInitiatedUserId);
-                }
-            } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
-                String errorMessage = String.format(ERROR_GENERAL_SHARE.getMessage(), associatedUserId, e.getMessage());
-                String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-                AUDIT_LOG.warn(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
-                        "General User Share", associatedUserId,
-                        getAuditData(tenantDomain, sharingInitiatedOrgId), AUDIT_FAILURE));
-                throw new UserSharingMgtServerException(ERROR_GENERAL_SHARE, errorMessage);
+        try {
+            if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
+                    isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
+                GeneralUserShare generalUserShare = new GeneralUserShare.Builder()
+                        .withUserId(associatedUserId)
+                        .withPolicy(policy)
+                        .withRoles(roleIds)
+                        .withRoleAssignmentMode(roleAssignmentMode)
+                        .build();
+                List<BaseUserShare> generalUserShareObjectsInRequest = Collections.singletonList(generalUserShare);
+                return shareUser(associatedUserId, generalUserShareObjectsInRequest, sharingInitiatedOrgId,
+                        sharingInitiatedUserId);
             }
+            return Collections.emptyList();
+        } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
+            String errorMessage = String.format(ERROR_GENERAL_SHARE.getMessage(), associatedUserId, e.getMessage());
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            AUDIT_LOG.warn(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
+                    "General User Share", associatedUserId,
+                    getAuditData(tenantDomain, sharingInitiatedOrgId), AUDIT_FAILURE));
+            throw new UserSharingMgtServerException(ERROR_GENERAL_SHARE, errorMessage);
         }
     }
 
@@ -1314,21 +1405,22 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
      * @param baseUserShareObjects   The list of user share objects containing sharing details.
      * @param sharingInitiatedOrgId  The ID of the organization initiating the sharing.
      * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @return The outcomes of sharing the user with each target organization.
      */
-    private void shareUser(String associatedUserId, List<BaseUserShare> baseUserShareObjects,
-                           String sharingInitiatedOrgId, String sharingInitiatedUserId)
+    private List<UserShareUnitResult> shareUser(String associatedUserId, List<BaseUserShare> baseUserShareObjects,
+                                                String sharingInitiatedOrgId, String sharingInitiatedUserId)
             throws OrganizationManagementException, ResourceSharingPolicyMgtException {
 
         if (LOG.isDebugEnabled()) {
             LOG.debug(String.format(USER_SHARING_LOG_TEMPLATE, associatedUserId, sharingInitiatedOrgId,
                     sharingInitiatedUserId));
         }
-        if (!baseUserShareObjects.isEmpty()) {
-            Map<BaseUserShare, List<String>> userShareEntryMap =
-                    getUserShareEntryMap(baseUserShareObjects, sharingInitiatedOrgId);
-
-            applyUserSharesToOrganizations(associatedUserId, sharingInitiatedOrgId, userShareEntryMap);
+        if (baseUserShareObjects.isEmpty()) {
+            return Collections.emptyList();
         }
+        Map<BaseUserShare, List<String>> userShareEntryMap =
+                getUserShareEntryMap(baseUserShareObjects, sharingInitiatedOrgId);
+        return applyUserSharesToOrganizations(associatedUserId, sharingInitiatedOrgId, userShareEntryMap);
     }
 
     /**
@@ -1337,28 +1429,68 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
      * @param associatedUserId      The ID of the user to be shared.
      * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
      * @param userShareEntryMap     A map containing user share objects and their corresponding organizations.
+     * @return The outcomes of sharing the user with each target organization.
      */
-    private void applyUserSharesToOrganizations(String associatedUserId, String sharingInitiatedOrgId,
-                                                Map<BaseUserShare, List<String>> userShareEntryMap)
+    private List<UserShareUnitResult> applyUserSharesToOrganizations(String associatedUserId,
+                                                                     String sharingInitiatedOrgId,
+                                                                     Map<BaseUserShare, List<String>> userShareEntryMap)
             throws ResourceSharingPolicyMgtException, OrganizationManagementException {
 
         saveUserSharingPolicyIfApplicable(associatedUserId, sharingInitiatedOrgId, userShareEntryMap, true);
 
+        List<UserShareUnitResult> userShareUnitResults = new ArrayList<>();
+
         for (Map.Entry<BaseUserShare, List<String>> entry : userShareEntryMap.entrySet()) {
 
             BaseUserShare baseUserShare = entry.getKey();
             List<String> userSharingOrgs = entry.getValue();
+            Map<String, UserAssociation> existingUserAssociations = getExistingUserAssociationsInOrgs(
+                    baseUserShare.getUserId(), sharingInitiatedOrgId, userSharingOrgs);
 
+            // Walk the organizations in the given order, so that a parent organization is handled before its children.
+            List<String> newUserSharingOrgs = new ArrayList<>();
             for (String userSharingOrg : userSharingOrgs) {
-                if (isUserAlreadySharedInOrg(baseUserShare.getUserId(), sharingInitiatedOrgId, userSharingOrg)) {
+                UserAssociation existingUserAssociation = existingUserAssociations.get(userSharingOrg);
+                if (existingUserAssociation != null) {
                     // Assign roles if present for existing user share.
-                    handleExistingSharedUser(baseUserShare, sharingInitiatedOrgId, userSharingOrg);
+                    userShareUnitResults.add(handleExistingSharedUser(baseUserShare, existingUserAssociation,
+                            sharingInitiatedOrgId, userSharingOrg));
+                } else if (isNewUserShareApplicable(baseUserShare, sharingInitiatedOrgId, userSharingOrg)) {
+                    newUserSharingOrgs.add(userSharingOrg);
                 } else {
-                    // New user share.
-                    createNewUserShare(baseUserShare, sharingInitiatedOrgId, userSharingOrg);
+                    userShareUnitResults.add(UserShareUnitResult.failure(userSharingOrg,
+                            USER_SHARE_SKIPPED_EXISTING_USERNAME_MESSAGE));
                 }
             }
+            // New user shares. The associations of the new shares are created together in batches.
+            userShareUnitResults.addAll(
+                    shareAndAssignRolesIfPresent(newUserSharingOrgs, baseUserShare, sharingInitiatedOrgId));
         }
+        return userShareUnitResults;
+    }
+
+    /**
+     * Loads the existing associations of the user in the given organizations with set queries, instead of probing
+     * each organization separately.
+     *
+     * @param associatedUserId      The ID of the user to be shared.
+     * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
+     * @param userSharingOrgs       The IDs of the organizations to share the user with.
+     * @return A map of the existing user associations keyed by the organization ID.
+     */
+    private Map<String, UserAssociation> getExistingUserAssociationsInOrgs(String associatedUserId,
+                                                                           String sharingInitiatedOrgId,
+                                                                           List<String> userSharingOrgs)
+            throws OrganizationManagementException {
+
+        Map<String, UserAssociation> existingUserAssociations = new HashMap<>();
+        for (UserAssociation userAssociation : getOrganizationUserSharingService()
+                .getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, userSharingOrgs)) {
+            if (sharingInitiatedOrgId.equals(userAssociation.getUserResidentOrganizationId())) {
+                existingUserAssociations.put(userAssociation.getOrganizationId(), userAssociation);
+            }
+        }
+        return existingUserAssociations;
     }
 
     /**
@@ -1394,17 +1526,15 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
      * Handles the role assignments for an existing shared user in the specified organization.
      *
      * @param baseUserShare         The base user share object containing sharing details.
+     * @param userAssociation       The existing association of the user in the organization.
      * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
      * @param userSharingOrg        The ID of the organization to share the user with.
+     * @return The outcome of sharing the user with the organization.
      */
-    private void handleExistingSharedUser(BaseUserShare baseUserShare, String sharingInitiatedOrgId,
-                                          String userSharingOrg) {
+    private UserShareUnitResult handleExistingSharedUser(BaseUserShare baseUserShare, UserAssociation userAssociation,
+                                                         String sharingInitiatedOrgId, String userSharingOrg) {
 
         try {
-            UserAssociation userAssociation =
-                    getOrganizationUserSharingService().getUserAssociationOfAssociatedUserByOrgId(
-                            baseUserShare.getUserId(),
-                            userSharingOrg);
             List<String> roleIds = baseUserShare.getRoles();
             RoleAssignmentMode roleAssignmentMode = baseUserShare.getRoleAssignmentMode();
             List<String> currentSharedRoleIds = getCurrentSharedRoleIdsForSharedUser(userAssociation);
@@ -1415,47 +1545,36 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
             } else {
                 deleteOldSharedRoles(userAssociation, currentSharedRoleIds);
             }
+            return UserShareUnitResult.success(userSharingOrg);
         } catch (OrganizationManagementException | IdentityRoleManagementException e) {
             LOG.error("Error while handling roles assignment to the previously shared user" + e.getMessage());
             String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             AUDIT_LOG.warn(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
                     "Reconcile Shared User Roles", baseUserShare.getUserId(),
                     getAuditData(tenantDomain, userSharingOrg), AUDIT_FAILURE));
+            return UserShareUnitResult.failure(userSharingOrg, e.getMessage());
         }
     }
 
     /**
-     * Creates a new user share in the specified organization.
+     * Checks whether a new user share can be created in the specified organization.
      *
      * @param baseUserShare         The base user share object containing sharing details.
      * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
      * @param userSharingOrg        The ID of the organization to share the user with.
+     * @return {@code true} if no unshared user with the same username exists in the organization.
      */
-    private void createNewUserShare(BaseUserShare baseUserShare, String sharingInitiatedOrgId, String userSharingOrg)
-            throws OrganizationManagementException {
+    private boolean isNewUserShareApplicable(BaseUserShare baseUserShare, String sharingInitiatedOrgId,
+                                             String userSharingOrg) throws OrganizationManagementException {
 
         if (!isExistingUsernameInSubOrg(baseUserShare.getUserId(), sharingInitiatedOrgId, userSharingOrg)) {
-            shareAndAssignRolesIfPresent(userSharingOrg, baseUserShare, sharingInitiatedOrgId);
-        } else {
-            // An unshared user (a residence user) with the same username exists in the target organization.
-            LOG.error(String.format(
-                    "User with the userName '%s' already exists in the target organization: %s.",
-                    getUsernameFromUserId(baseUserShare.getUserId(), sharingInitiatedOrgId), userSharingOrg));
+            return true;
         }
-    }
-
-    /**
-     * This method checks if at least one of the organizations has an association with this user.
-     *
-     * @param associatedUserId The ID of the user to check.
-     * @param associatedOrgId  The ID of the organization.
-     * @return {@code true} if the user has at least one associated organization, {@code false} otherwise.
-     */
-    private boolean isUserAlreadySharedInOrg(String associatedUserId, String associatedOrgId, String subOrgId)
-            throws OrganizationManagementException {
-
-        return getOrganizationUserSharingService().hasUserAssociationsInOrganizations(associatedUserId, associatedOrgId,
-                Collections.singletonList(subOrgId));
+        // An unshared user (a residence user) with the same username exists in the target organization.
+        LOG.error(String.format(
+                "User with the userName '%s' already exists in the target organization: %s.",
+                getUsernameFromUserId(baseUserShare.getUserId(), sharingInitiatedOrgId), userSharingOrg));
+        return false;
     }
 
     private void updateSharedUserAttributesForUser(String associatedUserId, String sharingInitiatedOrgId,
@@ -1597,21 +1716,20 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Shares a user with a specified organization and returns the user association.
-     * This is where the user association will be created.
+     * Shares a user with the specified organizations and returns the user associations.
+     * This is where the user associations will be created, in batches.
      *
-     * @param orgId            The ID of the organization to share the user with.
+     * @param orgIds           The IDs of the organizations to share the user with.
      * @param associatedUserId The ID of the user to be shared.
      * @param associatedOrgId  The ID of the organization that initiated the sharing.
-     * @return A {@code UserAssociation} representing the created association.
+     * @return The {@code UserAssociation}s of the organizations which the user got shared with.
      */
-    private UserAssociation shareUserWithOrganization(String orgId, String associatedUserId, String associatedOrgId)
+    private List<UserAssociation> shareUserWithOrganizations(List<String> orgIds, String associatedUserId,
+                                                             String associatedOrgId)
             throws OrganizationManagementException {
 
-        OrganizationUserSharingService organizationUserSharingService = getOrganizationUserSharingService();
-        organizationUserSharingService.shareOrganizationUser(orgId, associatedUserId, associatedOrgId,
-                SharedType.SHARED);
-        return organizationUserSharingService.getUserAssociationOfAssociatedUserByOrgId(associatedUserId, orgId);
+        return getOrganizationUserSharingService().shareOrganizationUserWithOrganizations(orgIds, associatedUserId,
+                associatedOrgId, SharedType.SHARED);
     }
 
     // Business Logic Helper Methods.
@@ -1994,43 +2112,64 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Shares a user with a specified organization and assigns roles if present.
-     * This is where the user association will be created, and roles will be assigned to the shared user if any
+     * Shares a user with the specified organizations and assigns roles if present.
+     * This is where the user associations will be created, and roles will be assigned to the shared user if any
      * roles are present.
-     * It attempts to share the user with the specified organization and assigns roles accordingly.
+     * It attempts to share the user with the specified organizations and assigns roles accordingly.
      *
-     * @param orgId                 The ID of the organization to share the user with.
+     * @param orgIds                The IDs of the organizations to share the user with.
      * @param baseUserShare         The base user share object containing user and role information.
      * @param sharingInitiatedOrgId The ID of the organization that initiated the sharing.
+     * @return The outcomes of sharing the user with each of the organizations.
      */
-    private void shareAndAssignRolesIfPresent(String orgId, BaseUserShare baseUserShare, String sharingInitiatedOrgId) {
+    private List<UserShareUnitResult> shareAndAssignRolesIfPresent(List<String> orgIds, BaseUserShare baseUserShare,
+                                                                   String sharingInitiatedOrgId) {
+
+        if (orgIds.isEmpty()) {
+            return Collections.emptyList();
+        }
 
         String associatedUserId = baseUserShare.getUserId();
         List<String> roleIds = baseUserShare.getRoles();
         RoleAssignmentMode roleAssignmentMode = baseUserShare.getRoleAssignmentMode();
-        UserAssociation userAssociation;
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        List<UserAssociation> userAssociations;
 
         try {
-            userAssociation = shareUserWithOrganization(orgId, associatedUserId, sharingInitiatedOrgId);
-            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-            AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
-                    "Create User Sharing Association", associatedUserId,
-                    getAuditData(tenantDomain, sharingInitiatedOrgId), AUDIT_SUCCESS));
+            userAssociations = shareUserWithOrganizations(orgIds, associatedUserId, sharingInitiatedOrgId);
         } catch (OrganizationManagementException e) {
 
             String errorMessage = String.format(ERROR_CODE_USER_SHARE.getMessage(), associatedUserId, e.getMessage());
             LOG.error(errorMessage, e);
-            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             AUDIT_LOG.warn(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
                     "Create User Sharing Association", associatedUserId,
                     getAuditData(tenantDomain, sharingInitiatedOrgId), AUDIT_FAILURE));
-            return;
+            List<UserShareUnitResult> userShareUnitResults = new ArrayList<>();
+            for (String orgId : orgIds) {
+                userShareUnitResults.add(UserShareUnitResult.failure(orgId, e.getMessage()));
+            }
+            return userShareUnitResults;
         }
 
+        AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
+                "Create User Sharing Association", associatedUserId,
+                getAuditData(tenantDomain, sharingInitiatedOrgId), AUDIT_SUCCESS));
+
         // Assign roles if RoleAssignmentMode is not NONE and if any roles are present.
-        if (roleAssignmentMode != RoleAssignmentMode.NONE) {
-            assignRolesIfPresent(userAssociation, sharingInitiatedOrgId, roleIds);
+        Set<String> sharedOrgIds = new HashSet<>();
+        for (UserAssociation userAssociation : userAssociations) {
+            sharedOrgIds.add(userAssociation.getOrganizationId());
+            if (roleAssignmentMode != RoleAssignmentMode.NONE) {
+                assignRolesIfPresent(userAssociation, sharingInitiatedOrgId, roleIds);
+            }
+        }
+
+        List<UserShareUnitResult> userShareUnitResults = new ArrayList<>();
+        for (String orgId : orgIds) {
+            userShareUnitResults.add(sharedOrgIds.contains(orgId) ? UserShareUnitResult.success(orgId) :
+                    UserShareUnitResult.failure(orgId, USER_SHARE_ASSOCIATION_NOT_CREATED_MESSAGE));
         }
+        return userShareUnitResults;
     }
 
     /**
@@ -2298,6 +2437,165 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
 
     // Async helpers.
 
+    /**
+     * Submits the given sharing task to the shared sharing task executor.
+     *
+     * @param action Action performed by the task.
+     * @param task   Task to be executed asynchronously.
+     * @return A future which completes when the task completes.
+     * @throws UserSharingMgtClientException If the executor is saturated and cannot accept the task.
+     */
+    private CompletableFuture<Void> submitSharingTask(String action, Runnable task)
+            throws UserSharingMgtClientException {
+
+        try {
+            return SharingTaskExecutor.getInstance().submit(action, task);
+        } catch (RejectedExecutionException e) {
+            throw new UserSharingMgtClientException(ERROR_CODE_SHARING_REQUEST_LIMIT_EXCEEDED, e);
+        }
+    }
+
+    /**
+     * Shares the given users and reports the progress of every user and organization pair through the async
+     * operation status service. When parallel execution is applicable, the users are shared on the sharing worker
+     * threads. Otherwise, they are shared one after the other on the calling thread. Each user is shared by a single
+     * thread, which walks the target organizations of the user in order, so that a user is always shared with a
+     * parent organization before its child organizations. The failure of a user does not stop the sharing of the
+     * remaining users.
+     *
+     * @param userIds                 The list of user IDs to be shared.
+     * @param operationPolicy         The sharing policy recorded against the async operation.
+     * @param failedUserTargetOrgIds  Supplies the organizations the failure of a user is recorded against, when the
+     *                                sharing of the user fails before the per-organization outcomes are known.
+     * @param sharingInitiatorContext The context of the user and organization that initiated the user sharing.
+     * @param threadLocalProperties   The thread-local properties captured from the sharing request.
+     * @param userShareTask           The task which shares a single user.
+     */
+    private void shareUsers(List<String> userIds, String operationPolicy, Supplier<List<String>> failedUserTargetOrgIds,
+                            SharingInitiatorContext sharingInitiatorContext, Map<String, Object> threadLocalProperties,
+                            UserShareTask userShareTask) {
+
+        String sharingInitiatedOrgId = sharingInitiatorContext.getSharingInitiatedOrgId();
+        String operationId = registerBulkUserShareOperation(operationPolicy, sharingInitiatorContext);
+        AtomicInteger unitCount = new AtomicInteger();
+        AtomicInteger failedUnitCount = new AtomicInteger();
+        Consumer<String> userShareAction = associatedUserId -> {
+            try {
+                // A unit is recorded per organization the user is shared with.
+                for (UserShareUnitResult unitResult : userShareTask.share(associatedUserId)) {
+                    unitCount.incrementAndGet();
+                    if (!unitResult.isSuccess()) {
+                        failedUnitCount.incrementAndGet();
+                    }
+                    registerUserShareUnitOperation(operationId, associatedUserId, unitResult.getTargetOrgId(),
+                            unitResult.getStatus(), unitResult.getStatusMessage());
+                }
+            } catch (UserSharingMgtException | RuntimeException e) {
+                LOG.error("Error occurred while sharing the user: " + associatedUserId + " from the " +
+                        "organization: " + sharingInitiatedOrgId, e);
+                for (String targetOrgId : failedUserTargetOrgIds.get()) {
+                    unitCount.incrementAndGet();
+                    failedUnitCount.incrementAndGet();
+                    registerUserShareUnitOperation(operationId, associatedUserId, targetOrgId,
+                            OperationStatus.FAILED, e.getMessage());
+                }
+            }
+        };
+
+        if (!getSharingWorkerPool().isParallelExecutionApplicable(userIds.size())) {
+            // The calling thread already carries the context of the sharing request.
+            userIds.forEach(userShareAction);
+        } else {
+            try {
+                getSharingWorkerPool().processAll(userIds, associatedUserId -> {
+                    try {
+                        // Worker threads do not inherit the carbon context of the sharing request.
+                        initiateThreadLocalContext(sharingInitiatorContext.getSharingInitiatedTenantDomain(),
+                                sharingInitiatorContext.getSharingInitiatedTenantId(),
+                                sharingInitiatorContext.getSharingInitiatedUsername(), threadLocalProperties);
+                        userShareAction.accept(associatedUserId);
+                    } finally {
+                        PrivilegedCarbonContext.endTenantFlow();
+                        IdentityUtil.threadLocalProperties.get().clear();
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.error("Interrupted while sharing users from the organization: " + sharingInitiatedOrgId, e);
+                updateBulkUserShareOperationStatus(operationId, OperationStatus.FAILED);
+                return;
+            }
+        }
+        updateBulkUserShareOperationStatus(operationId,
+                getAggregatedOperationStatus(unitCount.get(), failedUnitCount.get()));
+    }
+
+    private String registerBulkUserShareOperation(String operationPolicy,
+                                                  SharingInitiatorContext sharingInitiatorContext) {
+
+        try {
+            // A bulk share covers many users. Hence, the sharing initiated organization is the subject.
+            return getAsyncStatusMgtService().registerOperationStatus(
+                    new OperationInitDTO(getCorrelationId(), B2B_USER_SHARE, B2B_USER,
+                            sharingInitiatorContext.getSharingInitiatedOrgId(),
+                            sharingInitiatorContext.getSharingInitiatedOrgId(),
+                            sharingInitiatorContext.getSharingInitiatedUserId(), operationPolicy), false);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error occurred while registering the status of the bulk user share operation.", e);
+            return null;
+        }
+    }
+
+    private void registerUserShareUnitOperation(String operationId, String associatedUserId, String targetOrgId,
+                                                OperationStatus status, String statusMessage) {
+
+        if (StringUtils.isBlank(operationId)) {
+            // Operation status persistence is disabled.
+            return;
+        }
+        try {
+            getAsyncStatusMgtService().registerUnitOperationStatus(
+                    new UnitOperationInitDTO(operationId, associatedUserId, targetOrgId, status, statusMessage));
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error occurred while registering the share status of the user: " + associatedUserId, e);
+        }
+    }
+
+    private void updateBulkUserShareOperationStatus(String operationId, OperationStatus status) {
+
+        if (StringUtils.isBlank(operationId)) {
+            return;
+        }
+        try {
+            getAsyncStatusMgtService().updateOperationStatus(operationId, status);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error occurred while updating the status of the bulk user share operation: " + operationId, e);
+        }
+    }
+
+    private OperationStatus getAggregatedOperationStatus(int unitCount, int failedUnitCount) {
+
+        if (failedUnitCount == 0) {
+            return OperationStatus.SUCCESS;
+        }
+        return failedUnitCount == unitCount ? OperationStatus.FAILED : OperationStatus.PARTIALLY_COMPLETED;
+    }
+
+    private String getCorrelationId() {
+
+        String correlationId = MDC.get(CORRELATION_ID_MDC);
+        return correlationId != null ? correlationId : UUID.randomUUID().toString();
+    }
+
+    /**
+     * Task which shares a single user.
+     */
+    @FunctionalInterface
+    private interface UserShareTask {
+
+        List<UserShareUnitResult> share(String associatedUserId) throws UserSharingMgtException;
+    }
+
     /**
      * Restores thread-local properties for async execution.
      */
@@ -2674,6 +2972,16 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         return OrganizationUserSharingDataHolder.getInstance().getOrganizationManager();
     }
 
+    private AsyncOperationStatusMgtService getAsyncStatusMgtService() {
+
+        return OrganizationUserSharingDataHolder.getInstance().getAsyncOperationStatusMgtService();
+    }
+
+    private SharingWorkerPool getSharingWorkerPool() {
+
+        return SharingWorkerPool.getInstance();
+    }
+
     private RoleManagementService getRoleManagementService() {
 
         return OrganizationUserSharingDataHolder.getInstance().getRoleManagementService();
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for the shared profile value resolving methods of the local claims, keyed by the tenant domain.
+ * <p>
+ * Since the claims of an organization may be inherited from its ancestors, a claim change may affect the resolving
+ * methods of other tenants. Hence, every entry is kept in the super tenant's cache, so that the whole cache can be
+ * cleared upon a claim change.
+ */
+public class SharedProfileValueResolvingMethodCache
+        extends BaseCache<String, SharedProfileValueResolvingMethodCacheEntry> {
+
+    private static final String CACHE_NAME = "SharedProfileValueResolvingMethodCache";
+    private static final SharedProfileValueResolvingMethodCache INSTANCE =
+            new SharedProfileValueResolvingMethodCache();
+
+    private SharedProfileValueResolvingMethodCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the SharedProfileValueResolvingMethodCache.
+     *
+     * @return SharedProfileValueResolvingMethodCache instance.
+     */
+    public static SharedProfileValueResolvingMethodCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add the resolving methods of the local claims of the given tenant to the cache.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param entry        Cache entry.
+     */
+    public void addResolvingMethodsToCache(String tenantDomain, SharedProfileValueResolvingMethodCacheEntry entry) {
+
+        addToCache(tenantDomain, entry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the cached resolving methods of the local claims of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public SharedProfileValueResolvingMethodCacheEntry getResolvingMethodsFromCache(String tenantDomain) {
+
+        return getValueFromCache(tenantDomain, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached resolving methods of all the tenants.
+     */
+    public void clearResolvingMethodsFromCache() {
+
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SharedProfileValueResolvingMethod;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache entry for the {@link SharedProfileValueResolvingMethodCache}, which maps the local claim URIs of a tenant to
+ * their shared profile value resolving methods.
+ */
+public class SharedProfileValueResolvingMethodCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 2894716308531174265L;
+
+    private final HashMap<String, SharedProfileValueResolvingMethod> claimResolvingMethods;
+
+    public SharedProfileValueResolvingMethodCacheEntry(
+            Map<String, SharedProfileValueResolvingMethod> claimResolvingMethods) {
+
+        this.claimResolvingMethods = new HashMap<>(claimResolvingMethods);
+    }
+
+    /**
+     * Get the shared profile value resolving methods keyed by the local claim URI.
+     *
+     * @return Unmodifiable map of the resolving methods.
+     */
+    public Map<String, SharedProfileValueResolvingMethod> getClaimResolvingMethods() {
+
+        return Collections.unmodifiableMap(claimResolvingMethods);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for the organization user associations of the shared users, keyed by the shared user ID and the organization
+ * ID. Only existing associations are cached. A user which is not a shared user of the organization is looked up
+ * again, as it becomes a shared user as soon as the user is shared with the organization.
+ * <p>
+ * Since the organization ID already scopes an entry, every entry is kept in the super tenant's cache, so that an
+ * entry is evicted from any tenant flow which changes the association.
+ * <p>
+ * Every eviction advances the generation of the cache. An association is only cached if no eviction happened since
+ * the lookup read the generation, so an association read before a write is not cached after the write evicted it.
+ */
+public class UserAssociationCache extends BaseCache<UserAssociationCacheKey, UserAssociationCacheEntry> {
+
+    private static final String CACHE_NAME = "UserAssociationCache";
+    private static final UserAssociationCache INSTANCE = new UserAssociationCache();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private UserAssociationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the UserAssociationCache.
+     *
+     * @return UserAssociationCache instance.
+     */
+    public static UserAssociationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the current generation of the cache. It must be read before the user associations are loaded.
+     *
+     * @return The current generation.
+     */
+    public long getGeneration() {
+
+        return generation.get();
+    }
+
+    /**
+     * Add the user association entry of the given user and organization to the cache, unless an entry was evicted
+     * after the given generation was read.
+     *
+     * @param key        Cache key.
+     * @param entry      Cache entry.
+     * @param generation The generation of the cache read before the user association was loaded.
+     */
+    public void addUserAssociationToCache(UserAssociationCacheKey key, UserAssociationCacheEntry entry,
+                                          long generation) {
+
+        if (generation != this.generation.get()) {
+            return;
+        }
+        addToCache(key, entry, MultitenantConstants.SUPER_TENANT_ID);
+        // An eviction that ran between the check and the addition may not have seen the entry.
+        if (generation != this.generation.get()) {
+            clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    /**
+     * Get the cached user association entry of the given user and organization.
+     *
+     * @param key Cache key.
+     * @return The cache entry, or null if the entry is not cached.
+     */
+    public UserAssociationCacheEntry getUserAssociationFromCache(UserAssociationCacheKey key) {
+
+        return getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear the cached user association entry of the given user and organization.
+     *
+     * @param key Cache key.
+     */
+    public void clearUserAssociationFromCache(UserAssociationCacheKey key) {
+
+        generation.incrementAndGet();
+        clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Clear all the cached user association entries.
+     */
+    public void clearAllFromCache() {
+
+        generation.incrementAndGet();
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+
+/**
+ * Cache entry for the {@link UserAssociationCache}. The entry holds its own copy of the user association and hands
+ * out copies, so that a caller changing a returned association does not change the cached one.
+ */
+public class UserAssociationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -6130538247912470193L;
+
+    private final UserAssociation userAssociation;
+
+    public UserAssociationCacheEntry(UserAssociation userAssociation) {
+
+        this.userAssociation = copyOf(userAssociation);
+    }
+
+    /**
+     * Get the cached user association.
+     *
+     * @return The user association.
+     */
+    public UserAssociation getUserAssociation() {
+
+        return copyOf(userAssociation);
+    }
+
+    private static UserAssociation copyOf(UserAssociation userAssociation) {
+
+        if (userAssociation == null) {
+            return null;
+        }
+        UserAssociation copy = new UserAssociation();
+        copy.setId(userAssociation.getId());
+        copy.setUserId(userAssociation.getUserId());
+        copy.setOrganizationId(userAssociation.getOrganizationId());
+        copy.setAssociatedUserId(userAssociation.getAssociatedUserId());
+        copy.setUserResidentOrganizationId(userAssociation.getUserResidentOrganizationId());
+        copy.setSharedType(userAssociation.getSharedType());
+        return copy;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the {@link UserAssociationCache}.
+ */
+public class UserAssociationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 4216805364271519840L;
+
+    private final String userId;
+    private final String organizationId;
+
+    public UserAssociationCacheKey(String userId, String organizationId) {
+
+        this.userId = userId;
+        this.organizationId = organizationId;
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserAssociationCacheKey)) {
+            return false;
+        }
+        UserAssociationCacheKey that = (UserAssociationCacheKey) o;
+        return Objects.equals(userId, that.userId) && Objects.equals(organizationId, that.organizationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(userId, organizationId);
+    }
+}
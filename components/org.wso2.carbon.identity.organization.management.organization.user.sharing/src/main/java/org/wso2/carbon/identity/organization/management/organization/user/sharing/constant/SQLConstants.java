@@ -32,6 +32,10 @@ public class SQLConstants {
 
     public static final String ID_COLUMN_NAME = "UM_ID";
     public static final String SHARED_ORG_ID_COLUMN_NAME = "UM_ORG_ID";
+    // Maximum number of organization IDs bound to a single IN clause.
+    public static final int ORG_IDS_IN_CLAUSE_CHUNK_SIZE = 100;
+    public static final int USER_ASSOCIATION_BATCH_INSERT_SIZE = 100;
+    public static final int USER_IDS_IN_CLAUSE_CHUNK_SIZE = 100;
 
     public static final String CREATE_ORGANIZATION_USER_ASSOCIATION = "INSERT INTO UM_ORG_USER_ASSOCIATION(" +
             "UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID) VALUES(?, ?, ?, ?)";
@@ -125,6 +129,9 @@ public class SQLConstants {
     public static final String GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER = "SELECT UM_ID, UM_USER_ID, " +
             "UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE FROM UM_ORG_USER_ASSOCIATION " +
             "WHERE UM_USER_ID = ? AND UM_ORG_ID = ?";
+    public static final String GET_ORGANIZATION_USER_ASSOCIATIONS_OF_SHARED_USER_BY_ASSOCIATED_ORG = "SELECT UM_ID, " +
+            "UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE " +
+            "FROM UM_ORG_USER_ASSOCIATION WHERE UM_USER_ID = ? AND UM_ASSOCIATED_ORG_ID = ?";
     public static final String GET_RESTRICTED_USERNAMES_BY_ROLE_AND_ORG =
             "SELECT r.UM_USER_NAME FROM UM_HYBRID_USER_ROLE r "
                     + "INNER JOIN UM_DOMAIN d "
@@ -188,6 +195,11 @@ public class SQLConstants {
                     "FROM UM_ORG_USER_ASSOCIATION " +
                     "WHERE UM_ASSOCIATED_USER_ID = :" + SQLPlaceholders.COLUMN_NAME_ASSOCIATED_USER_ID + "; " +
                     "AND UM_ORG_ID IN (" + SQLPlaceholders.PLACEHOLDER_ORG_IDS + ");";
+    public static final String GET_USER_ASSOCIATIONS_OF_GIVEN_USERS_IN_ORG =
+            "SELECT UM_ID, UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE " +
+                    "FROM UM_ORG_USER_ASSOCIATION " +
+                    "WHERE UM_ORG_ID = :" + SQLPlaceholders.COLUMN_NAME_ORG_ID + "; " +
+                    "AND UM_USER_ID IN (" + SQLPlaceholders.PLACEHOLDER_USER_IDS + ");";
     public static final String UPDATE_USER_ASSOCIATION_SHARED_TYPE =
             "UPDATE UM_ORG_USER_ASSOCIATION " +
                     "SET UM_SHARED_TYPE = :" + SQLPlaceholders.COLUMN_NAME_UM_SHARED_TYPE + "; " +
@@ -230,6 +242,14 @@ public class SQLConstants {
             "UM_ORG_ID IN (" + SQLPlaceholders.PLACEHOLDER_ORG_IDS + ") " +
                     "ORDER BY UM_ID %s OFFSET 0 ROWS FETCH NEXT %d ROWS ONLY";
 
+    public static final String GET_DESCENDANT_ORGANIZATION_IDS_OF_PARENT =
+            "SELECT UM_ID FROM UM_ORG_HIERARCHY " +
+                    "WHERE UM_PARENT_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_PARENT_ID + "; AND DEPTH > 0";
+
+    public static final String GET_CHILD_ORGANIZATION_IDS_OF_PARENT =
+            "SELECT UM_ID FROM UM_ORG_HIERARCHY " +
+                    "WHERE UM_PARENT_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_PARENT_ID + "; AND DEPTH = 1";
+
     /**
      * SQL placeholders related to organization user sharing SQL operations.
      */
@@ -256,11 +276,13 @@ public class SQLConstants {
         public static final String COLUMN_NAME_UM_EDIT_OPERATION = "UM_EDIT_OPERATION";
         public static final String COLUMN_NAME_UM_PERMITTED_ORG_ID = "UM_PERMITTED_ORG_ID";
         public static final String COLUMN_NAME_UM_ROLE_UUID = "UM_UUID";
+        public static final String COLUMN_NAME_UM_PARENT_ID = "UM_PARENT_ID";
         public static final String HAS_USER_ASSOCIATIONS = "has_user_associations";
 
         public static final String PLACEHOLDER_NAME_USER_NAMES = "USER_NAMES";
         public static final String PLACEHOLDER_ROLE_IDS = "ROLE_IDS";
         public static final String PLACEHOLDER_ORG_IDS = "ORG_IDS";
+        public static final String PLACEHOLDER_USER_IDS = "USER_IDS";
         public static final String PLACEHOLDER_ORG_ID = "ORG_ID_";
 
         public static final String ASC_SORT_ORDER = "ASC";
@@ -93,6 +93,12 @@ public class UserSharingConstants {
     public static final String LOG_WARN_NON_RESIDENT_USER =
             "Skipping user share for user: %s since the user is not managed by the sharing initiated org: %s";
 
+    // Status messages of the units of an async user share operation.
+    public static final String USER_SHARE_SKIPPED_EXISTING_USERNAME_MESSAGE =
+            "Skipped since a user with the same username already exists in the organization.";
+    public static final String USER_SHARE_ASSOCIATION_NOT_CREATED_MESSAGE =
+            "The user association was not created in the organization.";
+
     public static final String AUDIT_MESSAGE =
             "Initiator : %s | Action : %s | Target : %s | Data : { %s } | Result : %s ";
     public static final String AUDIT_SUCCESS = "Success";
@@ -144,6 +150,7 @@ public class UserSharingConstants {
     public static final String B2B_USER_SHARE = "B2B_USER_SHARE";
     public static final String B2B_USER_UNSHARE = "B2B_USER_UNSHARE";
     public static final String B2B_USER = "USER";
+    public static final String SELECTIVE_USER_SHARE_OPERATION_POLICY = "SELECTIVE_SHARE";
 
     public static final String API_REF_GET_SHARED_ROLES_OF_USER_IN_ORG =
             "/api/server/v1/users/%s/shared-roles?orgId=%s";
@@ -169,6 +176,21 @@ public class UserSharingConstants {
             "Role Update For Existing Shared User Failed. ";
     public static final String ROLE_UPDATE_FAIL_FOR_NEW_SHARED_USER = "Role Update For Shared User Failed. ";
 
+    // Configurations of the executor which runs the asynchronous sharing operations.
+    public static final String SHARING_EXECUTOR_CORE_POOL_SIZE = "OrganizationUserSharing.Executor.CorePoolSize";
+    public static final String SHARING_EXECUTOR_MAX_POOL_SIZE = "OrganizationUserSharing.Executor.MaxPoolSize";
+    public static final String SHARING_EXECUTOR_QUEUE_CAPACITY = "OrganizationUserSharing.Executor.QueueCapacity";
+    public static final String SHARING_EXECUTOR_KEEP_ALIVE_SECONDS =
+            "OrganizationUserSharing.Executor.KeepAliveSeconds";
+    public static final int DEFAULT_SHARING_EXECUTOR_CORE_POOL_SIZE = 5;
+    public static final int DEFAULT_SHARING_EXECUTOR_MAX_POOL_SIZE = 10;
+    public static final int DEFAULT_SHARING_EXECUTOR_QUEUE_CAPACITY = 100;
+    public static final int DEFAULT_SHARING_EXECUTOR_KEEP_ALIVE_SECONDS = 60;
+    public static final String SHARING_EXECUTOR_THREAD_NAME_PREFIX = "org-resource-sharing-";
+    public static final String SHARING_WORKER_PARALLELISM = "OrganizationUserSharing.Executor.UserParallelism";
+    public static final int DEFAULT_SHARING_WORKER_PARALLELISM = 1;
+    public static final String SHARING_WORKER_THREAD_NAME_PREFIX = "org-resource-sharing-worker-";
+
     /**
      * Enum for assignmentType.
      */
@@ -360,7 +382,10 @@ public class UserSharingConstants {
                 "One of the attribute names provided is null and must be valid."),
         ERROR_CODE_INVALID_FILTER_VALUE("10069",
                 "Invalid filter value provided: %s.",
-                "The filter value provided is invalid and cannot be processed.");
+                "The filter value provided is invalid and cannot be processed."),
+        ERROR_CODE_SHARING_REQUEST_LIMIT_EXCEEDED("10070",
+                "Too many sharing requests.",
+                "The server is processing the maximum number of sharing requests. Retry the request later.");
 
         private final String code;
         private final String message;
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
+
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheKey;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache backed implementation of {@link OrganizationUserSharingDAO}. The user associations of the shared users are
+ * cached by the shared user ID and the organization ID. Only existing associations are cached. Every write of an
+ * association evicts the affected entries once the write is completed. A lookup reads the generation of the cache
+ * before loading the associations, and the cache drops the loaded associations if an eviction happened in between.
+ */
+public class CacheBackedOrganizationUserSharingDAO implements OrganizationUserSharingDAO {
+
+    private final OrganizationUserSharingDAO organizationUserSharingDAO;
+
+    public CacheBackedOrganizationUserSharingDAO(OrganizationUserSharingDAO organizationUserSharingDAO) {
+
+        this.organizationUserSharingDAO = organizationUserSharingDAO;
+    }
+
+    @Override
+    public void createOrganizationUserAssociation(String userId, String orgId, String associatedUserId,
+                                                  String associatedOrgId) throws OrganizationManagementServerException {
+
+        organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId, associatedOrgId);
+        clearUserAssociationFromCache(userId, orgId);
+    }
+
+    @Override
+    public void createOrganizationUserAssociation(String userId, String orgId, String associatedUserId,
+                                                  String associatedOrgId, SharedType sharedType)
+            throws OrganizationManagementServerException {
+
+        organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId, associatedOrgId,
+                sharedType);
+        clearUserAssociationFromCache(userId, orgId);
+    }
+
+    @Override
+    public List<UserAssociation> createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        List<UserAssociation> createdUserAssociations =
+                organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+        clearUserAssociationsFromCache(createdUserAssociations);
+        return createdUserAssociations;
+    }
+
+    @Override
+    public boolean deleteUserAssociationOfUserByAssociatedOrg(String userId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        List<UserAssociation> existingUserAssociations =
+                organizationUserSharingDAO.getUserAssociationsOfSharedUser(userId, associatedOrgId);
+        boolean deleted = organizationUserSharingDAO.deleteUserAssociationOfUserByAssociatedOrg(userId,
+                associatedOrgId);
+        clearUserAssociationsFromCache(existingUserAssociations);
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteUserAssociationsOfAssociatedUser(String associatedUserId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        List<UserAssociation> existingUserAssociations =
+                organizationUserSharingDAO.getUserAssociationsOfAssociatedUser(associatedUserId, associatedOrgId);
+        boolean deleted = organizationUserSharingDAO.deleteUserAssociationsOfAssociatedUser(associatedUserId,
+                associatedOrgId);
+        clearUserAssociationsFromCache(existingUserAssociations);
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteUserAssociationsByOrganizationId(String orgId) throws OrganizationManagementServerException {
+
+        boolean deleted = organizationUserSharingDAO.deleteUserAssociationsByOrganizationId(orgId);
+        // The shared users of the deleted organization are not listed before the delete, since an organization can
+        // have any number of them. The whole cache is cleared instead, as deleting an organization is rare.
+        UserAssociationCache.getInstance().clearAllFromCache();
+        return deleted;
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfAssociatedUser(String associatedUserId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfAssociatedUser(associatedUserId, associatedOrgId);
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfAssociatedUser(String associatedUserId, String associatedOrgId,
+                                                                     List<String> orgIdsScope,
+                                                                     List<ExpressionNode> expressionNodes,
+                                                                     String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfAssociatedUser(associatedUserId, associatedOrgId,
+                orgIdsScope, expressionNodes, sortOrder, limit);
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfAssociatedUserInHierarchy(String associatedUserId,
+                                                                                String associatedOrgId,
+                                                                                String parentOrgId,
+                                                                                boolean recursive,
+                                                                                List<ExpressionNode> expressionNodes,
+                                                                                String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfAssociatedUserInHierarchy(associatedUserId,
+                associatedOrgId, parentOrgId, recursive, expressionNodes, sortOrder, limit);
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfAssociatedUser(String associatedUserId, String associatedOrgId,
+                                                                     SharedType sharedType)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfAssociatedUser(associatedUserId, associatedOrgId,
+                sharedType);
+    }
+
+    @Override
+    public boolean hasUserAssociations(String associatedUserId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.hasUserAssociations(associatedUserId, associatedOrgId);
+    }
+
+    @Override
+    public boolean hasUserAssociationsInOrganizations(String associatedUserId, String associatedOrgId,
+                                                      List<String> orgIds)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.hasUserAssociationsInOrganizations(associatedUserId, associatedOrgId,
+                orgIds);
+    }
+
+    @Override
+    public UserAssociation getUserAssociationOfAssociatedUserByOrgId(String associatedUserId, String orgId)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.getUserAssociationOfAssociatedUserByOrgId(associatedUserId, orgId);
+    }
+
+    @Override
+    public UserAssociation getUserAssociation(String userId, String organizationId)
+            throws OrganizationManagementServerException {
+
+        UserAssociationCacheKey cacheKey = new UserAssociationCacheKey(userId, organizationId);
+        UserAssociationCacheEntry cacheEntry = UserAssociationCache.getInstance().getUserAssociationFromCache(cacheKey);
+        if (cacheEntry != null) {
+            return cacheEntry.getUserAssociation();
+        }
+        long generation = UserAssociationCache.getInstance().getGeneration();
+        UserAssociation userAssociation = organizationUserSharingDAO.getUserAssociation(userId, organizationId);
+        if (userAssociation != null) {
+            UserAssociationCache.getInstance().addUserAssociationToCache(cacheKey,
+                    new UserAssociationCacheEntry(userAssociation), generation);
+        }
+        return userAssociation;
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfSharedUser(String userId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfSharedUser(userId, associatedOrgId);
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociations(List<String> userIds, String organizationId)
+            throws OrganizationManagementServerException {
+
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        List<String> uncachedUserIds = new ArrayList<>();
+        for (String userId : userIds) {
+            UserAssociationCacheEntry cacheEntry = UserAssociationCache.getInstance().getUserAssociationFromCache(
+                    new UserAssociationCacheKey(userId, organizationId));
+            if (cacheEntry == null) {
+                uncachedUserIds.add(userId);
+            } else {
+                userAssociations.add(cacheEntry.getUserAssociation());
+            }
+        }
+        if (uncachedUserIds.isEmpty()) {
+            return userAssociations;
+        }
+
+        long generation = UserAssociationCache.getInstance().getGeneration();
+        List<UserAssociation> loadedUserAssociations =
+                organizationUserSharingDAO.getUserAssociations(uncachedUserIds, organizationId);
+        for (UserAssociation userAssociation : loadedUserAssociations) {
+            UserAssociationCache.getInstance().addUserAssociationToCache(
+                    new UserAssociationCacheKey(userAssociation.getUserId(), organizationId),
+                    new UserAssociationCacheEntry(userAssociation), generation);
+        }
+        userAssociations.addAll(loadedUserAssociations);
+        return userAssociations;
+    }
+
+    @Override
+    public List<String> getNonDeletableUserRoleAssignments(String roleId,
+                                                           List<String> deletedDomainQualifiedUserNamesList,
+                                                           String tenantDomain, String requestingOrgId)
+            throws IdentityRoleManagementException {
+
+        return organizationUserSharingDAO.getNonDeletableUserRoleAssignments(roleId,
+                deletedDomainQualifiedUserNamesList, tenantDomain, requestingOrgId);
+    }
+
+    @Override
+    public List<String> getSharedUserRolesFromUserRoles(List<String> allUserRolesOfSharedUser, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return organizationUserSharingDAO.getSharedUserRolesFromUserRoles(allUserRolesOfSharedUser, tenantDomain);
+    }
+
+    @Override
+    public void addEditRestrictionsForSharedUserRole(String roleId, String username, String tenantDomain,
+                                                     String domainName, EditOperation editOperation,
+                                                     String permittedOrgId)
+            throws UserSharingMgtServerException {
+
+        organizationUserSharingDAO.addEditRestrictionsForSharedUserRole(roleId, username, tenantDomain, domainName,
+                editOperation, permittedOrgId);
+    }
+
+    @Override
+    public List<String> getRolesSharedWithUserInOrganization(String username, int tenantId, String domainName)
+            throws UserSharingMgtServerException {
+
+        return organizationUserSharingDAO.getRolesSharedWithUserInOrganization(username, tenantId, domainName);
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfGivenUserOnGivenOrgs(String associatedUserId,
+                                                                           List<String> orgIds)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, orgIds);
+    }
+
+    @Override
+    public void updateSharedTypeOfUserAssociation(int id, SharedType sharedType)
+            throws OrganizationManagementServerException {
+
+        organizationUserSharingDAO.updateSharedTypeOfUserAssociation(id, sharedType);
+        // The association is only known by its ID here, which is not a part of the cache key.
+        UserAssociationCache.getInstance().clearAllFromCache();
+    }
+
+    private void clearUserAssociationFromCache(String userId, String orgId) {
+
+        UserAssociationCache.getInstance().clearUserAssociationFromCache(new UserAssociationCacheKey(userId, orgId));
+    }
+
+    private void clearUserAssociationsFromCache(List<UserAssociation> userAssociations) {
+
+        for (UserAssociation userAssociation : userAssociations) {
+            clearUserAssociationFromCache(userAssociation.getUserId(), userAssociation.getOrganizationId());
+        }
+    }
+}
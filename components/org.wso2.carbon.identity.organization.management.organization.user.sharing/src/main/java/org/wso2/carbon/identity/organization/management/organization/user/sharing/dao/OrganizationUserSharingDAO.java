@@ -66,6 +66,20 @@ public interface OrganizationUserSharingDAO {
         throw new NotImplementedException("createOrganizationUserAssociation method is not implemented.");
     }
 
+    /**
+     * Creates the given associations between the shared users and the actual users with batched inserts.
+     *
+     * @param userAssociations The user associations to be created.
+     * @return The created user associations. The generated IDs of the associations are not populated.
+     * @throws OrganizationManagementServerException If an error occurs while creating the organization user
+     *                                               associations.
+     */
+    default List<UserAssociation> createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("createOrganizationUserAssociations method is not implemented.");
+    }
+
     /**
      * Delete the organization user association for a shared user in a shared organization.
      *
@@ -133,6 +147,33 @@ public interface OrganizationUserSharingDAO {
         throw new NotImplementedException("getUserAssociationsOfGivenUser method with filters is not implemented.");
     }
 
+    /**
+     * Get all the user associations for a given user within the organizations under the given parent organization,
+     * filtered by expression nodes. The organization scope is resolved from the organization hierarchy within the
+     * query, hence the association table should reside in the same database as the organization hierarchy.
+     *
+     * @param associatedUserId Actual user ID of the user.
+     * @param associatedOrgId  The organization ID where the user is managed.
+     * @param parentOrgId      The ID of the parent organization whose descendants define the search scope.
+     * @param recursive        Whether to include all descendants or only the immediate child organizations.
+     * @param expressionNodes  The list of expression nodes to filter the user associations.
+     * @param sortOrder        The order to sort the results.
+     * @param limit            The maximum number of results to return.
+     * @return the list of {@link UserAssociation}s.
+     * @throws OrganizationManagementException If an error occurs while fetching user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfAssociatedUserInHierarchy(String associatedUserId,
+                                                                                 String associatedOrgId,
+                                                                                 String parentOrgId,
+                                                                                 boolean recursive,
+                                                                                 List<ExpressionNode> expressionNodes,
+                                                                                 String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getUserAssociationsOfAssociatedUserInHierarchy method is not implemented.");
+    }
+
     /**
      * Get all the user associations for a given user filtered by shared type.
      *
@@ -201,6 +242,35 @@ public interface OrganizationUserSharingDAO {
     UserAssociation getUserAssociation(String userId, String organizationId)
             throws OrganizationManagementServerException;
 
+    /**
+     * Get the user associations of a shared user, which are managed by the given associated organization.
+     *
+     * @param userId          The user ID of the shared user.
+     * @param associatedOrgId The organization ID where the associated user's identity is managed.
+     * @return The user associations of the shared user.
+     * @throws OrganizationManagementServerException If an error occurs while retrieving the user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfSharedUser(String userId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getUserAssociationsOfSharedUser method is not implemented.");
+    }
+
+    /**
+     * Get the organization user associations of the given shared users in the given organization.
+     *
+     * @param userIds        IDs of the shared users.
+     * @param organizationId The organization ID of the shared users.
+     * @return The list of {@link UserAssociation}s of the shared users which have an association in the
+     * organization.
+     * @throws OrganizationManagementServerException If an error occurs while retrieving the user associations.
+     */
+    default List<UserAssociation> getUserAssociations(List<String> userIds, String organizationId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getUserAssociations method is not implemented.");
+    }
+
     /**
      * Retrieve the list of usernames that are not eligible to be removed from the specified role within the given
      * tenant domain, based on the permissions of the requesting organization.
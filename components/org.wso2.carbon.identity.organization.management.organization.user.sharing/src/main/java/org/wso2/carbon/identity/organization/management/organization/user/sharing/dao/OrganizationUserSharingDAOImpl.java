@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
@@ -42,6 +43,7 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -68,9 +70,12 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DELETE_ORGANIZATION_USER_ASSOCIATIONS_BY_ORG_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DELETE_ORGANIZATION_USER_ASSOCIATIONS_FOR_ROOT_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DELETE_ORGANIZATION_USER_ASSOCIATION_FOR_SHARED_USER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_CHILD_ORGANIZATION_IDS_OF_PARENT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_DESCENDANT_ORGANIZATION_IDS_OF_PARENT;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_USER_BY_SHARED_TYPE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_OF_SHARED_USER_BY_ASSOCIATED_ORG;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATION_FOR_ROOT_USER_IN_ORG;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_RESTRICTED_USERNAMES_BY_ROLE_AND_ORG;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_SHARED_ROLES_OF_SHARED_USER;
@@ -81,9 +86,11 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_FOR_ASSOCIATED_USER_BY_FILTERING_TAIL_WITH_LIMIT_DB2;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_FOR_ASSOCIATED_USER_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_FOR_ASSOCIATED_USER_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_OF_GIVEN_USERS_IN_ORG;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_OF_USER_IN_GIVEN_ORGS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ROLE_IN_TENANT;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.INSERT_RESTRICTED_EDIT_PERMISSION;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.ORG_IDS_IN_CLAUSE_CHUNK_SIZE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.AND;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.ASC_SORT_ORDER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_ASSOCIATED_ORG_ID;
@@ -94,6 +101,7 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_HYBRID_USER_ROLE_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_HYBRID_USER_ROLE_TENANT_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_PARENT_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_PERMITTED_ORG_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_SHARED_TYPE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_TENANT_ID;
@@ -107,8 +115,11 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ORG_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ORG_IDS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ROLE_IDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_USER_IDS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.WHITE_SPACE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.UPDATE_USER_ASSOCIATION_SHARED_TYPE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.USER_ASSOCIATION_BATCH_INSERT_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.USER_IDS_IN_CLAUSE_CHUNK_SIZE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ERROR_INSERTING_RESTRICTED_PERMISSION;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_USER_ROLE_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_GET_ROLES_SHARED_WITH_SHARED_USER;
@@ -250,6 +261,48 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         }
     }
 
+    @Override
+    public List<UserAssociation> createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(userAssociations)) {
+            return Collections.emptyList();
+        }
+
+        NamedJdbcTemplate namedJdbcTemplate = getAssociationTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                // Add the associations in chunks, so that a large share is executed with a bounded batch size.
+                for (int i = 0; i < userAssociations.size(); i += USER_ASSOCIATION_BATCH_INSERT_SIZE) {
+                    List<UserAssociation> userAssociationChunk = userAssociations.subList(i,
+                            Math.min(i + USER_ASSOCIATION_BATCH_INSERT_SIZE, userAssociations.size()));
+                    template.executeBatchInsert(CREATE_ORGANIZATION_USER_ASSOCIATION_WITH_TYPE,
+                            namedPreparedStatement -> {
+                                for (UserAssociation userAssociation : userAssociationChunk) {
+                                    SharedType sharedType = userAssociation.getSharedType() != null ?
+                                            userAssociation.getSharedType() : SharedType.NOT_SPECIFIED;
+                                    namedPreparedStatement.setString(COLUMN_NAME_USER_ID,
+                                            userAssociation.getUserId());
+                                    namedPreparedStatement.setString(COLUMN_NAME_ORG_ID,
+                                            userAssociation.getOrganizationId());
+                                    namedPreparedStatement.setString(COLUMN_NAME_ASSOCIATED_USER_ID,
+                                            userAssociation.getAssociatedUserId());
+                                    namedPreparedStatement.setString(COLUMN_NAME_ASSOCIATED_ORG_ID,
+                                            userAssociation.getUserResidentOrganizationId());
+                                    namedPreparedStatement.setString(COLUMN_NAME_UM_SHARED_TYPE, sharedType.name());
+                                    namedPreparedStatement.addBatch();
+                                }
+                            }, null);
+                }
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CREATE_ORGANIZATION_USER_ASSOCIATION, e,
+                    userAssociations.get(0).getAssociatedUserId());
+        }
+        return userAssociations;
+    }
+
     public boolean deleteUserAssociationOfUserByAssociatedOrg(String userId, String associatedOrgId)
             throws OrganizationManagementServerException {
 
@@ -342,6 +395,43 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
             return Collections.emptyList();
         }
 
+        String orgIdPlaceholders = IntStream.range(0, orgIdsScope.size())
+                .mapToObj(i -> ":" + ORG_ID_SCOPE_PLACEHOLDER_PREFIX + i + ";")
+                .collect(Collectors.joining(", "));
+        Map<String, String> orgScopeParams = new LinkedHashMap<>();
+        for (int i = 0; i < orgIdsScope.size(); i++) {
+            orgScopeParams.put(ORG_ID_SCOPE_PLACEHOLDER_PREFIX + i, orgIdsScope.get(i));
+        }
+        return getUserAssociationsOfAssociatedUserInOrgScope(associatedUserId, associatedOrgId, orgIdPlaceholders,
+                orgScopeParams, expressionNodes, sortOrder, limit);
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfAssociatedUserInHierarchy(String associatedUserId,
+                                                                                String associatedOrgId,
+                                                                                String parentOrgId, boolean recursive,
+                                                                                List<ExpressionNode> expressionNodes,
+                                                                                String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        if (StringUtils.isBlank(parentOrgId)) {
+            return Collections.emptyList();
+        }
+
+        String orgScopeQuery = recursive ? GET_DESCENDANT_ORGANIZATION_IDS_OF_PARENT :
+                GET_CHILD_ORGANIZATION_IDS_OF_PARENT;
+        return getUserAssociationsOfAssociatedUserInOrgScope(associatedUserId, associatedOrgId, orgScopeQuery,
+                Collections.singletonMap(COLUMN_NAME_UM_PARENT_ID, parentOrgId), expressionNodes, sortOrder, limit);
+    }
+
+    private List<UserAssociation> getUserAssociationsOfAssociatedUserInOrgScope(String associatedUserId,
+                                                                                String associatedOrgId,
+                                                                                String orgScope,
+                                                                                Map<String, String> orgScopeParams,
+                                                                                List<ExpressionNode> expressionNodes,
+                                                                                String sortOrder, int limit)
+            throws OrganizationManagementException {
+
         // Hard-guard sort order because it gets injected into SQL.
         String resolvedSortOrder = ASC_SORT_ORDER.equalsIgnoreCase(sortOrder) ? ASC_SORT_ORDER : DESC_SORT_ORDER;
 
@@ -349,11 +439,7 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         String filterQuery = filterQueryBuilder.getFilterQuery();
         Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
 
-        String orgIdPlaceholders = IntStream.range(0, orgIdsScope.size())
-                .mapToObj(i -> ":" + ORG_ID_SCOPE_PLACEHOLDER_PREFIX + i + ";")
-                .collect(Collectors.joining(", "));
-
-        String sql = buildGetUserAssociationsSql(filterQuery, orgIdPlaceholders, resolvedSortOrder, limit);
+        String sql = buildGetUserAssociationsSql(filterQuery, orgScope, resolvedSortOrder, limit);
 
         NamedJdbcTemplate namedJdbcTemplate = getAssociationTemplate();
         try {
@@ -381,8 +467,8 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
                         }
 
                         // Scope params.
-                        for (int i = 0; i < orgIdsScope.size(); i++) {
-                            ps.setString(ORG_ID_SCOPE_PLACEHOLDER_PREFIX + i, orgIdsScope.get(i));
+                        for (Map.Entry<String, String> entry : orgScopeParams.entrySet()) {
+                            ps.setString(entry.getKey(), entry.getValue());
                         }
                     });
         } catch (DataAccessException e) {
@@ -390,7 +476,7 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         }
     }
 
-    private String buildGetUserAssociationsSql(String filterQuery, String orgIdPlaceholders,
+    private String buildGetUserAssociationsSql(String filterQuery, String orgScope,
                                                String sortOrder, int limit)
             throws OrganizationManagementServerException {
 
@@ -407,7 +493,7 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
             tail = getUserAssociationsByFilteringTailWithLimit(sortOrder, limit, getAssociationDbProductType());
         }
 
-        return (head + tail).replace(PLACEHOLDER_ORG_IDS, orgIdPlaceholders);
+        return (head + tail).replace(PLACEHOLDER_ORG_IDS, orgScope);
     }
 
     private String getUserAssociationsByFilteringTailWithLimit(String sortOrder, int limit, String dbProductType) {
@@ -574,6 +660,92 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         }
     }
 
+    @Override
+    public List<UserAssociation> getUserAssociationsOfSharedUser(String userId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getAssociationTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(GET_ORGANIZATION_USER_ASSOCIATIONS_OF_SHARED_USER_BY_ASSOCIATED_ORG,
+                    (resultSet, rowNumber) -> {
+                        UserAssociation userAssociation = new UserAssociation();
+                        userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
+                        userAssociation.setUserId(resultSet.getString(COLUMN_NAME_USER_ID));
+                        userAssociation.setOrganizationId(resultSet.getString(COLUMN_NAME_ORG_ID));
+                        userAssociation.setAssociatedUserId(resultSet.getString(COLUMN_NAME_ASSOCIATED_USER_ID));
+                        userAssociation.setUserResidentOrganizationId(
+                                resultSet.getString(COLUMN_NAME_ASSOCIATED_ORG_ID));
+                        userAssociation.setSharedType(
+                                SharedType.fromString(resultSet.getString(COLUMN_NAME_UM_SHARED_TYPE)));
+                        return userAssociation;
+                    },
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(1, userId);
+                        namedPreparedStatement.setString(2, associatedOrgId);
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS, e);
+        }
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociations(List<String> userIds, String organizationId)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(userIds)) {
+            return Collections.emptyList();
+        }
+
+        // Bind the user IDs in chunks to keep the IN clause within the database limits.
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += USER_IDS_IN_CLAUSE_CHUNK_SIZE) {
+            List<String> userIdChunk = userIds.subList(i, Math.min(i + USER_IDS_IN_CLAUSE_CHUNK_SIZE, userIds.size()));
+            userAssociations.addAll(getUserAssociationsOfUserChunk(userIdChunk, organizationId));
+        }
+        return userAssociations;
+    }
+
+    private List<UserAssociation> getUserAssociationsOfUserChunk(List<String> userIds, String organizationId)
+            throws OrganizationManagementServerException {
+
+        String userIdPlaceholder = "USER_ID_";
+        List<String> userIdPlaceholders = new ArrayList<>();
+        for (int i = 1; i <= userIds.size(); i++) {
+            userIdPlaceholders.add(":" + userIdPlaceholder + i + ";");
+        }
+
+        String fetchUserAssociationsQuery = GET_USER_ASSOCIATIONS_OF_GIVEN_USERS_IN_ORG.replace(PLACEHOLDER_USER_IDS,
+                String.join(", ", userIdPlaceholders));
+
+        NamedJdbcTemplate namedJdbcTemplate = getAssociationTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(
+                    fetchUserAssociationsQuery,
+                    (resultSet, rowNumber) -> {
+                        UserAssociation userAssociation = new UserAssociation();
+                        userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
+                        userAssociation.setUserId(resultSet.getString(COLUMN_NAME_USER_ID));
+                        userAssociation.setOrganizationId(resultSet.getString(COLUMN_NAME_ORG_ID));
+                        userAssociation.setAssociatedUserId(resultSet.getString(COLUMN_NAME_ASSOCIATED_USER_ID));
+                        userAssociation.setUserResidentOrganizationId(
+                                resultSet.getString(COLUMN_NAME_ASSOCIATED_ORG_ID));
+                        userAssociation.setSharedType(
+                                SharedType.fromString(resultSet.getString(COLUMN_NAME_UM_SHARED_TYPE)));
+                        return userAssociation;
+                    },
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(COLUMN_NAME_ORG_ID, organizationId);
+                        int index = 1;
+                        for (String userId : userIds) {
+                            namedPreparedStatement.setString(userIdPlaceholder + index, userId);
+                            index++;
+                        }
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS, e);
+        }
+    }
+
     @Override
     public List<String> getNonDeletableUserRoleAssignments(String roleId, List<String> deletedDomainQualifiedUserNames,
                                                            String tenantDomain, String permittedOrgId)
@@ -727,6 +899,22 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         if (CollectionUtils.isEmpty(orgIds)) {
             return Collections.emptyList();
         }
+        if (orgIds.size() <= ORG_IDS_IN_CLAUSE_CHUNK_SIZE) {
+            return getUserAssociationsOfGivenUserOnOrgChunk(associatedUserId, orgIds);
+        }
+
+        // Bind the organization IDs in chunks to keep the IN clause within the database limits.
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        for (int i = 0; i < orgIds.size(); i += ORG_IDS_IN_CLAUSE_CHUNK_SIZE) {
+            List<String> orgIdChunk = orgIds.subList(i, Math.min(i + ORG_IDS_IN_CLAUSE_CHUNK_SIZE, orgIds.size()));
+            userAssociations.addAll(getUserAssociationsOfGivenUserOnOrgChunk(associatedUserId, orgIdChunk));
+        }
+        return userAssociations;
+    }
+
+    private List<UserAssociation> getUserAssociationsOfGivenUserOnOrgChunk(String associatedUserId,
+                                                                           List<String> orgIds)
+            throws OrganizationManagementServerException {
 
         String orgIdPlaceholder = "ORG_ID_";
         List<String> orgIdPlaceholders = new ArrayList<>();
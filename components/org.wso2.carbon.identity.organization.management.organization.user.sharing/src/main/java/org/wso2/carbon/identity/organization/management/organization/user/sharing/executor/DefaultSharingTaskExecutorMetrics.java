@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Default in-memory implementation of the {@link SharingTaskExecutorMetrics}, which keeps the submitted, rejected
+ * and failed task counts and a latency histogram per task name.
+ */
+public class DefaultSharingTaskExecutorMetrics implements SharingTaskExecutorMetrics {
+
+    /**
+     * Upper bounds of the latency histogram buckets in milliseconds. The last bucket holds every latency above the
+     * largest bound.
+     */
+    private static final long[] LATENCY_BUCKET_BOUNDS_MILLIS =
+            {100, 500, 1000, 5000, 10000, 30000, 60000, 300000, 900000};
+
+    private final Map<String, TaskMetrics> taskMetrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTaskSubmitted(String taskName) {
+
+        getTaskMetrics(taskName).submittedCount.incrementAndGet();
+    }
+
+    @Override
+    public void onTaskRejected(String taskName) {
+
+        getTaskMetrics(taskName).rejectedCount.incrementAndGet();
+    }
+
+    @Override
+    public void onTaskCompleted(String taskName, long queuedMillis, long latencyMillis, boolean successful) {
+
+        TaskMetrics metrics = getTaskMetrics(taskName);
+        if (!successful) {
+            metrics.failedCount.incrementAndGet();
+        }
+        metrics.queuedTimeHistogram.incrementAndGet(getBucketIndex(queuedMillis));
+        metrics.latencyHistogram.incrementAndGet(getBucketIndex(latencyMillis));
+    }
+
+    /**
+     * Get the upper bounds of the latency histogram buckets in milliseconds.
+     *
+     * @return Upper bounds of the latency histogram buckets.
+     */
+    public long[] getLatencyBucketBounds() {
+
+        return LATENCY_BUCKET_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Get the metrics recorded per task name.
+     *
+     * @return Unmodifiable map of the task metrics keyed by the task name.
+     */
+    public Map<String, TaskMetrics> getTaskMetrics() {
+
+        return Collections.unmodifiableMap(taskMetrics);
+    }
+
+    private TaskMetrics getTaskMetrics(String taskName) {
+
+        return taskMetrics.computeIfAbsent(taskName, name -> new TaskMetrics());
+    }
+
+    private static int getBucketIndex(long millis) {
+
+        for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; i++) {
+            if (millis <= LATENCY_BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKET_BOUNDS_MILLIS.length;
+    }
+
+    /**
+     * Metrics recorded for a single task name.
+     */
+    public static class TaskMetrics {
+
+        private final AtomicLong submittedCount = new AtomicLong();
+        private final AtomicLong rejectedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final AtomicLongArray queuedTimeHistogram =
+                new AtomicLongArray(LATENCY_BUCKET_BOUNDS_MILLIS.length + 1);
+        private final AtomicLongArray latencyHistogram =
+                new AtomicLongArray(LATENCY_BUCKET_BOUNDS_MILLIS.length + 1);
+
+        public long getSubmittedCount() {
+
+            return submittedCount.get();
+        }
+
+        public long getRejectedCount() {
+
+            return rejectedCount.get();
+        }
+
+        public long getFailedCount() {
+
+            return failedCount.get();
+        }
+
+        /**
+         * Get the number of tasks which waited in the queue within each bucket of
+         * {@link DefaultSharingTaskExecutorMetrics#getLatencyBucketBounds()}.
+         *
+         * @return Queued time histogram counts.
+         */
+        public long[] getQueuedTimeHistogram() {
+
+            return toArray(queuedTimeHistogram);
+        }
+
+        /**
+         * Get the number of tasks which executed within each bucket of
+         * {@link DefaultSharingTaskExecutorMetrics#getLatencyBucketBounds()}.
+         *
+         * @return Latency histogram counts.
+         */
+        public long[] getLatencyHistogram() {
+
+            return toArray(latencyHistogram);
+        }
+
+        private static long[] toArray(AtomicLongArray histogram) {
+
+            long[] counts = new long[histogram.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = histogram.get(i);
+            }
+            return counts;
+        }
+    }
+}
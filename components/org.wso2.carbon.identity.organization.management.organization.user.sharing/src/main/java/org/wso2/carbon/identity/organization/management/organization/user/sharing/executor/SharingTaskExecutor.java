@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_SHARING_EXECUTOR_CORE_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_SHARING_EXECUTOR_KEEP_ALIVE_SECONDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_SHARING_EXECUTOR_MAX_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_SHARING_EXECUTOR_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARING_EXECUTOR_CORE_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARING_EXECUTOR_KEEP_ALIVE_SECONDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARING_EXECUTOR_MAX_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARING_EXECUTOR_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARING_EXECUTOR_THREAD_NAME_PREFIX;
+
+/**
+ * Bounded executor which runs the asynchronous user and agent sharing operations.
+ * <p>
+ * The pool and queue sizes are read from the identity configuration. Once all the threads are busy and the queue is
+ * full, new tasks are rejected with a {@link RejectedExecutionException}, so that the callers can ask the client to
+ * retry later instead of queueing the requests without a limit.
+ */
+public class SharingTaskExecutor {
+
+    private static final Log LOG = LogFactory.getLog(SharingTaskExecutor.class);
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final int queueCapacity;
+    private final AtomicLong rejectedTaskCount = new AtomicLong();
+    private final SharingTaskExecutorMetrics defaultMetrics = new DefaultSharingTaskExecutorMetrics();
+
+    private static class SharingTaskExecutorHolder {
+
+        private static final SharingTaskExecutor INSTANCE = new SharingTaskExecutor(
+                getConfiguredValue(SHARING_EXECUTOR_CORE_POOL_SIZE, DEFAULT_SHARING_EXECUTOR_CORE_POOL_SIZE),
+                getConfiguredValue(SHARING_EXECUTOR_MAX_POOL_SIZE, DEFAULT_SHARING_EXECUTOR_MAX_POOL_SIZE),
+                getConfiguredValue(SHARING_EXECUTOR_QUEUE_CAPACITY, DEFAULT_SHARING_EXECUTOR_QUEUE_CAPACITY),
+                getConfiguredValue(SHARING_EXECUTOR_KEEP_ALIVE_SECONDS, DEFAULT_SHARING_EXECUTOR_KEEP_ALIVE_SECONDS));
+    }
+
+    /**
+     * Create a sharing task executor.
+     *
+     * @param corePoolSize     Number of threads kept in the pool.
+     * @param maxPoolSize      Maximum number of threads in the pool.
+     * @param queueCapacity    Maximum number of tasks waiting for a thread.
+     * @param keepAliveSeconds Time an idle thread above the core pool size is kept alive.
+     */
+    SharingTaskExecutor(int corePoolSize, int maxPoolSize, int queueCapacity, int keepAliveSeconds) {
+
+        int maximumPoolSize = Math.max(corePoolSize, maxPoolSize);
+        this.queueCapacity = queueCapacity;
+        this.threadPoolExecutor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveSeconds,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new SharingThreadFactory(SHARING_EXECUTOR_THREAD_NAME_PREFIX), new ThreadPoolExecutor.AbortPolicy());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Initialized the sharing task executor with the core pool size: " + corePoolSize +
+                    ", maximum pool size: " + maximumPoolSize + " and queue capacity: " + queueCapacity);
+        }
+    }
+
+    /**
+     * Get the shared instance of the SharingTaskExecutor.
+     *
+     * @return SharingTaskExecutor instance.
+     */
+    public static SharingTaskExecutor getInstance() {
+
+        return SharingTaskExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * Submit a task to the executor.
+     *
+     * @param taskName Name of the task, used to group the metrics of the task.
+     * @param task     Task to be executed.
+     * @return A future which completes when the task completes.
+     * @throws RejectedExecutionException If the executor is saturated and cannot accept the task.
+     */
+    public CompletableFuture<Void> submit(String taskName, Runnable task) {
+
+        SharingTaskExecutorMetrics taskMetrics = getMetrics();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        long submittedTime = System.nanoTime();
+        try {
+            threadPoolExecutor.execute(() -> {
+                long startedTime = System.nanoTime();
+                Throwable error = null;
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    error = e;
+                }
+                // Record the metrics before completing the future, so that they are visible to the dependents.
+                taskMetrics.onTaskCompleted(taskName, toMillis(startedTime - submittedTime),
+                        toMillis(System.nanoTime() - startedTime), error == null);
+                if (error == null) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(error);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedTaskCount.incrementAndGet();
+            taskMetrics.onTaskRejected(taskName);
+            LOG.warn("Rejected the " + taskName + " task since the sharing task executor is saturated. Active " +
+                    "threads: " + getActiveCount() + ", queued tasks: " + getQueuedCount());
+            throw e;
+        }
+        taskMetrics.onTaskSubmitted(taskName);
+        return future;
+    }
+
+    /**
+     * Get the metrics listener of the executor. The metrics listener registered as an OSGi service is used if
+     * available, and the default in-memory metrics are used otherwise.
+     *
+     * @return Metrics listener.
+     */
+    public SharingTaskExecutorMetrics getMetrics() {
+
+        SharingTaskExecutorMetrics metrics =
+                OrganizationUserSharingDataHolder.getInstance().getSharingTaskExecutorMetrics();
+        return metrics != null ? metrics : defaultMetrics;
+    }
+
+    /**
+     * Get the approximate number of threads which are actively executing tasks.
+     *
+     * @return Active thread count.
+     */
+    public int getActiveCount() {
+
+        return threadPoolExecutor.getActiveCount();
+    }
+
+    /**
+     * Get the number of tasks waiting in the queue.
+     *
+     * @return Queued task count.
+     */
+    public int getQueuedCount() {
+
+        return threadPoolExecutor.getQueue().size();
+    }
+
+    /**
+     * Get the approximate number of tasks which completed the execution.
+     *
+     * @return Completed task count.
+     */
+    public long getCompletedCount() {
+
+        return threadPoolExecutor.getCompletedTaskCount();
+    }
+
+    /**
+     * Get the number of tasks rejected since the executor was saturated.
+     *
+     * @return Rejected task count.
+     */
+    public long getRejectedCount() {
+
+        return rejectedTaskCount.get();
+    }
+
+    public int getCorePoolSize() {
+
+        return threadPoolExecutor.getCorePoolSize();
+    }
+
+    public int getMaxPoolSize() {
+
+        return threadPoolExecutor.getMaximumPoolSize();
+    }
+
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    /**
+     * Shut down the executor. Tasks which are already submitted are executed, but new tasks are rejected.
+     */
+    public void shutdown() {
+
+        threadPoolExecutor.shutdown();
+    }
+
+    private static long toMillis(long nanos) {
+
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Get a positive integer value from the identity configuration.
+     *
+     * @param property     Name of the property.
+     * @param defaultValue Value used if the property is not configured or is invalid.
+     * @return Configured value of the property.
+     */
+    static int getConfiguredValue(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int configuredValue = Integer.parseInt(value.trim());
+            if (configuredValue > 0) {
+                return configuredValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        LOG.warn("Invalid value: " + value + " configured for the property: " + property +
+                ". Using the default value: " + defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Thread factory which names the sharing threads, so that they can be identified in the thread dumps.
+     */
+    static class SharingThreadFactory implements ThreadFactory {
+
+        private final String threadNamePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        SharingThreadFactory(String threadNamePrefix) {
+
+            this.threadNamePrefix = threadNamePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+/**
+ * Metrics listener of the {@link SharingTaskExecutor}.
+ * <p>
+ * Implementations are invoked on the request thread when a task is submitted or rejected, and on the executor
+ * thread when a task completes. Hence the implementations must be thread safe and must not block.
+ */
+public interface SharingTaskExecutorMetrics {
+
+    /**
+     * Invoked when a task is accepted by the executor.
+     *
+     * @param taskName Name of the task.
+     */
+    void onTaskSubmitted(String taskName);
+
+    /**
+     * Invoked when a task is rejected since the executor is saturated.
+     *
+     * @param taskName Name of the task.
+     */
+    void onTaskRejected(String taskName);
+
+    /**
+     * Invoked when a task completes its execution.
+     *
+     * @param taskName      Name of the task.
+     * @param queuedMillis  Time the task waited in the queue before the execution started, in milliseconds.
+     * @param latencyMillis Time taken to execute the task, in milliseconds.
+     * @param successful    Whether the task completed without an error.
+     */
+    void onTaskCompleted(String taskName, long queuedMillis, long latencyMillis, boolean successful);
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_SHARING_EXECUTOR_KEEP_ALIVE_SECONDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_SHARING_WORKER_PARALLELISM;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARING_WORKER_PARALLELISM;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARING_WORKER_THREAD_NAME_PREFIX;
+
+/**
+ * Worker pool which fans out the items of a bulk sharing operation, such as the users of a bulk user share.
+ * <p>
+ * The sharing operations run on the {@link SharingTaskExecutor} and hand their items over to this pool, so that a
+ * saturated worker pool never blocks the acceptance of new sharing requests. The number of items of a single
+ * operation which run at the same time never exceeds the configured parallelism. A parallelism of 1 disables the
+ * fan-out and the callers are expected to process the items on the calling thread.
+ */
+public class SharingWorkerPool {
+
+    private static final Log LOG = LogFactory.getLog(SharingWorkerPool.class);
+
+    private final int parallelism;
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    private static class SharingWorkerPoolHolder {
+
+        private static final SharingWorkerPool INSTANCE = new SharingWorkerPool(
+                SharingTaskExecutor.getConfiguredValue(SHARING_WORKER_PARALLELISM,
+                        DEFAULT_SHARING_WORKER_PARALLELISM));
+    }
+
+    /**
+     * Create a sharing worker pool.
+     *
+     * @param parallelism Maximum number of items processed at the same time.
+     */
+    SharingWorkerPool(int parallelism) {
+
+        this.parallelism = parallelism;
+        this.threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism,
+                DEFAULT_SHARING_EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new SharingTaskExecutor.SharingThreadFactory(SHARING_WORKER_THREAD_NAME_PREFIX));
+        this.threadPoolExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the shared instance of the SharingWorkerPool.
+     *
+     * @return SharingWorkerPool instance.
+     */
+    public static SharingWorkerPool getInstance() {
+
+        return SharingWorkerPoolHolder.INSTANCE;
+    }
+
+    /**
+     * Get the maximum number of items of an operation processed at the same time.
+     *
+     * @return Degree of parallelism.
+     */
+    public int getParallelism() {
+
+        return parallelism;
+    }
+
+    /**
+     * Check whether the items of an operation with the given number of items should be processed in parallel.
+     *
+     * @param itemCount Number of items of the operation.
+     * @return True if the parallel execution is enabled and there is more than one item.
+     */
+    public boolean isParallelExecutionApplicable(int itemCount) {
+
+        return parallelism > 1 && itemCount > 1;
+    }
+
+    /**
+     * Process every item with the given action on the worker threads and wait until all the items are processed.
+     * The action is responsible for handling its own failures. An unexpected failure of an item is logged and does
+     * not stop the processing of the remaining items.
+     *
+     * @param items  Items to be processed.
+     * @param action Action which processes a single item.
+     * @param <T>    Type of the items.
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the items.
+     */
+    public <T> void processAll(Collection<T> items, Consumer<T> action) throws InterruptedException {
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                permits.acquire();
+                try {
+                    futures.add(threadPoolExecutor.submit(() -> {
+                        try {
+                            action.accept(item);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    LOG.error("Unexpected error occurred while processing a sharing item.", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    /**
+     * Shut down the worker pool. Items which are already submitted are processed, but new items are rejected.
+     */
+    public void shutdown() {
+
+        threadPoolExecutor.shutdown();
+    }
+}
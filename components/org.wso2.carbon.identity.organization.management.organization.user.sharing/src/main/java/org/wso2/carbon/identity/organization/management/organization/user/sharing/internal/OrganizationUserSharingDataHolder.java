@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingTaskExecutorMetrics;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
@@ -45,6 +46,7 @@ public class OrganizationUserSharingDataHolder {
     private OrgResourceResolverService orgResourceResolverService;
     private ResourceSharingPolicyHandlerService resourceSharingPolicyHandlerService;
     private AsyncOperationStatusMgtService asyncOperationStatusMgtService;
+    private SharingTaskExecutorMetrics sharingTaskExecutorMetrics;
 
     private OrganizationUserSharingDataHolder() {
         
@@ -257,4 +259,24 @@ public class OrganizationUserSharingDataHolder {
 
         this.asyncOperationStatusMgtService = asyncOperationStatusMgtService;
     }
+
+    /**
+     * Get the metrics listener of the sharing task executor.
+     *
+     * @return SharingTaskExecutorMetrics metrics listener of the sharing task executor.
+     */
+    public SharingTaskExecutorMetrics getSharingTaskExecutorMetrics() {
+
+        return sharingTaskExecutorMetrics;
+    }
+
+    /**
+     * Set the metrics listener of the sharing task executor.
+     *
+     * @param sharingTaskExecutorMetrics SharingTaskExecutorMetrics metrics listener of the sharing task executor.
+     */
+    public void setSharingTaskExecutorMetrics(SharingTaskExecutorMetrics sharingTaskExecutorMetrics) {
+
+        this.sharingTaskExecutorMetrics = sharingTaskExecutorMetrics;
+    }
 }
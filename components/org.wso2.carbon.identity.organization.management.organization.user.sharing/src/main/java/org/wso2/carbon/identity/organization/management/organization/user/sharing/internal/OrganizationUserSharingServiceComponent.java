@@ -24,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -37,6 +38,9 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerServiceImpl;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerServiceImplV2;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerServiceV2;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingTaskExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingTaskExecutorMetrics;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingWorkerPool;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.OrganizationUserSharingHandler;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedUserOperationEventListener;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedUserProfileUpdateGovernanceEventListener;
@@ -92,6 +96,15 @@ public class OrganizationUserSharingServiceComponent {
         LOG.debug("OrganizationUserSharingServiceComponent-V2 activated successfully.");
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        // Stop accepting new sharing tasks and let the submitted ones complete.
+        SharingTaskExecutor.getInstance().shutdown();
+        SharingWorkerPool.getInstance().shutdown();
+        LOG.debug("OrganizationUserSharingServiceComponent deactivated successfully.");
+    }
+
     @Reference(
             name = "realm.service",
             service = RealmService.class,
@@ -253,4 +266,23 @@ public class OrganizationUserSharingServiceComponent {
         OrganizationUserSharingDataHolder.getInstance().setAsyncOperationStatusMgtService(null);
         LOG.debug("Unset Async Operation Status Mgt Service.");
     }
+
+    @Reference(
+            name = "sharing.task.executor.metrics",
+            service = SharingTaskExecutorMetrics.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetSharingTaskExecutorMetrics"
+    )
+    protected void setSharingTaskExecutorMetrics(SharingTaskExecutorMetrics sharingTaskExecutorMetrics) {
+
+        OrganizationUserSharingDataHolder.getInstance().setSharingTaskExecutorMetrics(sharingTaskExecutorMetrics);
+        LOG.debug("Set Sharing Task Executor Metrics.");
+    }
+
+    protected void unsetSharingTaskExecutorMetrics(SharingTaskExecutorMetrics sharingTaskExecutorMetrics) {
+
+        OrganizationUserSharingDataHolder.getInstance().setSharingTaskExecutorMetrics(null);
+        LOG.debug("Unset Sharing Task Executor Metrics.");
+    }
 }
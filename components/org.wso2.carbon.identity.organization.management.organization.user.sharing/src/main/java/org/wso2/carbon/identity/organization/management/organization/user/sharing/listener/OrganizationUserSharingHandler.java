@@ -22,12 +22,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingServiceImpl;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCache;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
@@ -52,9 +55,12 @@ import org.wso2.carbon.identity.role.v2.mgt.core.util.UserIDResolver;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -63,11 +69,16 @@ import java.util.stream.Collectors;
 public class OrganizationUserSharingHandler extends AbstractEventHandler {
 
     private static final Log LOG = LogFactory.getLog(OrganizationUserSharingHandler.class);
+    private static final Set<String> LOCAL_CLAIM_CHANGE_EVENTS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM,
+                    IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM,
+                    IdentityEventConstants.Event.POST_DELETE_LOCAL_CLAIM)));
     private final OrganizationUserSharingService userSharingService = new OrganizationUserSharingServiceImpl();
     private final UserIDResolver userIDResolver = new UserIDResolver();
 
     /**
-     * Handles the user sharing for the newly created organization and cleanup for deleted organizations.
+     * Handles the user sharing for the newly created organization, cleanup for deleted organizations and the cached
+     * claim resolving methods upon local claim changes.
      *
      * @param event The event to be handled.
      * @throws IdentityEventException If an error occurs while handling the event.
@@ -100,6 +111,18 @@ public class OrganizationUserSharingHandler extends AbstractEventHandler {
             }
         }
 
+        if (LOCAL_CLAIM_CHANGE_EVENTS.contains(eventName)) {
+            /*
+             * A local claim change may alter the shared profile value resolving methods of the organizations which
+             * inherit the claim. Hence, clear the resolving methods of all the tenants.
+             */
+            SharedProfileValueResolvingMethodCache.getInstance().clearResolvingMethodsFromCache();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cleared the cached shared profile value resolving methods upon the event: " + eventName);
+            }
+            return;
+        }
+
         if (Constants.EVENT_POST_DELETE_ORGANIZATION.equals(eventName)) {
             String deletedOrgId = (String) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION_ID);
             try {
@@ -113,6 +136,24 @@ public class OrganizationUserSharingHandler extends AbstractEventHandler {
         }
     }
 
+    /**
+     * The local claim change events are accepted by the handler itself, so that the cached claim resolving methods
+     * are cleared without a subscription in the identity event configuration. The other events are accepted as per
+     * the subscriptions of the handler.
+     *
+     * @param messageContext The message context of the event.
+     * @return True if the handler can handle the event.
+     */
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        if (event != null && LOCAL_CLAIM_CHANGE_EVENTS.contains(event.getEventName())) {
+            return true;
+        }
+        return super.canHandle(messageContext);
+    }
+
     @Override
     public int getPriority(MessageContext messageContext) {
 
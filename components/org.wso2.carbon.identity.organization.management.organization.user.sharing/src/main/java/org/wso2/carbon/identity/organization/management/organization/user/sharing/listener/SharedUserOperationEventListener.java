@@ -32,6 +32,8 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingServiceImpl;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCacheEntry;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
@@ -54,6 +56,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -186,7 +189,7 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
             Map<String, String> resolvedClaimsFromSharedProfile =
                     resolveClaimsFromSharedProfile(claimMap, claimsByResolvingMethod.get(FROM_SHARED_PROFILE));
             Map<String, String> resolvedClaimsFromHierarchy = resolveClaimsFromHierarchy(userAssociation,
-                    claimsByResolvingMethod.get(FROM_FIRST_FOUND_IN_HIERARCHY), currentOrganizationId);
+                    claimsByResolvingMethod.get(FROM_FIRST_FOUND_IN_HIERARCHY), currentOrganizationId, claimMap);
 
             // Set resolvedClaimsFromOrigin,resolvedClaimsFromSharedProfile and resolvedClaimsFromHierarchy to claimMap.
             claimMap.clear();
@@ -226,9 +229,12 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
             // Analyse SharedProfileValueResolvingMethod value of claim and categorize.
             Map<ClaimConstants.SharedProfileValueResolvingMethod, List<String>>
                     claimsByResolvingMethod = categorizeClaimsByResolvingMethod(claims, currentTenantDomain);
+            // Resolve the user associations of all the listed users at once, instead of one lookup per user.
+            Map<String, UserAssociation> userAssociations =
+                    getUserAssociations(userClaimSearchEntries, currentOrganizationId);
             for (UniqueIDUserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
                 User user = userClaimSearchEntry.getUser();
-                UserAssociation userAssociation = getUserAssociation(user.getUserID(), currentOrganizationId);
+                UserAssociation userAssociation = userAssociations.get(user.getUserID());
                 if (userAssociation == null) {
                     // User is not a shared user. Hence, return.
                     continue;
@@ -239,7 +245,8 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
                         resolveClaimsFromSharedProfile(userClaimSearchEntry.getClaims(),
                                 claimsByResolvingMethod.get(FROM_SHARED_PROFILE));
                 Map<String, String> resolvedClaimsFromHierarchy = resolveClaimsFromHierarchy(userAssociation,
-                        claimsByResolvingMethod.get(FROM_FIRST_FOUND_IN_HIERARCHY), currentOrganizationId);
+                        claimsByResolvingMethod.get(FROM_FIRST_FOUND_IN_HIERARCHY), currentOrganizationId,
+                        userClaimSearchEntry.getClaims());
 
                 Map<String, String> aggregatedProfileClaims = new HashMap<>();
                 aggregatedProfileClaims.putAll(resolvedClaimsFromOrigin);
@@ -473,11 +480,63 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
         }
     }
 
+    /**
+     * Resolve the values of the given claims of the shared user in the given organization with a single user store
+     * lookup.
+     *
+     * @param associatedUserId                      The user id of the associated root or parent level user.
+     * @param associationUserResidentOrganizationId The organization id where the associated user is resident.
+     * @param claimURIs                             The URIs of the claims to be resolved.
+     * @param organizationId                        The organization id where the current shared profile exists.
+     * @return The resolved claim values keyed by the claim URI. Claims without a value are not included.
+     * @throws org.wso2.carbon.user.api.UserStoreException If an error occurs while resolving the claim values.
+     */
+    private Map<String, String> claimsResolver(String associatedUserId, String associationUserResidentOrganizationId,
+                                               List<String> claimURIs, String organizationId)
+            throws org.wso2.carbon.user.api.UserStoreException {
+
+        try {
+            String userIdInSearchOrg = associatedUserId;
+            // If the searching org is not the user resident org, get the shared user id in given org.
+            if (associationUserResidentOrganizationId == null ||
+                    !associationUserResidentOrganizationId.equals(organizationId)) {
+                UserAssociation userAssociationOfAssociatedUserByOrgId =
+                        OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService()
+                                .getUserAssociationOfAssociatedUserByOrgId(associatedUserId, organizationId);
+                if (userAssociationOfAssociatedUserByOrgId == null) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(String.format("A shared user is not found for the user: %s in the organization: %s",
+                                associatedUserId, organizationId));
+                    }
+                    return Collections.emptyMap();
+                }
+                userIdInSearchOrg = userAssociationOfAssociatedUserByOrgId.getUserId();
+            }
+            String tenantDomainOfOrg =
+                    OrganizationUserSharingDataHolder.getInstance().getOrganizationManager()
+                            .resolveTenantDomain(organizationId);
+            AbstractUserStoreManager userStoreManager =
+                    getAbstractUserStoreManager(IdentityTenantUtil.getTenantId(tenantDomainOfOrg));
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainOfOrg, true);
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(organizationId);
+                Map<String, String> userClaimValues = userStoreManager.getUserClaimValuesWithID(userIdInSearchOrg,
+                        claimURIs.toArray(new String[0]), null);
+                return userClaimValues != null ? userClaimValues : Collections.emptyMap();
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        } catch (OrganizationManagementException e) {
+            throw new UserStoreException(e.getErrorCode(), e.getMessage());
+        }
+    }
+
     private Map<ClaimConstants.SharedProfileValueResolvingMethod, List<String>> categorizeClaimsByResolvingMethod(
             List<String> claims, String tenantDomain) throws ClaimMetadataException {
 
-        ClaimMetadataManagementService claimManagementService =
-                OrganizationUserSharingDataHolder.getInstance().getClaimManagementService();
+        Map<String, ClaimConstants.SharedProfileValueResolvingMethod> claimResolvingMethods =
+                getClaimResolvingMethods(tenantDomain);
         Map<ClaimConstants.SharedProfileValueResolvingMethod, List<String>> claimsByResolvingMethod =
                 new EnumMap<>(ClaimConstants.SharedProfileValueResolvingMethod.class);
         claimsByResolvingMethod.put(FROM_ORIGIN, new ArrayList<>());
@@ -485,41 +544,102 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
         claimsByResolvingMethod.put(FROM_FIRST_FOUND_IN_HIERARCHY, new ArrayList<>());
 
         for (String claim : claims) {
-            Optional<LocalClaim> localClaim = claimManagementService.getLocalClaim(claim, tenantDomain);
-            if (!localClaim.isPresent()) {
+            ClaimConstants.SharedProfileValueResolvingMethod resolvingMethod = claimResolvingMethods.get(claim);
+            if (resolvingMethod == null) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug(String.format("Claim: %s is not available in the tenant: %s.", claim, tenantDomain));
                 }
                 continue;
             }
-            String resolvingMethod =
-                    localClaim.map(claimEntry -> claimEntry.getClaimProperty(SHARED_PROFILE_VALUE_RESOLVING_METHOD))
-                            .orElse(FROM_ORIGIN.getName());
-            claimsByResolvingMethod.get(ClaimConstants.SharedProfileValueResolvingMethod.fromName(resolvingMethod))
-                    .add(claim);
+            claimsByResolvingMethod.get(resolvingMethod).add(claim);
         }
-        return claimsByResolvingMethod;
+        claimsByResolvingMethod.replaceAll((resolvingMethod, claimURIs) -> Collections.unmodifiableList(claimURIs));
+        return Collections.unmodifiableMap(claimsByResolvingMethod);
     }
 
+    /**
+     * Get the shared profile value resolving methods of the local claims of the given tenant. The resolving methods
+     * are computed once per tenant and cached until a local claim is changed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return The resolving methods keyed by the local claim URI.
+     * @throws ClaimMetadataException If an error occurs while retrieving the local claims.
+     */
+    private Map<String, ClaimConstants.SharedProfileValueResolvingMethod> getClaimResolvingMethods(
+            String tenantDomain) throws ClaimMetadataException {
+
+        SharedProfileValueResolvingMethodCacheEntry cacheEntry =
+                SharedProfileValueResolvingMethodCache.getInstance().getResolvingMethodsFromCache(tenantDomain);
+        if (cacheEntry != null) {
+            return cacheEntry.getClaimResolvingMethods();
+        }
+
+        Map<String, ClaimConstants.SharedProfileValueResolvingMethod> claimResolvingMethods = new HashMap<>();
+        for (LocalClaim localClaim : OrganizationUserSharingDataHolder.getInstance().getClaimManagementService()
+                .getLocalClaims(tenantDomain)) {
+            String resolvingMethod = localClaim.getClaimProperty(SHARED_PROFILE_VALUE_RESOLVING_METHOD);
+            // If the resolving method is not defined in the claim, treat as FromOrigin.
+            claimResolvingMethods.put(localClaim.getClaimURI(), StringUtils.isBlank(resolvingMethod) ? FROM_ORIGIN :
+                    ClaimConstants.SharedProfileValueResolvingMethod.fromName(resolvingMethod));
+        }
+        cacheEntry = new SharedProfileValueResolvingMethodCacheEntry(claimResolvingMethods);
+        SharedProfileValueResolvingMethodCache.getInstance().addResolvingMethodsToCache(tenantDomain, cacheEntry);
+        return cacheEntry.getClaimResolvingMethods();
+    }
+
+    /**
+     * Resolve the given claims of the shared user from the organization hierarchy. The hierarchy is walked once,
+     * fetching all the claims which are not resolved yet at each organization, and the walk stops as soon as every
+     * claim is resolved. A claim takes the value found at the organization closest to the current organization.
+     *
+     * @param userAssociation       The user association of the shared user.
+     * @param claimURIs             The URIs of the claims to be resolved.
+     * @param currentOrganizationId The organization id where the current shared profile exists.
+     * @param claimMap              The claim values of the shared profile in the current organization.
+     * @return The resolved claim values keyed by the claim URI.
+     * @throws OrgResourceHierarchyTraverseException If an error occurs while traversing the organization hierarchy.
+     */
     private Map<String, String> resolveClaimsFromHierarchy(UserAssociation userAssociation, List<String> claimURIs,
-                                                           String currentOrganizationId)
+                                                           String currentOrganizationId, Map<String, String> claimMap)
             throws OrgResourceHierarchyTraverseException {
 
+        /*
+        If the flow is invoked by a claim resolver function, the values of the current level are the ones being
+        resolved. Hence, return them as they are to avoid walking the hierarchy again.
+         */
+        if (IdentityUtil.threadLocalProperties.get().containsKey(INSIDE_CLAIM_RESOLVER_FLAG)) {
+            return resolveClaimsFromSharedProfile(claimMap, claimURIs);
+        }
         Map<String, String> resolvedClaimsFromHierarchy = new HashMap<>();
+        if (claimURIs.isEmpty()) {
+            return resolvedClaimsFromHierarchy;
+        }
         String associatedUserId = userAssociation.getAssociatedUserId();
         String associationUserResidentOrganizationId = userAssociation.getUserResidentOrganizationId();
+        List<String> unresolvedClaimURIs = new ArrayList<>(claimURIs);
         OrgResourceResolverService orgResourceResolverService =
                 OrganizationUserSharingDataHolder.getInstance().getOrgResourceResolverService();
-        for (String claim : claimURIs) {
-            String resolvedClaimValueFromOrgHierarchy =
-                    orgResourceResolverService.getResourcesFromOrgHierarchy(currentOrganizationId,
-                            LambdaExceptionUtils.rethrowFunction(
-                                    orgId -> claimResolver(associatedUserId, associationUserResidentOrganizationId,
-                                            claim, orgId)),
-                            new FirstFoundAggregationStrategy<>());
-            if (resolvedClaimValueFromOrgHierarchy != null) {
-                resolvedClaimsFromHierarchy.put(claim, resolvedClaimValueFromOrgHierarchy);
-            }
+        /*
+        The resolver accumulates the claims found at each organization and reports a resource only when all the claims
+        are resolved, so that the first found aggregation stops the traversal at that point.
+         */
+        try {
+            IdentityUtil.threadLocalProperties.get().put(INSIDE_CLAIM_RESOLVER_FLAG, "true");
+            orgResourceResolverService.getResourcesFromOrgHierarchy(currentOrganizationId,
+                    LambdaExceptionUtils.rethrowFunction(orgId -> {
+                        Map<String, String> claimValues = claimsResolver(associatedUserId,
+                                associationUserResidentOrganizationId, unresolvedClaimURIs, orgId);
+                        for (Map.Entry<String, String> claimValue : claimValues.entrySet()) {
+                            if (claimValue.getValue() != null && unresolvedClaimURIs.remove(claimValue.getKey())) {
+                                resolvedClaimsFromHierarchy.put(claimValue.getKey(), claimValue.getValue());
+                            }
+                        }
+                        return unresolvedClaimURIs.isEmpty() ? Optional.of(resolvedClaimsFromHierarchy) :
+                                Optional.empty();
+                    }),
+                    new FirstFoundAggregationStrategy<>());
+        } finally {
+            IdentityUtil.threadLocalProperties.get().remove(INSIDE_CLAIM_RESOLVER_FLAG);
         }
         return resolvedClaimsFromHierarchy;
     }
@@ -607,6 +727,26 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
                 .getUserAssociation(userID, currentOrganizationId);
     }
 
+    /**
+     * Find the user associations of the listed users in the current organization.
+     *
+     * @param userClaimSearchEntries Claim search entries of the listed users.
+     * @param currentOrganizationId  Current organization id.
+     * @return Resolved user association details keyed by the user id.
+     * @throws OrganizationManagementException If an error occurs while resolving the user associations.
+     */
+    private Map<String, UserAssociation> getUserAssociations(
+            List<UniqueIDUserClaimSearchEntry> userClaimSearchEntries, String currentOrganizationId)
+            throws OrganizationManagementException {
+
+        List<String> userIDs = new ArrayList<>();
+        for (UniqueIDUserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
+            userIDs.add(userClaimSearchEntry.getUser().getUserID());
+        }
+        return OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService()
+                .getUserAssociations(userIDs, currentOrganizationId);
+    }
+
     private String getClaimBasedOnSharedType(UserAssociation userAssociation) {
 
         SharedType sharedType = userAssociation.getSharedType();
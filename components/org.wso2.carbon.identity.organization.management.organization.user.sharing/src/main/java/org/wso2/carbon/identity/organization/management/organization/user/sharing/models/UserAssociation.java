@@ -20,10 +20,14 @@ package org.wso2.carbon.identity.organization.management.organization.user.shari
 
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 
+import java.io.Serializable;
+
 /**
  * Model class to represent the user associations created for the shared users.
  */
-public class UserAssociation {
+public class UserAssociation implements Serializable {
+
+    private static final long serialVersionUID = 7508823147319472316L;
 
     private int id;
     private String userId;
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+
+/**
+ * Outcome of sharing a user with a single target organization. It is recorded as a unit of the async user share
+ * operation.
+ */
+public class UserShareUnitResult {
+
+    private final String targetOrgId;
+    private final OperationStatus status;
+    private final String statusMessage;
+
+    private UserShareUnitResult(String targetOrgId, OperationStatus status, String statusMessage) {
+
+        this.targetOrgId = targetOrgId;
+        this.status = status;
+        this.statusMessage = statusMessage;
+    }
+
+    /**
+     * Create the outcome of a target organization the user got shared with.
+     *
+     * @param targetOrgId ID of the target organization.
+     * @return The successful outcome.
+     */
+    public static UserShareUnitResult success(String targetOrgId) {
+
+        return new UserShareUnitResult(targetOrgId, OperationStatus.SUCCESS, StringUtils.EMPTY);
+    }
+
+    /**
+     * Create the outcome of a target organization the user could not be shared with. This covers both the failed
+     * and the skipped target organizations, and the message states the reason.
+     *
+     * @param targetOrgId   ID of the target organization.
+     * @param statusMessage Reason why the user was not shared with the organization.
+     * @return The failed outcome.
+     */
+    public static UserShareUnitResult failure(String targetOrgId, String statusMessage) {
+
+        return new UserShareUnitResult(targetOrgId, OperationStatus.FAILED, statusMessage);
+    }
+
+    public String getTargetOrgId() {
+
+        return targetOrgId;
+    }
+
+    public OperationStatus getStatus() {
+
+        return status;
+    }
+
+    public String getStatusMessage() {
+
+        return statusMessage;
+    }
+
+    public boolean isSuccess() {
+
+        return status == OperationStatus.SUCCESS;
+    }
+}
@@ -18,25 +18,91 @@
 
 package org.wso2.carbon.identity.organization.management.organization.user.sharing;
 
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtClientException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingTaskExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.SharingWorkerPool;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserShareUnitResult;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.SharingInitiatorContext;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 /**
  * Unit tests for UserSharingPolicyHandlerServiceImplV2.
  */
 public class UserSharingPolicyHandlerServiceImplV2Test {
 
+    private static final String OPERATION_ID = "operation-id";
+    private static final String SHARING_INITIATED_ORG_ID = "sharing-initiated-org-id";
+    private static final String FAILING_USER_ID = "failing-user-id";
+    private static final String SKIPPED_ORG_MESSAGE = "Skipped.";
+    private static final List<String> TARGET_ORG_IDS = Arrays.asList("target-org-1", "target-org-2");
+    private static final int WORKER_PARALLELISM = 2;
+
     private UserSharingPolicyHandlerServiceImplV2 userSharingPolicyHandlerService;
+    private AsyncOperationStatusMgtService asyncOperationStatusMgtService;
+    private String originalCarbonHome;
 
     @BeforeMethod
-    public void setUp() {
+    public void setUp() throws Exception {
 
         userSharingPolicyHandlerService = new UserSharingPolicyHandlerServiceImplV2();
+        asyncOperationStatusMgtService = mock(AsyncOperationStatusMgtService.class);
+        when(asyncOperationStatusMgtService.registerOperationStatus(any(OperationInitDTO.class), anyBoolean()))
+                .thenReturn(OPERATION_ID);
+        OrganizationUserSharingDataHolder.getInstance().setAsyncOperationStatusMgtService(
+                asyncOperationStatusMgtService);
+        originalCarbonHome = System.getProperty(CarbonBaseConstants.CARBON_HOME);
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        OrganizationUserSharingDataHolder.getInstance().setAsyncOperationStatusMgtService(null);
+        if (originalCarbonHome == null) {
+            System.clearProperty(CarbonBaseConstants.CARBON_HOME);
+        } else {
+            System.setProperty(CarbonBaseConstants.CARBON_HOME, originalCarbonHome);
+        }
     }
 
     @DataProvider(name = "sharedUserResolutionUsernameDataProvider")
@@ -61,4 +127,149 @@ public class UserSharingPolicyHandlerServiceImplV2Test {
 
         assertEquals(actualUsername, expectedUsername);
     }
+
+    @Test
+    public void testShareUsersInParallelWhenWorkerPoolIsSaturated() throws Exception {
+
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            userIds.add("user-id-" + i);
+        }
+        userIds.add(FAILING_USER_ID);
+        AtomicInteger runningUsers = new AtomicInteger();
+        AtomicInteger maxRunningUsers = new AtomicInteger();
+        Object userShareTask = createUserShareTask(associatedUserId -> {
+            int running = runningUsers.incrementAndGet();
+            maxRunningUsers.accumulateAndGet(running, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } finally {
+                runningUsers.decrementAndGet();
+            }
+            if (FAILING_USER_ID.equals(associatedUserId)) {
+                throw new UserSharingMgtServerException("UNKNOWN", "Sharing failed.", "Sharing failed.");
+            }
+            return TARGET_ORG_IDS.stream().map(UserShareUnitResult::success).collect(Collectors.toList());
+        });
+
+        SharingWorkerPool sharingWorkerPool = new SharingWorkerPool(WORKER_PARALLELISM);
+        try (MockedStatic<SharingWorkerPool> mockedWorkerPool = mockStatic(SharingWorkerPool.class)) {
+            mockedWorkerPool.when(SharingWorkerPool::getInstance).thenReturn(sharingWorkerPool);
+            invokeShareUsers(userIds, userShareTask);
+        } finally {
+            sharingWorkerPool.shutdown();
+        }
+
+        // The users beyond the parallelism wait for a free worker instead of being rejected.
+        assertTrue(maxRunningUsers.get() <= WORKER_PARALLELISM);
+        // A unit is recorded per target organization of a shared user, and the failure of a user is recorded against
+        // each of its target organizations.
+        int expectedUnitCount = userIds.size() * TARGET_ORG_IDS.size();
+        verify(asyncOperationStatusMgtService, times(expectedUnitCount))
+                .registerUnitOperationStatus(any(UnitOperationInitDTO.class));
+        verify(asyncOperationStatusMgtService).updateOperationStatus(OPERATION_ID,
+                OperationStatus.PARTIALLY_COMPLETED);
+    }
+
+    @Test
+    public void testShareUsersSeriallyRecordsUnitOutcomes() throws Exception {
+
+        List<String> userIds = Arrays.asList("user-id-1", "user-id-2");
+        Thread callingThread = Thread.currentThread();
+        AtomicInteger usersSharedOnOtherThreads = new AtomicInteger();
+        Object userShareTask = createUserShareTask(associatedUserId -> {
+            if (Thread.currentThread() != callingThread) {
+                usersSharedOnOtherThreads.incrementAndGet();
+            }
+            return Arrays.asList(UserShareUnitResult.success(TARGET_ORG_IDS.get(0)),
+                    UserShareUnitResult.failure(TARGET_ORG_IDS.get(1), SKIPPED_ORG_MESSAGE));
+        });
+
+        SharingWorkerPool sharingWorkerPool = new SharingWorkerPool(1);
+        try (MockedStatic<SharingWorkerPool> mockedWorkerPool = mockStatic(SharingWorkerPool.class)) {
+            mockedWorkerPool.when(SharingWorkerPool::getInstance).thenReturn(sharingWorkerPool);
+            invokeShareUsers(userIds, userShareTask);
+        } finally {
+            sharingWorkerPool.shutdown();
+        }
+
+        // Without parallelism the users are shared on the calling thread, and the outcome of every organization is
+        // still recorded.
+        assertEquals(usersSharedOnOtherThreads.get(), 0);
+        verify(asyncOperationStatusMgtService, times(userIds.size() * TARGET_ORG_IDS.size()))
+                .registerUnitOperationStatus(any(UnitOperationInitDTO.class));
+        verify(asyncOperationStatusMgtService).updateOperationStatus(OPERATION_ID,
+                OperationStatus.PARTIALLY_COMPLETED);
+    }
+
+    @Test
+    public void testSubmitSharingTaskWhenExecutorQueueIsFull() throws Exception {
+
+        SharingTaskExecutor sharingTaskExecutor = new SharingTaskExecutor(1, 1, 1, 60);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Method submitSharingTask = UserSharingPolicyHandlerServiceImplV2.class.getDeclaredMethod(
+                "submitSharingTask", String.class, Runnable.class);
+        submitSharingTask.setAccessible(true);
+        try (MockedStatic<SharingTaskExecutor> mockedExecutor = mockStatic(SharingTaskExecutor.class)) {
+            mockedExecutor.when(SharingTaskExecutor::getInstance).thenReturn(sharingTaskExecutor);
+            submitSharingTask.invoke(userSharingPolicyHandlerService, "running", (Runnable) () -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            submitSharingTask.invoke(userSharingPolicyHandlerService, "queued", (Runnable) () -> { });
+
+            // The request is rejected with a client error once the thread and the queue are both occupied.
+            InvocationTargetException exception = expectThrows(InvocationTargetException.class,
+                    () -> submitSharingTask.invoke(userSharingPolicyHandlerService, "rejected",
+                            (Runnable) () -> { }));
+            assertTrue(exception.getCause() instanceof UserSharingMgtClientException);
+        } finally {
+            release.countDown();
+            sharingTaskExecutor.shutdown();
+        }
+    }
+
+    private void invokeShareUsers(List<String> userIds, Object userShareTask) throws Exception {
+
+        Constructor<SharingInitiatorContext> contextConstructor = SharingInitiatorContext.class
+                .getDeclaredConstructor(String.class, String.class, int.class, String.class, String.class);
+        contextConstructor.setAccessible(true);
+        SharingInitiatorContext sharingInitiatorContext = contextConstructor.newInstance("initiator-user-id",
+                "initiator", MultitenantConstants.SUPER_TENANT_ID, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME,
+                SHARING_INITIATED_ORG_ID);
+
+        Method shareUsers = UserSharingPolicyHandlerServiceImplV2.class.getDeclaredMethod(
+                "shareUsers", List.class, String.class, Supplier.class, SharingInitiatorContext.class, Map.class,
+                getUserShareTaskClass());
+        shareUsers.setAccessible(true);
+        shareUsers.invoke(userSharingPolicyHandlerService, userIds, "SELECTIVE_SHARE",
+                (Supplier<List<String>>) () -> TARGET_ORG_IDS, sharingInitiatorContext, Collections.emptyMap(),
+                userShareTask);
+    }
+
+    private Object createUserShareTask(TestUserShareTask task) throws Exception {
+
+        Class<?> userShareTaskClass = getUserShareTaskClass();
+        return Proxy.newProxyInstance(userShareTaskClass.getClassLoader(), new Class<?>[]{userShareTaskClass},
+                (proxy, method, args) -> task.share((String) args[0]));
+    }
+
+    private Class<?> getUserShareTaskClass() throws ClassNotFoundException {
+
+        return Class.forName(UserSharingPolicyHandlerServiceImplV2.class.getName() + "$UserShareTask");
+    }
+
+    /**
+     * Functional form of the private user share task of the service.
+     */
+    private interface TestUserShareTask {
+
+        List<UserShareUnitResult> share(String associatedUserId) throws Exception;
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
+
+import org.mockito.InOrder;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheKey;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for the {@link CacheBackedOrganizationUserSharingDAO}.
+ */
+public class CacheBackedOrganizationUserSharingDAOTest {
+
+    private static final String SHARED_USER_ID_1 = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String SHARED_USER_ID_2 = "660e8400-e29b-41d4-a716-446655440001";
+    private static final String SHARED_ORG_ID = "c524c30a-cbd4-4169-ac9d-1ee3edf1bf16";
+    private static final String ASSOCIATED_USER_ID = "880e8400-e29b-41d4-a716-446655440003";
+    private static final String ASSOCIATED_ORG_ID = "770e8400-e29b-41d4-a716-446655440002";
+    private static final long GENERATION = 3L;
+
+    private MockedStatic<UserAssociationCache> mockedUserAssociationCache;
+    private UserAssociationCache userAssociationCache;
+    private OrganizationUserSharingDAO organizationUserSharingDAO;
+    private CacheBackedOrganizationUserSharingDAO cacheBackedOrganizationUserSharingDAO;
+
+    @BeforeMethod
+    public void setUp() {
+
+        userAssociationCache = mock(UserAssociationCache.class);
+        mockedUserAssociationCache = mockStatic(UserAssociationCache.class);
+        mockedUserAssociationCache.when(UserAssociationCache::getInstance).thenReturn(userAssociationCache);
+        organizationUserSharingDAO = mock(OrganizationUserSharingDAO.class);
+        cacheBackedOrganizationUserSharingDAO = new CacheBackedOrganizationUserSharingDAO(organizationUserSharingDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedUserAssociationCache.close();
+    }
+
+    @Test
+    public void testGetUserAssociationFromCache() throws Exception {
+
+        when(userAssociationCache.getUserAssociationFromCache(
+                new UserAssociationCacheKey(SHARED_USER_ID_1, SHARED_ORG_ID)))
+                .thenReturn(new UserAssociationCacheEntry(buildUserAssociation(SHARED_USER_ID_1)));
+
+        UserAssociation userAssociation =
+                cacheBackedOrganizationUserSharingDAO.getUserAssociation(SHARED_USER_ID_1, SHARED_ORG_ID);
+
+        assertEquals(userAssociation.getAssociatedUserId(), ASSOCIATED_USER_ID);
+        verify(organizationUserSharingDAO, never()).getUserAssociation(anyString(), anyString());
+    }
+
+    @Test
+    public void testGetUserAssociationDoesNotCacheAbsentAssociation() throws Exception {
+
+        when(organizationUserSharingDAO.getUserAssociation(SHARED_USER_ID_1, SHARED_ORG_ID)).thenReturn(null);
+
+        assertNull(cacheBackedOrganizationUserSharingDAO.getUserAssociation(SHARED_USER_ID_1, SHARED_ORG_ID));
+        verify(userAssociationCache, never()).addUserAssociationToCache(any(UserAssociationCacheKey.class),
+                any(UserAssociationCacheEntry.class), anyLong());
+    }
+
+    @Test
+    public void testGetUserAssociationCachesWithGenerationReadBeforeLoad() throws Exception {
+
+        when(userAssociationCache.getGeneration()).thenReturn(GENERATION);
+        when(organizationUserSharingDAO.getUserAssociation(SHARED_USER_ID_1, SHARED_ORG_ID))
+                .thenReturn(buildUserAssociation(SHARED_USER_ID_1));
+
+        cacheBackedOrganizationUserSharingDAO.getUserAssociation(SHARED_USER_ID_1, SHARED_ORG_ID);
+
+        // The generation is read before the load, so that an eviction during the load drops the loaded association.
+        InOrder inOrder = inOrder(userAssociationCache, organizationUserSharingDAO);
+        inOrder.verify(userAssociationCache).getGeneration();
+        inOrder.verify(organizationUserSharingDAO).getUserAssociation(SHARED_USER_ID_1, SHARED_ORG_ID);
+        inOrder.verify(userAssociationCache).addUserAssociationToCache(
+                eq(new UserAssociationCacheKey(SHARED_USER_ID_1, SHARED_ORG_ID)),
+                any(UserAssociationCacheEntry.class), eq(GENERATION));
+    }
+
+    @Test
+    public void testGetUserAssociationsLoadsOnlyUncachedUsers() throws Exception {
+
+        when(userAssociationCache.getUserAssociationFromCache(
+                new UserAssociationCacheKey(SHARED_USER_ID_1, SHARED_ORG_ID)))
+                .thenReturn(new UserAssociationCacheEntry(buildUserAssociation(SHARED_USER_ID_1)));
+        when(organizationUserSharingDAO.getUserAssociations(Collections.singletonList(SHARED_USER_ID_2),
+                SHARED_ORG_ID)).thenReturn(Collections.singletonList(buildUserAssociation(SHARED_USER_ID_2)));
+
+        List<UserAssociation> userAssociations = cacheBackedOrganizationUserSharingDAO.getUserAssociations(
+                Arrays.asList(SHARED_USER_ID_1, SHARED_USER_ID_2), SHARED_ORG_ID);
+
+        assertEquals(userAssociations.size(), 2);
+        verify(userAssociationCache).addUserAssociationToCache(
+                eq(new UserAssociationCacheKey(SHARED_USER_ID_2, SHARED_ORG_ID)),
+                any(UserAssociationCacheEntry.class), anyLong());
+    }
+
+    @Test
+    public void testCacheEntryHandsOutCopies() {
+
+        UserAssociation userAssociation = buildUserAssociation(SHARED_USER_ID_1);
+        UserAssociationCacheEntry cacheEntry = new UserAssociationCacheEntry(userAssociation);
+        userAssociation.setSharedType(SharedType.INVITED);
+        UserAssociation cachedUserAssociation = cacheEntry.getUserAssociation();
+        cachedUserAssociation.setOrganizationId(ASSOCIATED_ORG_ID);
+
+        assertNotSame(cachedUserAssociation, userAssociation);
+        assertEquals(cacheEntry.getUserAssociation().getSharedType(), SharedType.SHARED);
+        assertEquals(cacheEntry.getUserAssociation().getOrganizationId(), SHARED_ORG_ID);
+    }
+
+    @Test
+    public void testCreateOrganizationUserAssociationsClearsCache() throws Exception {
+
+        List<UserAssociation> userAssociations = Arrays.asList(buildUserAssociation(SHARED_USER_ID_1),
+                buildUserAssociation(SHARED_USER_ID_2));
+        when(organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations))
+                .thenReturn(userAssociations);
+
+        cacheBackedOrganizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+
+        verify(userAssociationCache).clearUserAssociationFromCache(
+                new UserAssociationCacheKey(SHARED_USER_ID_1, SHARED_ORG_ID));
+        verify(userAssociationCache).clearUserAssociationFromCache(
+                new UserAssociationCacheKey(SHARED_USER_ID_2, SHARED_ORG_ID));
+    }
+
+    @Test
+    public void testDeleteUserAssociationOfSharedUserClearsCacheAfterDelete() throws Exception {
+
+        when(organizationUserSharingDAO.getUserAssociationsOfSharedUser(SHARED_USER_ID_1, ASSOCIATED_ORG_ID))
+                .thenReturn(Collections.singletonList(buildUserAssociation(SHARED_USER_ID_1)));
+
+        cacheBackedOrganizationUserSharingDAO.deleteUserAssociationOfUserByAssociatedOrg(SHARED_USER_ID_1,
+                ASSOCIATED_ORG_ID);
+
+        InOrder inOrder = inOrder(organizationUserSharingDAO, userAssociationCache);
+        inOrder.verify(organizationUserSharingDAO).deleteUserAssociationOfUserByAssociatedOrg(SHARED_USER_ID_1,
+                ASSOCIATED_ORG_ID);
+        inOrder.verify(userAssociationCache).clearUserAssociationFromCache(
+                new UserAssociationCacheKey(SHARED_USER_ID_1, SHARED_ORG_ID));
+    }
+
+    @Test
+    public void testDeleteUserAssociationsOfAssociatedUserClearsCache() throws Exception {
+
+        when(organizationUserSharingDAO.getUserAssociationsOfAssociatedUser(ASSOCIATED_USER_ID, ASSOCIATED_ORG_ID))
+                .thenReturn(Arrays.asList(buildUserAssociation(SHARED_USER_ID_1),
+                        buildUserAssociation(SHARED_USER_ID_2)));
+
+        cacheBackedOrganizationUserSharingDAO.deleteUserAssociationsOfAssociatedUser(ASSOCIATED_USER_ID,
+                ASSOCIATED_ORG_ID);
+
+        verify(userAssociationCache).clearUserAssociationFromCache(
+                new UserAssociationCacheKey(SHARED_USER_ID_1, SHARED_ORG_ID));
+        verify(userAssociationCache).clearUserAssociationFromCache(
+                new UserAssociationCacheKey(SHARED_USER_ID_2, SHARED_ORG_ID));
+    }
+
+    @Test
+    public void testDeleteUserAssociationsByOrganizationIdClearsCache() throws Exception {
+
+        cacheBackedOrganizationUserSharingDAO.deleteUserAssociationsByOrganizationId(SHARED_ORG_ID);
+
+        verify(organizationUserSharingDAO).deleteUserAssociationsByOrganizationId(SHARED_ORG_ID);
+        verify(userAssociationCache).clearAllFromCache();
+    }
+
+    @Test
+    public void testUpdateSharedTypeOfUserAssociationClearsCache() throws Exception {
+
+        cacheBackedOrganizationUserSharingDAO.updateSharedTypeOfUserAssociation(1, SharedType.SHARED);
+
+        verify(organizationUserSharingDAO).updateSharedTypeOfUserAssociation(1, SharedType.SHARED);
+        verify(userAssociationCache).clearAllFromCache();
+    }
+
+    private UserAssociation buildUserAssociation(String sharedUserId) {
+
+        UserAssociation userAssociation = new UserAssociation();
+        userAssociation.setUserId(sharedUserId);
+        userAssociation.setOrganizationId(SHARED_ORG_ID);
+        userAssociation.setAssociatedUserId(ASSOCIATED_USER_ID);
+        userAssociation.setUserResidentOrganizationId(ASSOCIATED_ORG_ID);
+        userAssociation.setSharedType(SharedType.SHARED);
+        return userAssociation;
+    }
+}
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -43,6 +44,9 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DBTypes.DB_TYPE_MYSQL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DBTypes.DB_TYPE_ORACLE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DBTypes.DB_TYPE_POSTGRESQL;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.ORG_IDS_IN_CLAUSE_CHUNK_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.USER_ASSOCIATION_BATCH_INSERT_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.USER_IDS_IN_CLAUSE_CHUNK_SIZE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.handleServerException;
 
@@ -432,6 +436,10 @@ public class OrganizationUserSharingDAOImplTest {
         organizationUserSharingDAO.createOrganizationUserAssociation(
                 TEST_USER_ID, TEST_ORG_ID, TEST_USER_ID, TEST_ASSOCIATED_ORG_ID, SharedType.SHARED);
         assertNotNull(organizationUserSharingDAO.getUserAssociation(TEST_USER_ID, TEST_ORG_ID));
+        List<UserAssociation> userAssociationsOfSharedUser =
+                organizationUserSharingDAO.getUserAssociationsOfSharedUser(TEST_USER_ID, TEST_ASSOCIATED_ORG_ID);
+        assertEquals(userAssociationsOfSharedUser.size(), 1);
+        assertEquals(userAssociationsOfSharedUser.get(0).getOrganizationId(), TEST_ORG_ID);
         boolean result = organizationUserSharingDAO.deleteUserAssociationOfUserByAssociatedOrg(
                 TEST_USER_ID, TEST_ASSOCIATED_ORG_ID);
         assertTrue(result);
@@ -497,6 +505,88 @@ public class OrganizationUserSharingDAOImplTest {
         organizationUserSharingDAO.deleteUserAssociationsByOrganizationId(TEST_ORG_ID);
     }
 
+    /**
+     * Test getUserAssociationsOfGivenUserOnGivenOrgs queries the org list in chunks when it exceeds the chunk size.
+     */
+    @Test
+    public void testGetUserAssociationsOfGivenUserOnGivenOrgsInChunks() throws Exception {
+
+        String secondOrgId = TEST_ORG_ID + "-2";
+        organizationUserSharingDAO.createOrganizationUserAssociation(
+                TEST_USER_ID, TEST_ORG_ID, TEST_USER_ID, TEST_ASSOCIATED_ORG_ID, SharedType.SHARED);
+        organizationUserSharingDAO.createOrganizationUserAssociation(
+                TEST_USER_ID, secondOrgId, TEST_USER_ID, TEST_ASSOCIATED_ORG_ID, SharedType.SHARED);
+        List<String> orgIds = new ArrayList<>();
+        orgIds.add(TEST_ORG_ID);
+        for (int i = 0; i < ORG_IDS_IN_CLAUSE_CHUNK_SIZE; i++) {
+            orgIds.add("unrelated-org-" + i);
+        }
+        // Place the second org in the second chunk.
+        orgIds.add(secondOrgId);
+
+        List<UserAssociation> result =
+                organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(TEST_USER_ID, orgIds);
+        assertEquals(result.size(), 2);
+        organizationUserSharingDAO.deleteUserAssociationsByOrganizationId(TEST_ORG_ID);
+        organizationUserSharingDAO.deleteUserAssociationsByOrganizationId(secondOrgId);
+    }
+
+    /**
+     * Test createOrganizationUserAssociations adds the associations in batches larger than the batch size.
+     */
+    @Test
+    public void testCreateOrganizationUserAssociationsInBatches() throws Exception {
+
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        List<String> orgIds = new ArrayList<>();
+        for (int i = 0; i <= USER_ASSOCIATION_BATCH_INSERT_SIZE; i++) {
+            UserAssociation userAssociation = new UserAssociation();
+            userAssociation.setUserId(TEST_USER_ID_2);
+            userAssociation.setOrganizationId("batch-org-" + i);
+            userAssociation.setAssociatedUserId(TEST_USER_ID);
+            userAssociation.setUserResidentOrganizationId(TEST_ASSOCIATED_ORG_ID);
+            userAssociation.setSharedType(SharedType.SHARED);
+            userAssociations.add(userAssociation);
+            orgIds.add("batch-org-" + i);
+        }
+
+        List<UserAssociation> created = organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+        assertEquals(created.size(), USER_ASSOCIATION_BATCH_INSERT_SIZE + 1);
+        List<UserAssociation> result =
+                organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(TEST_USER_ID, orgIds);
+        assertEquals(result.size(), USER_ASSOCIATION_BATCH_INSERT_SIZE + 1);
+        assertEquals(result.get(0).getSharedType(), SharedType.SHARED);
+        for (String orgId : orgIds) {
+            organizationUserSharingDAO.deleteUserAssociationsByOrganizationId(orgId);
+        }
+    }
+
+    /**
+     * Test getUserAssociations returns the associations of the given shared users in one organization.
+     */
+    @Test
+    public void testGetUserAssociationsOfGivenUsersInOrg() throws Exception {
+
+        organizationUserSharingDAO.createOrganizationUserAssociation(
+                TEST_USER_ID, TEST_ORG_ID, TEST_USER_ID_2, TEST_ASSOCIATED_ORG_ID, SharedType.SHARED);
+        organizationUserSharingDAO.createOrganizationUserAssociation(
+                TEST_USER_ID_2, TEST_ORG_ID_2, TEST_USER_ID, TEST_ASSOCIATED_ORG_ID, SharedType.SHARED);
+        List<String> userIds = new ArrayList<>();
+        userIds.add(TEST_USER_ID);
+        userIds.add(TEST_USER_ID_2);
+        for (int i = 0; i < USER_IDS_IN_CLAUSE_CHUNK_SIZE; i++) {
+            userIds.add("unrelated-user-" + i);
+        }
+
+        List<UserAssociation> result = organizationUserSharingDAO.getUserAssociations(userIds, TEST_ORG_ID);
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getUserId(), TEST_USER_ID);
+        assertEquals(result.get(0).getOrganizationId(), TEST_ORG_ID);
+        assertTrue(organizationUserSharingDAO.getUserAssociations(new ArrayList<>(), TEST_ORG_ID).isEmpty());
+        organizationUserSharingDAO.deleteUserAssociationsByOrganizationId(TEST_ORG_ID);
+        organizationUserSharingDAO.deleteUserAssociationsByOrganizationId(TEST_ORG_ID_2);
+    }
+
     /**
      * Test updateSharedTypeOfUserAssociation updates the shared type of an existing association.
      */
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for SharingTaskExecutor.
+ */
+public class SharingTaskExecutorTest {
+
+    private static final String TASK_NAME = "test task";
+
+    private SharingTaskExecutor sharingTaskExecutor;
+
+    @BeforeMethod
+    public void setUp() {
+
+        sharingTaskExecutor = new SharingTaskExecutor(1, 1, 1, 60);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        sharingTaskExecutor.shutdown();
+    }
+
+    @Test
+    public void testSubmitRejectsTasksWhenSaturated() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> runningTask = sharingTaskExecutor.submit(TASK_NAME, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> queuedTask = sharingTaskExecutor.submit(TASK_NAME, () -> { });
+
+        expectThrows(RejectedExecutionException.class, () -> sharingTaskExecutor.submit(TASK_NAME, () -> { }));
+        assertEquals(sharingTaskExecutor.getActiveCount(), 1);
+        assertEquals(sharingTaskExecutor.getQueuedCount(), 1);
+        assertEquals(sharingTaskExecutor.getRejectedCount(), 1);
+
+        release.countDown();
+        runningTask.get(10, TimeUnit.SECONDS);
+        queuedTask.get(10, TimeUnit.SECONDS);
+
+        DefaultSharingTaskExecutorMetrics.TaskMetrics taskMetrics = getDefaultMetrics().getTaskMetrics()
+                .get(TASK_NAME);
+        assertEquals(taskMetrics.getSubmittedCount(), 2);
+        assertEquals(taskMetrics.getRejectedCount(), 1);
+        assertEquals(taskMetrics.getFailedCount(), 0);
+    }
+
+    @Test
+    public void testSubmitRecordsFailedTasks() throws Exception {
+
+        CompletableFuture<Void> failedTask = sharingTaskExecutor.submit(TASK_NAME, () -> {
+            throw new IllegalStateException("Sharing failed.");
+        });
+
+        ExecutionException exception = expectThrows(ExecutionException.class,
+                () -> failedTask.get(10, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+
+        DefaultSharingTaskExecutorMetrics.TaskMetrics taskMetrics = getDefaultMetrics().getTaskMetrics()
+                .get(TASK_NAME);
+        assertEquals(taskMetrics.getFailedCount(), 1);
+        long recordedLatencies = 0;
+        for (long count : taskMetrics.getLatencyHistogram()) {
+            recordedLatencies += count;
+        }
+        assertEquals(recordedLatencies, 1);
+    }
+
+    private DefaultSharingTaskExecutorMetrics getDefaultMetrics() {
+
+        return (DefaultSharingTaskExecutorMetrics) sharingTaskExecutor.getMetrics();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for SharingWorkerPool.
+ */
+public class SharingWorkerPoolTest {
+
+    private static final int PARALLELISM = 2;
+
+    private SharingWorkerPool sharingWorkerPool;
+
+    @BeforeMethod
+    public void setUp() {
+
+        sharingWorkerPool = new SharingWorkerPool(PARALLELISM);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        sharingWorkerPool.shutdown();
+    }
+
+    @Test
+    public void testIsParallelExecutionApplicable() {
+
+        assertTrue(sharingWorkerPool.isParallelExecutionApplicable(2));
+        assertFalse(sharingWorkerPool.isParallelExecutionApplicable(1));
+        SharingWorkerPool sequentialWorkerPool = new SharingWorkerPool(1);
+        try {
+            assertFalse(sequentialWorkerPool.isParallelExecutionApplicable(10));
+        } finally {
+            sequentialWorkerPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testProcessAllDoesNotExceedParallelism() throws Exception {
+
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(i);
+        }
+        AtomicInteger runningItems = new AtomicInteger();
+        AtomicInteger maxRunningItems = new AtomicInteger();
+        Set<Integer> processedItems = ConcurrentHashMap.newKeySet();
+
+        sharingWorkerPool.processAll(items, item -> {
+            int running = runningItems.incrementAndGet();
+            maxRunningItems.accumulateAndGet(running, Math::max);
+            sleepQuietly(10);
+            processedItems.add(item);
+            runningItems.decrementAndGet();
+        });
+
+        // All the items are processed once processAll returns, and never more than the parallelism at a time.
+        assertEquals(processedItems.size(), items.size());
+        assertTrue(maxRunningItems.get() <= PARALLELISM);
+    }
+
+    @Test
+    public void testProcessAllContinuesAfterItemFailure() throws Exception {
+
+        Set<String> processedItems = ConcurrentHashMap.newKeySet();
+
+        sharingWorkerPool.processAll(Arrays.asList("first", "failing", "last"), item -> {
+            if ("failing".equals(item)) {
+                throw new IllegalStateException("Sharing failed.");
+            }
+            processedItems.add(item);
+        });
+
+        assertEquals(processedItems, new HashSet<>(Arrays.asList("first", "last")));
+    }
+
+    @Test
+    public void testProcessAllWithNoItems() throws Exception {
+
+        AtomicInteger processedItems = new AtomicInteger();
+        sharingWorkerPool.processAll(Collections.emptyList(), item -> processedItems.incrementAndGet());
+        assertEquals(processedItems.get(), 0);
+    }
+
+    private static void sleepQuietly(long millis) {
+
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
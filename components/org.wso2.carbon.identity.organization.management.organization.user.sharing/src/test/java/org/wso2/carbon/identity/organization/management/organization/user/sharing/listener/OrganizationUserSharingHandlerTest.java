@@ -23,7 +23,9 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
@@ -42,6 +44,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Unit tests for OrganizationUserSharingHandler.
@@ -124,4 +127,24 @@ public class OrganizationUserSharingHandlerTest {
                 .when(organizationUserSharingService).deleteUserAssociationsByOrganizationId(anyString());
         organizationUserSharingHandler.handleEvent(event);
     }
+
+    @DataProvider(name = "localClaimChangeEventDataProvider")
+    public Object[][] localClaimChangeEventDataProvider() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM},
+                {IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM},
+                {IdentityEventConstants.Event.POST_DELETE_LOCAL_CLAIM}
+        };
+    }
+
+    /**
+     * Test that the local claim change events are accepted without a subscription in the event configuration.
+     */
+    @Test(dataProvider = "localClaimChangeEventDataProvider")
+    public void testCanHandleLocalClaimChangeEvents(String eventName) {
+
+        Event event = new Event(eventName, new HashMap<>());
+        assertTrue(organizationUserSharingHandler.canHandle(new IdentityEventMessageContext(event)));
+    }
 }
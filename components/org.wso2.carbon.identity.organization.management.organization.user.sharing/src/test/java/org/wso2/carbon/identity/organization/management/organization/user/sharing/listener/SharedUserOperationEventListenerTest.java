@@ -35,7 +35,11 @@ import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCacheEntry;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
@@ -56,14 +60,20 @@ import org.wso2.carbon.user.core.service.RealmService;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.reset;
@@ -125,6 +135,7 @@ public class SharedUserOperationEventListenerTest {
     private MockedStatic<OrganizationManagementUtil> organizationManagementUtilMockedStatic;
     private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext;
     private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private MockedStatic<SharedProfileValueResolvingMethodCache> sharedProfileValueResolvingMethodCache;
 
     @BeforeMethod
     public void init() {
@@ -145,6 +156,9 @@ public class SharedUserOperationEventListenerTest {
         setUpCarbonHome();
         privilegedCarbonContext = mockStatic(PrivilegedCarbonContext.class);
         identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        sharedProfileValueResolvingMethodCache = mockStatic(SharedProfileValueResolvingMethodCache.class);
+        sharedProfileValueResolvingMethodCache.when(SharedProfileValueResolvingMethodCache::getInstance)
+                .thenReturn(mock(SharedProfileValueResolvingMethodCache.class));
     }
 
     /**
@@ -161,6 +175,7 @@ public class SharedUserOperationEventListenerTest {
         organizationManagementUtilMockedStatic.close();
         privilegedCarbonContext.close();
         identityTenantUtil.close();
+        sharedProfileValueResolvingMethodCache.close();
     }
 
     @Test
@@ -549,8 +564,24 @@ public class SharedUserOperationEventListenerTest {
         identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(1);
         when(realmService.getTenantUserRealm(anyInt())).thenReturn(tenantUserRealm);
         when(tenantUserRealm.getUserStoreManager()).thenReturn(userStoreManager);
-        when(orgResourceResolverService.getResourcesFromOrgHierarchy(anyString(), any(), any())).thenReturn(
-                resolvedValueForCustomClaim);
+        when(organizationManager.resolveTenantDomain(L1_ORG_ID)).thenReturn(L1_ORG_TENANT_DOMAIN);
+        when(organizationManager.resolveTenantDomain(ROOT_ORG_ID)).thenReturn(ROOT_TENANT_DOMAIN);
+        Map<String, String> claimValuesOfRootUser = new HashMap<>();
+        claimValuesOfRootUser.put(CUSTOM_CLAIM_1, resolvedValueForCustomClaim);
+        when(userStoreManager.getUserClaimValuesWithID(eq(USER_1_IN_ROOT), any(String[].class), isNull()))
+                .thenReturn(claimValuesOfRootUser);
+        // Walk the hierarchy of the L1 organization the same way as the first found aggregation strategy.
+        when(orgResourceResolverService.getResourcesFromOrgHierarchy(anyString(), any(), any())).thenAnswer(
+                invocation -> {
+                    Function<String, Optional<Object>> resourceRetriever = invocation.getArgument(1);
+                    for (String orgId : Arrays.asList(L1_ORG_ID, ROOT_ORG_ID)) {
+                        Optional<Object> resource = resourceRetriever.apply(orgId);
+                        if (resource.isPresent()) {
+                            return resource.get();
+                        }
+                    }
+                    return null;
+                });
         String[] claimsSet = {GIVEN_NAME_CLAIM, GROUPS_CLAIM, CUSTOM_CLAIM_1};
 
         try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
@@ -562,11 +593,81 @@ public class SharedUserOperationEventListenerTest {
                             claimValues, userStoreManager);
             verify(orgResourceResolverService, times(1)).getResourcesFromOrgHierarchy(
                     anyString(), any(), any());
+            // All the hierarchy resolving claims are fetched with a single user store call per organization.
+            verify(userStoreManager, times(1)).getUserClaimValuesWithID(eq(USER_1_IN_ROOT), any(String[].class),
+                    isNull());
             assertEquals(claimValues.size(), claimValuesAtTheEnd);
+            assertEquals(claimValues.get(CUSTOM_CLAIM_1), resolvedValueForCustomClaim);
             assertTrue(listenerStatus);
         }
     }
 
+    @Test
+    public void testClaimResolvingMethodsReResolvedAfterLocalClaimUpdate() throws Exception {
+
+        setUpClaims();
+        setUpUserSharing();
+        // Back the resolving method cache with a map, so that the cache hits and the invalidation are observable.
+        Map<String, SharedProfileValueResolvingMethodCacheEntry> cachedResolvingMethods = new HashMap<>();
+        SharedProfileValueResolvingMethodCache resolvingMethodCache =
+                mock(SharedProfileValueResolvingMethodCache.class);
+        when(resolvingMethodCache.getResolvingMethodsFromCache(anyString())).thenAnswer(
+                invocation -> cachedResolvingMethods.get(invocation.getArgument(0)));
+        doAnswer(invocation -> cachedResolvingMethods.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(resolvingMethodCache).addResolvingMethodsToCache(anyString(), any());
+        doAnswer(invocation -> {
+            cachedResolvingMethods.clear();
+            return null;
+        }).when(resolvingMethodCache).clearResolvingMethodsFromCache();
+        sharedProfileValueResolvingMethodCache.when(SharedProfileValueResolvingMethodCache::getInstance)
+                .thenReturn(resolvingMethodCache);
+
+        mockCarbonContextForTenant(L1_ORG_TENANT_DOMAIN, L1_ORG_ID, privilegedCarbonContext);
+        mockOrgIdResolverByTenantDomain();
+        organizationManagementUtilMockedStatic.when(() -> OrganizationManagementUtil.isOrganization(anyString()))
+                .thenReturn(true);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(1);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(tenantUserRealm);
+        when(tenantUserRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        when(organizationManager.resolveTenantDomain(ROOT_ORG_ID)).thenReturn(ROOT_TENANT_DOMAIN);
+        Map<String, String> claimValuesOfRootUser = new HashMap<>();
+        claimValuesOfRootUser.put(GROUPS_CLAIM, "group1");
+        when(userStoreManager.getUserClaimValuesWithID(eq(USER_1_IN_ROOT), any(String[].class), any()))
+                .thenReturn(claimValuesOfRootUser);
+        String[] claimsSet = {GROUPS_CLAIM};
+
+        try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
+            mockListenerEnabledStatus(true, true, identityUtil);
+            SharedUserOperationEventListener sharedUserOperationEventListener = new SharedUserOperationEventListener();
+
+            // The groups claim is resolved from the shared profile, and the resolving methods are loaded once.
+            for (int i = 0; i < 2; i++) {
+                Map<String, String> claimValues = new HashMap<>();
+                claimValues.put(GROUPS_CLAIM, "group1,group2");
+                sharedUserOperationEventListener.doPostGetUserClaimValuesWithID(SHARED_USER_OF_USER_1_IN_L1_ORG,
+                        claimsSet, DEFAULT_PROFILE, claimValues, userStoreManager);
+                assertEquals(claimValues.get(GROUPS_CLAIM), "group1,group2");
+            }
+            verify(claimManagementService, times(1)).getLocalClaims(L1_ORG_TENANT_DOMAIN);
+
+            // Change the groups claim to be resolved from the origin.
+            Map<String, String> claimPropertiesWithFromOriginResolvingMethod = new HashMap<>();
+            claimPropertiesWithFromOriginResolvingMethod.put(SHARED_PROFILE_VALUE_RESOLVING_METHOD,
+                    ClaimConstants.SharedProfileValueResolvingMethod.FROM_ORIGIN.getName());
+            when(claimManagementService.getLocalClaims(L1_ORG_TENANT_DOMAIN)).thenReturn(Collections.singletonList(
+                    new LocalClaim(GROUPS_CLAIM, new ArrayList<>(), claimPropertiesWithFromOriginResolvingMethod)));
+            new OrganizationUserSharingHandler().handleEvent(
+                    new Event(IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM, new HashMap<>()));
+
+            Map<String, String> claimValues = new HashMap<>();
+            claimValues.put(GROUPS_CLAIM, "group1,group2");
+            sharedUserOperationEventListener.doPostGetUserClaimValuesWithID(SHARED_USER_OF_USER_1_IN_L1_ORG,
+                    claimsSet, DEFAULT_PROFILE, claimValues, userStoreManager);
+            verify(claimManagementService, times(2)).getLocalClaims(L1_ORG_TENANT_DOMAIN);
+            assertEquals(claimValues.get(GROUPS_CLAIM), "group1");
+        }
+    }
+
     @DataProvider(name = "dataProviderForTestDoPostGetUsersClaimValuesWithID")
     public Object[][] dataProviderForTestDoPostGetUsersClaimValuesWithID() {
 
@@ -757,6 +858,11 @@ public class SharedUserOperationEventListenerTest {
                 Optional.of(customClaim2));
         when(claimManagementService.getLocalClaim(CUSTOM_CLAIM_2, L2_ORG_TENANT_DOMAIN)).thenReturn(
                 Optional.of(customClaim2));
+
+        List<LocalClaim> localClaims = Arrays.asList(givenNameClaim, groupsClaim, customClaim1, customClaim2);
+        when(claimManagementService.getLocalClaims(ROOT_TENANT_DOMAIN)).thenReturn(localClaims);
+        when(claimManagementService.getLocalClaims(L1_ORG_TENANT_DOMAIN)).thenReturn(localClaims);
+        when(claimManagementService.getLocalClaims(L2_ORG_TENANT_DOMAIN)).thenReturn(localClaims);
     }
 
     private void setUpUserSharing() throws OrganizationManagementException {
@@ -769,6 +875,10 @@ public class SharedUserOperationEventListenerTest {
         userAssociationOfUser1InOrgL1.setSharedType(SharedType.NOT_SPECIFIED);
         when(organizationUserSharingService.getUserAssociation(SHARED_USER_OF_USER_1_IN_L1_ORG, L1_ORG_ID)).thenReturn(
                 userAssociationOfUser1InOrgL1);
+        Map<String, UserAssociation> userAssociationsInOrgL1 = new HashMap<>();
+        userAssociationsInOrgL1.put(SHARED_USER_OF_USER_1_IN_L1_ORG, userAssociationOfUser1InOrgL1);
+        when(organizationUserSharingService.getUserAssociations(anyList(), eq(L1_ORG_ID))).thenReturn(
+                userAssociationsInOrgL1);
 
         UserAssociation userAssociationOfUser1InOrgL2 = new UserAssociation();
         userAssociationOfUser1InOrgL2.setUserId(SHARED_USER_OF_USER_1_IN_L2_ORG);
@@ -22,6 +22,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.AbstractIdentityTenantMgtListener;
+import org.wso2.carbon.identity.organization.management.ext.cache.OrganizationTenantMappingCache;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -45,6 +46,8 @@ public class TenantAssociationManagementListener extends AbstractIdentityTenantM
     @Override
     public void onTenantCreate(TenantInfoBean tenantInfo) {
 
+        // A mapping cached for the tenant domain before the tenant was created is no longer valid.
+        OrganizationTenantMappingCache.getInstance().clearMappingOfTenantDomain(tenantInfo.getTenantDomain());
         if (!isEnable()) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Organization management related TenantAssociationManagementListener is not enabled.");
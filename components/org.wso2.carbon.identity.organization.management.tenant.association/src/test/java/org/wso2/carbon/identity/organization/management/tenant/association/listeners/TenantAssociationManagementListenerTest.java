@@ -22,10 +22,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.ext.cache.OrganizationTenantMappingCache;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.tenant.association.internal.TenantAssociationDataHolder;
@@ -35,6 +38,7 @@ import org.wso2.carbon.user.core.tenant.Tenant;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -58,18 +62,32 @@ public class TenantAssociationManagementListenerTest {
     @Mock
     private Tenant tenant;
 
+    @Mock
+    private OrganizationTenantMappingCache organizationTenantMappingCache;
+
     @InjectMocks
     private TenantAssociationManagementListener tenantAssociationManagementListener;
 
     @Captor
     private ArgumentCaptor<Organization> organizationArgumentCaptor;
 
+    private MockedStatic<OrganizationTenantMappingCache> mockedOrganizationTenantMappingCache;
+
     @BeforeMethod
     public void setUp() {
 
         MockitoAnnotations.openMocks(this);
         TenantAssociationDataHolder.getInstance().setRealmService(realmService);
         TenantAssociationDataHolder.getInstance().setOrganizationManager(organizationManager);
+        mockedOrganizationTenantMappingCache = mockStatic(OrganizationTenantMappingCache.class);
+        mockedOrganizationTenantMappingCache.when(OrganizationTenantMappingCache::getInstance)
+                .thenReturn(organizationTenantMappingCache);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedOrganizationTenantMappingCache.close();
     }
 
     @DataProvider(name = "tenantNameDataProvider")
@@ -94,6 +112,7 @@ public class TenantAssociationManagementListenerTest {
             tenantInfoBean.setName(tenantName);
         }
         tenantAssociationManagementListener.onTenantCreate(tenantInfoBean);
+        verify(organizationTenantMappingCache).clearMappingOfTenantDomain(tenantDomain);
         verify(organizationManager).addRootOrganization(anyInt(), organizationArgumentCaptor.capture());
         Organization organization = organizationArgumentCaptor.getValue();
 
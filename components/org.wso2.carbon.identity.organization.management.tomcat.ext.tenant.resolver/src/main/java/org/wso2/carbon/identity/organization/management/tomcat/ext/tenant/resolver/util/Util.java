@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resol
 
 import org.apache.catalina.connector.Request;
 import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.organization.management.ext.cache.OrganizationTenantMappingCache;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.internal.OrganizationManagementTomcatDataHolder;
@@ -79,12 +80,18 @@ public class Util {
         String domainInRequestPath = requestURI.substring(requestURI.indexOf(ORGANIZATION_PATH_PARAM) + 3);
         if (domainInRequestPath.indexOf('/') != -1) {
             domainInRequestPath = domainInRequestPath.substring(0, domainInRequestPath.indexOf('/'));
+            OrganizationTenantMappingCache mappingCache = OrganizationTenantMappingCache.getInstance();
+            domain = mappingCache.getTenantDomain(domainInRequestPath);
+            if (domain != null) {
+                return domain;
+            }
             OrganizationManager organizationManager = OrganizationManagementTomcatDataHolder.getInstance()
                     .getOrganizationManager();
             domain = organizationManager.resolveTenantDomain(domainInRequestPath);
             if (StringUtils.isEmpty(domain)) {
                 return MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
             }
+            mappingCache.addMapping(domainInRequestPath, domain);
         }
         return domain;
     }
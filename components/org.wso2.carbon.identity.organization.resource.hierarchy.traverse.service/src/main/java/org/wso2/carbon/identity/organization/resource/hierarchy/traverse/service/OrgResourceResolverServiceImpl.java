@@ -23,6 +23,8 @@ import org.apache.commons.lang.StringUtils;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPath;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPathIndex;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
@@ -30,6 +32,7 @@ import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -56,6 +59,16 @@ public class OrgResourceResolverServiceImpl implements OrgResourceResolverServic
         return aggregationStrategy.aggregate(organizationIds, resourceRetriever);
     }
 
+    @Override
+    public <T> T getResourcesFromOrgHierarchyInBatch(String organizationId,
+                                                     Function<List<String>, Map<String, T>> batchResourceRetriever,
+                                                     AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException {
+
+        List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+        return aggregationStrategy.aggregateInBatch(organizationIds, batchResourceRetriever);
+    }
+
     private List<String> getAncestorOrganizationsIds(String organizationId)
             throws OrgResourceHierarchyTraverseServerException {
 
@@ -64,7 +77,14 @@ public class OrgResourceResolverServiceImpl implements OrgResourceResolverServic
                     OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_EMPTY_ORGANIZATION_ID);
         }
 
+        OrgAncestorPathIndex ancestorPathIndex = OrgAncestorPathIndex.getInstance();
+        OrgAncestorPath ancestorPath = ancestorPathIndex.getAncestorPath(organizationId);
+        if (ancestorPath != null) {
+            return ancestorPath.getAncestorIds();
+        }
+
         try {
+            long indexVersion = ancestorPathIndex.getVersion();
             OrganizationManager organizationManager = OrgResourceHierarchyTraverseUtil.getOrganizationManager();
             List<String> organizationIds = organizationManager.getAncestorOrganizationIds(organizationId);
             if (CollectionUtils.isEmpty(organizationIds)) {
@@ -72,7 +92,7 @@ public class OrgResourceResolverServiceImpl implements OrgResourceResolverServic
                                 .ErrorMessages.ERROR_CODE_INVALID_ANCESTOR_ORGANIZATION_ID_LIST,
                         organizationId);
             }
-            return organizationIds;
+            return ancestorPathIndex.addAncestorPath(organizationIds, indexVersion).getAncestorIds();
         } catch (OrganizationManagementServerException e) {
             throw OrgResourceHierarchyTraverseUtil.handleServerException(
                     OrgResourceHierarchyTraverseConstants.ErrorMessages
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable ancestor path of an organization.
+ * <p>
+ * The path starts with the organization itself and ends with the root organization. Since the path always
+ * terminates at the root, the depth of every organization in the path is derived from its position, without
+ * querying the hierarchy. The path of any ancestor is the tail of this path, starting from that ancestor.
+ */
+public class OrgAncestorPath implements Serializable {
+
+    private static final long serialVersionUID = -6052394521835906178L;
+
+    private final String[] ancestorIds;
+    private final List<String> ancestorIdList;
+
+    /**
+     * Constructor to create the ancestor path of an organization.
+     *
+     * @param ancestorIds Ancestor organization IDs, starting from the organization itself and ending with the root.
+     */
+    public OrgAncestorPath(List<String> ancestorIds) {
+
+        this.ancestorIds = ancestorIds.toArray(new String[0]);
+        this.ancestorIdList = Collections.unmodifiableList(Arrays.asList(this.ancestorIds));
+    }
+
+    /**
+     * Get the ID of the organization which owns this path.
+     *
+     * @return Organization ID.
+     */
+    public String getOrganizationId() {
+
+        return ancestorIds[0];
+    }
+
+    /**
+     * Get the ancestor organization IDs, starting from the organization itself and ending with the root.
+     *
+     * @return Unmodifiable list of ancestor organization IDs.
+     */
+    public List<String> getAncestorIds() {
+
+        return ancestorIdList;
+    }
+
+    /**
+     * Get the depth of the ancestor at the given position of the path. The root organization has the depth 0.
+     *
+     * @param index Position of the ancestor in the path.
+     * @return Depth of the ancestor in the hierarchy.
+     */
+    public int getDepth(int index) {
+
+        return ancestorIds.length - 1 - index;
+    }
+
+    /**
+     * Get the ancestor path of the ancestor at the given position of this path.
+     *
+     * @param index Position of the ancestor in the path.
+     * @return Ancestor path of the ancestor, starting from the ancestor itself and ending with the root.
+     */
+    public OrgAncestorPath getAncestorPath(int index) {
+
+        if (index == 0) {
+            return this;
+        }
+        return new OrgAncestorPath(ancestorIdList.subList(index, ancestorIds.length));
+    }
+
+    /**
+     * Check whether the given organization is part of this path.
+     *
+     * @param organizationId Organization ID.
+     * @return True if the organization is the owner or an ancestor of the owner of this path.
+     */
+    public boolean contains(String organizationId) {
+
+        for (String ancestorId : ancestorIds) {
+            if (ancestorId.equals(organizationId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache for the ancestor paths of organizations, keyed by the organization ID. Use {@link OrgAncestorPathIndex} to
+ * keep the cached paths consistent with the organization hierarchy.
+ */
+public class OrgAncestorPathCache extends BaseCache<String, OrgAncestorPath> {
+
+    private static final String CACHE_NAME = "OrgAncestorPathCache";
+    private static final OrgAncestorPathCache INSTANCE = new OrgAncestorPathCache();
+
+    private OrgAncestorPathCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the OrgAncestorPathCache.
+     *
+     * @return OrgAncestorPathCache instance.
+     */
+    public static OrgAncestorPathCache getInstance() {
+
+        return INSTANCE;
+    }
+}
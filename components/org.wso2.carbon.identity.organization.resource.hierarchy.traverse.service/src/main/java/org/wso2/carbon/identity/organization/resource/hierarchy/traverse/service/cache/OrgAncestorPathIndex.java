@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
+
+/**
+ * Versioned index of organization ancestor paths and depths.
+ * <p>
+ * The index lets the hierarchy traversal resolve the ancestor chain and the depth of each ancestor without
+ * querying the organization hierarchy. The paths are held in the {@link OrgAncestorPathCache}, which bounds the
+ * number of paths with its own eviction and propagates the invalidation of a path across the cluster. Every
+ * invalidation increments the index version, and a path loaded before an invalidation is not admitted to the index,
+ * so a concurrent hierarchy change never leaves a stale path behind.
+ * <p>
+ * The index keeps the children of every organization whose path was added, so invalidating an organization only
+ * visits the paths of its own descendants.
+ */
+public class OrgAncestorPathIndex {
+
+    private static final OrgAncestorPathIndex INSTANCE = new OrgAncestorPathIndex();
+
+    private final Map<String, Set<String>> indexedChildren = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private OrgAncestorPathIndex() {
+
+    }
+
+    /**
+     * Get the singleton instance of the OrgAncestorPathIndex.
+     *
+     * @return OrgAncestorPathIndex instance.
+     */
+    public static OrgAncestorPathIndex getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the current version of the index. The version should be read before loading an ancestor path from the
+     * hierarchy and passed to {@link #addAncestorPath(List, long)} once the path is loaded.
+     *
+     * @return Current version of the index.
+     */
+    public long getVersion() {
+
+        return version.get();
+    }
+
+    /**
+     * Get the indexed ancestor path of the given organization.
+     *
+     * @param organizationId Organization ID.
+     * @return Ancestor path of the organization, or null if the path is not indexed.
+     */
+    public OrgAncestorPath getAncestorPath(String organizationId) {
+
+        return OrgAncestorPathCache.getInstance().getValueFromCache(organizationId, SUPER_TENANT_ID);
+    }
+
+    /**
+     * Get the indexed depth of the given organization in the hierarchy.
+     *
+     * @param organizationId Organization ID.
+     * @return Depth of the organization, or null if the depth is not indexed.
+     */
+    public Integer getDepth(String organizationId) {
+
+        OrgAncestorPath ancestorPath = getAncestorPath(organizationId);
+        return ancestorPath != null ? ancestorPath.getDepth(0) : null;
+    }
+
+    /**
+     * Add the ancestor path of an organization to the index. The paths of its ancestors are added as well, since
+     * they are the tails of the given path.
+     *
+     * @param ancestorIds   Ancestor organization IDs, starting from the organization itself and ending with the root.
+     * @param loadedVersion Version of the index read before loading the ancestor path.
+     * @return The indexed ancestor path.
+     */
+    public OrgAncestorPath addAncestorPath(List<String> ancestorIds, long loadedVersion) {
+
+        OrgAncestorPath ancestorPath = new OrgAncestorPath(ancestorIds);
+        if (version.get() != loadedVersion) {
+            return ancestorPath;
+        }
+
+        OrgAncestorPathCache ancestorPathCache = OrgAncestorPathCache.getInstance();
+        List<String> ancestorIdList = ancestorPath.getAncestorIds();
+        for (int i = 0; i < ancestorIdList.size(); i++) {
+            String organizationId = ancestorIdList.get(i);
+            if (i + 1 < ancestorIdList.size()) {
+                indexedChildren.computeIfAbsent(ancestorIdList.get(i + 1), parentId -> ConcurrentHashMap.newKeySet())
+                        .add(organizationId);
+            }
+            // The paths of the ancestors are already indexed when the path of the parent is indexed.
+            if (i > 0 && ancestorPathCache.getValueFromCache(organizationId, SUPER_TENANT_ID) != null) {
+                break;
+            }
+            ancestorPathCache.addToCache(organizationId, ancestorPath.getAncestorPath(i), SUPER_TENANT_ID);
+        }
+
+        // An invalidation may have happened while the path was being added.
+        if (version.get() != loadedVersion) {
+            ancestorIdList.forEach(organizationId -> ancestorPathCache.clearCacheEntry(organizationId,
+                    SUPER_TENANT_ID));
+        }
+        return ancestorPath;
+    }
+
+    /**
+     * Invalidate every indexed entry which refers to the given organization. This includes the organization's own
+     * path and depth, and the paths of its descendants.
+     *
+     * @param organizationId Organization ID.
+     */
+    public void invalidate(String organizationId) {
+
+        version.incrementAndGet();
+        OrgAncestorPathCache ancestorPathCache = OrgAncestorPathCache.getInstance();
+        OrgAncestorPath ancestorPath = ancestorPathCache.getValueFromCache(organizationId, SUPER_TENANT_ID);
+        if (ancestorPath != null && ancestorPath.getAncestorIds().size() > 1) {
+            Set<String> siblings = indexedChildren.get(ancestorPath.getAncestorIds().get(1));
+            if (siblings != null) {
+                siblings.remove(organizationId);
+            }
+        }
+
+        Deque<String> organizationIds = new ArrayDeque<>();
+        organizationIds.add(organizationId);
+        while (!organizationIds.isEmpty()) {
+            String invalidatedOrganizationId = organizationIds.poll();
+            ancestorPathCache.clearCacheEntry(invalidatedOrganizationId, SUPER_TENANT_ID);
+            Set<String> children = indexedChildren.remove(invalidatedOrganizationId);
+            if (children != null) {
+                organizationIds.addAll(children);
+            }
+        }
+    }
+
+    /**
+     * Clear the whole index.
+     */
+    public void clear() {
+
+        version.incrementAndGet();
+        OrgAncestorPathCache.getInstance().clear(SUPER_TENANT_ID);
+        indexedChildren.clear();
+    }
+}
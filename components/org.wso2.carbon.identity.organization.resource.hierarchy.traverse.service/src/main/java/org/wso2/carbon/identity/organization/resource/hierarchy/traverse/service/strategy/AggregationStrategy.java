@@ -88,4 +88,58 @@ public interface AggregationStrategy<T> {
 
         throw new NotImplementedException("aggregate method is not implemented in " + this.getClass());
     }
+
+    /**
+     * Aggregates resources resolved from an organization's hierarchical structure, retrieving the resources of all
+     * the traversed organizations with a single invocation of the batch resource retriever.
+     * <p>
+     * This method provides a default implementation that throws a
+     * {@link NotImplementedException}. Subclasses must override this method to define
+     * specific aggregation logic for organization hierarchies.
+     *
+     * @param organizationHierarchy  A list representing the organization hierarchy,
+     *                               where the first element is the root organization
+     *                               and subsequent elements represent child organizations.
+     * @param batchResourceRetriever A function that retrieves the resources of a list of organization IDs.
+     *                               Returns a map of organization ID to the resource of the organization.
+     *                               Organizations without a resource are not included in the map.
+     * @return The aggregated resource of type <T>.
+     * @throws OrgResourceHierarchyTraverseException If any error occurs during resource
+     *                                               retrieval or aggregation.
+     */
+    default T aggregateInBatch(List<String> organizationHierarchy,
+                               Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        throw new NotImplementedException("aggregateInBatch method is not implemented in " + this.getClass());
+    }
+
+    /**
+     * Aggregates resources resolved from an organization's and application's hierarchical structure, retrieving
+     * the resources of all the traversed organizations with a single invocation of the batch resource retriever.
+     * <p>
+     * This method provides a default implementation that throws a
+     * {@link NotImplementedException}. Subclasses must override this method to define
+     * specific aggregation logic for combined organization and application hierarchies.
+     *
+     * @param organizationHierarchy  A list representing the organization hierarchy,
+     *                               where the first element is the root organization
+     *                               and subsequent elements represent child organizations.
+     * @param applicationHierarchy   A map representing the application hierarchy, where keys
+     *                               are organization IDs, and values are application-specific
+     *                               details or IDs for each organization.
+     * @param batchResourceRetriever A function that retrieves the resources of a map of organization ID to
+     *                               application ID, ordered as the traversal. Returns a map of organization ID
+     *                               to the resource of the organization. Organizations without a resource are
+     *                               not included in the map.
+     * @return The aggregated resource of type <T>.
+     * @throws OrgResourceHierarchyTraverseException If any error occurs during resource
+     *                                               retrieval or aggregation.
+     */
+    default T aggregateInBatch(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
+                               Function<Map<String, String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        throw new NotImplementedException("aggregateInBatch method is not implemented in " + this.getClass());
+    }
 }
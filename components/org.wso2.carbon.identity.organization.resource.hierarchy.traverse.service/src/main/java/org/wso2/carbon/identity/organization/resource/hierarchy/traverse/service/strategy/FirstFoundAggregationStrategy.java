@@ -82,4 +82,48 @@ public class FirstFoundAggregationStrategy<T> implements AggregationStrategy<T>
         }
         return null;
     }
+
+    @Override
+    public T aggregateInBatch(List<String> organizationHierarchy,
+                              Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizations(organizationHierarchy);
+        Map<String, T> resources =
+                OrgResourceHierarchyTraverseUtil.retrieveResourcesInBatch(traversableOrgIds, batchResourceRetriever);
+        for (String orgId : traversableOrgIds) {
+            T resource = resources.get(orgId);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T aggregateInBatch(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
+                              Function<Map<String, String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizations(organizationHierarchy);
+        Map<String, T> resources = OrgResourceHierarchyTraverseUtil.retrieveResourcesInBatch(traversableOrgIds,
+                applicationHierarchy, batchResourceRetriever);
+        for (String orgId : traversableOrgIds) {
+            T resource = resources.get(orgId);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        return null;
+    }
 }
@@ -20,8 +20,10 @@ package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.servic
 
 import org.apache.commons.collections.CollectionUtils;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -77,4 +79,29 @@ public class FirstMatchAggregationStrategy<T> implements AggregationStrategy<T>
         }
         return null;
     }
+
+    @Override
+    public T aggregateInBatch(List<String> organizationHierarchy,
+                              Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+
+        int startIndex = includeSelf ? 0 : 1;
+        if (startIndex >= organizationHierarchy.size()) {
+            return null;
+        }
+        List<String> traversedOrgIds = organizationHierarchy.subList(startIndex, organizationHierarchy.size());
+        Map<String, T> resources =
+                OrgResourceHierarchyTraverseUtil.retrieveResourcesInBatch(traversedOrgIds, batchResourceRetriever);
+        for (int i = 0; i < traversedOrgIds.size(); i++) {
+            T resource = resources.get(traversedOrgIds.get(i));
+            if (resource != null && matchPredicate.test(resource, i == 0)) {
+                return resource;
+            }
+        }
+        return null;
+    }
 }
@@ -108,4 +108,53 @@ public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
         }
         return aggregatedResource;
     }
+
+    @Override
+    public T aggregateInBatch(List<String> organizationHierarchy,
+                              Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizations(organizationHierarchy);
+        Map<String, T> resources =
+                OrgResourceHierarchyTraverseUtil.retrieveResourcesInBatch(traversableOrgIds, batchResourceRetriever);
+        return mergeResources(traversableOrgIds, resources);
+    }
+
+    @Override
+    public T aggregateInBatch(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
+                              Function<Map<String, String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizations(organizationHierarchy);
+        Map<String, T> resources = OrgResourceHierarchyTraverseUtil.retrieveResourcesInBatch(traversableOrgIds,
+                applicationHierarchy, batchResourceRetriever);
+        return mergeResources(traversableOrgIds, resources);
+    }
+
+    private T mergeResources(List<String> orgIds, Map<String, T> resources) {
+
+        T aggregatedResource = null;
+        for (String orgId : orgIds) {
+            T resource = resources.get(orgId);
+            if (resource == null) {
+                continue;
+            }
+            if (aggregatedResource == null) {
+                aggregatedResource = resource;
+            } else {
+                aggregatedResource = resourceMerger.apply(aggregatedResource, resource);
+            }
+        }
+        return aggregatedResource;
+    }
 }
@@ -22,10 +22,17 @@ import org.apache.commons.lang.ArrayUtils;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPathIndex;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Utility class for the Organization Resource Hierarchy Traverse Service.
  * <p>
@@ -55,7 +62,9 @@ public class OrgResourceHierarchyTraverseUtil {
      * Verify if the organization hierarchy depth has reached the minimum required level.
      * <p>
      * This method obtains the depth of the specified organization in the hierarchy and compares it
-     * with the configured minimum depth. An exception is thrown if an error occurs during the depth calculation.
+     * with the configured minimum depth. The depth is taken from the {@link OrgAncestorPathIndex} when available,
+     * and is queried from the hierarchy otherwise. An exception is thrown if an error occurs during the depth
+     * calculation.
      *
      * @param orgId The ID of the organization to check.
      * @return {@code true} if the hierarchy depth is less than the minimum required depth, {@code false} otherwise.
@@ -65,6 +74,10 @@ public class OrgResourceHierarchyTraverseUtil {
             OrgResourceHierarchyTraverseServerException {
 
         int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
+        Integer indexedDepth = OrgAncestorPathIndex.getInstance().getDepth(orgId);
+        if (indexedDepth != null) {
+            return indexedDepth < minHierarchyDepth;
+        }
         try {
             int depthInHierarchy = getOrganizationManager().getOrganizationDepthInHierarchy(orgId);
             return depthInHierarchy < minHierarchyDepth;
@@ -74,6 +87,76 @@ public class OrgResourceHierarchyTraverseUtil {
         }
     }
 
+    /**
+     * Get the organizations of the hierarchy which are traversed before the minimum hierarchy depth is reached.
+     * <p>
+     * A hierarchy with a single organization is always traversed as it is, which is consistent with the
+     * per-organization traversal of the aggregation strategies.
+     *
+     * @param organizationHierarchy The organization hierarchy, starting from the organization itself.
+     * @return The traversable organizations of the hierarchy, in the traversal order.
+     * @throws OrgResourceHierarchyTraverseServerException If an error occurs while retrieving an organization's depth.
+     */
+    public static List<String> getTraversableOrganizations(List<String> organizationHierarchy)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        if (organizationHierarchy.size() == 1) {
+            return organizationHierarchy;
+        }
+        for (int i = 0; i < organizationHierarchy.size(); i++) {
+            if (isMinOrgHierarchyDepthReached(organizationHierarchy.get(i))) {
+                return organizationHierarchy.subList(0, i);
+            }
+        }
+        return organizationHierarchy;
+    }
+
+    /**
+     * Retrieve the resources of the given organizations with a single invocation of the batch resource retriever.
+     *
+     * @param organizationIds        The organization IDs to retrieve the resources of.
+     * @param batchResourceRetriever A function that retrieves the resources of a list of organization IDs.
+     * @param <T>                    The type of the resource being retrieved.
+     * @return A map of organization ID to the resource of the organization. Never null.
+     */
+    public static <T> Map<String, T> retrieveResourcesInBatch(List<String> organizationIds,
+                                                              Function<List<String>, Map<String, T>>
+                                                                      batchResourceRetriever) {
+
+        if (organizationIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, T> resources = batchResourceRetriever.apply(Collections.unmodifiableList(organizationIds));
+        return resources != null ? resources : Collections.emptyMap();
+    }
+
+    /**
+     * Retrieve the resources of the given organizations and their applications with a single invocation of the batch
+     * resource retriever.
+     *
+     * @param organizationIds        The organization IDs to retrieve the resources of.
+     * @param applicationHierarchy   A map of organization ID to the application ID in the organization.
+     * @param batchResourceRetriever A function that retrieves the resources of a map of organization ID to
+     *                               application ID.
+     * @param <T>                    The type of the resource being retrieved.
+     * @return A map of organization ID to the resource of the organization. Never null.
+     */
+    public static <T> Map<String, T> retrieveResourcesInBatch(List<String> organizationIds,
+                                                              Map<String, String> applicationHierarchy,
+                                                              Function<Map<String, String>, Map<String, T>>
+                                                                      batchResourceRetriever) {
+
+        if (organizationIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> orgApplications = new LinkedHashMap<>();
+        for (String orgId : organizationIds) {
+            orgApplications.put(orgId, applicationHierarchy.get(orgId));
+        }
+        Map<String, T> resources = batchResourceRetriever.apply(Collections.unmodifiableMap(orgApplications));
+        return resources != null ? resources : Collections.emptyMap();
+    }
+
     /**
      * Create an {@link OrgResourceHierarchyTraverseServerException} to handle server-side errors.
      * <p>
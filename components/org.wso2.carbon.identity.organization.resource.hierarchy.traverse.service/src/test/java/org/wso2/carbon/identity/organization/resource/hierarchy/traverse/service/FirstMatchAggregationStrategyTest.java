@@ -22,6 +22,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstMatchAggregationStrategy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -198,6 +199,38 @@ public class FirstMatchAggregationStrategyTest {
         assertNull(strategy.aggregate(hierarchy, id -> Optional.ofNullable(resources.get(id))));
     }
 
+    // ── batch retrieval ───────────────────────────────────────────────────────
+
+    @Test(dataProvider = "includeSelfVariants")
+    public void testAggregateInBatch_matchesPerOrgTraversal(boolean includeSelf) throws Exception {
+
+        Map<String, String> resources = resourceMap(L2, "l2-resource");
+        resources.put(ROOT, "root-resource");
+        FirstMatchAggregationStrategy<String> strategy =
+                new FirstMatchAggregationStrategy<>(includeSelf, (r, isFirst) -> true);
+        List<String> hierarchy = Arrays.asList(L2, L1, ROOT);
+        List<List<String>> batches = new ArrayList<>();
+        String result = strategy.aggregateInBatch(hierarchy, orgIds -> {
+            batches.add(new ArrayList<>(orgIds));
+            Map<String, String> found = new HashMap<>();
+            orgIds.stream().filter(resources::containsKey).forEach(id -> found.put(id, resources.get(id)));
+            return found;
+        });
+
+        assertEquals(result, strategy.aggregate(hierarchy, id -> Optional.ofNullable(resources.get(id))));
+        assertEquals(batches.size(), 1);
+        assertEquals(batches.get(0), includeSelf ? hierarchy : Arrays.asList(L1, ROOT));
+    }
+
+    @Test
+    public void testAggregateInBatch_predicateRequiresIsFirst_resourceAtParentOnly_returnsNull() throws Exception {
+
+        Map<String, String> resources = resourceMap(ROOT, "root-resource");
+        FirstMatchAggregationStrategy<String> strategy =
+                new FirstMatchAggregationStrategy<>(false, (r, isFirst) -> isFirst);
+        assertNull(strategy.aggregateInBatch(Arrays.asList(L2, L1, ROOT), orgIds -> resources));
+    }
+
     // ── helper ────────────────────────────────────────────────────────────────
 
     private Map<String, String> resourceMap(String orgId, String resource) {
@@ -19,6 +19,8 @@
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service;
 
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -27,6 +29,9 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPath;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPathCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgAncestorPathIndex;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
@@ -39,11 +44,22 @@ import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
@@ -67,6 +83,9 @@ public class OrgResourceResolverServiceTest {
     private AggregationStrategy<MockResource> firstFoundAggregationStrategy;
     private AggregationStrategy<MockResource> mergeAllAggregationStrategy;
 
+    private final Map<String, OrgAncestorPath> cachedAncestorPaths = new ConcurrentHashMap<>();
+    private MockedStatic<OrgAncestorPathCache> mockedAncestorPathCache;
+
     @Mock
     OrganizationManager organizationManager;
 
@@ -86,6 +105,27 @@ public class OrgResourceResolverServiceTest {
         // Initialize the aggregation strategies with the appropriate strategy types.
         firstFoundAggregationStrategy = new FirstFoundAggregationStrategy<>();
         mergeAllAggregationStrategy = new MergeAllAggregationStrategy<>(this::resourceMerger);
+
+        // Back the ancestor path cache with a map, since the carbon caching is not available in the tests.
+        OrgAncestorPathCache ancestorPathCache = mock(OrgAncestorPathCache.class);
+        when(ancestorPathCache.getValueFromCache(anyString(), anyInt()))
+                .thenAnswer(invocation -> cachedAncestorPaths.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> cachedAncestorPaths.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(ancestorPathCache).addToCache(anyString(), any(OrgAncestorPath.class), anyInt());
+        doAnswer(invocation -> cachedAncestorPaths.remove(invocation.<String>getArgument(0)))
+                .when(ancestorPathCache).clearCacheEntry(anyString(), anyInt());
+        doAnswer(invocation -> {
+            cachedAncestorPaths.clear();
+            return null;
+        }).when(ancestorPathCache).clear(anyInt());
+        mockedAncestorPathCache = mockStatic(OrgAncestorPathCache.class);
+        mockedAncestorPathCache.when(OrgAncestorPathCache::getInstance).thenReturn(ancestorPathCache);
+    }
+
+    @AfterClass
+    public void tearDownClass() {
+
+        mockedAncestorPathCache.close();
     }
 
     /**
@@ -113,8 +153,9 @@ public class OrgResourceResolverServiceTest {
     @AfterMethod
     public void tearDown() {
 
-        // Reset the mock services to their default state after each test.
+        // Reset the mock services and the ancestor path index to their default state after each test.
         reset(organizationManager);
+        OrgAncestorPathIndex.getInstance().clear();
     }
 
     @DataProvider(name = "AggregationStrategyDataProvider")
@@ -228,6 +269,39 @@ public class OrgResourceResolverServiceTest {
         assertResolvedResponse(resolvedL2Resource, createdOrgResources.get(2));
     }
 
+    /**
+     * Tests that the batch variant of the OrgResourceResolverService resolves the same resources as the
+     * per-organization variant, while invoking the batch resource retriever only once per traversal.
+     *
+     * @param aggregationStrategy The aggregation strategy used to resolve resources.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testGetOrgLevelResourcesFromOrgHierarchyInBatch(
+            AggregationStrategy<MockResource> aggregationStrategy) throws Exception {
+
+        addOrgResources(Arrays.asList(ROOT_ORG_ID, L1_ORG_ID));
+
+        for (String orgId : Arrays.asList(ROOT_ORG_ID, L1_ORG_ID, L2_ORG_ID)) {
+            List<List<String>> batches = new ArrayList<>();
+            MockResource resolvedResource = orgResourceResolverService.getResourcesFromOrgHierarchyInBatch(
+                    orgId,
+                    orgIds -> {
+                        batches.add(orgIds);
+                        Map<String, MockResource> resources = new HashMap<>();
+                        for (String id : orgIds) {
+                            MockResource resource = mockResourceManagementService.getOrgResource(id);
+                            if (resource != null) {
+                                resources.put(id, resource);
+                            }
+                        }
+                        return resources;
+                    },
+                    aggregationStrategy);
+            assertResolvedResponse(resolvedResource, invokeOrgLevelResourceResolver(aggregationStrategy, orgId));
+            assertEquals(batches.size(), 1);
+        }
+    }
+
     @DataProvider(name = "provideAggregationStrategiesForOrgLevelResolverWithInvalidInput")
     public Object[][] provideAggregationStrategiesForOrgLevelResolverWithInvalidInput() {
 
@@ -275,9 +349,8 @@ public class OrgResourceResolverServiceTest {
      * Tests the behavior of the OrgResourceResolverService when server-side errors occur during
      * organizational hierarchy traversal.
      * <p>
-     * This test simulates server-side exceptions thrown by the `organizationManager` during the following scenarios:
-     * - Fetching the depth of an organization within the hierarchy.
-     * - Retrieving ancestor organization IDs.
+     * This test simulates server-side exceptions thrown by the `organizationManager` while retrieving ancestor
+     * organization IDs.
      *
      * @param aggregationStrategy The aggregation strategy used for resolving resources.
      * @throws Exception If an unexpected error occurs.
@@ -286,13 +359,6 @@ public class OrgResourceResolverServiceTest {
     public void testGetOrgLevelResourcesFromOrgHierarchyWhenServerErrorOccurs(
             AggregationStrategy<MockResource> aggregationStrategy) throws Exception {
 
-        when(organizationManager.getOrganizationDepthInHierarchy(anyString()))
-                .thenThrow(OrganizationManagementServerException.class);
-        assertThrows(OrgResourceHierarchyTraverseServerException.class,
-                () -> invokeOrgLevelResourceResolver(aggregationStrategy, L1_ORG_ID));
-        assertThrows(OrgResourceHierarchyTraverseServerException.class,
-                () -> invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID));
-
         when(organizationManager.getAncestorOrganizationIds(anyString()))
                 .thenThrow(OrganizationManagementServerException.class);
         assertThrows(OrgResourceHierarchyTraverseServerException.class,
@@ -303,6 +369,58 @@ public class OrgResourceResolverServiceTest {
                 () -> invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID));
     }
 
+    /**
+     * Tests that the ancestor path and the depths of the ancestors are served from the ancestor path index once
+     * the index is warm, and that an invalidation forces the ancestor path to be loaded again.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testGetOrgLevelResourcesFromOrgHierarchyWithWarmAncestorPathIndex(
+            AggregationStrategy<MockResource> aggregationStrategy) throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(ROOT_ORG_ID));
+
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        verify(organizationManager, times(1)).getAncestorOrganizationIds(L2_ORG_ID);
+        verify(organizationManager, never()).getOrganizationDepthInHierarchy(anyString());
+        assertEquals(OrgAncestorPathIndex.getInstance().getDepth(L2_ORG_ID), Integer.valueOf(2));
+        assertEquals(OrgAncestorPathIndex.getInstance().getDepth(ROOT_ORG_ID), Integer.valueOf(0));
+
+        OrgAncestorPathIndex.getInstance().invalidate(L1_ORG_ID);
+        assertNull(OrgAncestorPathIndex.getInstance().getAncestorPath(L2_ORG_ID));
+        assertNull(OrgAncestorPathIndex.getInstance().getDepth(L2_ORG_ID));
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        verify(organizationManager, times(2)).getAncestorOrganizationIds(L2_ORG_ID);
+    }
+
+    /**
+     * Tests that the ancestor paths of the ancestors are indexed along with the path of an organization, and that
+     * invalidating an organization removes the indexed paths of all its descendants.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testInvalidateAncestorPathIndexRemovesDescendantPaths() throws Exception {
+
+        addOrgResources(Collections.singletonList(ROOT_ORG_ID));
+        invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID);
+        invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L1_ORG_ID);
+        verify(organizationManager, never()).getAncestorOrganizationIds(L1_ORG_ID);
+        assertEquals(OrgAncestorPathIndex.getInstance().getAncestorPath(L1_ORG_ID).getAncestorIds(),
+                Arrays.asList(L1_ORG_ID, ROOT_ORG_ID));
+
+        OrgAncestorPathIndex.getInstance().invalidate(ROOT_ORG_ID);
+        assertNull(OrgAncestorPathIndex.getInstance().getAncestorPath(ROOT_ORG_ID));
+        assertNull(OrgAncestorPathIndex.getInstance().getAncestorPath(L1_ORG_ID));
+        assertNull(OrgAncestorPathIndex.getInstance().getAncestorPath(L2_ORG_ID));
+    }
+
     /**
      * Mock the retrieval of ancestor organization IDs.
      *
@@ -374,4 +374,19 @@ public interface ResourceSharingPolicyHandlerService {
         throw new NotImplementedException(
                 "getResourceSharingPoliciesByResourceType method is not implemented in " + this.getClass());
     }
+
+    /**
+     * Retrieves the shared resource attributes of the given resource sharing policies in a single lookup.
+     *
+     * @param resourceSharingPolicyIds The unique identifiers of the resource sharing policies.
+     * @return A map of the shared resource attributes by the resource sharing policy ID. Policies without shared
+     * resource attributes are not included.
+     * @throws ResourceSharingPolicyMgtException If an error occurs while retrieving the shared resource attributes.
+     */
+    default Map<Integer, List<SharedResourceAttribute>> getSharedResourceAttributesBySharingPolicyIds(
+            List<Integer> resourceSharingPolicyIds) throws ResourceSharingPolicyMgtException {
+
+        throw new NotImplementedException(
+                "getSharedResourceAttributesBySharingPolicyIds method is not implemented in " + this.getClass());
+    }
 }
@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.organization.resource.sharing.policy.management.
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -308,6 +309,17 @@ public class ResourceSharingPolicyHandlerServiceImpl implements ResourceSharingP
                 policyHoldingOrganizationIds, resourceType);
     }
 
+    @Override
+    public Map<Integer, List<SharedResourceAttribute>> getSharedResourceAttributesBySharingPolicyIds(
+            List<Integer> resourceSharingPolicyIds) throws ResourceSharingPolicyMgtException {
+
+        if (resourceSharingPolicyIds == null || resourceSharingPolicyIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return RESOURCE_SHARING_POLICY_HANDLER_DAO.getSharedResourceAttributesBySharingPolicyIds(
+                resourceSharingPolicyIds);
+    }
+
     private boolean isValidAttributeForTheResource(ResourceSharingPolicy resourceSharingPolicy,
                                                    SharedResourceAttribute sharedResourceAttribute) {
 
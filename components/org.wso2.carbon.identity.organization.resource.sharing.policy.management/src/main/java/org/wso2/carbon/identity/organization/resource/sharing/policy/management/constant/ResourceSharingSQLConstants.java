@@ -126,6 +126,14 @@ public class ResourceSharingSQLConstants {
                     "FROM UM_SHARED_RESOURCE_ATTRIBUTES WHERE UM_RESOURCE_SHARING_POLICY_ID = " +
                     ":" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_RESOURCE_SHARING_POLICY_ID + ";";
 
+    // Maximum number of resource sharing policy IDs bound to a single IN clause, as Oracle limits an IN list to 1000.
+    public static final int SHARING_POLICY_IDS_IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    // SQL head for retrieving shared resource attributes of multiple resource sharing policies.
+    public static final String GET_SHARED_RESOURCE_ATTRIBUTES_BY_POLICY_IDS_HEAD =
+            "SELECT UM_ID, UM_RESOURCE_SHARING_POLICY_ID, UM_SHARED_ATTRIBUTE_TYPE, UM_SHARED_ATTRIBUTE_ID " +
+                    "FROM UM_SHARED_RESOURCE_ATTRIBUTES WHERE UM_RESOURCE_SHARING_POLICY_ID IN ";
+
     // SQL for retrieving shared resource attributes by attribute type.
     public static final String GET_SHARED_RESOURCE_ATTRIBUTES_BY_ATTRIBUTE_TYPE =
             "SELECT UM_ID, UM_RESOURCE_SHARING_POLICY_ID, UM_SHARED_ATTRIBUTE_TYPE, UM_SHARED_ATTRIBUTE_ID " +
@@ -385,4 +385,20 @@ public interface ResourceSharingPolicyHandlerDAO {
         throw new NotImplementedException(
                 "getResourceSharingPoliciesByResourceType method is not implemented in " + this.getClass());
     }
+
+    /**
+     * Retrieves the shared resource attributes of the given resource sharing policies in a single query.
+     *
+     * @param resourceSharingPolicyIds The unique identifiers of the resource sharing policies.
+     * @return A map of the shared resource attributes by the resource sharing policy ID. Policies without shared
+     * resource attributes are not included.
+     * @throws ResourceSharingPolicyMgtServerException If an error occurs while retrieving the shared resource
+     *                                                 attributes.
+     */
+    default Map<Integer, List<SharedResourceAttribute>> getSharedResourceAttributesBySharingPolicyIds(
+            List<Integer> resourceSharingPolicyIds) throws ResourceSharingPolicyMgtServerException {
+
+        throw new NotImplementedException(
+                "getSharedResourceAttributesBySharingPolicyIds method is not implemented in " + this.getClass());
+    }
 }
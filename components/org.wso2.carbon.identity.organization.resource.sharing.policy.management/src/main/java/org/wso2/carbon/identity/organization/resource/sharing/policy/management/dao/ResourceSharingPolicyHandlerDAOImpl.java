@@ -69,7 +69,9 @@ import static org.wso2.carbon.identity.organization.resource.sharing.policy.mana
 import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.GET_SHARED_RESOURCE_ATTRIBUTES_BY_ATTRIBUTE_ID;
 import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.GET_SHARED_RESOURCE_ATTRIBUTES_BY_ATTRIBUTE_TYPE;
 import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.GET_SHARED_RESOURCE_ATTRIBUTES_BY_ATTRIBUTE_TYPE_AND_ID;
+import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.GET_SHARED_RESOURCE_ATTRIBUTES_BY_POLICY_IDS_HEAD;
 import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.RESOURCE_TYPE_FILTER;
+import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.SHARING_POLICY_IDS_IN_CLAUSE_CHUNK_SIZE;
 import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_INITIATING_ORG_ID;
 import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_POLICY_HOLDING_ORG_ID;
 import static org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceSharingSQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_RESOURCE_ID;
@@ -306,6 +308,43 @@ public class ResourceSharingPolicyHandlerDAOImpl implements ResourceSharingPolic
         return sharedResourceAttributes;
     }
 
+    @Override
+    public Map<Integer, List<SharedResourceAttribute>> getSharedResourceAttributesBySharingPolicyIds(
+            List<Integer> resourceSharingPolicyIds) throws ResourceSharingPolicyMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        Map<Integer, List<SharedResourceAttribute>> sharedResourceAttributes = new HashMap<>();
+
+        // The policy IDs are queried in chunks to keep the IN clause within the limits of the databases.
+        for (int fromIndex = 0; fromIndex < resourceSharingPolicyIds.size();
+             fromIndex += SHARING_POLICY_IDS_IN_CLAUSE_CHUNK_SIZE) {
+            List<Integer> chunk = resourceSharingPolicyIds.subList(fromIndex,
+                    Math.min(fromIndex + SHARING_POLICY_IDS_IN_CLAUSE_CHUNK_SIZE, resourceSharingPolicyIds.size()));
+            // Dynamically build placeholders for the query.
+            String placeholders = chunk.stream()
+                    .map(id -> "?")
+                    .collect(Collectors.joining(","));
+            String query = GET_SHARED_RESOURCE_ATTRIBUTES_BY_POLICY_IDS_HEAD + "(" + placeholders + ")";
+            try {
+                namedJdbcTemplate.executeQuery(query, (resultSet, rowNumber) -> {
+                    SharedResourceAttribute sharedResourceAttribute = retrieveSharedResourceAttributeRecordFromDB(
+                            resultSet);
+                    sharedResourceAttributes.computeIfAbsent(sharedResourceAttribute.getResourceSharingPolicyId(),
+                            k -> new ArrayList<>()).add(sharedResourceAttribute);
+                    return null;
+                }, preparedStatement -> {
+                    int index = 1;
+                    for (Integer resourceSharingPolicyId : chunk) {
+                        preparedStatement.setInt(index++, resourceSharingPolicyId);
+                    }
+                });
+            } catch (DataAccessException e) {
+                throw handleServerException(ERROR_CODE_RETRIEVING_SHARED_RESOURCE_ATTRIBUTES_FAILED);
+            }
+        }
+        return sharedResourceAttributes;
+    }
+
     @Override
     public List<SharedResourceAttribute> getSharedResourceAttributesByType(SharedAttributeType attributeType)
             throws ResourceSharingPolicyMgtServerException {
@@ -581,6 +581,20 @@ public class ResourceSharingPolicyHandlerServiceImplTest {
                 "Expected non-empty list of shared resource attributes.");
     }
 
+    @Test(priority = 24)
+    public void testGetSharedResourceAttributesBySharingPolicyIdsSuccess() throws Exception {
+
+        Map<Integer, List<SharedResourceAttribute>> sharedResourceAttributes =
+                resourceSharingPolicyHandlerService.getSharedResourceAttributesBySharingPolicyIds(
+                        Arrays.asList(1, Integer.MAX_VALUE));
+        Assert.assertEquals(sharedResourceAttributes.keySet(), Collections.singleton(1),
+                "Expected the shared resource attributes of only the policy with attributes.");
+        Assert.assertEquals(sharedResourceAttributes.get(1).size(),
+                resourceSharingPolicyHandlerService.getSharedResourceAttributesBySharingPolicyId(1).size());
+        Assert.assertTrue(resourceSharingPolicyHandlerService.getSharedResourceAttributesBySharingPolicyIds(
+                Collections.emptyList()).isEmpty());
+    }
+
     @Test(expectedExceptions = ResourceSharingPolicyMgtServerException.class, priority = 25)
     public void testGetSharedResourceAttributesBySharingPolicyIdFailure() throws ResourceSharingPolicyMgtException {
 